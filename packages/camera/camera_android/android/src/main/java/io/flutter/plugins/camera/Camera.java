@@ -38,6 +38,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import io.flutter.plugin.common.BasicMessageChannel;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.Result;
@@ -60,6 +61,7 @@ import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationMan
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
 import io.flutter.plugins.camera.media.MediaRecorderBuilder;
+import io.flutter.plugins.camera.types.BackgroundThreadPriorities;
 import io.flutter.plugins.camera.types.CameraCaptureProperties;
 import io.flutter.plugins.camera.types.CaptureTimeoutsWrapper;
 import io.flutter.view.TextureRegistry.SurfaceTextureEntry;
@@ -126,20 +128,53 @@ class Camera
   private final Activity activity;
   /** A {@link CameraCaptureSession.CaptureCallback} that handles events related to JPEG capture. */
   private final CameraCaptureCallback cameraCaptureCallback;
-  /** A {@link Handler} for running tasks in the background. */
+  /** The priorities of the background threads. */
+  private final BackgroundThreadPriorities threadPriorities;
+  /**
+   * A {@link Handler} for capture requests, capture results and session state callbacks.
+   *
+   * <p>Image stream frames and picture files are handled by separate threads, so slow frame copies
+   * or disk writes don't delay AF state transitions and shutter timing.
+   */
   private Handler backgroundHandler;
 
   /** An additional thread for running tasks that shouldn't block the UI. */
   private HandlerThread backgroundHandlerThread;
-  /** True when backgroundHandlerThread is in the process of being stopped. */
+  /** A {@link Handler} for converting image stream frames. */
+  private Handler imageAnalysisHandler;
+
+  private HandlerThread imageAnalysisHandlerThread;
+  /** A {@link Handler} for writing captured pictures to disk. */
+  private Handler diskIoHandler;
+
+  private HandlerThread diskIoHandlerThread;
+  /** True when the background threads are in the process of being stopped. */
   private boolean stoppingBackgroundHandlerThread = false;
 
+  private final HandlerQueueMetrics captureControlMetrics = new HandlerQueueMetrics();
+  private final HandlerQueueMetrics imageAnalysisMetrics = new HandlerQueueMetrics();
+  private final HandlerQueueMetrics diskIoMetrics = new HandlerQueueMetrics();
+
   private CameraDeviceWrapper cameraDevice;
   private CameraCaptureSession captureSession;
   private ImageReader pictureImageReader;
   private ImageReader imageStreamReader;
   /** {@link CaptureRequest.Builder} for the camera preview */
   private CaptureRequest.Builder previewRequestBuilder;
+  /**
+   * Guards {@link #previewRequestBuilder}, which is changed by the Dart setters on the main thread
+   * and by the metering region stream on the background thread.
+   */
+  private final Object previewRequestLock = new Object();
+  /** The camera boundaries of the current capture session, used to calculate metering regions. */
+  private Size cameraBoundaries;
+  /**
+   * Receives metering regions from Dart while a metering region stream is active. Set on the main
+   * thread and read on the background thread by {@link #onPreviewFrameCompleted}, which is the only
+   * place the regions are applied to {@link #previewRequestBuilder}.
+   */
+  @Nullable private volatile MeteringRegionStream meteringRegionStream;
+  @Nullable private BasicMessageChannel<ByteBuffer> meteringRegionChannel;
 
   private MediaRecorder mediaRecorder;
   /** True when recording video. */
@@ -202,6 +237,26 @@ class Camera
       final CameraProperties cameraProperties,
       final ResolutionPreset resolutionPreset,
       final boolean enableAudio) {
+    this(
+        activity,
+        flutterTexture,
+        cameraFeatureFactory,
+        dartMessenger,
+        cameraProperties,
+        resolutionPreset,
+        enableAudio,
+        BackgroundThreadPriorities.defaults());
+  }
+
+  public Camera(
+      final Activity activity,
+      final SurfaceTextureEntry flutterTexture,
+      final CameraFeatureFactory cameraFeatureFactory,
+      final DartMessenger dartMessenger,
+      final CameraProperties cameraProperties,
+      final ResolutionPreset resolutionPreset,
+      final boolean enableAudio,
+      final BackgroundThreadPriorities threadPriorities) {
 
     if (activity == null) {
       throw new IllegalStateException("No activity available!");
@@ -213,6 +268,7 @@ class Camera
     this.applicationContext = activity.getApplicationContext();
     this.cameraProperties = cameraProperties;
     this.cameraFeatureFactory = cameraFeatureFactory;
+    this.threadPriorities = threadPriorities;
     this.cameraFeatures =
         CameraFeatures.init(
             cameraFeatureFactory, cameraProperties, activity, dartMessenger, resolutionPreset);
@@ -235,6 +291,54 @@ class Camera
     runPrecaptureSequence();
   }
 
+  /**
+   * Applies the latest region received by the metering region stream, if any. Called on the
+   * background thread for every completed preview frame, so regions are applied at most once per
+   * frame.
+   */
+  @Override
+  public void onPreviewFrameCompleted() {
+    final MeteringRegionStream stream = meteringRegionStream;
+    if (stream == null
+        || !stream.hasPendingRegion()
+        || captureSession == null
+        || cameraBoundaries == null) {
+      return;
+    }
+
+    PlatformChannel.DeviceOrientation orientation =
+        cameraFeatures.getSensorOrientation().getLockedCaptureOrientation();
+    if (orientation == null) {
+      orientation = getDeviceOrientationManager().getLastUIOrientation();
+    }
+    if (orientation == null) {
+      orientation = PlatformChannel.DeviceOrientation.PORTRAIT_UP;
+    }
+
+    synchronized (previewRequestLock) {
+      if (!stream.applyPendingRegion(previewRequestBuilder, cameraBoundaries, orientation)) {
+        return;
+      }
+      if (!stream.hasActiveRegion()) {
+        // The region was cleared, restore the regions of the focus and exposure point features.
+        restorePointRegions(stream);
+      }
+
+      refreshPreviewCaptureSession(
+          null, (code, message) -> Log.w(TAG, "Failed to apply metering region: " + message));
+    }
+  }
+
+  // Called with previewRequestLock held.
+  private void restorePointRegions(MeteringRegionStream stream) {
+    if (stream.updatesFocus()) {
+      cameraFeatures.getFocusPoint().updateBuilder(previewRequestBuilder);
+    }
+    if (stream.updatesExposure()) {
+      cameraFeatures.getExposurePoint().updateBuilder(previewRequestBuilder);
+    }
+  }
+
   /**
    * Updates the builder settings with all of the available features.
    *
@@ -416,7 +520,7 @@ class Camera
     }
 
     // Update camera regions.
-    Size cameraBoundaries =
+    cameraBoundaries =
         CameraRegionUtils.getCameraBoundaries(cameraProperties, previewRequestBuilder);
     cameraFeatures.getExposurePoint().setCameraBoundaries(cameraBoundaries);
     cameraFeatures.getFocusPoint().setCameraBoundaries(cameraBoundaries);
@@ -437,7 +541,14 @@ class Camera
             captureSession = session;
 
             Log.i(TAG, "Updating builder settings");
-            updateBuilderSettings(previewRequestBuilder);
+            synchronized (previewRequestLock) {
+              updateBuilderSettings(previewRequestBuilder);
+            }
+            final MeteringRegionStream stream = meteringRegionStream;
+            if (stream != null) {
+              // The new request builder lost the streamed region, apply it again.
+              stream.invalidate();
+            }
 
             refreshPreviewCaptureSession(
                 onSuccessCallback, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
@@ -509,8 +620,10 @@ class Camera
 
     try {
       if (!pausedPreview) {
-        captureSession.setRepeatingRequest(
-            previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+        synchronized (previewRequestLock) {
+          captureSession.setRepeatingRequest(
+              previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+        }
       }
 
       if (onSuccessCallback != null) {
@@ -563,11 +676,13 @@ class Camera
     Log.i(TAG, "runPrecaptureSequence");
     try {
       // First set precapture state to idle or else it can hang in STATE_WAITING_PRECAPTURE_START.
-      previewRequestBuilder.set(
-          CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER,
-          CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER_IDLE);
-      captureSession.capture(
-          previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+      synchronized (previewRequestLock) {
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER,
+            CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER_IDLE);
+        captureSession.capture(
+            previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+      }
 
       // Repeating request to refresh preview session.
       refreshPreviewCaptureSession(
@@ -577,13 +692,15 @@ class Camera
       // Start precapture.
       cameraCaptureCallback.setCameraState(CameraState.STATE_WAITING_PRECAPTURE_START);
 
-      previewRequestBuilder.set(
-          CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER,
-          CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER_START);
+      synchronized (previewRequestLock) {
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER,
+            CaptureRequest.CONTROL_AE_PRECAPTURE_TRIGGER_START);
 
-      // Trigger one capture to start AE sequence.
-      captureSession.capture(
-          previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+        // Trigger one capture to start AE sequence.
+        captureSession.capture(
+            previewRequestBuilder.build(), cameraCaptureCallback, backgroundHandler);
+      }
 
     } catch (CameraAccessException e) {
       e.printStackTrace();
@@ -654,40 +771,84 @@ class Camera
     return activity.getWindowManager().getDefaultDisplay();
   }
 
-  /** Starts a background thread and its {@link Handler}. */
+  /**
+   * Starts the capture control, image analysis and disk I/O background threads and their {@link
+   * Handler}s.
+   */
   public void startBackgroundThread() {
     if (backgroundHandlerThread != null) {
       return;
     }
 
-    backgroundHandlerThread = HandlerThreadFactory.create("CameraBackground");
+    backgroundHandlerThread =
+        startHandlerThread("CameraBackground", threadPriorities.captureControl);
+    backgroundHandler =
+        HandlerFactory.create(backgroundHandlerThread.getLooper(), captureControlMetrics);
+    imageAnalysisHandlerThread =
+        startHandlerThread("CameraImageAnalysis", threadPriorities.imageAnalysis);
+    imageAnalysisHandler =
+        HandlerFactory.create(imageAnalysisHandlerThread.getLooper(), imageAnalysisMetrics);
+    diskIoHandlerThread = startHandlerThread("CameraDiskIO", threadPriorities.diskIo);
+    diskIoHandler = HandlerFactory.create(diskIoHandlerThread.getLooper(), diskIoMetrics);
+  }
+
+  private static HandlerThread startHandlerThread(String name, int priority) {
+    HandlerThread handlerThread = HandlerThreadFactory.create(name, priority);
     try {
-      backgroundHandlerThread.start();
+      handlerThread.start();
     } catch (IllegalThreadStateException e) {
       // Ignore exception in case the thread has already started.
     }
-    backgroundHandler = HandlerFactory.create(backgroundHandlerThread.getLooper());
+    return handlerThread;
   }
 
-  /** Stops the background thread and its {@link Handler}. */
+  /** Stops the background threads and their {@link Handler}s. */
   public void stopBackgroundThread() {
     if (stoppingBackgroundHandlerThread) {
       return;
     }
-    if (backgroundHandlerThread != null) {
-      stoppingBackgroundHandlerThread = true;
-      backgroundHandlerThread.quitSafely();
-      try {
-        backgroundHandlerThread.join();
-      } catch (InterruptedException e) {
-        dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
-      }
-    }
+    stoppingBackgroundHandlerThread = true;
+    // Stop the producers first, so pending frames and pictures are not handed to a stopped thread.
+    stopHandlerThread(backgroundHandlerThread);
+    stopHandlerThread(imageAnalysisHandlerThread);
+    stopHandlerThread(diskIoHandlerThread);
     backgroundHandlerThread = null;
     backgroundHandler = null;
+    imageAnalysisHandlerThread = null;
+    imageAnalysisHandler = null;
+    diskIoHandlerThread = null;
+    diskIoHandler = null;
+    captureControlMetrics.onLooperQuit();
+    imageAnalysisMetrics.onLooperQuit();
+    diskIoMetrics.onLooperQuit();
     stoppingBackgroundHandlerThread = false;
   }
 
+  private void stopHandlerThread(@Nullable HandlerThread handlerThread) {
+    if (handlerThread == null) {
+      return;
+    }
+    handlerThread.quitSafely();
+    try {
+      handlerThread.join();
+    } catch (InterruptedException e) {
+      dartMessenger.error(flutterResult, "cameraAccess", e.getMessage(), null);
+    }
+  }
+
+  /**
+   * Returns the queue metrics of the background threads.
+   *
+   * @return a map with the metrics of the "captureControl", "imageAnalysis" and "diskIo" threads.
+   */
+  public Map<String, Object> getBackgroundThreadMetrics() {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("captureControl", captureControlMetrics.toMap());
+    metrics.put("imageAnalysis", imageAnalysisMetrics.toMap());
+    metrics.put("diskIo", diskIoMetrics.toMap());
+    return metrics;
+  }
+
   /** Start capturing a picture, doing autofocus first. */
   private void runPictureAutoFocus() {
     Log.i(TAG, "runPictureAutoFocus");
@@ -703,12 +864,13 @@ class Camera
       return;
     }
 
-    // Trigger AF to start.
-    previewRequestBuilder.set(
-        CaptureRequest.CONTROL_AF_TRIGGER, CaptureRequest.CONTROL_AF_TRIGGER_START);
-
     try {
-      captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+      synchronized (previewRequestLock) {
+        // Trigger AF to start.
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AF_TRIGGER, CaptureRequest.CONTROL_AF_TRIGGER_START);
+        captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+      }
     } catch (CameraAccessException e) {
       dartMessenger.sendCameraErrorEvent(e.getMessage());
     }
@@ -722,16 +884,18 @@ class Camera
       return;
     }
     try {
-      // Cancel existing AF state.
-      previewRequestBuilder.set(
-          CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_CANCEL);
-      captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+      synchronized (previewRequestLock) {
+        // Cancel existing AF state.
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_CANCEL);
+        captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
 
-      // Set AF state to idle again.
-      previewRequestBuilder.set(
-          CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_IDLE);
+        // Set AF state to idle again.
+        previewRequestBuilder.set(
+            CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_IDLE);
 
-      captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+        captureSession.capture(previewRequestBuilder.build(), null, backgroundHandler);
+      }
     } catch (CameraAccessException e) {
       dartMessenger.sendCameraErrorEvent(e.getMessage());
       return;
@@ -853,7 +1017,9 @@ class Camera
     // Save the new flash mode setting.
     final FlashFeature flashFeature = cameraFeatures.getFlash();
     flashFeature.setValue(newMode);
-    flashFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      flashFeature.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -869,7 +1035,9 @@ class Camera
   public void setExposureMode(@NonNull final Result result, @NonNull ExposureMode newMode) {
     final ExposureLockFeature exposureLockFeature = cameraFeatures.getExposureLock();
     exposureLockFeature.setValue(newMode);
-    exposureLockFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      exposureLockFeature.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -886,7 +1054,9 @@ class Camera
   public void setExposurePoint(@NonNull final Result result, @Nullable Point point) {
     final ExposurePointFeature exposurePointFeature = cameraFeatures.getExposurePoint();
     exposurePointFeature.setValue(point);
-    exposurePointFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      exposurePointFeature.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -918,7 +1088,9 @@ class Camera
   public void setFocusMode(final Result result, @NonNull FocusMode newMode) {
     final AutoFocusFeature autoFocusFeature = cameraFeatures.getAutoFocus();
     autoFocusFeature.setValue(newMode);
-    autoFocusFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      autoFocusFeature.updateBuilder(previewRequestBuilder);
+    }
 
     /*
      * For focus mode an extra step of actually locking/unlocking the
@@ -934,13 +1106,14 @@ class Camera
           }
           lockAutoFocus();
 
-          // Set AF state to idle again.
-          previewRequestBuilder.set(
-              CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_IDLE);
-
           try {
-            captureSession.setRepeatingRequest(
-                previewRequestBuilder.build(), null, backgroundHandler);
+            synchronized (previewRequestLock) {
+              // Set AF state to idle again.
+              previewRequestBuilder.set(
+                  CaptureRequest.CONTROL_AF_TRIGGER, CameraMetadata.CONTROL_AF_TRIGGER_IDLE);
+              captureSession.setRepeatingRequest(
+                  previewRequestBuilder.build(), null, backgroundHandler);
+            }
           } catch (CameraAccessException e) {
             if (result != null) {
               result.error(
@@ -970,7 +1143,9 @@ class Camera
   public void setFocusPoint(@NonNull final Result result, @Nullable Point point) {
     final FocusPointFeature focusPointFeature = cameraFeatures.getFocusPoint();
     focusPointFeature.setValue(point);
-    focusPointFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      focusPointFeature.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -989,7 +1164,9 @@ class Camera
   public void setExposureOffset(@NonNull final Result result, double offset) {
     final ExposureOffsetFeature exposureOffsetFeature = cameraFeatures.getExposureOffset();
     exposureOffsetFeature.setValue(offset);
-    exposureOffsetFeature.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      exposureOffsetFeature.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(exposureOffsetFeature.getValue()),
@@ -1042,7 +1219,9 @@ class Camera
     }
 
     zoomLevel.setValue(zoom);
-    zoomLevel.updateBuilder(previewRequestBuilder);
+    synchronized (previewRequestLock) {
+      zoomLevel.updateBuilder(previewRequestBuilder);
+    }
 
     refreshPreviewCaptureSession(
         () -> result.success(null),
@@ -1097,11 +1276,63 @@ class Camera
 
           @Override
           public void onCancel(Object o) {
-            imageStreamReader.setOnImageAvailableListener(null, backgroundHandler);
+            imageStreamReader.setOnImageAvailableListener(null, imageAnalysisHandler);
           }
         });
   }
 
+  /**
+   * Starts receiving a continuous stream of metering regions on the supplied channel.
+   *
+   * <p>The regions override the focus and/or exposure point while the stream is active. They are
+   * applied through the repeating preview request at most once per frame, so Dart can send regions
+   * as often as it likes without waiting for replies.
+   *
+   * @param channel the channel the regions are received on.
+   * @param updatesFocus whether the regions are used for auto focus.
+   * @param updatesExposure whether the regions are used for auto exposure.
+   */
+  public void startMeteringRegionStream(
+      @NonNull BasicMessageChannel<ByteBuffer> channel,
+      boolean updatesFocus,
+      boolean updatesExposure) {
+    stopMeteringRegionStream();
+
+    meteringRegionStream = new MeteringRegionStream(updatesFocus, updatesExposure);
+    meteringRegionChannel = channel;
+    channel.setMessageHandler(meteringRegionStream);
+  }
+
+  /**
+   * Stops receiving metering regions and restores the focus and exposure point regions on the
+   * background thread.
+   */
+  public void stopMeteringRegionStream() {
+    if (meteringRegionChannel != null) {
+      meteringRegionChannel.setMessageHandler(null);
+      meteringRegionChannel = null;
+    }
+    final MeteringRegionStream stream = meteringRegionStream;
+    meteringRegionStream = null;
+    if (stream == null || !stream.hasActiveRegion()) {
+      return;
+    }
+    // The regions are restored on the background thread, after any region that is being applied.
+    final Runnable restore =
+        () -> {
+          synchronized (previewRequestLock) {
+            restorePointRegions(stream);
+            refreshPreviewCaptureSession(
+                null, (code, message) -> dartMessenger.sendCameraErrorEvent(message));
+          }
+        };
+    if (backgroundHandler != null) {
+      backgroundHandler.post(restore);
+    } else {
+      restore.run();
+    }
+  }
+
   /**
    * This a callback object for the {@link ImageReader}. "onImageAvailable" will be called when a
    * still image is ready to be saved.
@@ -1110,7 +1341,12 @@ class Camera
   public void onImageAvailable(ImageReader reader) {
     Log.i(TAG, "onImageAvailable");
 
-    backgroundHandler.post(
+    saveImage(reader);
+    cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
+  }
+
+  private void saveImage(ImageReader reader) {
+    diskIoHandler.post(
         new ImageSaver(
             // Use acquireNextImage since image reader is only for one image.
             reader.acquireNextImage(),
@@ -1126,47 +1362,48 @@ class Camera
                 dartMessenger.error(flutterResult, errorCode, errorMessage, null);
               }
             }));
-    cameraCaptureCallback.setCameraState(CameraState.STATE_PREVIEW);
   }
 
   private void setImageStreamImageAvailableListener(final EventChannel.EventSink imageStreamSink) {
     imageStreamReader.setOnImageAvailableListener(
-        reader -> {
-          Image img = reader.acquireNextImage();
-          // Use acquireNextImage since image reader is only for one image.
-          if (img == null) return;
+        reader -> sendImageStreamFrame(reader, imageStreamSink), imageAnalysisHandler);
+  }
 
-          List<Map<String, Object>> planes = new ArrayList<>();
-          for (Image.Plane plane : img.getPlanes()) {
-            ByteBuffer buffer = plane.getBuffer();
+  private void sendImageStreamFrame(
+      ImageReader reader, final EventChannel.EventSink imageStreamSink) {
+    Image img = reader.acquireNextImage();
+    // Use acquireNextImage since image reader is only for one image.
+    if (img == null) return;
 
-            byte[] bytes = new byte[buffer.remaining()];
-            buffer.get(bytes, 0, bytes.length);
+    List<Map<String, Object>> planes = new ArrayList<>();
+    for (Image.Plane plane : img.getPlanes()) {
+      ByteBuffer buffer = plane.getBuffer();
 
-            Map<String, Object> planeBuffer = new HashMap<>();
-            planeBuffer.put("bytesPerRow", plane.getRowStride());
-            planeBuffer.put("bytesPerPixel", plane.getPixelStride());
-            planeBuffer.put("bytes", bytes);
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes, 0, bytes.length);
 
-            planes.add(planeBuffer);
-          }
+      Map<String, Object> planeBuffer = new HashMap<>();
+      planeBuffer.put("bytesPerRow", plane.getRowStride());
+      planeBuffer.put("bytesPerPixel", plane.getPixelStride());
+      planeBuffer.put("bytes", bytes);
 
-          Map<String, Object> imageBuffer = new HashMap<>();
-          imageBuffer.put("width", img.getWidth());
-          imageBuffer.put("height", img.getHeight());
-          imageBuffer.put("format", img.getFormat());
-          imageBuffer.put("planes", planes);
-          imageBuffer.put("lensAperture", this.captureProps.getLastLensAperture());
-          imageBuffer.put("sensorExposureTime", this.captureProps.getLastSensorExposureTime());
-          Integer sensorSensitivity = this.captureProps.getLastSensorSensitivity();
-          imageBuffer.put(
-              "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
-
-          final Handler handler = new Handler(Looper.getMainLooper());
-          handler.post(() -> imageStreamSink.success(imageBuffer));
-          img.close();
-        },
-        backgroundHandler);
+      planes.add(planeBuffer);
+    }
+
+    Map<String, Object> imageBuffer = new HashMap<>();
+    imageBuffer.put("width", img.getWidth());
+    imageBuffer.put("height", img.getHeight());
+    imageBuffer.put("format", img.getFormat());
+    imageBuffer.put("planes", planes);
+    imageBuffer.put("lensAperture", this.captureProps.getLastLensAperture());
+    imageBuffer.put("sensorExposureTime", this.captureProps.getLastSensorExposureTime());
+    Integer sensorSensitivity = this.captureProps.getLastSensorSensitivity();
+    imageBuffer.put(
+        "sensorSensitivity", sensorSensitivity == null ? null : (double) sensorSensitivity);
+
+    final Handler handler = new Handler(Looper.getMainLooper());
+    handler.post(() -> imageStreamSink.success(imageBuffer));
+    img.close();
   }
 
   private void closeCaptureSession() {
@@ -1181,6 +1418,12 @@ class Camera
   public void close() {
     Log.i(TAG, "close");
 
+    if (meteringRegionChannel != null) {
+      meteringRegionChannel.setMessageHandler(null);
+      meteringRegionChannel = null;
+    }
+    meteringRegionStream = null;
+
     if (cameraDevice != null) {
       cameraDevice.close();
       cameraDevice = null;
@@ -1227,11 +1470,12 @@ class Camera
      * class.
      *
      * @param name to give to the HandlerThread.
+     * @param priority of the HandlerThread, see {@link android.os.Process}.
      * @return new instance of the {@link HandlerThread} class.
      */
     @VisibleForTesting
-    public static HandlerThread create(String name) {
-      return new HandlerThread(name);
+    public static HandlerThread create(String name, int priority) {
+      return new HandlerThread(name, priority);
     }
   }
 
@@ -1244,11 +1488,12 @@ class Camera
      * class.
      *
      * @param looper to give to the Handler.
+     * @param metrics counts the messages sent to the Handler.
      * @return new instance of the {@link Handler} class.
      */
     @VisibleForTesting
-    public static Handler create(Looper looper) {
-      return new Handler(looper);
+    public static Handler create(Looper looper, HandlerQueueMetrics metrics) {
+      return metrics.createHandler(looper);
     }
   }
 }
@@ -167,6 +167,10 @@ class CameraCaptureCallback extends CaptureCallback {
       @NonNull CaptureRequest request,
       @NonNull TotalCaptureResult result) {
     process(result);
+
+    if (cameraState == CameraState.STATE_PREVIEW) {
+      cameraStateListener.onPreviewFrameCompleted();
+    }
   }
 
   /** An interface that describes the different state changes implementers can be informed about. */
@@ -179,5 +183,11 @@ class CameraCaptureCallback extends CaptureCallback {
      * Called when the {@link android.hardware.camera2.CaptureRequest} enters the pre-capture state.
      */
     void onPrecapture();
+
+    /**
+     * Called when a {@link android.hardware.camera2.CaptureRequest} completed while the camera is
+     * in the preview state.
+     */
+    void onPreviewFrameCompleted();
   }
 }
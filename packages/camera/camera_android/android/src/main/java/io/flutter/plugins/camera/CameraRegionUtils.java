@@ -124,6 +124,19 @@ public final class CameraRegionUtils {
     return MeteringRectangleFactory.create(targetX, targetY, targetWidth, targetHeight, 1);
   }
 
+  /**
+   * Creates a {@link MeteringRegionTransform} that converts normalized regions into metering
+   * rectangles for the supplied boundaries and orientation.
+   *
+   * @param boundaries - The camera boundaries to calculate the metering rectangles for.
+   * @param orientation - The device orientation the regions are expressed in.
+   * @return The transform for the supplied boundaries and orientation.
+   */
+  public static MeteringRegionTransform createMeteringRegionTransform(
+      @NonNull Size boundaries, @NonNull PlatformChannel.DeviceOrientation orientation) {
+    return new MeteringRegionTransform(boundaries, orientation);
+  }
+
   @TargetApi(Build.VERSION_CODES.P)
   private static boolean supportsDistortionCorrection(CameraProperties cameraProperties) {
     int[] availableDistortionCorrectionModes =
@@ -138,6 +151,114 @@ public final class CameraRegionUtils {
     return nonOffModesSupported > 0;
   }
 
+  /**
+   * Converts normalized regions into {@link MeteringRectangle} instances for a fixed set of camera
+   * boundaries and device orientation.
+   *
+   * <p>Everything that depends only on the boundaries and orientation is calculated once, so a
+   * transform can be cached and reused while regions are updated continuously. Use {@link
+   * #matches(Size, PlatformChannel.DeviceOrientation)} to check whether a cached transform is still
+   * valid.
+   */
+  public static final class MeteringRegionTransform {
+    private final int boundariesWidth;
+    private final int boundariesHeight;
+    @NonNull private final PlatformChannel.DeviceOrientation orientation;
+    private final double maxX;
+    private final double maxY;
+
+    private MeteringRegionTransform(
+        @NonNull Size boundaries, @NonNull PlatformChannel.DeviceOrientation orientation) {
+      assert (boundaries.getWidth() > 0 && boundaries.getHeight() > 0);
+      this.boundariesWidth = boundaries.getWidth();
+      this.boundariesHeight = boundaries.getHeight();
+      this.orientation = orientation;
+      this.maxX = boundariesWidth - 1;
+      this.maxY = boundariesHeight - 1;
+    }
+
+    /**
+     * Whether this transform was created for the supplied boundaries and orientation.
+     *
+     * @param boundaries - The current camera boundaries.
+     * @param orientation - The current device orientation.
+     * @return true if this transform can be used for the supplied values.
+     */
+    public boolean matches(
+        @NonNull Size boundaries, @NonNull PlatformChannel.DeviceOrientation orientation) {
+      return this.orientation == orientation
+          && boundariesWidth == boundaries.getWidth()
+          && boundariesHeight == boundaries.getHeight();
+    }
+
+    /**
+     * Converts a normalized region into a {@link MeteringRectangle}.
+     *
+     * <p>All values are expected to be between 0 and 1 and are relative to the preview as seen in
+     * the supplied orientation. The resulting rectangle is clamped to the camera boundaries and is
+     * at least one pixel wide and high.
+     *
+     * @param left left edge of the region.
+     * @param top top edge of the region.
+     * @param width width of the region.
+     * @param height height of the region.
+     * @return The metering rectangle matching the supplied region.
+     */
+    public MeteringRectangle toMeteringRectangle(
+        double left, double top, double width, double height) {
+      double right = left + width;
+      double bottom = top + height;
+
+      // Rotate the corners to match the device orientation, see convertPointToMeteringRectangle.
+      double x1, y1, x2, y2;
+      switch (orientation) {
+        case PORTRAIT_UP: // 90 ccw.
+          x1 = top;
+          y1 = 1 - left;
+          x2 = bottom;
+          y2 = 1 - right;
+          break;
+        case PORTRAIT_DOWN: // 90 cw.
+          x1 = 1 - top;
+          y1 = left;
+          x2 = 1 - bottom;
+          y2 = right;
+          break;
+        case LANDSCAPE_RIGHT: // 180.
+          x1 = 1 - left;
+          y1 = 1 - top;
+          x2 = 1 - right;
+          y2 = 1 - bottom;
+          break;
+        case LANDSCAPE_LEFT:
+        default:
+          // No rotation required.
+          x1 = left;
+          y1 = top;
+          x2 = right;
+          y2 = bottom;
+          break;
+      }
+
+      int targetLeft = scale(Math.min(x1, x2), maxX);
+      int targetTop = scale(Math.min(y1, y2), maxY);
+      int targetRight = scale(Math.max(x1, x2), maxX);
+      int targetBottom = scale(Math.max(y1, y2), maxY);
+      int targetWidth = Math.max(1, targetRight - targetLeft);
+      int targetHeight = Math.max(1, targetBottom - targetTop);
+      // Keep the rectangle inside the boundaries.
+      targetLeft = Math.min(targetLeft, boundariesWidth - 1 - targetWidth);
+      targetTop = Math.min(targetTop, boundariesHeight - 1 - targetHeight);
+
+      return MeteringRectangleFactory.create(
+          Math.max(0, targetLeft), Math.max(0, targetTop), targetWidth, targetHeight, 1);
+    }
+
+    private static int scale(double value, double max) {
+      return (int) Math.round(Math.min(1, Math.max(0, value)) * max);
+    }
+  }
+
   /** Factory class that assists in creating a {@link MeteringRectangle} instance. */
   static class MeteringRectangleFactory {
     /**
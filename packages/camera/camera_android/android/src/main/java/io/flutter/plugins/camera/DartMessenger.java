@@ -13,15 +13,40 @@ import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-/** Utility class that facilitates communication to the Flutter client */
+/**
+ * Utility class that facilitates communication to the Flutter client.
+ *
+ * <p>Events are not posted to the main thread one by one. Instead they are collected per channel
+ * and delivered together by a single main thread task, so a burst of events raised on the camera
+ * background thread (e.g. during session setup) results in a single channel message. Events that
+ * do not change anything on the Dart side, such as a repeated orientation, are dropped.
+ */
 public class DartMessenger {
+  /**
+   * Name of the method used to deliver more than one event in a single message.
+   *
+   * <p>The arguments are a flat list of alternating method names and arguments: {@code [method1,
+   * arguments1, method2, arguments2, ...]}.
+   */
+  static final String BATCH_METHOD = "batch";
+
   @NonNull private final Handler handler;
   @Nullable private MethodChannel cameraChannel;
   @Nullable private MethodChannel deviceChannel;
 
+  private final Object lock = new Object();
+  private final EventBatch cameraEvents = new EventBatch();
+  private final EventBatch deviceEvents = new EventBatch();
+  private boolean isFlushScheduled = false;
+  // The orientation last sent to Dart, and the one waiting for the next flush.
+  @Nullable private PlatformChannel.DeviceOrientation lastOrientation;
+  @Nullable private PlatformChannel.DeviceOrientation pendingOrientation;
+
   /** Specifies the different device related message types. */
   enum DeviceEventType {
     /** Indicates the device's orientation has changed. */
@@ -77,13 +102,21 @@ public class DartMessenger {
    */
   public void sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation orientation) {
     assert (orientation != null);
-    this.send(
-        DeviceEventType.ORIENTATION_CHANGED,
-        new HashMap<String, Object>() {
-          {
-            put("orientation", CameraUtils.serializeDeviceOrientation(orientation));
-          }
-        });
+    if (deviceChannel == null) {
+      return;
+    }
+
+    Map<String, Object> args = new HashMap<>(2);
+    args.put("orientation", CameraUtils.serializeDeviceOrientation(orientation));
+    synchronized (lock) {
+      PlatformChannel.DeviceOrientation latestOrientation =
+          pendingOrientation != null ? pendingOrientation : lastOrientation;
+      if (orientation == latestOrientation) {
+        return;
+      }
+      pendingOrientation = orientation;
+    }
+    this.send(DeviceEventType.ORIENTATION_CHANGED, args);
   }
 
   /**
@@ -109,18 +142,14 @@ public class DartMessenger {
     assert (focusMode != null);
     assert (exposurePointSupported != null);
     assert (focusPointSupported != null);
-    this.send(
-        CameraEventType.INITIALIZED,
-        new HashMap<String, Object>() {
-          {
-            put("previewWidth", previewWidth.doubleValue());
-            put("previewHeight", previewHeight.doubleValue());
-            put("exposureMode", exposureMode.toString());
-            put("focusMode", focusMode.toString());
-            put("exposurePointSupported", exposurePointSupported);
-            put("focusPointSupported", focusPointSupported);
-          }
-        });
+    Map<String, Object> args = new HashMap<>(8);
+    args.put("previewWidth", previewWidth.doubleValue());
+    args.put("previewHeight", previewHeight.doubleValue());
+    args.put("exposureMode", exposureMode.toString());
+    args.put("focusMode", focusMode.toString());
+    args.put("exposurePointSupported", exposurePointSupported);
+    args.put("focusPointSupported", focusPointSupported);
+    this.send(CameraEventType.INITIALIZED, args);
   }
 
   /** Sends a message to the Flutter client informing that the camera is closing. */
@@ -135,13 +164,11 @@ public class DartMessenger {
    * @param description contains details regarding the error that occurred.
    */
   void sendCameraErrorEvent(@Nullable String description) {
-    this.send(
-        CameraEventType.ERROR,
-        new HashMap<String, Object>() {
-          {
-            if (!TextUtils.isEmpty(description)) put("description", description);
-          }
-        });
+    Map<String, Object> args = new HashMap<>(2);
+    if (!TextUtils.isEmpty(description)) {
+      args.put("description", description);
+    }
+    this.send(CameraEventType.ERROR, args);
   }
 
   private void send(CameraEventType eventType) {
@@ -153,17 +180,7 @@ public class DartMessenger {
       return;
     }
 
-    handler.post(
-        new Runnable() {
-          @Override
-          public void run() {
-            cameraChannel.invokeMethod(eventType.method, args);
-          }
-        });
-  }
-
-  private void send(DeviceEventType eventType) {
-    send(eventType, new HashMap<>());
+    enqueue(cameraEvents, eventType.method, args, false);
   }
 
   private void send(DeviceEventType eventType, Map<String, Object> args) {
@@ -171,13 +188,96 @@ public class DartMessenger {
       return;
     }
 
-    handler.post(
-        new Runnable() {
-          @Override
-          public void run() {
-            deviceChannel.invokeMethod(eventType.method, args);
+    // Only the latest orientation is relevant, so a pending one is replaced.
+    enqueue(deviceEvents, eventType.method, args, true);
+  }
+
+  private void enqueue(
+      EventBatch batch, String method, Map<String, Object> args, boolean replacePending) {
+    synchronized (lock) {
+      batch.add(method, args, replacePending);
+      if (isFlushScheduled) {
+        return;
+      }
+      isFlushScheduled = true;
+    }
+
+    handler.post(this::flush);
+  }
+
+  /** Delivers all pending events. Always runs on the thread managed by {@link #handler}. */
+  private void flush() {
+    List<Object> cameraPayload;
+    List<Object> devicePayload;
+    synchronized (lock) {
+      isFlushScheduled = false;
+      cameraPayload = cameraEvents.drain();
+      devicePayload = deviceEvents.drain();
+      // The pending orientation only counts as sent once it is delivered below.
+      if (pendingOrientation != null && deviceChannel != null) {
+        lastOrientation = pendingOrientation;
+      }
+      pendingOrientation = null;
+    }
+
+    invoke(deviceChannel, devicePayload);
+    invoke(cameraChannel, cameraPayload);
+  }
+
+  private static void invoke(@Nullable MethodChannel channel, @Nullable List<Object> payload) {
+    if (channel == null || payload == null) {
+      return;
+    }
+
+    if (payload.size() == 2) {
+      // A single event is delivered as a regular method call.
+      channel.invokeMethod((String) payload.get(0), payload.get(1));
+    } else {
+      channel.invokeMethod(BATCH_METHOD, payload);
+    }
+  }
+
+  /**
+   * Collects the events for a single channel until they are delivered.
+   *
+   * <p>Events are stored as a flat list of alternating method names and arguments, which is also
+   * the format used to send them to Dart. This class is not thread-safe; callers must synchronize
+   * access.
+   */
+  private static class EventBatch {
+    private List<Object> events = new ArrayList<>();
+
+    /**
+     * Adds an event to the batch.
+     *
+     * <p>Every event is kept, even if an identical one is pending. Only when {@code replacePending}
+     * is true, for events that carry the latest value such as the orientation, a pending event with
+     * the same method is removed so only the latest one is sent.
+     */
+    void add(String method, Map<String, Object> args, boolean replacePending) {
+      if (replacePending) {
+        for (int i = 0; i < events.size(); i += 2) {
+          if (method.equals(events.get(i))) {
+            events.remove(i + 1);
+            events.remove(i);
+            break;
           }
-        });
+        }
+      }
+      events.add(method);
+      events.add(args);
+    }
+
+    /** Returns the pending events, or null if there are none, and clears the batch. */
+    @Nullable
+    List<Object> drain() {
+      if (events.isEmpty()) {
+        return null;
+      }
+      List<Object> drained = events;
+      events = new ArrayList<>();
+      return drained;
+    }
   }
 
   /**
@@ -0,0 +1,143 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+import android.os.SystemClock;
+import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the tasks that run on a background thread.
+ *
+ * <p>Every message sent to a {@link Handler} created by {@link #createHandler(Looper)} is counted
+ * while it is queued, so the queue depth shows how far a thread is falling behind. This includes
+ * the callbacks that the camera framework posts to the handler, such as capture results and
+ * available images, not only the tasks posted by the plugin.
+ */
+class HandlerQueueMetrics {
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+  private final AtomicLong executedTasks = new AtomicLong();
+  private final AtomicLong maxTaskDurationMs = new AtomicLong();
+
+  /**
+   * Creates a {@link Handler} whose messages are counted by these metrics.
+   *
+   * @param looper the looper of the background thread.
+   * @return the new handler.
+   */
+  @NonNull
+  Handler createHandler(@NonNull Looper looper) {
+    return new MeasuredHandler(looper, this);
+  }
+
+  /**
+   * Forgets the queued messages, which are dropped when the looper of the measured handler quits.
+   */
+  void onLooperQuit() {
+    queueDepth.set(0);
+  }
+
+  /** Returns the number of queued messages that did not run yet. */
+  int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  /** Returns the highest queue depth observed so far. */
+  int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  /** Returns the number of tasks that ran so far. */
+  long getExecutedTaskCount() {
+    return executedTasks.get();
+  }
+
+  /** Returns the duration of the slowest task so far in milliseconds. */
+  long getMaxTaskDurationMs() {
+    return maxTaskDurationMs.get();
+  }
+
+  /** Returns the metrics in the format that is sent to Dart. */
+  Map<String, Object> toMap() {
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("queueDepth", getQueueDepth());
+    metrics.put("maxQueueDepth", getMaxQueueDepth());
+    metrics.put("executedTasks", getExecutedTaskCount());
+    metrics.put("maxTaskDurationMs", getMaxTaskDurationMs());
+    return metrics;
+  }
+
+  private void onMessageQueued() {
+    updateMax(maxQueueDepth, queueDepth.incrementAndGet());
+  }
+
+  private void onMessageDispatched(long durationMs) {
+    decrementQueueDepth();
+    executedTasks.incrementAndGet();
+    updateMax(maxTaskDurationMs, durationMs);
+  }
+
+  // Messages that weren't counted when they were queued are still dispatched, so the depth stops at
+  // zero instead of going negative.
+  private void decrementQueueDepth() {
+    int current;
+    while ((current = queueDepth.get()) > 0 && !queueDepth.compareAndSet(current, current - 1)) {}
+  }
+
+  /**
+   * A {@link Handler} that reports its messages to {@link HandlerQueueMetrics}.
+   *
+   * <p>All ways of posting and sending messages except {@code sendMessageAtFrontOfQueue} and
+   * {@code postAtFrontOfQueue} end in {@link #sendMessageAtTime}, and the looper runs every message
+   * through {@link #dispatchMessage}. Those two methods are final, so messages sent with them are
+   * not counted while they are queued. They are still counted as executed tasks, and the depth they
+   * subtract when they run never makes it negative.
+   */
+  private static class MeasuredHandler extends Handler {
+    private final HandlerQueueMetrics metrics;
+
+    MeasuredHandler(Looper looper, HandlerQueueMetrics metrics) {
+      super(looper);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public boolean sendMessageAtTime(@NonNull Message msg, long uptimeMillis) {
+      metrics.onMessageQueued();
+      boolean queued = super.sendMessageAtTime(msg, uptimeMillis);
+      if (!queued) {
+        metrics.decrementQueueDepth();
+      }
+      return queued;
+    }
+
+    @Override
+    public void dispatchMessage(@NonNull Message msg) {
+      long start = SystemClock.uptimeMillis();
+      try {
+        super.dispatchMessage(msg);
+      } finally {
+        metrics.onMessageDispatched(SystemClock.uptimeMillis() - start);
+      }
+    }
+  }
+
+  private static void updateMax(AtomicInteger max, int value) {
+    int current;
+    while (value > (current = max.get()) && !max.compareAndSet(current, value)) {}
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    long current;
+    while (value > (current = max.get()) && !max.compareAndSet(current, value)) {}
+  }
+}
@@ -0,0 +1,177 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import android.hardware.camera2.CaptureRequest;
+import android.hardware.camera2.params.MeteringRectangle;
+import android.util.Size;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import io.flutter.plugin.common.BasicMessageChannel;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Receives a continuous stream of normalized metering regions from Dart and applies the latest one
+ * to the preview request.
+ *
+ * <p>Regions are sent by Dart as binary messages without waiting for a reply. Each message holds
+ * four little endian doubles (left, top, width and height, all between 0 and 1), or no data to
+ * clear the region. Only the latest region is kept, and it is applied at most once per frame by
+ * calling {@link #applyPendingRegion(CaptureRequest.Builder, Size,
+ * PlatformChannel.DeviceOrientation)} from the capture callback.
+ */
+class MeteringRegionStream implements BasicMessageChannel.MessageHandler<ByteBuffer> {
+  private static final int REGION_VALUE_COUNT = 4;
+
+  private final boolean updatesFocus;
+  private final boolean updatesExposure;
+
+  private final Object lock = new Object();
+  @Nullable private double[] pendingRegion;
+  private boolean hasPendingRegion = false;
+  @Nullable private double[] appliedRegion;
+
+  @Nullable private CameraRegionUtils.MeteringRegionTransform transform;
+
+  /**
+   * Creates a new instance of the {@link MeteringRegionStream} class.
+   *
+   * @param updatesFocus whether the regions are used for auto focus.
+   * @param updatesExposure whether the regions are used for auto exposure.
+   */
+  MeteringRegionStream(boolean updatesFocus, boolean updatesExposure) {
+    this.updatesFocus = updatesFocus;
+    this.updatesExposure = updatesExposure;
+  }
+
+  @Override
+  public void onMessage(
+      @Nullable ByteBuffer message, @NonNull BasicMessageChannel.Reply<ByteBuffer> reply) {
+    setRegion(decodeRegion(message));
+    reply.reply(null);
+  }
+
+  /**
+   * Replaces the pending region. A region that was not applied yet is dropped.
+   *
+   * @param region left, top, width and height of the region, or null to clear the region.
+   */
+  @VisibleForTesting
+  void setRegion(@Nullable double[] region) {
+    synchronized (lock) {
+      pendingRegion = region;
+      hasPendingRegion = true;
+    }
+  }
+
+  /**
+   * Whether a region was received that has not been applied yet.
+   *
+   * @return true if the next call to {@link #applyPendingRegion} will update the builder.
+   */
+  boolean hasPendingRegion() {
+    synchronized (lock) {
+      return hasPendingRegion;
+    }
+  }
+
+  /**
+   * Applies the latest received region to the supplied request builder.
+   *
+   * <p>The coordinate transform is cached and only recalculated when the boundaries or orientation
+   * change. When the region is cleared the metering regions are removed from the builder; callers
+   * are expected to restore the regions of the focus and exposure point features afterwards.
+   *
+   * @param requestBuilder the builder of the repeating preview request.
+   * @param boundaries the current camera boundaries.
+   * @param orientation the orientation the regions are expressed in.
+   * @return true if the builder was updated and the repeating request should be resubmitted.
+   */
+  boolean applyPendingRegion(
+      @NonNull CaptureRequest.Builder requestBuilder,
+      @NonNull Size boundaries,
+      @NonNull PlatformChannel.DeviceOrientation orientation) {
+    double[] region;
+    synchronized (lock) {
+      if (!hasPendingRegion) {
+        return false;
+      }
+      region = pendingRegion;
+      hasPendingRegion = false;
+      appliedRegion = region;
+    }
+
+    MeteringRectangle[] rectangles = null;
+    if (region != null) {
+      if (transform == null || !transform.matches(boundaries, orientation)) {
+        transform = CameraRegionUtils.createMeteringRegionTransform(boundaries, orientation);
+      }
+      rectangles =
+          new MeteringRectangle[] {
+            transform.toMeteringRectangle(region[0], region[1], region[2], region[3])
+          };
+    }
+
+    if (updatesFocus) {
+      requestBuilder.set(CaptureRequest.CONTROL_AF_REGIONS, rectangles);
+    }
+    if (updatesExposure) {
+      requestBuilder.set(CaptureRequest.CONTROL_AE_REGIONS, rectangles);
+    }
+    return true;
+  }
+
+  /**
+   * Marks the last applied region as pending again, e.g. after the capture session was recreated
+   * and the request builder lost its regions.
+   */
+  void invalidate() {
+    synchronized (lock) {
+      if (!hasPendingRegion && appliedRegion != null) {
+        pendingRegion = appliedRegion;
+        hasPendingRegion = true;
+      }
+    }
+  }
+
+  /**
+   * Whether the last applied region overrides the focus and exposure point features.
+   *
+   * @return false if no region was applied yet or the region was cleared.
+   */
+  boolean hasActiveRegion() {
+    synchronized (lock) {
+      return appliedRegion != null;
+    }
+  }
+
+  /** Whether the regions are used for auto focus. */
+  boolean updatesFocus() {
+    return updatesFocus;
+  }
+
+  /** Whether the regions are used for auto exposure. */
+  boolean updatesExposure() {
+    return updatesExposure;
+  }
+
+  @Nullable
+  @VisibleForTesting
+  static double[] decodeRegion(@Nullable ByteBuffer message) {
+    if (message == null || message.remaining() < REGION_VALUE_COUNT * Double.BYTES) {
+      return null;
+    }
+
+    message.order(ByteOrder.LITTLE_ENDIAN);
+    double[] region = new double[REGION_VALUE_COUNT];
+    for (int i = 0; i < REGION_VALUE_COUNT; i++) {
+      region[i] = message.getDouble();
+    }
+    return region;
+  }
+}
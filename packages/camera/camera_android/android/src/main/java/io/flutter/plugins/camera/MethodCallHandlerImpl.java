@@ -11,6 +11,8 @@ import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryCodec;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
@@ -23,6 +25,7 @@ import io.flutter.plugins.camera.features.autofocus.FocusMode;
 import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import io.flutter.plugins.camera.features.flash.FlashMode;
 import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
+import io.flutter.plugins.camera.types.BackgroundThreadPriorities;
 import io.flutter.view.TextureRegistry;
 import java.util.HashMap;
 import java.util.Map;
@@ -269,6 +272,49 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
           }
           break;
         }
+      case "startMeteringRegionStream":
+        {
+          assert camera != null;
+
+          Boolean focus = call.argument("focus");
+          Boolean exposure = call.argument("exposure");
+          try {
+            camera.startMeteringRegionStream(
+                new BasicMessageChannel<>(
+                    messenger,
+                    "plugins.flutter.io/camera_android/meteringRegion" + call.argument("cameraId"),
+                    BinaryCodec.INSTANCE),
+                focus == null || focus,
+                exposure == null || exposure);
+            result.success(null);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "stopMeteringRegionStream":
+        {
+          assert camera != null;
+
+          try {
+            camera.stopMeteringRegionStream();
+            result.success(null);
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
+      case "getBackgroundThreadMetrics":
+        {
+          assert camera != null;
+
+          try {
+            result.success(camera.getBackgroundThreadMetrics());
+          } catch (Exception e) {
+            handleException(e, result);
+          }
+          break;
+        }
       case "getMaxZoomLevel":
         {
           assert camera != null;
@@ -373,6 +419,7 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     String cameraName = call.argument("cameraName");
     String preset = call.argument("resolutionPreset");
     boolean enableAudio = call.argument("enableAudio");
+    Map<String, Object> threadPriorities = call.argument("threadPriorities");
 
     TextureRegistry.SurfaceTextureEntry flutterSurfaceTexture =
         textureRegistry.createSurfaceTexture();
@@ -391,7 +438,8 @@ final class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
             dartMessenger,
             cameraProperties,
             resolutionPreset,
-            enableAudio);
+            enableAudio,
+            BackgroundThreadPriorities.fromMap(threadPriorities));
 
     Map<String, Object> reply = new HashMap<>();
     reply.put("cameraId", flutterSurfaceTexture.id());
@@ -0,0 +1,73 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera.types;
+
+import android.os.Process;
+import androidx.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Holds the thread priorities of the background threads used by a camera.
+ *
+ * <p>The priorities are Linux thread priorities as used by {@link Process#setThreadPriority(int)},
+ * where lower values mean a higher priority.
+ */
+public class BackgroundThreadPriorities {
+  /** Priority of the thread handling capture requests, capture results and session state. */
+  public final int captureControl;
+  /** Priority of the thread converting image stream frames. */
+  public final int imageAnalysis;
+  /** Priority of the thread writing captured pictures to disk. */
+  public final int diskIo;
+
+  /**
+   * Creates a new instance with the specified priorities.
+   *
+   * @param captureControl priority of the capture control thread.
+   * @param imageAnalysis priority of the image analysis thread.
+   * @param diskIo priority of the disk I/O thread.
+   */
+  public BackgroundThreadPriorities(int captureControl, int imageAnalysis, int diskIo) {
+    this.captureControl = captureControl;
+    this.imageAnalysis = imageAnalysis;
+    this.diskIo = diskIo;
+  }
+
+  /**
+   * Returns the default priorities.
+   *
+   * <p>Capture control runs at the default priority so AF/AE state transitions and shutter timing
+   * are handled promptly, image analysis runs slightly below it and disk I/O runs in the
+   * background.
+   */
+  public static BackgroundThreadPriorities defaults() {
+    return new BackgroundThreadPriorities(
+        Process.THREAD_PRIORITY_DEFAULT,
+        Process.THREAD_PRIORITY_DEFAULT + Process.THREAD_PRIORITY_LESS_FAVORABLE,
+        Process.THREAD_PRIORITY_BACKGROUND);
+  }
+
+  /**
+   * Creates priorities from the values sent by Dart. Missing values fall back to the defaults.
+   *
+   * @param values map with the optional keys "captureControl", "imageAnalysis" and "diskIo".
+   * @return the parsed priorities.
+   */
+  public static BackgroundThreadPriorities fromMap(@Nullable Map<String, Object> values) {
+    BackgroundThreadPriorities defaults = defaults();
+    if (values == null) {
+      return defaults;
+    }
+    return new BackgroundThreadPriorities(
+        getPriority(values, "captureControl", defaults.captureControl),
+        getPriority(values, "imageAnalysis", defaults.imageAnalysis),
+        getPriority(values, "diskIo", defaults.diskIo));
+  }
+
+  private static int getPriority(Map<String, Object> values, String key, int defaultValue) {
+    Object value = values.get(key);
+    return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+  }
+}
@@ -28,12 +28,12 @@ import org.robolectric.RobolectricTestRunner;
 public class CameraCaptureCallbackTest {
 
   private CameraCaptureCallback cameraCaptureCallback;
+  private CameraCaptureCallback.CameraCaptureStateListener mockCaptureStateListener;
   private CameraCaptureProperties mockCaptureProps;
 
   @Before
   public void setUp() {
-    CameraCaptureCallback.CameraCaptureStateListener mockCaptureStateListener =
-        mock(CameraCaptureCallback.CameraCaptureStateListener.class);
+    mockCaptureStateListener = mock(CameraCaptureCallback.CameraCaptureStateListener.class);
     CaptureTimeoutsWrapper mockCaptureTimeouts = mock(CaptureTimeoutsWrapper.class);
     mockCaptureProps = mock(CameraCaptureProperties.class);
     cameraCaptureCallback =
@@ -69,4 +69,27 @@ public class CameraCaptureCallbackTest {
     verify(mockCaptureProps, times(1)).setLastSensorExposureTime(2L);
     verify(mockCaptureProps, times(1)).setLastSensorSensitivity(3);
   }
+
+  @Test
+  public void onCaptureCompleted_notifiesPreviewFrameCompletedInPreviewState() {
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+
+    verify(mockCaptureStateListener, times(1)).onPreviewFrameCompleted();
+  }
+
+  @Test
+  public void onCaptureCompleted_doesNotNotifyPreviewFrameCompletedWhileCapturing() {
+    CameraCaptureSession mockSession = mock(CameraCaptureSession.class);
+    CaptureRequest mockRequest = mock(CaptureRequest.class);
+    TotalCaptureResult mockResult = mock(TotalCaptureResult.class);
+    cameraCaptureCallback.setCameraState(CameraState.STATE_CAPTURING);
+
+    cameraCaptureCallback.onCaptureCompleted(mockSession, mockRequest, mockResult);
+
+    verify(mockCaptureStateListener, never()).onPreviewFrameCompleted();
+  }
 }
@@ -0,0 +1,140 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.params.MeteringRectangle;
+import android.util.Size;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+public class CameraRegionUtils_MeteringRegionTransformTest {
+  private MockedStatic<CameraRegionUtils.MeteringRectangleFactory> mockedMeteringRectangleFactory;
+  private Size mockCameraBoundaries;
+
+  @Before
+  public void setUp() {
+    this.mockCameraBoundaries = mock(Size.class);
+    when(this.mockCameraBoundaries.getWidth()).thenReturn(100);
+    when(this.mockCameraBoundaries.getHeight()).thenReturn(100);
+    mockedMeteringRectangleFactory = mockStatic(CameraRegionUtils.MeteringRectangleFactory.class);
+
+    mockedMeteringRectangleFactory
+        .when(
+            () ->
+                CameraRegionUtils.MeteringRectangleFactory.create(
+                    anyInt(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenAnswer(
+            new Answer<MeteringRectangle>() {
+              @Override
+              public MeteringRectangle answer(InvocationOnMock createInvocation) throws Throwable {
+                MeteringRectangle mockMeteringRectangle = mock(MeteringRectangle.class);
+                when(mockMeteringRectangle.getX()).thenReturn(createInvocation.getArgument(0));
+                when(mockMeteringRectangle.getY()).thenReturn(createInvocation.getArgument(1));
+                when(mockMeteringRectangle.getWidth()).thenReturn(createInvocation.getArgument(2));
+                when(mockMeteringRectangle.getHeight()).thenReturn(createInvocation.getArgument(3));
+                when(mockMeteringRectangle.getMeteringWeight())
+                    .thenReturn(createInvocation.getArgument(4));
+                when(mockMeteringRectangle.equals(any()))
+                    .thenAnswer(
+                        new Answer<Boolean>() {
+                          @Override
+                          public Boolean answer(InvocationOnMock equalsInvocation)
+                              throws Throwable {
+                            MeteringRectangle otherMockMeteringRectangle =
+                                equalsInvocation.getArgument(0);
+                            return mockMeteringRectangle.getX() == otherMockMeteringRectangle.getX()
+                                && mockMeteringRectangle.getY() == otherMockMeteringRectangle.getY()
+                                && mockMeteringRectangle.getWidth()
+                                    == otherMockMeteringRectangle.getWidth()
+                                && mockMeteringRectangle.getHeight()
+                                    == otherMockMeteringRectangle.getHeight()
+                                && mockMeteringRectangle.getMeteringWeight()
+                                    == otherMockMeteringRectangle.getMeteringWeight();
+                          }
+                        });
+                return mockMeteringRectangle;
+              }
+            });
+  }
+
+  @After
+  public void tearDown() {
+    mockedMeteringRectangleFactory.close();
+  }
+
+  @Test
+  public void toMeteringRectangle_shouldReturnValidMeteringRectangleForCenterRegion() {
+    CameraRegionUtils.MeteringRegionTransform transform =
+        CameraRegionUtils.createMeteringRegionTransform(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+
+    MeteringRectangle r = transform.toMeteringRectangle(0.25, 0.25, 0.5, 0.5);
+
+    assertTrue(CameraRegionUtils.MeteringRectangleFactory.create(25, 25, 49, 49, 1).equals(r));
+  }
+
+  @Test
+  public void toMeteringRectangle_shouldReturnValidMeteringRectangleForFullRegion() {
+    CameraRegionUtils.MeteringRegionTransform transform =
+        CameraRegionUtils.createMeteringRegionTransform(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+
+    MeteringRectangle r = transform.toMeteringRectangle(0, 0, 1, 1);
+
+    assertTrue(CameraRegionUtils.MeteringRectangleFactory.create(0, 0, 99, 99, 1).equals(r));
+  }
+
+  @Test
+  public void toMeteringRectangle_shouldRotateRegionForPortraitUp() {
+    CameraRegionUtils.MeteringRegionTransform transform =
+        CameraRegionUtils.createMeteringRegionTransform(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+
+    MeteringRectangle r = transform.toMeteringRectangle(0, 0, 0.5, 0.25);
+
+    assertTrue(CameraRegionUtils.MeteringRectangleFactory.create(0, 50, 25, 49, 1).equals(r));
+  }
+
+  @Test
+  public void toMeteringRectangle_shouldClampRegionOutsideBoundaries() {
+    CameraRegionUtils.MeteringRegionTransform transform =
+        CameraRegionUtils.createMeteringRegionTransform(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+
+    MeteringRectangle r = transform.toMeteringRectangle(0.9, 0.9, 0.5, 0.5);
+
+    assertTrue(CameraRegionUtils.MeteringRectangleFactory.create(89, 89, 10, 10, 1).equals(r));
+  }
+
+  @Test
+  public void matches_shouldOnlyMatchSameBoundariesAndOrientation() {
+    CameraRegionUtils.MeteringRegionTransform transform =
+        CameraRegionUtils.createMeteringRegionTransform(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+    Size otherBoundaries = mock(Size.class);
+    when(otherBoundaries.getWidth()).thenReturn(200);
+    when(otherBoundaries.getHeight()).thenReturn(100);
+
+    assertTrue(
+        transform.matches(
+            this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT));
+    assertFalse(
+        transform.matches(this.mockCameraBoundaries, PlatformChannel.DeviceOrientation.PORTRAIT_UP));
+    assertFalse(
+        transform.matches(otherBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT));
+  }
+}
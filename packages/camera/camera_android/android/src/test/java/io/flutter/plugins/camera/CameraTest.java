@@ -8,6 +8,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -56,10 +57,12 @@ import io.flutter.plugins.camera.features.resolution.ResolutionPreset;
 import io.flutter.plugins.camera.features.sensororientation.DeviceOrientationManager;
 import io.flutter.plugins.camera.features.sensororientation.SensorOrientationFeature;
 import io.flutter.plugins.camera.features.zoomlevel.ZoomLevelFeature;
+import io.flutter.plugins.camera.types.BackgroundThreadPriorities;
 import io.flutter.plugins.camera.utils.TestUtils;
 import io.flutter.view.TextureRegistry;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -123,10 +126,17 @@ public class CameraTest {
     final boolean enableAudio = false;
 
     when(mockCameraProperties.getCameraName()).thenReturn(cameraName);
-    mockHandlerFactory.when(() -> Camera.HandlerFactory.create(any())).thenReturn(mockHandler);
+    mockHandlerFactory
+        .when(() -> Camera.HandlerFactory.create(any(), any()))
+        .thenReturn(mockHandler);
+    // Only the capture control thread is verified, the other threads get their own mocks.
     mockHandlerThreadFactory
-        .when(() -> Camera.HandlerThreadFactory.create(any()))
-        .thenReturn(mockHandlerThread);
+        .when(() -> Camera.HandlerThreadFactory.create(any(), anyInt()))
+        .thenAnswer(
+            invocation ->
+                "CameraBackground".equals(invocation.getArgument(0))
+                    ? mockHandlerThread
+                    : mock(HandlerThread.class));
 
     camera =
         new Camera(
@@ -829,6 +839,30 @@ public class CameraTest {
     assertEquals(mockHandler, TestUtils.getPrivateField(camera, "backgroundHandler"));
   }
 
+  @Test
+  public void startBackgroundThread_shouldStartSeparateThreadsWithPriorities() {
+    BackgroundThreadPriorities priorities = BackgroundThreadPriorities.defaults();
+
+    mockHandlerThreadFactory.verify(
+        () -> Camera.HandlerThreadFactory.create("CameraBackground", priorities.captureControl),
+        times(1));
+    mockHandlerThreadFactory.verify(
+        () -> Camera.HandlerThreadFactory.create("CameraImageAnalysis", priorities.imageAnalysis),
+        times(1));
+    mockHandlerThreadFactory.verify(
+        () -> Camera.HandlerThreadFactory.create("CameraDiskIO", priorities.diskIo), times(1));
+  }
+
+  @Test
+  public void getBackgroundThreadMetrics_shouldReportAllThreads() {
+    Map<String, Object> metrics = camera.getBackgroundThreadMetrics();
+
+    assertEquals(3, metrics.size());
+    assertNotNull(metrics.get("captureControl"));
+    assertNotNull(metrics.get("imageAnalysis"));
+    assertNotNull(metrics.get("diskIo"));
+  }
+
   @Test
   public void startBackgroundThread_shouldNotStartNewThreadWhenAlreadyCreated() {
     camera.startBackgroundThread();
@@ -21,6 +21,7 @@ import io.flutter.plugins.camera.features.exposurelock.ExposureMode;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -114,6 +115,100 @@ public class DartMessengerTest {
     assertEquals(call.argument("orientation"), "portraitUp");
   }
 
+  @Test
+  public void sendDeviceOrientationChangedEvent_skipsUnchangedOrientation() {
+    doAnswer(createPostHandlerAnswer()).when(mockHandler).post(any(Runnable.class));
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(1, sentMessages.size());
+  }
+
+  @Test
+  public void sendDeviceOrientationChangedEvent_sendsOrientationRevertedBeforeFlush() {
+    List<Runnable> postedRunnables = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              postedRunnables.add(invocation.getArgument(0, Runnable.class));
+              return true;
+            })
+        .when(mockHandler)
+        .post(any(Runnable.class));
+
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    postedRunnables.remove(0).run();
+    dartMessenger.sendDeviceOrientationChangeEvent(
+        PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    postedRunnables.remove(0).run();
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(2, sentMessages.size());
+    MethodCall call = decodeSentMessage(sentMessages.get(1));
+    assertEquals("orientation_changed", call.method);
+    assertEquals("portraitUp", call.argument("orientation"));
+  }
+
+  @Test
+  public void send_batchesEventsRaisedBeforeFlush() {
+    List<Runnable> postedRunnables = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              postedRunnables.add(invocation.getArgument(0, Runnable.class));
+              return true;
+            })
+        .when(mockHandler)
+        .post(any(Runnable.class));
+
+    dartMessenger.sendCameraErrorEvent("first error");
+    dartMessenger.sendCameraErrorEvent("first error");
+    dartMessenger.sendCameraErrorEvent("second error");
+    dartMessenger.sendCameraClosingEvent();
+
+    assertEquals(1, postedRunnables.size());
+    postedRunnables.get(0).run();
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(1, sentMessages.size());
+    MethodCall call = decodeSentMessage(sentMessages.get(0));
+    assertEquals("batch", call.method);
+    List<?> events = (List<?>) call.arguments;
+    assertEquals(8, events.size());
+    assertEquals("error", events.get(0));
+    assertEquals("first error", ((Map<?, ?>) events.get(1)).get("description"));
+    assertEquals("error", events.get(2));
+    assertEquals("first error", ((Map<?, ?>) events.get(3)).get("description"));
+    assertEquals("error", events.get(4));
+    assertEquals("second error", ((Map<?, ?>) events.get(5)).get("description"));
+    assertEquals("camera_closing", events.get(6));
+  }
+
+  @Test
+  public void send_keepsOnlyLatestPendingOrientation() {
+    List<Runnable> postedRunnables = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              postedRunnables.add(invocation.getArgument(0, Runnable.class));
+              return true;
+            })
+        .when(mockHandler)
+        .post(any(Runnable.class));
+
+    dartMessenger.sendDeviceOrientationChangeEvent(PlatformChannel.DeviceOrientation.PORTRAIT_UP);
+    dartMessenger.sendDeviceOrientationChangeEvent(
+        PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+
+    assertEquals(1, postedRunnables.size());
+    postedRunnables.get(0).run();
+
+    List<ByteBuffer> sentMessages = fakeBinaryMessenger.getMessages();
+    assertEquals(1, sentMessages.size());
+    MethodCall call = decodeSentMessage(sentMessages.get(0));
+    assertEquals("orientation_changed", call.method);
+    assertEquals("landscapeLeft", call.argument("orientation"));
+  }
+
   private static Answer<Boolean> createPostHandlerAnswer() {
     return new Answer<Boolean>() {
       @Override
@@ -0,0 +1,88 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertEquals;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Handler;
+import android.os.Looper;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class HandlerQueueMetricsTest {
+  private HandlerQueueMetrics metrics;
+  private Handler handler;
+
+  @Before
+  public void setUp() {
+    metrics = new HandlerQueueMetrics();
+    handler = metrics.createHandler(Looper.getMainLooper());
+  }
+
+  @Test
+  public void createHandler_shouldCountQueuedMessagesUntilTheyRan() {
+    int[] runCount = {0};
+    handler.post(() -> runCount[0]++);
+    handler.postDelayed(() -> runCount[0]++, 0);
+
+    assertEquals(2, metrics.getQueueDepth());
+    assertEquals(2, metrics.getMaxQueueDepth());
+    assertEquals(0, metrics.getExecutedTaskCount());
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    assertEquals(2, runCount[0]);
+    assertEquals(0, metrics.getQueueDepth());
+    assertEquals(2, metrics.getMaxQueueDepth());
+    assertEquals(2, metrics.getExecutedTaskCount());
+  }
+
+  @Test
+  public void createHandler_shouldCountMessagesSentByOthers() {
+    handler.sendEmptyMessage(1);
+
+    assertEquals(1, metrics.getQueueDepth());
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    assertEquals(0, metrics.getQueueDepth());
+    assertEquals(1, metrics.getExecutedTaskCount());
+  }
+
+  @Test
+  public void createHandler_shouldNotCountMessagesAtFrontOfQueueAsQueued() {
+    handler.postAtFrontOfQueue(() -> {});
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    assertEquals(0, metrics.getQueueDepth());
+    assertEquals(1, metrics.getExecutedTaskCount());
+  }
+
+  @Test
+  public void onLooperQuit_shouldForgetQueuedMessages() {
+    handler.post(() -> {});
+
+    metrics.onLooperQuit();
+
+    assertEquals(0, metrics.getQueueDepth());
+    assertEquals(1, metrics.getMaxQueueDepth());
+  }
+
+  @Test
+  public void toMap_shouldContainAllMetrics() {
+    Map<String, Object> map = metrics.toMap();
+
+    assertEquals(0, map.get("queueDepth"));
+    assertEquals(0, map.get("maxQueueDepth"));
+    assertEquals(0L, map.get("executedTasks"));
+    assertEquals(0L, map.get("maxTaskDurationMs"));
+  }
+}
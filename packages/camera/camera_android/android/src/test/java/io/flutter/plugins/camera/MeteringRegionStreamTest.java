@@ -0,0 +1,163 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.camera;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.hardware.camera2.CaptureRequest;
+import android.hardware.camera2.params.MeteringRectangle;
+import android.util.Size;
+import io.flutter.embedding.engine.systemchannels.PlatformChannel;
+import io.flutter.plugin.common.BasicMessageChannel;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class MeteringRegionStreamTest {
+  private MockedStatic<CameraRegionUtils.MeteringRectangleFactory> mockedMeteringRectangleFactory;
+  private CaptureRequest.Builder mockRequestBuilder;
+  private Size mockCameraBoundaries;
+
+  @Before
+  public void setUp() {
+    mockRequestBuilder = mock(CaptureRequest.Builder.class);
+    mockCameraBoundaries = mock(Size.class);
+    when(mockCameraBoundaries.getWidth()).thenReturn(100);
+    when(mockCameraBoundaries.getHeight()).thenReturn(100);
+    mockedMeteringRectangleFactory = mockStatic(CameraRegionUtils.MeteringRectangleFactory.class);
+    mockedMeteringRectangleFactory
+        .when(
+            () ->
+                CameraRegionUtils.MeteringRectangleFactory.create(
+                    anyInt(), anyInt(), anyInt(), anyInt(), anyInt()))
+        .thenAnswer(invocation -> mock(MeteringRectangle.class));
+  }
+
+  @After
+  public void tearDown() {
+    mockedMeteringRectangleFactory.close();
+  }
+
+  @Test
+  public void applyPendingRegion_shouldDoNothingWithoutRegion() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+
+    assertFalse(applyPendingRegion(stream));
+    verify(mockRequestBuilder, never()).set(any(), any());
+  }
+
+  @Test
+  public void applyPendingRegion_shouldApplyLatestRegionOnce() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+    stream.setRegion(new double[] {0, 0, 0.5, 0.5});
+    stream.setRegion(new double[] {0.25, 0.25, 0.5, 0.5});
+
+    assertTrue(stream.hasPendingRegion());
+    assertTrue(applyPendingRegion(stream));
+    assertFalse(applyPendingRegion(stream));
+
+    assertTrue(stream.hasActiveRegion());
+    // Both the focus and the exposure regions are updated.
+    verify(mockRequestBuilder, times(2)).set(any(), notNull());
+    mockedMeteringRectangleFactory.verify(
+        () -> CameraRegionUtils.MeteringRectangleFactory.create(25, 25, 49, 49, 1), times(1));
+  }
+
+  @Test
+  public void applyPendingRegion_shouldOnlyUpdateFocusWhenRequested() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, false);
+    stream.setRegion(new double[] {0.25, 0.25, 0.5, 0.5});
+
+    assertTrue(applyPendingRegion(stream));
+
+    verify(mockRequestBuilder, times(1)).set(any(), notNull());
+  }
+
+  @Test
+  public void applyPendingRegion_shouldClearRegion() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+    stream.setRegion(new double[] {0.25, 0.25, 0.5, 0.5});
+    applyPendingRegion(stream);
+    stream.setRegion(null);
+
+    assertTrue(applyPendingRegion(stream));
+
+    assertFalse(stream.hasActiveRegion());
+    verify(mockRequestBuilder, times(2)).set(any(), isNull());
+  }
+
+  @Test
+  public void invalidate_shouldReapplyLastRegion() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+    stream.setRegion(new double[] {0.25, 0.25, 0.5, 0.5});
+    applyPendingRegion(stream);
+
+    stream.invalidate();
+
+    assertTrue(stream.hasPendingRegion());
+    assertTrue(applyPendingRegion(stream));
+  }
+
+  @Test
+  public void invalidate_shouldDoNothingWithoutActiveRegion() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+
+    stream.invalidate();
+
+    assertFalse(stream.hasPendingRegion());
+  }
+
+  @Test
+  public void onMessage_shouldDecodeRegionAndReply() {
+    MeteringRegionStream stream = new MeteringRegionStream(true, true);
+    @SuppressWarnings("unchecked")
+    BasicMessageChannel.Reply<ByteBuffer> mockReply = mock(BasicMessageChannel.Reply.class);
+    ByteBuffer message = ByteBuffer.allocate(4 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    message.putDouble(0.1).putDouble(0.2).putDouble(0.3).putDouble(0.4);
+    message.flip();
+
+    stream.onMessage(message, mockReply);
+
+    assertTrue(stream.hasPendingRegion());
+    verify(mockReply, times(1)).reply(null);
+  }
+
+  @Test
+  public void decodeRegion_shouldReturnRegionValues() {
+    ByteBuffer message = ByteBuffer.allocate(4 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    message.putDouble(0.1).putDouble(0.2).putDouble(0.3).putDouble(0.4);
+    message.flip();
+
+    assertArrayEquals(
+        new double[] {0.1, 0.2, 0.3, 0.4}, MeteringRegionStream.decodeRegion(message), 0);
+  }
+
+  @Test
+  public void decodeRegion_shouldReturnNullForEmptyMessage() {
+    assertNull(MeteringRegionStream.decodeRegion(null));
+    assertNull(MeteringRegionStream.decodeRegion(ByteBuffer.allocate(0)));
+  }
+
+  private boolean applyPendingRegion(MeteringRegionStream stream) {
+    return stream.applyPendingRegion(
+        mockRequestBuilder, mockCameraBoundaries, PlatformChannel.DeviceOrientation.LANDSCAPE_LEFT);
+  }
+}
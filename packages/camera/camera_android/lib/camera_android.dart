@@ -3,3 +3,4 @@
 // found in the LICENSE file.
 
 export 'src/android_camera.dart';
+export 'src/background_threads.dart';
@@ -4,6 +4,7 @@
 
 import 'dart:async';
 import 'dart:math';
+import 'dart:typed_data';
 
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/foundation.dart';
@@ -11,6 +12,7 @@ import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:stream_transform/stream_transform.dart';
 
+import 'background_threads.dart';
 import 'type_conversion.dart';
 import 'utils.dart';
 
@@ -26,6 +28,16 @@ class AndroidCamera extends CameraPlatform {
 
   final Map<int, MethodChannel> _channels = <int, MethodChannel>{};
 
+  /// The priorities of the native background threads of cameras created with
+  /// [createCamera].
+  ///
+  /// Changing the priorities does not affect cameras that were already
+  /// created.
+  BackgroundThreadPriorities? backgroundThreadPriorities;
+
+  final Map<int, BasicMessageChannel<ByteData?>> _meteringRegionChannels =
+      <int, BasicMessageChannel<ByteData?>>{};
+
   /// The name of the channel that device events from the platform side are
   /// sent on.
   @visibleForTesting
@@ -105,6 +117,8 @@ class AndroidCamera extends CameraPlatform {
             ? _serializeResolutionPreset(resolutionPreset)
             : null,
         'enableAudio': enableAudio,
+        if (backgroundThreadPriorities != null)
+          'threadPriorities': backgroundThreadPriorities!.toMap(),
       });
 
       return reply!['cameraId']! as int;
@@ -165,6 +179,7 @@ class AndroidCamera extends CameraPlatform {
       cameraChannel?.setMethodCallHandler(null);
       _channels.remove(cameraId);
     }
+    _meteringRegionChannels.remove(cameraId);
 
     await _channel.invokeMethod<void>(
       'dispose',
@@ -432,6 +447,86 @@ class AndroidCamera extends CameraPlatform {
     );
   }
 
+  /// Starts a continuous stream of metering regions for the camera.
+  ///
+  /// While the stream is active, regions passed to [setMeteringRegion] are used
+  /// for auto focus (when [focus] is true) and auto exposure (when [exposure] is
+  /// true) instead of the focus and exposure points. The native side applies
+  /// only the latest region, at most once per preview frame.
+  Future<void> startMeteringRegionStream(
+    int cameraId, {
+    bool focus = true,
+    bool exposure = true,
+  }) async {
+    await _channel.invokeMethod<void>(
+      'startMeteringRegionStream',
+      <String, dynamic>{
+        'cameraId': cameraId,
+        'focus': focus,
+        'exposure': exposure,
+      },
+    );
+    _meteringRegionChannels[cameraId] = BasicMessageChannel<ByteData?>(
+        'plugins.flutter.io/camera_android/meteringRegion$cameraId',
+        const BinaryCodec());
+  }
+
+  /// Sends a new metering region to a stream started with
+  /// [startMeteringRegionStream].
+  ///
+  /// The [region] is normalized to the preview, all of its edges have to be
+  /// between 0 and 1. Passing null restores the focus and exposure points.
+  /// Regions are sent without waiting for the native side, so this can be
+  /// called for every frame of e.g. a face tracker.
+  void setMeteringRegion(int cameraId, Rect? region) {
+    assert(region == null ||
+        (region.left >= 0 &&
+            region.top >= 0 &&
+            region.right <= 1 &&
+            region.bottom <= 1));
+
+    final BasicMessageChannel<ByteData?>? channel =
+        _meteringRegionChannels[cameraId];
+    if (channel == null) {
+      return;
+    }
+
+    ByteData? message;
+    if (region != null) {
+      message = ByteData(4 * 8)
+        ..setFloat64(0, region.left, Endian.little)
+        ..setFloat64(8, region.top, Endian.little)
+        ..setFloat64(16, region.width, Endian.little)
+        ..setFloat64(24, region.height, Endian.little);
+    }
+    channel.send(message);
+  }
+
+  /// Stops a stream started with [startMeteringRegionStream] and restores the
+  /// focus and exposure points.
+  Future<void> stopMeteringRegionStream(int cameraId) {
+    _meteringRegionChannels.remove(cameraId);
+    return _channel.invokeMethod<void>(
+      'stopMeteringRegionStream',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+  }
+
+  /// Returns the queue metrics of the native background threads of the camera,
+  /// keyed by 'captureControl', 'imageAnalysis' and 'diskIo'.
+  Future<Map<String, BackgroundThreadMetrics>> getBackgroundThreadMetrics(
+      int cameraId) async {
+    final Map<String, dynamic>? metrics =
+        await _channel.invokeMapMethod<String, dynamic>(
+      'getBackgroundThreadMetrics',
+      <String, dynamic>{'cameraId': cameraId},
+    );
+
+    return metrics!.map((String name, dynamic value) =>
+        MapEntry<String, BackgroundThreadMetrics>(name,
+            BackgroundThreadMetrics.fromMap(value as Map<dynamic, dynamic>)));
+  }
+
   @override
   Future<double> getMaxZoomLevel(int cameraId) async {
     final double? maxZoomLevel = await _channel.invokeMethod<double>(
@@ -527,6 +622,11 @@ class AndroidCamera extends CameraPlatform {
   /// Converts messages received from the native platform into device events.
   Future<dynamic> _handleDeviceMethodCall(MethodCall call) async {
     switch (call.method) {
+      case 'batch':
+        for (final MethodCall event in _unbatch(call)) {
+          await _handleDeviceMethodCall(event);
+        }
+        break;
       case 'orientation_changed':
         _deviceEventStreamController.add(DeviceOrientationChangedEvent(
             deserializeDeviceOrientation(
@@ -544,6 +644,11 @@ class AndroidCamera extends CameraPlatform {
   @visibleForTesting
   Future<dynamic> handleCameraMethodCall(MethodCall call, int cameraId) async {
     switch (call.method) {
+      case 'batch':
+        for (final MethodCall event in _unbatch(call)) {
+          await handleCameraMethodCall(event, cameraId);
+        }
+        break;
       case 'initialized':
         cameraEventStreamController.add(CameraInitializedEvent(
           cameraId,
@@ -587,4 +692,15 @@ class AndroidCamera extends CameraPlatform {
         throw MissingPluginException();
     }
   }
+
+  /// Splits a batched message into the individual method calls it contains.
+  ///
+  /// The arguments of a batched message are a flat list of alternating method
+  /// names and arguments.
+  Iterable<MethodCall> _unbatch(MethodCall call) sync* {
+    final List<Object?> events = call.arguments as List<Object?>;
+    for (int i = 0; i + 1 < events.length; i += 2) {
+      yield MethodCall(events[i]! as String, events[i + 1]);
+    }
+  }
 }
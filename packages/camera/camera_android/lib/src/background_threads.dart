@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// The priorities of the native background threads of a camera.
+///
+/// Each camera uses separate threads for capture control (capture requests,
+/// capture results and session state), image analysis (image stream frames)
+/// and disk I/O (writing pictures). The priorities are Linux thread priorities
+/// as used by Android's `Process.setThreadPriority`, where lower values mean a
+/// higher priority. Threads without a priority use the native defaults.
+@immutable
+class BackgroundThreadPriorities {
+  /// Creates a new set of background thread priorities.
+  const BackgroundThreadPriorities({
+    this.captureControl,
+    this.imageAnalysis,
+    this.diskIo,
+  });
+
+  /// Priority of the capture control thread.
+  final int? captureControl;
+
+  /// Priority of the image analysis thread.
+  final int? imageAnalysis;
+
+  /// Priority of the disk I/O thread.
+  final int? diskIo;
+
+  /// Converts the priorities to the format sent to the platform.
+  Map<String, int> toMap() {
+    return <String, int>{
+      if (captureControl != null) 'captureControl': captureControl!,
+      if (imageAnalysis != null) 'imageAnalysis': imageAnalysis!,
+      if (diskIo != null) 'diskIo': diskIo!,
+    };
+  }
+}
+
+/// Queue metrics of a single native background thread of a camera.
+@immutable
+class BackgroundThreadMetrics {
+  /// Creates new background thread metrics.
+  const BackgroundThreadMetrics({
+    required this.queueDepth,
+    required this.maxQueueDepth,
+    required this.executedTasks,
+    required this.maxTaskDuration,
+  });
+
+  /// Creates the metrics from the map sent by the platform.
+  factory BackgroundThreadMetrics.fromMap(Map<dynamic, dynamic> map) {
+    return BackgroundThreadMetrics(
+      queueDepth: map['queueDepth']! as int,
+      maxQueueDepth: map['maxQueueDepth']! as int,
+      executedTasks: map['executedTasks']! as int,
+      maxTaskDuration: Duration(milliseconds: map['maxTaskDurationMs']! as int),
+    );
+  }
+
+  /// The number of tasks waiting to run on the thread.
+  final int queueDepth;
+
+  /// The highest [queueDepth] observed since the camera was created.
+  final int maxQueueDepth;
+
+  /// The number of tasks that ran on the thread.
+  final int executedTasks;
+
+  /// The duration of the slowest task that ran on the thread.
+  final Duration maxTaskDuration;
+}
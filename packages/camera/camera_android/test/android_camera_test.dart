@@ -4,9 +4,11 @@
 
 import 'dart:async';
 import 'dart:math';
+import 'dart:typed_data';
 
 import 'package:async/async.dart';
 import 'package:camera_android/src/android_camera.dart';
+import 'package:camera_android/src/background_threads.dart';
 import 'package:camera_android/src/utils.dart';
 import 'package:camera_platform_interface/camera_platform_interface.dart';
 import 'package:flutter/services.dart';
@@ -79,6 +81,46 @@ void main() {
       expect(cameraId, 1);
     });
 
+    test('Should send background thread priorities on creation', () async {
+      // Arrange
+      final MethodChannelMock cameraMockChannel = MethodChannelMock(
+          channelName: _channelName,
+          methods: <String, dynamic>{
+            'create': <String, dynamic>{
+              'cameraId': 1,
+              'imageFormatGroup': 'unknown',
+            }
+          });
+      final AndroidCamera camera = AndroidCamera()
+        ..backgroundThreadPriorities =
+            const BackgroundThreadPriorities(imageAnalysis: 10, diskIo: 19);
+
+      // Act
+      await camera.createCamera(
+        const CameraDescription(
+            name: 'Test',
+            lensDirection: CameraLensDirection.back,
+            sensorOrientation: 0),
+        ResolutionPreset.high,
+      );
+
+      // Assert
+      expect(cameraMockChannel.log, <Matcher>[
+        isMethodCall(
+          'create',
+          arguments: <String, Object?>{
+            'cameraName': 'Test',
+            'resolutionPreset': 'high',
+            'enableAudio': false,
+            'threadPriorities': <String, int>{
+              'imageAnalysis': 10,
+              'diskIo': 19,
+            },
+          },
+        ),
+      ]);
+    });
+
     test('Should throw CameraException when create throws a PlatformException',
         () {
       // Arrange
@@ -410,6 +452,33 @@ void main() {
       await streamQueue.cancel();
     });
 
+    test('Should receive batched camera events', () async {
+      // Act
+      final StreamQueue<CameraEvent> streamQueue =
+          StreamQueue<CameraEvent>(camera.cameraEventStreamController.stream);
+
+      // Emit test events
+      final CameraResolutionChangedEvent resolutionEvent =
+          CameraResolutionChangedEvent(cameraId, 1920, 1080);
+      final CameraErrorEvent errorEvent =
+          CameraErrorEvent(cameraId, 'Error Description');
+      await camera.handleCameraMethodCall(
+          MethodCall('batch', <Object?>[
+            'resolution_changed',
+            resolutionEvent.toJson(),
+            'error',
+            errorEvent.toJson(),
+          ]),
+          cameraId);
+
+      // Assert
+      expect(await streamQueue.next, resolutionEvent);
+      expect(await streamQueue.next, errorEvent);
+
+      // Clean up
+      await streamQueue.cancel();
+    });
+
     test('Should receive device orientation change events', () async {
       // Act
       final Stream<DeviceOrientationChangedEvent> eventStream =
@@ -878,6 +947,51 @@ void main() {
       ]);
     });
 
+    test('Should stream metering regions', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'startMeteringRegionStream': null,
+          'stopMeteringRegionStream': null,
+        },
+      );
+      final List<ByteData?> regionMessages = <ByteData?>[];
+      TestDefaultBinaryMessengerBinding.instance!.defaultBinaryMessenger
+          .setMockMessageHandler(
+              'plugins.flutter.io/camera_android/meteringRegion$cameraId',
+              (ByteData? message) async {
+        regionMessages.add(message);
+        return null;
+      });
+
+      // Act
+      await camera.startMeteringRegionStream(cameraId, exposure: false);
+      camera.setMeteringRegion(
+          cameraId, const Rect.fromLTWH(0.25, 0.5, 0.5, 0.25));
+      camera.setMeteringRegion(cameraId, null);
+      await camera.stopMeteringRegionStream(cameraId);
+      camera.setMeteringRegion(cameraId, const Rect.fromLTWH(0, 0, 1, 1));
+
+      // Assert
+      expect(channel.log, <Matcher>[
+        isMethodCall('startMeteringRegionStream', arguments: <String, Object?>{
+          'cameraId': cameraId,
+          'focus': true,
+          'exposure': false,
+        }),
+        isMethodCall('stopMeteringRegionStream', arguments: <String, Object?>{
+          'cameraId': cameraId,
+        }),
+      ]);
+      expect(regionMessages.length, 2);
+      expect(regionMessages[0]!.getFloat64(0, Endian.little), 0.25);
+      expect(regionMessages[0]!.getFloat64(8, Endian.little), 0.5);
+      expect(regionMessages[0]!.getFloat64(16, Endian.little), 0.5);
+      expect(regionMessages[0]!.getFloat64(24, Endian.little), 0.25);
+      expect(regionMessages[1], isNull);
+    });
+
     test('Should build a texture widget as preview widget', () async {
       // Act
       final Widget widget = camera.buildPreview(cameraId);
@@ -897,6 +1011,41 @@ void main() {
           throwsA(isA<MissingPluginException>()));
     });
 
+    test('Should get the background thread metrics', () async {
+      // Arrange
+      final MethodChannelMock channel = MethodChannelMock(
+        channelName: _channelName,
+        methods: <String, dynamic>{
+          'getBackgroundThreadMetrics': <String, dynamic>{
+            'diskIo': <String, dynamic>{
+              'queueDepth': 1,
+              'maxQueueDepth': 2,
+              'executedTasks': 3,
+              'maxTaskDurationMs': 4,
+            },
+          },
+        },
+      );
+
+      // Act
+      final Map<String, BackgroundThreadMetrics> metrics =
+          await camera.getBackgroundThreadMetrics(cameraId);
+
+      // Assert
+      expect(metrics.keys, <String>['diskIo']);
+      expect(metrics['diskIo']!.queueDepth, 1);
+      expect(metrics['diskIo']!.maxQueueDepth, 2);
+      expect(metrics['diskIo']!.executedTasks, 3);
+      expect(
+          metrics['diskIo']!.maxTaskDuration, const Duration(milliseconds: 4));
+      expect(channel.log, <Matcher>[
+        isMethodCall('getBackgroundThreadMetrics',
+            arguments: <String, Object?>{
+              'cameraId': cameraId,
+            }),
+      ]);
+    });
+
     test('Should get the max zoom level', () async {
       // Arrange
       final MethodChannelMock channel = MethodChannelMock(
@@ -26,28 +26,94 @@ package io.flutter.plugins.imagepicker;
 import android.content.ContentResolver;
 import android.content.Context;
 import android.net.Uri;
+import android.os.Build;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
+import android.os.ParcelFileDescriptor;
+import android.system.Os;
+import android.system.StructStat;
 import android.webkit.MimeTypeMap;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 
 class FileUtils {
+  /** The number of bytes copied per transfer, between checks for cancellation. */
+  @VisibleForTesting static final long COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+
+  interface CopyListener {
+    /**
+     * Called after each chunk of a copy.
+     *
+     * @param totalBytes the size of the source, or -1 if it is unknown.
+     */
+    void onProgress(long bytesCopied, long totalBytes);
+  }
 
   String getPathFromUri(final Context context, final Uri uri) {
+    return getPathFromUri(context, uri, null, null);
+  }
+
+  /**
+   * Returns the path of a file with the content of {@code uri}.
+   *
+   * <p>If the content is backed by a file the app can read, but not delete, its path is returned
+   * without copying. Otherwise the content is copied into the cache directory, with a {@link
+   * FileChannel} if the provider opens a file, or from a stream if it serves a pipe.
+   *
+   * @throws OperationCanceledException if {@code cancellationSignal} is canceled during the copy.
+   *     The partial copy is deleted.
+   */
+  String getPathFromUri(
+      final Context context,
+      final Uri uri,
+      @Nullable final CancellationSignal cancellationSignal,
+      @Nullable final CopyListener listener) {
+    ParcelFileDescriptor fileDescriptor = openFileDescriptor(context, uri);
+    if (fileDescriptor != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      String directPath = getReadOnlyFilePath(fileDescriptor);
+      if (directPath != null) {
+        closeQuietly(fileDescriptor);
+        return directPath;
+      }
+    }
+
     File file = null;
     InputStream inputStream = null;
-    OutputStream outputStream = null;
+    FileOutputStream outputStream = null;
     boolean success = false;
     try {
       String extension = getImageExtension(context, uri);
-      inputStream = context.getContentResolver().openInputStream(uri);
+      ReadableByteChannel source;
+      long totalBytes = -1;
+      // Pipes have no size, and FileChannel.transferFrom fails on them with ESPIPE.
+      if (fileDescriptor != null && fileDescriptor.getStatSize() >= 0) {
+        FileInputStream fileInputStream = new FileInputStream(fileDescriptor.getFileDescriptor());
+        inputStream = fileInputStream;
+        source = fileInputStream.getChannel();
+        totalBytes = fileDescriptor.getStatSize();
+      } else {
+        if (fileDescriptor != null) {
+          closeQuietly(fileDescriptor);
+          fileDescriptor = null;
+        }
+        inputStream = context.getContentResolver().openInputStream(uri);
+        source = inputStream == null ? null : Channels.newChannel(inputStream);
+      }
       file = File.createTempFile("image_picker", extension, context.getCacheDir());
       file.deleteOnExit();
       outputStream = new FileOutputStream(file);
-      if (inputStream != null) {
-        copy(inputStream, outputStream);
+      if (source != null) {
+        copy(source, outputStream.getChannel(), totalBytes, cancellationSignal, listener);
         success = true;
       }
     } catch (IOException ignored) {
@@ -56,6 +122,9 @@ class FileUtils {
         if (inputStream != null) inputStream.close();
       } catch (IOException ignored) {
       }
+      if (fileDescriptor != null) {
+        closeQuietly(fileDescriptor);
+      }
       try {
         if (outputStream != null) outputStream.close();
       } catch (IOException ignored) {
@@ -64,10 +133,60 @@ class FileUtils {
         // the bytes into the OS, not necessarily to the file.
         success = false;
       }
+      if (!success && file != null) {
+        file.delete();
+      }
     }
     return success ? file.getPath() : null;
   }
 
+  @Nullable
+  private static ParcelFileDescriptor openFileDescriptor(Context context, Uri uri) {
+    try {
+      return context.getContentResolver().openFileDescriptor(uri, "r");
+    } catch (FileNotFoundException | RuntimeException e) {
+      // Some providers only serve streams.
+      return null;
+    }
+  }
+
+  private static void closeQuietly(ParcelFileDescriptor fileDescriptor) {
+    try {
+      fileDescriptor.close();
+    } catch (IOException ignored) {
+    }
+  }
+
+  /**
+   * Returns the path of the file behind {@code fileDescriptor} if the app can read it directly and
+   * cannot delete it, or null.
+   *
+   * <p>The file is only used if it is the same file the provider opened, which rules out providers
+   * that serve converted content, such as transcoded videos. Files in directories the app can write
+   * to are copied, so deleting a picked file never deletes the original. The descriptor is neither
+   * read nor closed, so it can still be used to copy the content.
+   */
+  @Nullable
+  @RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+  private static String getReadOnlyFilePath(ParcelFileDescriptor fileDescriptor) {
+    try {
+      String path = Os.readlink("/proc/self/fd/" + fileDescriptor.getFd());
+      File file = new File(path);
+      File parent = file.getParentFile();
+      if (!file.isFile() || !file.canRead() || parent == null || parent.canWrite()) {
+        return null;
+      }
+      StructStat opened = Os.fstat(fileDescriptor.getFileDescriptor());
+      StructStat onDisk = Os.stat(path);
+      if (opened.st_dev != onDisk.st_dev || opened.st_ino != onDisk.st_ino) {
+        return null;
+      }
+      return path;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
   /** @return extension of image with dot, or default .jpg if it none. */
   private static String getImageExtension(Context context, Uri uriImage) {
     String extension = null;
@@ -94,12 +213,27 @@ class FileUtils {
     return "." + extension;
   }
 
-  private static void copy(InputStream in, OutputStream out) throws IOException {
-    final byte[] buffer = new byte[4 * 1024];
-    int bytesRead;
-    while ((bytesRead = in.read(buffer)) != -1) {
-      out.write(buffer, 0, bytesRead);
+  @VisibleForTesting
+  static void copy(
+      ReadableByteChannel source,
+      FileChannel destination,
+      long totalBytes,
+      @Nullable CancellationSignal cancellationSignal,
+      @Nullable CopyListener listener)
+      throws IOException {
+    long position = 0;
+    while (true) {
+      if (cancellationSignal != null) {
+        cancellationSignal.throwIfCanceled();
+      }
+      long transferred = destination.transferFrom(source, position, COPY_CHUNK_SIZE);
+      if (transferred <= 0) {
+        break;
+      }
+      position += transferred;
+      if (listener != null) {
+        listener.onProgress(position, totalBytes);
+      }
     }
-    out.flush();
   }
 }
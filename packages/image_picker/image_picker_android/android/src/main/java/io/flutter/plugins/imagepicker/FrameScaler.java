@@ -0,0 +1,258 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.graphics.SurfaceTexture;
+import android.opengl.EGL14;
+import android.opengl.EGLConfig;
+import android.opengl.EGLContext;
+import android.opengl.EGLDisplay;
+import android.opengl.EGLExt;
+import android.opengl.EGLSurface;
+import android.opengl.GLES11Ext;
+import android.opengl.GLES20;
+import android.os.Build;
+import android.view.Surface;
+import androidx.annotation.RequiresApi;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Draws the frames a video decoder renders to {@link #getDecoderSurface()} onto the input surface
+ * of a video encoder, scaled to the size of the encoder.
+ *
+ * <p>All methods have to be called on the thread that created the scaler, which owns its EGL
+ * context.
+ */
+@RequiresApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+final class FrameScaler implements SurfaceTexture.OnFrameAvailableListener {
+  private static final int EGL_RECORDABLE_ANDROID = 0x3142;
+  private static final long FRAME_TIMEOUT_MS = 2500;
+
+  private static final String VERTEX_SHADER =
+      "uniform mat4 uTexMatrix;\n"
+          + "attribute vec4 aPosition;\n"
+          + "attribute vec4 aTexCoord;\n"
+          + "varying vec2 vTexCoord;\n"
+          + "void main() {\n"
+          + "  gl_Position = aPosition;\n"
+          + "  vTexCoord = (uTexMatrix * aTexCoord).xy;\n"
+          + "}\n";
+
+  private static final String FRAGMENT_SHADER =
+      "#extension GL_OES_EGL_image_external : require\n"
+          + "precision mediump float;\n"
+          + "varying vec2 vTexCoord;\n"
+          + "uniform samplerExternalOES sTexture;\n"
+          + "void main() {\n"
+          + "  gl_FragColor = texture2D(sTexture, vTexCoord);\n"
+          + "}\n";
+
+  // A full screen quad as a triangle strip: x, y, u, v.
+  private static final float[] QUAD = {
+    -1f, -1f, 0f, 0f,
+    1f, -1f, 1f, 0f,
+    -1f, 1f, 0f, 1f,
+    1f, 1f, 1f, 1f,
+  };
+
+  private final int width;
+  private final int height;
+  private final float[] texMatrix = new float[16];
+  private final FloatBuffer quad;
+  private final Object frameLock = new Object();
+  private boolean isFrameAvailable = false;
+
+  private EGLDisplay eglDisplay = EGL14.EGL_NO_DISPLAY;
+  private EGLContext eglContext = EGL14.EGL_NO_CONTEXT;
+  private EGLSurface eglSurface = EGL14.EGL_NO_SURFACE;
+  private int program;
+  private int textureId;
+  private SurfaceTexture surfaceTexture;
+  private Surface decoderSurface;
+
+  /**
+   * Creates a scaler that draws onto {@code encoderSurface} and makes its EGL context current on
+   * the calling thread.
+   */
+  FrameScaler(Surface encoderSurface, int width, int height) throws IOException {
+    this.width = width;
+    this.height = height;
+    quad =
+        ByteBuffer.allocateDirect(QUAD.length * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    quad.put(QUAD).position(0);
+    try {
+      setUpEgl(encoderSurface);
+      setUpTexture();
+    } catch (IOException | RuntimeException e) {
+      release();
+      throw e;
+    }
+  }
+
+  /** The surface the video decoder has to render to. */
+  Surface getDecoderSurface() {
+    return decoderSurface;
+  }
+
+  @Override
+  public void onFrameAvailable(SurfaceTexture surfaceTexture) {
+    synchronized (frameLock) {
+      isFrameAvailable = true;
+      frameLock.notifyAll();
+    }
+  }
+
+  /** Waits for the frame the decoder rendered and draws it onto the encoder surface. */
+  void drawFrame(long presentationTimeNs) throws IOException {
+    synchronized (frameLock) {
+      long deadline = System.currentTimeMillis() + FRAME_TIMEOUT_MS;
+      while (!isFrameAvailable) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          throw new IOException("Timed out waiting for a decoded frame");
+        }
+        try {
+          frameLock.wait(remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while waiting for a decoded frame", e);
+        }
+      }
+      isFrameAvailable = false;
+    }
+    surfaceTexture.updateTexImage();
+    surfaceTexture.getTransformMatrix(texMatrix);
+
+    GLES20.glViewport(0, 0, width, height);
+    GLES20.glUseProgram(program);
+    GLES20.glActiveTexture(GLES20.GL_TEXTURE0);
+    GLES20.glBindTexture(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, textureId);
+    GLES20.glUniformMatrix4fv(
+        GLES20.glGetUniformLocation(program, "uTexMatrix"), 1, false, texMatrix, 0);
+    int position = GLES20.glGetAttribLocation(program, "aPosition");
+    int texCoord = GLES20.glGetAttribLocation(program, "aTexCoord");
+    quad.position(0);
+    GLES20.glVertexAttribPointer(position, 2, GLES20.GL_FLOAT, false, 16, quad);
+    GLES20.glEnableVertexAttribArray(position);
+    quad.position(2);
+    GLES20.glVertexAttribPointer(texCoord, 2, GLES20.GL_FLOAT, false, 16, quad);
+    GLES20.glEnableVertexAttribArray(texCoord);
+    GLES20.glDrawArrays(GLES20.GL_TRIANGLE_STRIP, 0, 4);
+
+    EGLExt.eglPresentationTimeANDROID(eglDisplay, eglSurface, presentationTimeNs);
+    EGL14.eglSwapBuffers(eglDisplay, eglSurface);
+  }
+
+  void release() {
+    if (eglDisplay != EGL14.EGL_NO_DISPLAY) {
+      EGL14.eglMakeCurrent(
+          eglDisplay, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_SURFACE, EGL14.EGL_NO_CONTEXT);
+      if (eglSurface != EGL14.EGL_NO_SURFACE) {
+        EGL14.eglDestroySurface(eglDisplay, eglSurface);
+      }
+      if (eglContext != EGL14.EGL_NO_CONTEXT) {
+        EGL14.eglDestroyContext(eglDisplay, eglContext);
+      }
+      EGL14.eglReleaseThread();
+      EGL14.eglTerminate(eglDisplay);
+    }
+    if (decoderSurface != null) {
+      decoderSurface.release();
+    }
+    if (surfaceTexture != null) {
+      surfaceTexture.release();
+    }
+    eglDisplay = EGL14.EGL_NO_DISPLAY;
+    eglContext = EGL14.EGL_NO_CONTEXT;
+    eglSurface = EGL14.EGL_NO_SURFACE;
+    decoderSurface = null;
+    surfaceTexture = null;
+  }
+
+  private void setUpEgl(Surface encoderSurface) throws IOException {
+    eglDisplay = EGL14.eglGetDisplay(EGL14.EGL_DEFAULT_DISPLAY);
+    int[] version = new int[2];
+    if (eglDisplay == EGL14.EGL_NO_DISPLAY
+        || !EGL14.eglInitialize(eglDisplay, version, 0, version, 1)) {
+      throw new IOException("Unable to initialize EGL");
+    }
+    int[] configAttributes = {
+      EGL14.EGL_RED_SIZE, 8,
+      EGL14.EGL_GREEN_SIZE, 8,
+      EGL14.EGL_BLUE_SIZE, 8,
+      EGL14.EGL_RENDERABLE_TYPE, EGL14.EGL_OPENGL_ES2_BIT,
+      EGL_RECORDABLE_ANDROID, 1,
+      EGL14.EGL_NONE
+    };
+    EGLConfig[] configs = new EGLConfig[1];
+    int[] configCount = new int[1];
+    if (!EGL14.eglChooseConfig(
+            eglDisplay, configAttributes, 0, configs, 0, 1, configCount, 0)
+        || configCount[0] == 0) {
+      throw new IOException("No recordable EGL config");
+    }
+    int[] contextAttributes = {EGL14.EGL_CONTEXT_CLIENT_VERSION, 2, EGL14.EGL_NONE};
+    eglContext =
+        EGL14.eglCreateContext(eglDisplay, configs[0], EGL14.EGL_NO_CONTEXT, contextAttributes, 0);
+    if (eglContext == EGL14.EGL_NO_CONTEXT) {
+      throw new IOException("Unable to create an EGL context");
+    }
+    eglSurface =
+        EGL14.eglCreateWindowSurface(
+            eglDisplay, configs[0], encoderSurface, new int[] {EGL14.EGL_NONE}, 0);
+    if (eglSurface == EGL14.EGL_NO_SURFACE
+        || !EGL14.eglMakeCurrent(eglDisplay, eglSurface, eglSurface, eglContext)) {
+      throw new IOException("Unable to draw onto the encoder surface");
+    }
+  }
+
+  private void setUpTexture() throws IOException {
+    program = GLES20.glCreateProgram();
+    GLES20.glAttachShader(program, compileShader(GLES20.GL_VERTEX_SHADER, VERTEX_SHADER));
+    GLES20.glAttachShader(program, compileShader(GLES20.GL_FRAGMENT_SHADER, FRAGMENT_SHADER));
+    GLES20.glLinkProgram(program);
+    int[] linked = new int[1];
+    GLES20.glGetProgramiv(program, GLES20.GL_LINK_STATUS, linked, 0);
+    if (linked[0] != GLES20.GL_TRUE) {
+      throw new IOException("Unable to link program: " + GLES20.glGetProgramInfoLog(program));
+    }
+
+    int[] textures = new int[1];
+    GLES20.glGenTextures(1, textures, 0);
+    textureId = textures[0];
+    GLES20.glBindTexture(GLES11Ext.GL_TEXTURE_EXTERNAL_OES, textureId);
+    GLES20.glTexParameteri(
+        GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MIN_FILTER, GLES20.GL_LINEAR);
+    GLES20.glTexParameteri(
+        GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_MAG_FILTER, GLES20.GL_LINEAR);
+    GLES20.glTexParameteri(
+        GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_WRAP_S, GLES20.GL_CLAMP_TO_EDGE);
+    GLES20.glTexParameteri(
+        GLES11Ext.GL_TEXTURE_EXTERNAL_OES, GLES20.GL_TEXTURE_WRAP_T, GLES20.GL_CLAMP_TO_EDGE);
+
+    // Without a looper on this thread, frame callbacks arrive on the main looper, which keeps
+    // running while this thread waits for them.
+    surfaceTexture = new SurfaceTexture(textureId);
+    surfaceTexture.setOnFrameAvailableListener(this);
+    decoderSurface = new Surface(surfaceTexture);
+  }
+
+  private static int compileShader(int type, String source) throws IOException {
+    int shader = GLES20.glCreateShader(type);
+    GLES20.glShaderSource(shader, source);
+    GLES20.glCompileShader(shader);
+    int[] compiled = new int[1];
+    GLES20.glGetShaderiv(shader, GLES20.GL_COMPILE_STATUS, compiled, 0);
+    if (compiled[0] == 0) {
+      String log = GLES20.glGetShaderInfoLog(shader);
+      GLES20.glDeleteShader(shader);
+      throw new IOException("Unable to compile shader: " + log);
+    }
+    return shader;
+  }
+}
@@ -0,0 +1,37 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import androidx.annotation.Nullable;
+import java.util.Locale;
+
+/** The format resized images are encoded in. */
+enum ImageOutputFormat {
+  JPEG("jpg", true),
+
+  PNG("png", false),
+
+  WEBP("webp", true),
+
+  HEIF("heic", true);
+
+  final String extension;
+  /** Whether the encoded size depends on the image quality. */
+  final boolean isLossy;
+
+  ImageOutputFormat(String extension, boolean isLossy) {
+    this.extension = extension;
+    this.isLossy = isLossy;
+  }
+
+  /** Returns the format for the {@code outputFormat} argument of a method call, or null. */
+  @Nullable
+  static ImageOutputFormat fromArgument(@Nullable String outputFormat) {
+    if (outputFormat == null) {
+      return null;
+    }
+    return valueOf(outputFormat.toUpperCase(Locale.ROOT));
+  }
+}
@@ -23,6 +23,8 @@ class ImagePickerCache {
   static final String MAP_KEY_MAX_WIDTH = "maxWidth";
   static final String MAP_KEY_MAX_HEIGHT = "maxHeight";
   static final String MAP_KEY_IMAGE_QUALITY = "imageQuality";
+  static final String MAP_KEY_OUTPUT_FORMAT = "outputFormat";
+  static final String MAP_KEY_MAX_FILE_SIZE = "maxFileSize";
   private static final String MAP_KEY_TYPE = "type";
   private static final String MAP_KEY_ERROR_CODE = "errorCode";
   private static final String MAP_KEY_ERROR_MESSAGE = "errorMessage";
@@ -40,6 +42,12 @@ class ImagePickerCache {
   private static final String SHARED_PREFERENCE_IMAGE_QUALITY_KEY =
       "flutter_image_picker_image_quality";
 
+  private static final String SHARED_PREFERENCE_OUTPUT_FORMAT_KEY =
+      "flutter_image_picker_output_format";
+
+  private static final String SHARED_PREFERENCE_MAX_FILE_SIZE_KEY =
+      "flutter_image_picker_max_file_size";
+
   private static final String SHARED_PREFERENCE_TYPE_KEY = "flutter_image_picker_type";
   private static final String SHARED_PREFERENCE_PENDING_IMAGE_URI_PATH_KEY =
       "flutter_image_picker_pending_image_uri";
@@ -76,6 +84,21 @@ class ImagePickerCache {
             : (int) methodCall.argument(MAP_KEY_IMAGE_QUALITY);
 
     setMaxDimension(maxWidth, maxHeight, imageQuality);
+
+    String outputFormat = methodCall.argument(MAP_KEY_OUTPUT_FORMAT);
+    Number maxFileSize = methodCall.argument(MAP_KEY_MAX_FILE_SIZE);
+    setOutputOptions(outputFormat, maxFileSize == null ? null : maxFileSize.longValue());
+  }
+
+  private void setOutputOptions(@Nullable String outputFormat, @Nullable Long maxFileSize) {
+    SharedPreferences.Editor editor = prefs.edit();
+    if (outputFormat != null) {
+      editor.putString(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY, outputFormat);
+    }
+    if (maxFileSize != null) {
+      editor.putLong(SHARED_PREFERENCE_MAX_FILE_SIZE_KEY, maxFileSize);
+    }
+    editor.apply();
   }
 
   private void setMaxDimension(Double maxWidth, Double maxHeight, int imageQuality) {
@@ -164,6 +187,14 @@ class ImagePickerCache {
         final long maxHeightValue = prefs.getLong(SHARED_PREFERENCE_MAX_HEIGHT_KEY, 0);
         resultMap.put(MAP_KEY_MAX_HEIGHT, Double.longBitsToDouble(maxHeightValue));
       }
+      if (prefs.contains(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY)) {
+        final String outputFormat = prefs.getString(SHARED_PREFERENCE_OUTPUT_FORMAT_KEY, null);
+        resultMap.put(MAP_KEY_OUTPUT_FORMAT, outputFormat);
+      }
+      if (prefs.contains(SHARED_PREFERENCE_MAX_FILE_SIZE_KEY)) {
+        final long maxFileSize = prefs.getLong(SHARED_PREFERENCE_MAX_FILE_SIZE_KEY, 0);
+        resultMap.put(MAP_KEY_MAX_FILE_SIZE, maxFileSize);
+      }
       if (prefs.contains(SHARED_PREFERENCE_IMAGE_QUALITY_KEY)) {
         final int imageQuality = prefs.getInt(SHARED_PREFERENCE_IMAGE_QUALITY_KEY, 100);
         resultMap.put(MAP_KEY_IMAGE_QUALITY, imageQuality);
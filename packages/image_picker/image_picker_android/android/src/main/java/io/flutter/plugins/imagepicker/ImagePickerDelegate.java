@@ -14,6 +14,8 @@ import android.hardware.camera2.CameraCharacteristics;
 import android.media.MediaScannerConnection;
 import android.net.Uri;
 import android.os.Build;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
 import android.provider.MediaStore;
 import androidx.annotation.VisibleForTesting;
 import androidx.core.app.ActivityCompat;
@@ -91,6 +93,8 @@ public class ImagePickerDelegate
   private final PermissionManager permissionManager;
   private final FileUriResolver fileUriResolver;
   private final FileUtils fileUtils;
+  private final MultiImageProcessor multiImageProcessor;
+  private final VideoTranscoder videoTranscoder;
   private CameraDevice cameraDevice;
 
   interface PermissionManager {
@@ -114,12 +118,22 @@ public class ImagePickerDelegate
   private Uri pendingCameraMediaUri;
   private MethodChannel.Result pendingResult;
   private MethodCall methodCall;
+  private CancellationSignal importCancellation;
 
   public ImagePickerDelegate(
       final Activity activity,
       final File externalFilesDirectory,
       final ImageResizer imageResizer,
       final ImagePickerCache cache) {
+    this(activity, externalFilesDirectory, imageResizer, cache, null);
+  }
+
+  ImagePickerDelegate(
+      final Activity activity,
+      final File externalFilesDirectory,
+      final ImageResizer imageResizer,
+      final ImagePickerCache cache,
+      final ProgressReporter progressReporter) {
     this(
         activity,
         externalFilesDirectory,
@@ -164,7 +178,9 @@ public class ImagePickerDelegate
                 });
           }
         },
-        new FileUtils());
+        new FileUtils(),
+        new MultiImageProcessor(progressReporter),
+        new VideoTranscoder(externalFilesDirectory));
   }
 
   /**
@@ -181,7 +197,9 @@ public class ImagePickerDelegate
       final ImagePickerCache cache,
       final PermissionManager permissionManager,
       final FileUriResolver fileUriResolver,
-      final FileUtils fileUtils) {
+      final FileUtils fileUtils,
+      final MultiImageProcessor multiImageProcessor,
+      final VideoTranscoder videoTranscoder) {
     this.activity = activity;
     this.externalFilesDirectory = externalFilesDirectory;
     this.imageResizer = imageResizer;
@@ -191,6 +209,8 @@ public class ImagePickerDelegate
     this.permissionManager = permissionManager;
     this.fileUriResolver = fileUriResolver;
     this.fileUtils = fileUtils;
+    this.multiImageProcessor = multiImageProcessor;
+    this.videoTranscoder = videoTranscoder;
     this.cache = cache;
   }
 
@@ -228,8 +248,13 @@ public class ImagePickerDelegate
             resultMap.get(cache.MAP_KEY_IMAGE_QUALITY) == null
                 ? 100
                 : (int) resultMap.get(cache.MAP_KEY_IMAGE_QUALITY);
+        ImageOutputFormat outputFormat =
+            ImageOutputFormat.fromArgument((String) resultMap.get(cache.MAP_KEY_OUTPUT_FORMAT));
+        Long maxFileSize = (Long) resultMap.get(cache.MAP_KEY_MAX_FILE_SIZE);
 
-        newPathList.add(imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality));
+        newPathList.add(
+            imageResizer.resizeImageIfNeeded(
+                path, maxWidth, maxHeight, imageQuality, outputFormat, maxFileSize));
       }
       resultMap.put(cache.MAP_KEY_PATH_LIST, newPathList);
       resultMap.put(cache.MAP_KEY_PATH, newPathList.get(newPathList.size() - 1));
@@ -484,8 +509,22 @@ public class ImagePickerDelegate
 
   private void handleChooseImageResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleImageResult(path, false);
+      final Uri uri = data.getData();
+      final CancellationSignal cancellationSignal = startImport();
+      multiImageProcessor.run(
+          new MultiImageProcessor.ImageTask() {
+            @Override
+            public String process(int index) {
+              return importFile(uri, index, cancellationSignal);
+            }
+          },
+          new ImportCallback() {
+            @Override
+            public void onComplete(ArrayList<String> paths) {
+              importCancellation = null;
+              handleImageResult(paths.get(0), false);
+            }
+          });
       return;
     }
 
@@ -495,15 +534,15 @@ public class ImagePickerDelegate
 
   private void handleChooseMultiImageResult(int resultCode, Intent intent) {
     if (resultCode == Activity.RESULT_OK && intent != null) {
-      ArrayList<String> paths = new ArrayList<>();
+      ArrayList<Uri> uris = new ArrayList<>();
       if (intent.getClipData() != null) {
         for (int i = 0; i < intent.getClipData().getItemCount(); i++) {
-          paths.add(fileUtils.getPathFromUri(activity, intent.getClipData().getItemAt(i).getUri()));
+          uris.add(intent.getClipData().getItemAt(i).getUri());
         }
       } else {
-        paths.add(fileUtils.getPathFromUri(activity, intent.getData()));
+        uris.add(intent.getData());
       }
-      handleMultiImageResult(paths, false);
+      handleMultiImageResult(uris);
       return;
     }
 
@@ -513,8 +552,22 @@ public class ImagePickerDelegate
 
   private void handleChooseVideoResult(int resultCode, Intent data) {
     if (resultCode == Activity.RESULT_OK && data != null) {
-      String path = fileUtils.getPathFromUri(activity, data.getData());
-      handleVideoResult(path);
+      final Uri uri = data.getData();
+      final CancellationSignal cancellationSignal = startImport();
+      multiImageProcessor.run(
+          new MultiImageProcessor.ImageTask() {
+            @Override
+            public String process(int index) {
+              return importFile(uri, index, cancellationSignal);
+            }
+          },
+          new ImportCallback() {
+            @Override
+            public void onComplete(ArrayList<String> paths) {
+              importCancellation = null;
+              handleVideoResult(paths.get(0));
+            }
+          });
       return;
     }
 
@@ -560,24 +613,99 @@ public class ImagePickerDelegate
     finishWithSuccess(null);
   }
 
-  private void handleMultiImageResult(
-      ArrayList<String> paths, boolean shouldDeleteOriginalIfScaled) {
-    if (methodCall != null) {
-      ArrayList<String> finalPath = new ArrayList<>();
-      for (int i = 0; i < paths.size(); i++) {
-        String finalImagePath = getResizedImagePath(paths.get(i));
-
-        //delete original file if scaled
-        if (finalImagePath != null
-            && !finalImagePath.equals(paths.get(i))
-            && shouldDeleteOriginalIfScaled) {
-          new File(paths.get(i)).delete();
-        }
-        finalPath.add(i, finalImagePath);
+  /**
+   * Copies, resizes and re-encodes the picked images concurrently, and finishes with their paths in
+   * the order they were picked. The index is part of the name of each resized image, so images with
+   * the same name don't overwrite each other.
+   */
+  private void handleMultiImageResult(final ArrayList<Uri> uris) {
+    final boolean shouldResize = methodCall != null;
+    final Double maxWidth = shouldResize ? methodCall.<Double>argument("maxWidth") : null;
+    final Double maxHeight = shouldResize ? methodCall.<Double>argument("maxHeight") : null;
+    final Integer imageQuality = shouldResize ? methodCall.<Integer>argument("imageQuality") : null;
+    final ImageOutputFormat outputFormat = shouldResize ? getOutputFormat(methodCall) : null;
+    final Long maxFileSize = shouldResize ? getMaxFileSize(methodCall) : null;
+    final CancellationSignal cancellationSignal = startImport();
+
+    multiImageProcessor.process(
+        uris.size(),
+        new MultiImageProcessor.ImageTask() {
+          @Override
+          public String process(int index) throws InterruptedException {
+            final String path = importFile(uris.get(index), index, cancellationSignal);
+            if (path == null || !shouldResize) {
+              return path;
+            }
+            return multiImageProcessor.decode(
+                new MultiImageProcessor.Decoder() {
+                  @Override
+                  public String decode() {
+                    return imageResizer.resizeImageIfNeeded(
+                        path,
+                        maxWidth,
+                        maxHeight,
+                        imageQuality,
+                        outputFormat,
+                        maxFileSize,
+                        "scaled_" + index + "_");
+                  }
+                });
+          }
+        },
+        new ImportCallback() {
+          @Override
+          public void onComplete(ArrayList<String> paths) {
+            importCancellation = null;
+            finishWithListSuccess(paths);
+          }
+        });
+  }
+
+  /** Cancels copying picked files into the cache. The pick finishes with a null result. */
+  void cancelImport() {
+    if (importCancellation != null) {
+      importCancellation.cancel();
+    }
+  }
+
+  private CancellationSignal startImport() {
+    importCancellation = new CancellationSignal();
+    return importCancellation;
+  }
+
+  private String importFile(Uri uri, final int index, CancellationSignal cancellationSignal) {
+    return fileUtils.getPathFromUri(
+        activity,
+        uri,
+        cancellationSignal,
+        new FileUtils.CopyListener() {
+          @Override
+          public void onProgress(long bytesCopied, long totalBytes) {
+            multiImageProcessor.reportCopyProgress(index, bytesCopied, totalBytes);
+          }
+        });
+  }
+
+  /** Finishes canceled imports with a null result and failed ones with an error. */
+  private abstract class ImportCallback implements MultiImageProcessor.Callback {
+    private final String errorCode;
+
+    ImportCallback() {
+      this("image_processing_failed");
+    }
+
+    ImportCallback(String errorCode) {
+      this.errorCode = errorCode;
+    }
+
+    @Override
+    public void onError(Exception exception) {
+      importCancellation = null;
+      if (exception instanceof OperationCanceledException) {
+        finishWithSuccess(null);
+      } else {
+        finishWithError(errorCode, exception.toString());
       }
-      finishWithListSuccess(finalPath);
-    } else {
-      finishWithListSuccess(paths);
     }
   }
 
@@ -599,11 +727,72 @@ public class ImagePickerDelegate
     Double maxHeight = methodCall.argument("maxHeight");
     Integer imageQuality = methodCall.argument("imageQuality");
 
-    return imageResizer.resizeImageIfNeeded(path, maxWidth, maxHeight, imageQuality);
+    return imageResizer.resizeImageIfNeeded(
+        path,
+        maxWidth,
+        maxHeight,
+        imageQuality,
+        getOutputFormat(methodCall),
+        getMaxFileSize(methodCall));
+  }
+
+  private static ImageOutputFormat getOutputFormat(MethodCall methodCall) {
+    return ImageOutputFormat.fromArgument(methodCall.<String>argument("outputFormat"));
+  }
+
+  private static Long getMaxFileSize(MethodCall methodCall) {
+    // Dart integers arrive as Integer or Long depending on their size.
+    Number maxFileSize = methodCall.argument("maxFileSize");
+    return maxFileSize == null ? null : maxFileSize.longValue();
   }
 
-  private void handleVideoResult(String path) {
-    finishWithSuccess(path);
+  private void handleVideoResult(final String path) {
+    final VideoTranscoder.Options transcodeOptions =
+        path == null || methodCall == null
+            ? null
+            : VideoTranscoder.Options.fromArgument(
+                methodCall.<Map<String, Object>>argument("transcode"));
+    if (transcodeOptions == null) {
+      finishWithSuccess(path);
+      return;
+    }
+
+    final CancellationSignal cancellationSignal = startImport();
+    multiImageProcessor.run(
+        new MultiImageProcessor.ImageTask() {
+          @Override
+          public String process(final int index) {
+            try {
+              return videoTranscoder.transcode(
+                  path,
+                  transcodeOptions,
+                  cancellationSignal,
+                  new VideoTranscoder.ProgressListener() {
+                    private long lastReportedUs = Long.MIN_VALUE;
+
+                    @Override
+                    public void onProgress(long positionUs, long durationUs) {
+                      // Report each percent rather than each frame.
+                      if (positionUs - lastReportedUs < durationUs / 100
+                          && positionUs < durationUs) {
+                        return;
+                      }
+                      lastReportedUs = positionUs;
+                      multiImageProcessor.reportTranscodeProgress(index, positionUs, durationUs);
+                    }
+                  });
+            } catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        },
+        new ImportCallback("video_transcode_failed") {
+          @Override
+          public void onComplete(ArrayList<String> paths) {
+            importCancellation = null;
+            finishWithSuccess(paths.get(0));
+          }
+        });
   }
 
   private boolean setPendingMethodCallAndResult(
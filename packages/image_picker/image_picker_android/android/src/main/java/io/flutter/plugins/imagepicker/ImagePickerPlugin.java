@@ -19,6 +19,7 @@ import io.flutter.embedding.engine.plugins.activity.ActivityAware;
 import io.flutter.embedding.engine.plugins.activity.ActivityPluginBinding;
 import io.flutter.embedding.engine.plugins.lifecycle.FlutterLifecycleAdapter;
 import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.PluginRegistry;
@@ -99,6 +100,7 @@ public class ImagePickerPlugin
     private Activity activity;
     private ImagePickerDelegate delegate;
     private MethodChannel channel;
+    private EventChannel progressChannel;
     private LifeCycleObserver observer;
     private ActivityPluginBinding activityBinding;
 
@@ -117,9 +119,12 @@ public class ImagePickerPlugin
       this.activity = activity;
       this.activityBinding = activityBinding;
 
-      delegate = constructDelegate(activity);
+      final ProgressReporter progressReporter = new ProgressReporter();
+      delegate = constructDelegate(activity, progressReporter);
       channel = new MethodChannel(messenger, CHANNEL);
       channel.setMethodCallHandler(handler);
+      progressChannel = new EventChannel(messenger, PROGRESS_CHANNEL);
+      progressChannel.setStreamHandler(progressReporter);
       observer = new LifeCycleObserver(activity);
       if (registrar != null) {
         // V1 embedding setup for activity listeners.
@@ -158,11 +163,20 @@ public class ImagePickerPlugin
         channel = null;
       }
 
+      if (progressChannel != null) {
+        progressChannel.setStreamHandler(null);
+        progressChannel = null;
+      }
+
       if (application != null) {
         application.unregisterActivityLifecycleCallbacks(observer);
         application = null;
       }
 
+      if (delegate != null) {
+        delegate.cancelImport();
+      }
+
       activity = null;
       observer = null;
       delegate = null;
@@ -181,15 +195,22 @@ public class ImagePickerPlugin
   static final String METHOD_CALL_MULTI_IMAGE = "pickMultiImage";
   static final String METHOD_CALL_VIDEO = "pickVideo";
   private static final String METHOD_CALL_RETRIEVE = "retrieve";
+  private static final String METHOD_CALL_CANCEL_IMPORT = "cancelImport";
+  private static final String METHOD_CALL_THUMBNAIL = "getThumbnail";
+  private static final int DEFAULT_THUMBNAIL_SIZE = 256;
   private static final int CAMERA_DEVICE_FRONT = 1;
   private static final int CAMERA_DEVICE_REAR = 0;
   private static final String CHANNEL = "plugins.flutter.io/image_picker_android";
+  private static final String PROGRESS_CHANNEL =
+      "plugins.flutter.io/image_picker_android/progress";
 
   private static final int SOURCE_CAMERA = 0;
   private static final int SOURCE_GALLERY = 1;
 
   private FlutterPluginBinding pluginBinding;
   private ActivityState activityState;
+  // Outlives activity recreation, so thumbnails are not recreated after a configuration change.
+  private ThumbnailGenerator thumbnailGenerator;
 
   @SuppressWarnings("deprecation")
   public static void registerWith(io.flutter.plugin.common.PluginRegistry.Registrar registrar) {
@@ -279,12 +300,25 @@ public class ImagePickerPlugin
 
   @VisibleForTesting
   final ImagePickerDelegate constructDelegate(final Activity setupActivity) {
+    return constructDelegate(setupActivity, null);
+  }
+
+  private ImagePickerDelegate constructDelegate(
+      final Activity setupActivity, final ProgressReporter progressReporter) {
     final ImagePickerCache cache = new ImagePickerCache(setupActivity);
 
     final File externalFilesDirectory = setupActivity.getCacheDir();
     final ExifDataCopier exifDataCopier = new ExifDataCopier();
     final ImageResizer imageResizer = new ImageResizer(externalFilesDirectory, exifDataCopier);
-    return new ImagePickerDelegate(setupActivity, externalFilesDirectory, imageResizer, cache);
+    return new ImagePickerDelegate(
+        setupActivity, externalFilesDirectory, imageResizer, cache, progressReporter);
+  }
+
+  private ThumbnailGenerator getThumbnailGenerator() {
+    if (thumbnailGenerator == null) {
+      thumbnailGenerator = new ThumbnailGenerator(activityState.getActivity().getCacheDir());
+    }
+    return thumbnailGenerator;
   }
 
   // MethodChannel.Result wrapper that responds on the platform thread.
@@ -384,6 +418,20 @@ public class ImagePickerPlugin
       case METHOD_CALL_RETRIEVE:
         delegate.retrieveLostImage(result);
         break;
+      case METHOD_CALL_CANCEL_IMPORT:
+        delegate.cancelImport();
+        result.success(null);
+        break;
+      case METHOD_CALL_THUMBNAIL:
+        Integer maxSize = call.argument("maxSize");
+        Boolean asBytes = call.argument("asBytes");
+        getThumbnailGenerator()
+            .getThumbnail(
+                call.<String>argument("path"),
+                maxSize != null ? maxSize : DEFAULT_THUMBNAIL_SIZE,
+                asBytes != null && asBytes,
+                result);
+        break;
       default:
         throw new IllegalArgumentException("Unknown method " + call.method);
     }
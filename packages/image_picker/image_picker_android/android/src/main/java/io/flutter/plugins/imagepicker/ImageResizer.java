@@ -6,14 +6,38 @@ package io.flutter.plugins.imagepicker;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.media.MediaFormat;
+import android.os.Build;
 import android.util.Log;
 import androidx.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import androidx.heifwriter.HeifWriter;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 class ImageResizer {
+  private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+  /** The lowest quality used to fit an image into a maximum file size. */
+  @VisibleForTesting static final int MIN_QUALITY = 10;
+  /** The maximum number of encodes used to fit an image into a maximum file size. */
+  @VisibleForTesting static final int MAX_ENCODE_ATTEMPTS = 8;
+
+  private static final long HEIF_ENCODE_TIMEOUT_MS = 10000;
+
+  /** Encodes an image at a quality and returns the size of the encoded file. */
+  @VisibleForTesting
+  interface QualityEncoder {
+    long encode(int quality) throws IOException;
+  }
+
+  @Nullable private static Boolean canEncodeHeif;
+
   private final File externalFilesDirectory;
   private final ExifDataCopier exifDataCopier;
 
@@ -26,26 +50,89 @@ class ImageResizer {
    * If necessary, resizes the image located in imagePath and then returns the path for the scaled
    * image.
    *
-   * <p>If no resizing is needed, returns the path for the original image.
+   * <p>If no resizing is needed, returns the path for the original image without decoding it.
+   *
+   * <p>Only the bounds of the image are read up front. When it has to be resized, the image is
+   * decoded at the smallest power of two subsample that is still at least as large as the target
+   * size, and then scaled to the exact target size, so a full resolution bitmap is never allocated
+   * for a downscale. The result is compressed straight into the output file.
    */
   String resizeImageIfNeeded(
       String imagePath,
       @Nullable Double maxWidth,
       @Nullable Double maxHeight,
       @Nullable Integer imageQuality) {
-    Bitmap bmp = decodeFile(imagePath);
-    if (bmp == null) {
+    return resizeImageIfNeeded(imagePath, maxWidth, maxHeight, imageQuality, null, null);
+  }
+
+  /**
+   * Like {@link #resizeImageIfNeeded(String, Double, Double, Integer)}, but also re-encodes the
+   * image in {@code outputFormat} and fits it into {@code maxFileSize} bytes when they are given.
+   *
+   * <p>To fit the size, the quality is lowered by a binary search of at most {@link
+   * #MAX_ENCODE_ATTEMPTS} encodes in total, keeping the highest quality that fits. If even {@link
+   * #MIN_QUALITY} does not fit, the image is returned at that quality. Lossless formats are
+   * encoded once. HEIF falls back to JPEG on devices that cannot encode it.
+   */
+  String resizeImageIfNeeded(
+      String imagePath,
+      @Nullable Double maxWidth,
+      @Nullable Double maxHeight,
+      @Nullable Integer imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSize) {
+    return resizeImageIfNeeded(
+        imagePath, maxWidth, maxHeight, imageQuality, outputFormat, maxFileSize, "scaled_");
+  }
+
+  /**
+   * Like {@link #resizeImageIfNeeded(String, Double, Double, Integer, ImageOutputFormat, Long)},
+   * but names the output file {@code outputNamePrefix} followed by the name of the image, so images
+   * that are resized concurrently can't overwrite each other.
+   */
+  String resizeImageIfNeeded(
+      String imagePath,
+      @Nullable Double maxWidth,
+      @Nullable Double maxHeight,
+      @Nullable Integer imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSize,
+      String outputNamePrefix) {
+    BitmapFactory.Options bounds = decodeBounds(imagePath);
+    if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
       return null;
     }
     boolean shouldScale =
-        maxWidth != null || maxHeight != null || isImageQualityValid(imageQuality);
+        maxWidth != null
+            || maxHeight != null
+            || isImageQualityValid(imageQuality)
+            || outputFormat != null
+            || maxFileSize != null;
     if (!shouldScale) {
       return imagePath;
     }
+    if (outputFormat == ImageOutputFormat.HEIF && !canEncodeHeif()) {
+      Log.d("ImageResizer", "image_picker: HEIF encoding is not supported. Encoding as JPEG.");
+      outputFormat = ImageOutputFormat.JPEG;
+    }
     try {
       String[] pathParts = imagePath.split("/");
-      String imageName = pathParts[pathParts.length - 1];
-      File file = resizedImage(bmp, maxWidth, maxHeight, imageQuality, imageName);
+      String imageName =
+          outputNamePrefix + outputFileName(pathParts[pathParts.length - 1], outputFormat);
+      File file =
+          resizedImage(
+              imagePath,
+              bounds.outWidth,
+              bounds.outHeight,
+              maxWidth,
+              maxHeight,
+              imageQuality,
+              outputFormat,
+              maxFileSize,
+              imageName);
+      if (file == null) {
+        return null;
+      }
       copyExif(imagePath, file.getPath());
       return file.getPath();
     } catch (IOException e) {
@@ -53,16 +140,58 @@ class ImageResizer {
     }
   }
 
+  @Nullable
   private File resizedImage(
-      Bitmap bmp, Double maxWidth, Double maxHeight, Integer imageQuality, String outputImageName)
+      String imagePath,
+      int originalWidth,
+      int originalHeight,
+      Double maxWidth,
+      Double maxHeight,
+      Integer imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSize,
+      String outputImageName)
       throws IOException {
-    double originalWidth = bmp.getWidth() * 1.0;
-    double originalHeight = bmp.getHeight() * 1.0;
-
     if (!isImageQualityValid(imageQuality)) {
       imageQuality = 100;
     }
 
+    int[] targetSize = calculateTargetSize(originalWidth, originalHeight, maxWidth, maxHeight);
+    int width = Math.max(1, targetSize[0]);
+    int height = Math.max(1, targetSize[1]);
+
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inSampleSize = calculateInSampleSize(originalWidth, originalHeight, width, height);
+    Bitmap sampledBmp = decodeFile(imagePath, options);
+    if (sampledBmp == null) {
+      return null;
+    }
+
+    Bitmap scaledBmp = sampledBmp;
+    if (sampledBmp.getWidth() != width || sampledBmp.getHeight() != height) {
+      scaledBmp = createScaledBitmap(sampledBmp, width, height, false);
+      if (scaledBmp != sampledBmp) {
+        sampledBmp.recycle();
+      }
+    }
+    try {
+      return createImageOnExternalDirectory(
+          "/" + outputImageName, scaledBmp, imageQuality, outputFormat, maxFileSize);
+    } finally {
+      scaledBmp.recycle();
+    }
+  }
+
+  /**
+   * Returns the width and height the image should be resized to, preserving its aspect ratio when
+   * only one of the maximums constrains it.
+   */
+  @VisibleForTesting
+  static int[] calculateTargetSize(
+      int originalWidthPx, int originalHeightPx, Double maxWidth, Double maxHeight) {
+    double originalWidth = originalWidthPx * 1.0;
+    double originalHeight = originalHeightPx * 1.0;
+
     boolean hasMaxWidth = maxWidth != null;
     boolean hasMaxHeight = maxHeight != null;
 
@@ -98,10 +227,68 @@ class ImageResizer {
       }
     }
 
-    Bitmap scaledBmp = createScaledBitmap(bmp, width.intValue(), height.intValue(), false);
-    File file =
-        createImageOnExternalDirectory("/scaled_" + outputImageName, scaledBmp, imageQuality);
-    return file;
+    return new int[] {width.intValue(), height.intValue()};
+  }
+
+  /**
+   * Returns the largest power of two subsample of the original size that is still at least as
+   * large as the target size in both dimensions.
+   */
+  @VisibleForTesting
+  static int calculateInSampleSize(
+      int originalWidth, int originalHeight, int targetWidth, int targetHeight) {
+    int inSampleSize = 1;
+    while (originalWidth / (inSampleSize * 2) >= targetWidth
+        && originalHeight / (inSampleSize * 2) >= targetHeight) {
+      inSampleSize *= 2;
+    }
+    return inSampleSize;
+  }
+
+  /**
+   * Returns the highest quality up to {@code maxQuality} whose encoded size fits into {@code
+   * maxFileSize}, or {@link #MIN_QUALITY} if none does. The last call to {@code encoder} is always
+   * made with the returned quality, and {@code encoder} is called at most {@link
+   * #MAX_ENCODE_ATTEMPTS} times, counting the first encode at {@code maxQuality} and the final
+   * encode at the returned quality.
+   */
+  @VisibleForTesting
+  static int encodeWithinFileSize(QualityEncoder encoder, int maxQuality, long maxFileSize)
+      throws IOException {
+    if (encoder.encode(maxQuality) <= maxFileSize || maxQuality <= MIN_QUALITY) {
+      return maxQuality;
+    }
+    int low = MIN_QUALITY;
+    int high = maxQuality - 1;
+    int bestQuality = -1;
+    int lastQuality = maxQuality;
+    // One encode is already done, and one is kept for re-encoding at the best quality.
+    for (int attempt = 1; attempt < MAX_ENCODE_ATTEMPTS - 1 && low <= high; attempt++) {
+      int quality = (low + high) >>> 1;
+      lastQuality = quality;
+      if (encoder.encode(quality) <= maxFileSize) {
+        bestQuality = quality;
+        low = quality + 1;
+      } else {
+        high = quality - 1;
+      }
+    }
+    if (bestQuality == -1) {
+      bestQuality = MIN_QUALITY;
+    }
+    if (bestQuality != lastQuality) {
+      encoder.encode(bestQuality);
+    }
+    return bestQuality;
+  }
+
+  private static String outputFileName(String imageName, @Nullable ImageOutputFormat format) {
+    if (format == null) {
+      return imageName;
+    }
+    int extensionStart = imageName.lastIndexOf('.');
+    String baseName = extensionStart > 0 ? imageName.substring(0, extensionStart) : imageName;
+    return baseName + "." + format.extension;
   }
 
   private File createFile(File externalFilesDirectory, String child) {
@@ -112,16 +299,23 @@ class ImageResizer {
     return image;
   }
 
-  private FileOutputStream createOutputStream(File imageFile) throws IOException {
-    return new FileOutputStream(imageFile);
+  private OutputStream createOutputStream(File imageFile) throws IOException {
+    return new BufferedOutputStream(new FileOutputStream(imageFile), OUTPUT_BUFFER_SIZE);
   }
 
   private void copyExif(String filePathOri, String filePathDest) {
     exifDataCopier.copyExif(filePathOri, filePathDest);
   }
 
-  private Bitmap decodeFile(String path) {
-    return BitmapFactory.decodeFile(path);
+  private BitmapFactory.Options decodeBounds(String path) {
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeFile(path, options);
+    return options;
+  }
+
+  private Bitmap decodeFile(String path, BitmapFactory.Options options) {
+    return BitmapFactory.decodeFile(path, options);
   }
 
   private Bitmap createScaledBitmap(Bitmap bmp, int width, int height, boolean filter) {
@@ -132,23 +326,114 @@ class ImageResizer {
     return imageQuality != null && imageQuality > 0 && imageQuality < 100;
   }
 
-  private File createImageOnExternalDirectory(String name, Bitmap bitmap, int imageQuality)
+  private File createImageOnExternalDirectory(
+      String name,
+      final Bitmap bitmap,
+      int imageQuality,
+      @Nullable ImageOutputFormat outputFormat,
+      @Nullable Long maxFileSize)
       throws IOException {
-    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    boolean saveAsPNG = bitmap.hasAlpha();
-    if (saveAsPNG) {
+    final ImageOutputFormat format;
+    if (outputFormat != null) {
+      format = outputFormat;
+    } else {
+      format = bitmap.hasAlpha() ? ImageOutputFormat.PNG : ImageOutputFormat.JPEG;
+    }
+    if (format == ImageOutputFormat.PNG) {
       Log.d(
           "ImageResizer",
           "image_picker: compressing is not supported for type PNG. Returning the image with original quality");
     }
-    bitmap.compress(
-        saveAsPNG ? Bitmap.CompressFormat.PNG : Bitmap.CompressFormat.JPEG,
+    final File imageFile = createFile(externalFilesDirectory, name);
+    if (maxFileSize == null || !format.isLossy) {
+      encode(bitmap, format, imageQuality, imageFile);
+      return imageFile;
+    }
+    encodeWithinFileSize(
+        new QualityEncoder() {
+          @Override
+          public long encode(int quality) throws IOException {
+            return ImageResizer.this.encode(bitmap, format, quality, imageFile);
+          }
+        },
         imageQuality,
-        outputStream);
-    File imageFile = createFile(externalFilesDirectory, name);
-    FileOutputStream fileOutput = createOutputStream(imageFile);
-    fileOutput.write(outputStream.toByteArray());
-    fileOutput.close();
+        maxFileSize);
     return imageFile;
   }
+
+  private long encode(Bitmap bitmap, ImageOutputFormat format, int quality, File imageFile)
+      throws IOException {
+    if (format == ImageOutputFormat.HEIF && Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+      encodeHeif(bitmap, quality, imageFile);
+      return imageFile.length();
+    }
+    OutputStream fileOutput = createOutputStream(imageFile);
+    try {
+      bitmap.compress(compressFormat(format), quality, fileOutput);
+    } finally {
+      fileOutput.close();
+    }
+    return imageFile.length();
+  }
+
+  @RequiresApi(Build.VERSION_CODES.P)
+  private void encodeHeif(Bitmap bitmap, int quality, File imageFile) throws IOException {
+    HeifWriter writer =
+        new HeifWriter.Builder(
+                imageFile.getPath(),
+                bitmap.getWidth(),
+                bitmap.getHeight(),
+                HeifWriter.INPUT_MODE_BITMAP)
+            .setQuality(quality)
+            .build();
+    try {
+      writer.start();
+      writer.addBitmap(bitmap);
+      writer.stop(HEIF_ENCODE_TIMEOUT_MS);
+    } catch (IOException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException("Failed to encode HEIF image", e);
+    } finally {
+      writer.close();
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Bitmap.CompressFormat compressFormat(ImageOutputFormat format) {
+    switch (format) {
+      case PNG:
+        return Bitmap.CompressFormat.PNG;
+      case WEBP:
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R
+            ? Bitmap.CompressFormat.WEBP_LOSSY
+            : Bitmap.CompressFormat.WEBP;
+      default:
+        return Bitmap.CompressFormat.JPEG;
+    }
+  }
+
+  /** Whether the device has an encoder that {@link HeifWriter} can use. */
+  private static synchronized boolean canEncodeHeif() {
+    if (canEncodeHeif == null) {
+      canEncodeHeif = Build.VERSION.SDK_INT >= Build.VERSION_CODES.P && hasHeifEncoder();
+    }
+    return canEncodeHeif;
+  }
+
+  @RequiresApi(Build.VERSION_CODES.P)
+  private static boolean hasHeifEncoder() {
+    for (MediaCodecInfo info : new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos()) {
+      if (!info.isEncoder()) {
+        continue;
+      }
+      for (String type : info.getSupportedTypes()) {
+        if (type.equalsIgnoreCase(MediaFormat.MIMETYPE_VIDEO_HEVC)
+            || type.equalsIgnoreCase(MediaFormat.MIMETYPE_IMAGE_ANDROID_HEIC)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 }
@@ -0,0 +1,185 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes the images of a multi-image pick concurrently.
+ *
+ * <p>Each image is processed by a task on a thread pool sized to the number of cores. Tasks that
+ * decode full-size images have to do so inside {@link #decode(Decoder)}, which limits the number of
+ * concurrent decodes so memory use does not grow with the number of cores. Results are returned in
+ * the original order, and a progress event is reported after each image.
+ *
+ * <p>Single picks are imported with {@link #run} so copying large files does not block the platform
+ * thread either.
+ */
+class MultiImageProcessor {
+  @VisibleForTesting static final int MAX_CONCURRENT_DECODES = 2;
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  /** Processes the image at an index of the pick and returns the path of the result. */
+  interface ImageTask {
+    @Nullable
+    String process(int index) throws InterruptedException;
+  }
+
+  /** A step that decodes a full-size image. */
+  interface Decoder {
+    @Nullable
+    String decode();
+  }
+
+  interface Callback {
+    void onComplete(ArrayList<String> paths);
+
+    void onError(Exception exception);
+  }
+
+  private final Executor executor;
+  private final Executor resultExecutor;
+  @Nullable private final ProgressReporter progressReporter;
+  private final Semaphore decodePermits = new Semaphore(MAX_CONCURRENT_DECODES);
+
+  MultiImageProcessor(@Nullable ProgressReporter progressReporter) {
+    this(createThreadPool(), createMainThreadExecutor(), progressReporter);
+  }
+
+  @VisibleForTesting
+  MultiImageProcessor(
+      Executor executor, Executor resultExecutor, @Nullable ProgressReporter progressReporter) {
+    this.executor = executor;
+    this.resultExecutor = resultExecutor;
+    this.progressReporter = progressReporter;
+  }
+
+  /**
+   * Runs {@code task} for each index on the thread pool.
+   *
+   * <p>{@code callback} is called on the platform thread once all images are processed, or with the
+   * first exception thrown by a task. Remaining tasks are skipped after an exception.
+   */
+  void process(final int count, final ImageTask task, final Callback callback) {
+    process(count, task, callback, true);
+  }
+
+  /** Runs {@code task} once on the thread pool without reporting item progress. */
+  void run(final ImageTask task, final Callback callback) {
+    process(1, task, callback, false);
+  }
+
+  private void process(
+      final int count,
+      final ImageTask task,
+      final Callback callback,
+      final boolean reportItemProgress) {
+    final String[] paths = new String[count];
+    final AtomicInteger completed = new AtomicInteger();
+    final AtomicBoolean failed = new AtomicBoolean();
+    if (count == 0) {
+      resultExecutor.execute(() -> callback.onComplete(new ArrayList<String>()));
+      return;
+    }
+
+    for (int i = 0; i < count; i++) {
+      final int index = i;
+      executor.execute(
+          () -> {
+            if (failed.get()) {
+              return;
+            }
+            try {
+              paths[index] = task.process(index);
+            } catch (InterruptedException | RuntimeException e) {
+              if (failed.compareAndSet(false, true)) {
+                resultExecutor.execute(() -> callback.onError(e));
+              }
+              return;
+            }
+            int done = completed.incrementAndGet();
+            if (reportItemProgress) {
+              reportProgress("image", index, done, count);
+            }
+            if (done == count) {
+              resultExecutor.execute(
+                  () -> callback.onComplete(new ArrayList<>(Arrays.asList(paths))));
+            }
+          });
+    }
+  }
+
+  /** Runs {@code decoder} once fewer than {@link #MAX_CONCURRENT_DECODES} decodes are running. */
+  @Nullable
+  String decode(Decoder decoder) throws InterruptedException {
+    decodePermits.acquire();
+    try {
+      return decoder.decode();
+    } finally {
+      decodePermits.release();
+    }
+  }
+
+  /**
+   * Reports that {@code bytesCopied} of the {@code totalBytes} of the item at {@code index} were
+   * copied. Nothing is reported if the size is unknown.
+   */
+  void reportCopyProgress(int index, long bytesCopied, long totalBytes) {
+    if (totalBytes > 0) {
+      reportProgress("copy", index, bytesCopied, totalBytes);
+    }
+  }
+
+  /**
+   * Reports that the item at {@code index} was transcoded up to {@code positionUs} of its {@code
+   * durationUs}, in milliseconds.
+   */
+  void reportTranscodeProgress(int index, long positionUs, long durationUs) {
+    if (durationUs > 0) {
+      reportProgress("transcode", index, positionUs / 1000, durationUs / 1000);
+    }
+  }
+
+  private void reportProgress(String type, int index, Number completed, Number total) {
+    if (progressReporter == null) {
+      return;
+    }
+    Map<String, Object> event = new HashMap<>();
+    event.put("type", type);
+    event.put("index", index);
+    event.put("completed", completed);
+    event.put("total", total);
+    progressReporter.report(event);
+  }
+
+  private static Executor createThreadPool() {
+    int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+    ThreadPoolExecutor threadPool =
+        new ThreadPoolExecutor(
+            threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    // Idle threads exit, so a picker that is no longer used does not keep threads alive.
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
+  }
+
+  private static Executor createMainThreadExecutor() {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    return handler::post;
+  }
+}
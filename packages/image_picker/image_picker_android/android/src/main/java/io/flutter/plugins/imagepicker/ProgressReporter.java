@@ -0,0 +1,43 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.EventChannel;
+import java.util.Map;
+
+/**
+ * Streams progress events of long running operations to Dart.
+ *
+ * <p>Events can be reported from any thread and are sent on the platform thread. Events reported
+ * while Dart is not listening are dropped.
+ */
+class ProgressReporter implements EventChannel.StreamHandler {
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private EventChannel.EventSink eventSink;
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    eventSink = events;
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    eventSink = null;
+  }
+
+  void report(final Map<String, Object> event) {
+    handler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (eventSink != null) {
+              eventSink.success(event);
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,329 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Matrix;
+import android.media.MediaMetadataRetriever;
+import android.media.ThumbnailUtils;
+import android.os.Build;
+import android.util.Size;
+import android.webkit.MimeTypeMap;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.exifinterface.media.ExifInterface;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates small thumbnails of picked images and videos and caches them on disk.
+ *
+ * <p>Thumbnails are JPEG files whose longer side is at most the requested size. On API 29 and
+ * newer they are created with {@link ThumbnailUtils}, which uses embedded thumbnails where it can.
+ * Otherwise images are decoded subsampled and videos from a single frame.
+ *
+ * <p>Cached thumbnails are keyed by the path, modification time and length of the media and the
+ * requested size, so a changed file gets a new thumbnail. The least recently used thumbnails are
+ * deleted once the cache exceeds {@link #MAX_CACHE_BYTES}.
+ */
+class ThumbnailGenerator {
+  @VisibleForTesting static final String CACHE_DIRECTORY = "image_picker_thumbnails";
+  @VisibleForTesting static final long MAX_CACHE_BYTES = 32 * 1024 * 1024;
+  private static final int THUMBNAIL_QUALITY = 85;
+  private static final int THREADS = 2;
+  private static final long KEEP_ALIVE_SECONDS = 30;
+
+  private final File cacheDirectory;
+  private final Executor executor;
+
+  ThumbnailGenerator(File cacheDir) {
+    this(new File(cacheDir, CACHE_DIRECTORY), createThreadPool());
+  }
+
+  @VisibleForTesting
+  ThumbnailGenerator(File cacheDirectory, Executor executor) {
+    this.cacheDirectory = cacheDirectory;
+    this.executor = executor;
+  }
+
+  /**
+   * Creates the thumbnail of the media at {@code path} on a background thread.
+   *
+   * <p>Finishes {@code result} with the path of the thumbnail, or with its bytes if {@code
+   * asBytes}, or with null if the media has no thumbnail.
+   */
+  void getThumbnail(
+      final String path,
+      final int maxSize,
+      final boolean asBytes,
+      final MethodChannel.Result result) {
+    executor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            try {
+              File thumbnail = createThumbnail(path, maxSize);
+              if (thumbnail == null) {
+                result.success(null);
+              } else {
+                result.success(asBytes ? readBytes(thumbnail) : thumbnail.getPath());
+              }
+            } catch (IOException | RuntimeException e) {
+              result.error("thumbnail_failed", e.toString(), null);
+            }
+          }
+        });
+  }
+
+  /** Returns the cached thumbnail of the media at {@code path}, creating it if needed. */
+  @Nullable
+  @VisibleForTesting
+  File createThumbnail(String path, int maxSize) throws IOException {
+    File media = new File(path);
+    if (!media.isFile()) {
+      return null;
+    }
+    File thumbnail = new File(cacheDirectory, cacheKey(media, maxSize) + ".jpg");
+    if (thumbnail.isFile()) {
+      // Marks the thumbnail as recently used.
+      thumbnail.setLastModified(System.currentTimeMillis());
+      return thumbnail;
+    }
+
+    Bitmap bitmap = isVideo(path) ? createVideoThumbnail(media, maxSize) : null;
+    if (bitmap == null) {
+      bitmap = createImageThumbnail(media, maxSize);
+    }
+    if (bitmap == null) {
+      return null;
+    }
+    try {
+      write(bitmap, thumbnail);
+    } finally {
+      bitmap.recycle();
+    }
+    trimCache();
+    return thumbnail;
+  }
+
+  @VisibleForTesting
+  static String cacheKey(File media, int maxSize) {
+    String key =
+        media.getAbsolutePath() + "|" + media.lastModified() + "|" + media.length() + "|" + maxSize;
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      byte[] hash = digest.digest(key.getBytes("UTF-8"));
+      StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(String.format(Locale.ROOT, "%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException | IOException e) {
+      // Every Java platform supports SHA-1 and UTF-8.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Nullable
+  private static Bitmap createImageThumbnail(File image, int maxSize) throws IOException {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      try {
+        return ThumbnailUtils.createImageThumbnail(image, new Size(maxSize, maxSize), null);
+      } catch (IOException e) {
+        // Not an image format the platform can decode.
+        return null;
+      }
+    }
+
+    BitmapFactory.Options options = new BitmapFactory.Options();
+    options.inJustDecodeBounds = true;
+    BitmapFactory.decodeFile(image.getPath(), options);
+    if (options.outWidth <= 0 || options.outHeight <= 0) {
+      return null;
+    }
+    int[] size = fitInto(options.outWidth, options.outHeight, maxSize);
+    options.inJustDecodeBounds = false;
+    options.inSampleSize =
+        ImageResizer.calculateInSampleSize(options.outWidth, options.outHeight, size[0], size[1]);
+    Bitmap sampled = BitmapFactory.decodeFile(image.getPath(), options);
+    if (sampled == null) {
+      return null;
+    }
+    return scaleAndRotate(sampled, size[0], size[1], getRotation(image));
+  }
+
+  @Nullable
+  private static Bitmap createVideoThumbnail(File video, int maxSize) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      try {
+        return ThumbnailUtils.createVideoThumbnail(video, new Size(maxSize, maxSize), null);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    MediaMetadataRetriever retriever = new MediaMetadataRetriever();
+    try {
+      retriever.setDataSource(video.getPath());
+      Bitmap frame = retriever.getFrameAtTime();
+      if (frame == null) {
+        return null;
+      }
+      int[] size = fitInto(frame.getWidth(), frame.getHeight(), maxSize);
+      return scaleAndRotate(frame, size[0], size[1], 0);
+    } catch (RuntimeException e) {
+      return null;
+    } finally {
+      releaseRetriever(retriever);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static void releaseRetriever(MediaMetadataRetriever retriever) {
+    try {
+      retriever.release();
+    } catch (Exception ignored) {
+      // Declared to throw IOException on API 29 and newer.
+    }
+  }
+
+  /** Returns the size of an image of {@code width} x {@code height} that fits into a square. */
+  @VisibleForTesting
+  static int[] fitInto(int width, int height, int maxSize) {
+    if (width <= maxSize && height <= maxSize) {
+      return new int[] {width, height};
+    }
+    double scale = maxSize / (double) Math.max(width, height);
+    return new int[] {
+      Math.max(1, (int) Math.round(width * scale)), Math.max(1, (int) Math.round(height * scale))
+    };
+  }
+
+  private static Bitmap scaleAndRotate(Bitmap source, int width, int height, int rotation) {
+    if (source.getWidth() == width && source.getHeight() == height && rotation == 0) {
+      return source;
+    }
+    Matrix matrix = new Matrix();
+    matrix.postScale(width / (float) source.getWidth(), height / (float) source.getHeight());
+    matrix.postRotate(rotation);
+    Bitmap result =
+        Bitmap.createBitmap(source, 0, 0, source.getWidth(), source.getHeight(), matrix, true);
+    if (result != source) {
+      source.recycle();
+    }
+    return result;
+  }
+
+  private static int getRotation(File image) {
+    try {
+      return new ExifInterface(image.getPath()).getRotationDegrees();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private static boolean isVideo(String path) {
+    String extension = MimeTypeMap.getFileExtensionFromUrl(path);
+    if (extension == null || extension.isEmpty()) {
+      int extensionStart = path.lastIndexOf('.');
+      extension = extensionStart >= 0 ? path.substring(extensionStart + 1) : "";
+    }
+    String mimeType =
+        MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension.toLowerCase(Locale.ROOT));
+    return mimeType != null && mimeType.startsWith("video/");
+  }
+
+  private void write(Bitmap bitmap, File thumbnail) throws IOException {
+    if (!cacheDirectory.exists() && !cacheDirectory.mkdirs()) {
+      throw new IOException("Unable to create " + cacheDirectory);
+    }
+    // Writes to a temporary file first, so a concurrent request never reads a partial thumbnail.
+    File temporary =
+        new File(cacheDirectory, thumbnail.getName() + ".tmp" + Thread.currentThread().getId());
+    OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(temporary));
+    try {
+      bitmap.compress(Bitmap.CompressFormat.JPEG, THUMBNAIL_QUALITY, outputStream);
+    } finally {
+      outputStream.close();
+    }
+    if (!temporary.renameTo(thumbnail)) {
+      temporary.delete();
+      throw new IOException("Unable to write " + thumbnail);
+    }
+  }
+
+  private synchronized void trimCache() {
+    File[] thumbnails = cacheDirectory.listFiles();
+    if (thumbnails == null) {
+      return;
+    }
+    long totalBytes = 0;
+    for (File thumbnail : thumbnails) {
+      totalBytes += thumbnail.length();
+    }
+    if (totalBytes <= MAX_CACHE_BYTES) {
+      return;
+    }
+    Arrays.sort(
+        thumbnails,
+        new Comparator<File>() {
+          @Override
+          public int compare(File a, File b) {
+            return Long.compare(a.lastModified(), b.lastModified());
+          }
+        });
+    for (File thumbnail : thumbnails) {
+      if (totalBytes <= MAX_CACHE_BYTES) {
+        break;
+      }
+      long length = thumbnail.length();
+      if (thumbnail.delete()) {
+        totalBytes -= length;
+      }
+    }
+  }
+
+  private static byte[] readBytes(File file) throws IOException {
+    byte[] bytes = new byte[(int) file.length()];
+    InputStream inputStream = new FileInputStream(file);
+    try {
+      int offset = 0;
+      while (offset < bytes.length) {
+        int read = inputStream.read(bytes, offset, bytes.length - offset);
+        if (read < 0) {
+          break;
+        }
+        offset += read;
+      }
+      return offset == bytes.length ? bytes : Arrays.copyOf(bytes, offset);
+    } finally {
+      inputStream.close();
+    }
+  }
+
+  private static Executor createThreadPool() {
+    ThreadPoolExecutor threadPool =
+        new ThreadPoolExecutor(
+            THREADS, THREADS, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    threadPool.allowCoreThreadTimeOut(true);
+    return threadPool;
+  }
+}
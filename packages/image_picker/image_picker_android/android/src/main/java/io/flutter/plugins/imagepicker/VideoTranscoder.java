@@ -0,0 +1,546 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import android.media.MediaCodec;
+import android.media.MediaCodecInfo;
+import android.media.MediaCodecList;
+import android.media.MediaExtractor;
+import android.media.MediaFormat;
+import android.media.MediaMuxer;
+import android.os.Build;
+import android.os.CancellationSignal;
+import android.util.Log;
+import android.view.Surface;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Re-encodes picked videos at a lower resolution or bitrate.
+ *
+ * <p>Frames are decoded by a {@link MediaCodec} onto a surface, scaled by a {@link FrameScaler}
+ * onto the input surface of a hardware encoder when one is available, and written with a {@link
+ * MediaMuxer}. Audio tracks are copied without re-encoding, interleaved with the video by
+ * presentation time. Transcoding needs API 18; on older devices videos are returned unchanged.
+ */
+class VideoTranscoder {
+  private static final String TAG = "VideoTranscoder";
+  private static final long CODEC_TIMEOUT_US = 10000;
+  private static final int DEFAULT_FRAME_RATE = 30;
+  private static final int I_FRAME_INTERVAL_SECONDS = 1;
+  private static final int MAX_AUDIO_SAMPLE_SIZE = 1024 * 1024;
+
+  /** The codecs videos can be encoded with. */
+  enum Codec {
+    H264(MediaFormat.MIMETYPE_VIDEO_AVC),
+
+    HEVC(MediaFormat.MIMETYPE_VIDEO_HEVC);
+
+    final String mimeType;
+
+    Codec(String mimeType) {
+      this.mimeType = mimeType;
+    }
+  }
+
+  /** What to transcode a video to. Null fields keep the value of the source. */
+  static final class Options {
+    @Nullable final Integer maxWidth;
+    @Nullable final Integer maxHeight;
+    @Nullable final Integer bitrate;
+    final Codec codec;
+
+    Options(
+        @Nullable Integer maxWidth,
+        @Nullable Integer maxHeight,
+        @Nullable Integer bitrate,
+        @Nullable Codec codec) {
+      this.maxWidth = maxWidth;
+      this.maxHeight = maxHeight;
+      this.bitrate = bitrate;
+      this.codec = codec == null ? Codec.H264 : codec;
+    }
+
+    /** Returns the options of the {@code transcode} argument of a method call, or null. */
+    @Nullable
+    static Options fromArgument(@Nullable Map<String, Object> transcode) {
+      if (transcode == null) {
+        return null;
+      }
+      String codec = (String) transcode.get("codec");
+      return new Options(
+          (Integer) transcode.get("maxWidth"),
+          (Integer) transcode.get("maxHeight"),
+          (Integer) transcode.get("bitrate"),
+          codec == null ? null : Codec.valueOf(codec.toUpperCase(Locale.ROOT)));
+    }
+  }
+
+  interface ProgressListener {
+    /** Called after each encoded frame with the position and duration of the video. */
+    void onProgress(long positionUs, long durationUs);
+  }
+
+  private final File outputDirectory;
+
+  VideoTranscoder(File outputDirectory) {
+    this.outputDirectory = outputDirectory;
+  }
+
+  /**
+   * Transcodes the video at {@code inputPath} and returns the path of the result.
+   *
+   * <p>Returns {@code inputPath} if the video has no video track or already satisfies the options,
+   * or if transcoding is not supported on the device. Blocks until the video is transcoded, so it
+   * has to be called on a background thread.
+   *
+   * @throws android.os.OperationCanceledException if {@code cancellationSignal} is canceled. The
+   *     partial output is deleted.
+   */
+  String transcode(
+      String inputPath,
+      Options options,
+      @Nullable CancellationSignal cancellationSignal,
+      @Nullable ProgressListener listener)
+      throws IOException {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR2) {
+      Log.d(TAG, "image_picker: transcoding needs API 18. Returning the original video.");
+      return inputPath;
+    }
+    return new Session(inputPath, options, cancellationSignal, listener).run();
+  }
+
+  /**
+   * Returns the size a video of {@code width} x {@code height} is scaled to, which fits into the
+   * maximums and keeps the aspect ratio.
+   *
+   * <p>A scaled size is even in both dimensions as encoders require. If no maximum applies, the
+   * original size is returned unchanged, so such a video can be returned without transcoding.
+   */
+  @VisibleForTesting
+  static int[] calculateTargetSize(
+      int width, int height, @Nullable Integer maxWidth, @Nullable Integer maxHeight) {
+    double scale = 1.0;
+    if (maxWidth != null && width > maxWidth) {
+      scale = Math.min(scale, maxWidth / (double) width);
+    }
+    if (maxHeight != null && height > maxHeight) {
+      scale = Math.min(scale, maxHeight / (double) height);
+    }
+    if (scale == 1.0) {
+      return new int[] {width, height};
+    }
+    return evenSize((int) Math.round(width * scale), (int) Math.round(height * scale));
+  }
+
+  /** Rounds a size down to even dimensions, which encoders require. */
+  @VisibleForTesting
+  static int[] evenSize(int width, int height) {
+    return new int[] {Math.max(2, width & ~1), Math.max(2, height & ~1)};
+  }
+
+  /**
+   * Returns the bitrate used when none is requested, about 0.1 bits per pixel and frame, which is
+   * a common quality for H.264 at typical frame rates.
+   */
+  @VisibleForTesting
+  static int defaultBitrate(int width, int height, int frameRate) {
+    return (int) Math.min(Integer.MAX_VALUE, (long) width * height * frameRate / 10);
+  }
+
+  /** Returns the name of an encoder for {@code mimeType}, preferring hardware encoders. */
+  @Nullable
+  @RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+  private static String findEncoder(String mimeType) {
+    String softwareEncoder = null;
+    for (MediaCodecInfo info : new MediaCodecList(MediaCodecList.REGULAR_CODECS).getCodecInfos()) {
+      if (!info.isEncoder() || !supportsType(info, mimeType)) {
+        continue;
+      }
+      if (isHardwareAccelerated(info)) {
+        return info.getName();
+      }
+      if (softwareEncoder == null) {
+        softwareEncoder = info.getName();
+      }
+    }
+    return softwareEncoder;
+  }
+
+  private static boolean supportsType(MediaCodecInfo info, String mimeType) {
+    for (String type : info.getSupportedTypes()) {
+      if (type.equalsIgnoreCase(mimeType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isHardwareAccelerated(MediaCodecInfo info) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      return info.isHardwareAccelerated();
+    }
+    String name = info.getName().toLowerCase(Locale.ROOT);
+    return !name.startsWith("omx.google.") && !name.startsWith("c2.android.");
+  }
+
+  /** The state of transcoding one video. */
+  @RequiresApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+  private final class Session {
+    private final String inputPath;
+    private final Options options;
+    @Nullable private final CancellationSignal cancellationSignal;
+    @Nullable private final ProgressListener listener;
+
+    private MediaExtractor extractor;
+    private MediaExtractor audioExtractor;
+    private ByteBuffer audioBuffer;
+    private final MediaCodec.BufferInfo audioInfo = new MediaCodec.BufferInfo();
+    private boolean isAudioDone = false;
+    private MediaCodec decoder;
+    private MediaCodec encoder;
+    private Surface encoderSurface;
+    private FrameScaler scaler;
+    private MediaMuxer muxer;
+    private boolean isMuxerStarted = false;
+    private int muxerVideoTrack = -1;
+    private int muxerAudioTrack = -1;
+    private int audioTrack = -1;
+    private long durationUs = 0;
+
+    Session(
+        String inputPath,
+        Options options,
+        @Nullable CancellationSignal cancellationSignal,
+        @Nullable ProgressListener listener) {
+      this.inputPath = inputPath;
+      this.options = options;
+      this.cancellationSignal = cancellationSignal;
+      this.listener = listener;
+    }
+
+    String run() throws IOException {
+      File outputFile = null;
+      boolean success = false;
+      try {
+        extractor = new MediaExtractor();
+        extractor.setDataSource(inputPath);
+        int videoTrack = findTrack(extractor, "video/");
+        if (videoTrack < 0) {
+          return inputPath;
+        }
+        audioTrack = findTrack(extractor, "audio/");
+        MediaFormat inputFormat = extractor.getTrackFormat(videoTrack);
+        int width = inputFormat.getInteger(MediaFormat.KEY_WIDTH);
+        int height = inputFormat.getInteger(MediaFormat.KEY_HEIGHT);
+        int rotation = getInteger(inputFormat, "rotation-degrees", 0);
+        durationUs = getLong(inputFormat, MediaFormat.KEY_DURATION, 0);
+        int frameRate = getFrameRate(inputFormat);
+
+        // The maximums apply to the video as it is displayed, which is rotated by the muxer.
+        boolean isRotated = rotation == 90 || rotation == 270;
+        int[] targetSize =
+            calculateTargetSize(
+                width,
+                height,
+                isRotated ? options.maxHeight : options.maxWidth,
+                isRotated ? options.maxWidth : options.maxHeight);
+        String inputMimeType = inputFormat.getString(MediaFormat.KEY_MIME);
+        boolean isSameSize = targetSize[0] == width && targetSize[1] == height;
+        if (isSameSize && options.bitrate == null && options.codec.mimeType.equals(inputMimeType)) {
+          return inputPath;
+        }
+
+        // Videos with odd dimensions that are only re-encoded lose their last row or column.
+        int[] encodeSize = evenSize(targetSize[0], targetSize[1]);
+        String[] pathParts = inputPath.split("/");
+        String name = pathParts[pathParts.length - 1];
+        int extensionStart = name.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? name.substring(0, extensionStart) : name;
+        outputFile = new File(outputDirectory, "transcoded_" + baseName + ".mp4");
+        if (!outputDirectory.exists()) {
+          outputDirectory.mkdirs();
+        }
+
+        int bitrate =
+            options.bitrate != null
+                ? options.bitrate
+                : defaultBitrate(encodeSize[0], encodeSize[1], frameRate);
+        setUpEncoder(encodeSize[0], encodeSize[1], bitrate, frameRate);
+        decoder = MediaCodec.createDecoderByType(inputMimeType);
+        decoder.configure(inputFormat, scaler.getDecoderSurface(), null, 0);
+        decoder.start();
+
+        muxer = new MediaMuxer(outputFile.getPath(), MediaMuxer.OutputFormat.MUXER_OUTPUT_MPEG_4);
+        muxer.setOrientationHint(rotation);
+
+        extractor.selectTrack(videoTrack);
+        if (audioTrack >= 0) {
+          setUpAudio();
+        }
+        transcodeVideo();
+        writeAudioUntil(Long.MAX_VALUE);
+        success = true;
+        return outputFile.getPath();
+      } finally {
+        release();
+        if (!success && outputFile != null) {
+          outputFile.delete();
+        }
+      }
+    }
+
+    private void setUpEncoder(int width, int height, int bitrate, int frameRate)
+        throws IOException {
+      MediaFormat outputFormat =
+          MediaFormat.createVideoFormat(options.codec.mimeType, width, height);
+      outputFormat.setInteger(
+          MediaFormat.KEY_COLOR_FORMAT, MediaCodecInfo.CodecCapabilities.COLOR_FormatSurface);
+      outputFormat.setInteger(MediaFormat.KEY_BIT_RATE, bitrate);
+      outputFormat.setInteger(MediaFormat.KEY_FRAME_RATE, frameRate);
+      outputFormat.setInteger(MediaFormat.KEY_I_FRAME_INTERVAL, I_FRAME_INTERVAL_SECONDS);
+
+      String encoderName =
+          Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP
+              ? findEncoder(options.codec.mimeType)
+              : null;
+      encoder =
+          encoderName != null
+              ? MediaCodec.createByCodecName(encoderName)
+              : MediaCodec.createEncoderByType(options.codec.mimeType);
+      encoder.configure(outputFormat, null, null, MediaCodec.CONFIGURE_FLAG_ENCODE);
+      encoderSurface = encoder.createInputSurface();
+      scaler = new FrameScaler(encoderSurface, width, height);
+      encoder.start();
+    }
+
+    private void transcodeVideo() throws IOException {
+      MediaCodec.BufferInfo info = new MediaCodec.BufferInfo();
+      boolean isInputDone = false;
+      boolean isDecoderDone = false;
+      boolean isEncoderDone = false;
+      while (!isEncoderDone) {
+        throwIfCanceled();
+        if (!isInputDone) {
+          isInputDone = feedDecoder();
+        }
+        if (!isDecoderDone) {
+          int index = decoder.dequeueOutputBuffer(info, CODEC_TIMEOUT_US);
+          if (index >= 0) {
+            boolean render = info.size > 0;
+            decoder.releaseOutputBuffer(index, render);
+            if (render) {
+              scaler.drawFrame(info.presentationTimeUs * 1000);
+            }
+            if ((info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+              encoder.signalEndOfInputStream();
+              isDecoderDone = true;
+            }
+          }
+        }
+        isEncoderDone = drainEncoder(info);
+      }
+    }
+
+    /** Queues the next sample for the decoder and returns whether the input has ended. */
+    private boolean feedDecoder() {
+      int index = decoder.dequeueInputBuffer(CODEC_TIMEOUT_US);
+      if (index < 0) {
+        return false;
+      }
+      ByteBuffer buffer = getInputBuffer(decoder, index);
+      int size = extractor.readSampleData(buffer, 0);
+      if (size < 0) {
+        decoder.queueInputBuffer(index, 0, 0, 0, MediaCodec.BUFFER_FLAG_END_OF_STREAM);
+        return true;
+      }
+      decoder.queueInputBuffer(index, 0, size, extractor.getSampleTime(), 0);
+      extractor.advance();
+      return false;
+    }
+
+    /** Writes the available encoded frames and returns whether the encoder has finished. */
+    private boolean drainEncoder(MediaCodec.BufferInfo info) {
+      while (true) {
+        int index = encoder.dequeueOutputBuffer(info, CODEC_TIMEOUT_US);
+        if (index == MediaCodec.INFO_TRY_AGAIN_LATER) {
+          return false;
+        }
+        if (index == MediaCodec.INFO_OUTPUT_FORMAT_CHANGED) {
+          startMuxer(encoder.getOutputFormat());
+          continue;
+        }
+        if (index < 0) {
+          continue;
+        }
+        ByteBuffer buffer = getOutputBuffer(encoder, index);
+        if ((info.flags & MediaCodec.BUFFER_FLAG_CODEC_CONFIG) != 0) {
+          // The configuration is part of the output format the muxer was started with.
+          info.size = 0;
+        }
+        if (info.size > 0 && isMuxerStarted) {
+          buffer.position(info.offset);
+          buffer.limit(info.offset + info.size);
+          muxer.writeSampleData(muxerVideoTrack, buffer, info);
+          writeAudioUntil(info.presentationTimeUs);
+          if (listener != null && durationUs > 0) {
+            listener.onProgress(Math.min(info.presentationTimeUs, durationUs), durationUs);
+          }
+        }
+        encoder.releaseOutputBuffer(index, false);
+        if ((info.flags & MediaCodec.BUFFER_FLAG_END_OF_STREAM) != 0) {
+          return true;
+        }
+      }
+    }
+
+    private void startMuxer(MediaFormat videoFormat) {
+      muxerVideoTrack = muxer.addTrack(videoFormat);
+      if (audioTrack >= 0) {
+        muxerAudioTrack = muxer.addTrack(extractor.getTrackFormat(audioTrack));
+      }
+      muxer.start();
+      isMuxerStarted = true;
+    }
+
+    private void setUpAudio() throws IOException {
+      audioExtractor = new MediaExtractor();
+      audioExtractor.setDataSource(inputPath);
+      audioExtractor.selectTrack(audioTrack);
+      MediaFormat audioFormat = audioExtractor.getTrackFormat(audioTrack);
+      int bufferSize =
+          getInteger(audioFormat, MediaFormat.KEY_MAX_INPUT_SIZE, MAX_AUDIO_SAMPLE_SIZE);
+      audioBuffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Copies the audio samples up to {@code timeUs}, so the muxer gets audio and video in the order
+     * they are played instead of all audio after the video.
+     */
+    private void writeAudioUntil(long timeUs) {
+      if (audioExtractor == null || !isMuxerStarted) {
+        return;
+      }
+      while (!isAudioDone) {
+        throwIfCanceled();
+        long sampleTimeUs = audioExtractor.getSampleTime();
+        if (sampleTimeUs > timeUs) {
+          return;
+        }
+        int size = sampleTimeUs < 0 ? -1 : audioExtractor.readSampleData(audioBuffer, 0);
+        if (size < 0) {
+          isAudioDone = true;
+          return;
+        }
+        // MediaExtractor.SAMPLE_FLAG_SYNC has the value of MediaCodec.BUFFER_FLAG_KEY_FRAME.
+        audioInfo.set(0, size, sampleTimeUs, audioExtractor.getSampleFlags());
+        muxer.writeSampleData(muxerAudioTrack, audioBuffer, audioInfo);
+        audioExtractor.advance();
+      }
+    }
+
+    private void throwIfCanceled() {
+      if (cancellationSignal != null) {
+        cancellationSignal.throwIfCanceled();
+      }
+    }
+
+    private void release() {
+      // Each step is guarded, so a failure to release one component does not leak the others.
+      try {
+        if (decoder != null) {
+          decoder.stop();
+        }
+      } catch (RuntimeException ignored) {
+      }
+      try {
+        if (encoder != null) {
+          encoder.stop();
+        }
+      } catch (RuntimeException ignored) {
+      }
+      if (decoder != null) {
+        decoder.release();
+      }
+      if (encoder != null) {
+        encoder.release();
+      }
+      if (scaler != null) {
+        scaler.release();
+      }
+      if (encoderSurface != null) {
+        encoderSurface.release();
+      }
+      try {
+        if (muxer != null) {
+          if (isMuxerStarted) {
+            muxer.stop();
+          }
+          muxer.release();
+        }
+      } catch (RuntimeException e) {
+        Log.w(TAG, "image_picker: failed to finish the transcoded video", e);
+      }
+      if (extractor != null) {
+        extractor.release();
+      }
+      if (audioExtractor != null) {
+        audioExtractor.release();
+      }
+    }
+  }
+
+  private static int findTrack(MediaExtractor extractor, String mimePrefix) {
+    for (int i = 0; i < extractor.getTrackCount(); i++) {
+      String mime = extractor.getTrackFormat(i).getString(MediaFormat.KEY_MIME);
+      if (mime != null && mime.startsWith(mimePrefix)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int getInteger(MediaFormat format, String key, int defaultValue) {
+    return format.containsKey(key) ? format.getInteger(key) : defaultValue;
+  }
+
+  private static int getFrameRate(MediaFormat format) {
+    if (!format.containsKey(MediaFormat.KEY_FRAME_RATE)) {
+      return DEFAULT_FRAME_RATE;
+    }
+    try {
+      return format.getInteger(MediaFormat.KEY_FRAME_RATE);
+    } catch (ClassCastException e) {
+      // Some extractors store the frame rate as a float.
+      return Math.round(format.getFloat(MediaFormat.KEY_FRAME_RATE));
+    }
+  }
+
+  private static long getLong(MediaFormat format, String key, long defaultValue) {
+    return format.containsKey(key) ? format.getLong(key) : defaultValue;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static ByteBuffer getInputBuffer(MediaCodec codec, int index) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return codec.getInputBuffer(index);
+    }
+    return codec.getInputBuffers()[index];
+  }
+
+  @SuppressWarnings("deprecation")
+  private static ByteBuffer getOutputBuffer(MediaCodec codec, int index) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return codec.getOutputBuffer(index);
+    }
+    return codec.getOutputBuffers()[index];
+  }
+}
@@ -5,17 +5,27 @@
 package io.flutter.plugins.imagepicker;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.robolectric.Shadows.shadowOf;
 
 import android.content.Context;
 import android.net.Uri;
+import android.os.CancellationSignal;
+import android.os.OperationCanceledException;
 import androidx.test.core.app.ApplicationProvider;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -63,4 +73,49 @@ public class FileUtilTest {
     String path = fileUtils.getPathFromUri(context, uri);
     assertTrue(path.endsWith(".jpg"));
   }
+
+  @Test
+  public void FileUtil_GetPathFromUri_WhenCanceled_DeletesPartialCopy() {
+    Uri uri = Uri.parse("content://dummy/dummy.png");
+    shadowContentResolver.registerInputStream(
+        uri, new ByteArrayInputStream("imageStream".getBytes(UTF_8)));
+    CancellationSignal cancellationSignal = new CancellationSignal();
+    cancellationSignal.cancel();
+    File[] cachedFilesBefore = context.getCacheDir().listFiles();
+
+    try {
+      fileUtils.getPathFromUri(context, uri, cancellationSignal, null);
+      fail("Expected the import to be canceled");
+    } catch (OperationCanceledException expected) {
+    }
+
+    File[] cachedFilesAfter = context.getCacheDir().listFiles();
+    assertEquals(
+        cachedFilesBefore == null ? 0 : cachedFilesBefore.length,
+        cachedFilesAfter == null ? 0 : cachedFilesAfter.length);
+  }
+
+  @Test
+  public void FileUtil_Copy_ReportsProgressPerChunk() throws IOException {
+    byte[] content = new byte[(int) FileUtils.COPY_CHUNK_SIZE + 10];
+    File destination = File.createTempFile("copy", ".bin", context.getCacheDir());
+    List<Long> progress = new ArrayList<>();
+
+    FileOutputStream outputStream = new FileOutputStream(destination);
+    try {
+      FileChannel channel = outputStream.getChannel();
+      FileUtils.copy(
+          Channels.newChannel(new ByteArrayInputStream(content)),
+          channel,
+          content.length,
+          null,
+          (bytesCopied, totalBytes) -> progress.add(bytesCopied));
+    } finally {
+      outputStream.close();
+    }
+
+    assertEquals(content.length, destination.length());
+    assertFalse(progress.isEmpty());
+    assertEquals(content.length, (long) progress.get(progress.size() - 1));
+  }
 }
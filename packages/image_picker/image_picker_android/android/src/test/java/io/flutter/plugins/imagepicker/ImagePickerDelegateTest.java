@@ -21,14 +21,18 @@ import static org.mockito.Mockito.when;
 import android.Manifest;
 import android.app.Activity;
 import android.content.ActivityNotFoundException;
+import android.content.ClipData;
 import android.content.Context;
 import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.net.Uri;
+import android.os.OperationCanceledException;
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.After;
@@ -54,6 +58,7 @@ public class ImagePickerDelegateTest {
   @Mock FileUtils mockFileUtils;
   @Mock Intent mockIntent;
   @Mock ImagePickerCache cache;
+  @Mock VideoTranscoder mockVideoTranscoder;
 
   ImagePickerDelegate.FileUriResolver mockFileUriResolver;
   MockedStatic<File> mockStaticFile;
@@ -82,18 +87,18 @@ public class ImagePickerDelegateTest {
     when(mockActivity.getPackageName()).thenReturn("com.example.test");
     when(mockActivity.getPackageManager()).thenReturn(mock(PackageManager.class));
 
-    when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class)))
+    when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class), any(), any()))
         .thenReturn("pathFromUri");
 
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, null, null, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, null, IMAGE_QUALITY, null, null))
         .thenReturn("originalPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, HEIGHT, null, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", WIDTH, null, null, null, null))
         .thenReturn("scaledPath");
-    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, null))
+    when(mockImageResizer.resizeImageIfNeeded("pathFromUri", null, HEIGHT, null, null, null))
         .thenReturn("scaledPath");
 
     mockFileUriResolver = new MockFileUriResolver();
@@ -300,6 +305,92 @@ public class ImagePickerDelegateTest {
     verifyNoMoreInteractions(mockResult);
   }
 
+  @Test
+  public void
+      onActivityResult_WhenMultipleImagesPickedFromGallery_AndResizeNeeded_FinishesWithScaledImagePaths() {
+    when(mockMethodCall.argument("maxWidth")).thenReturn(WIDTH);
+    when(mockImageResizer.resizeImageIfNeeded(
+            "pathFromUri", WIDTH, null, null, null, null, "scaled_0_"))
+        .thenReturn("scaledPath0");
+    when(mockImageResizer.resizeImageIfNeeded(
+            "pathFromUri", WIDTH, null, null, null, null, "scaled_1_"))
+        .thenReturn("scaledPath1");
+    ClipData mockClipData = mock(ClipData.class);
+    when(mockClipData.getItemCount()).thenReturn(2);
+    ClipData.Item mockItem = mock(ClipData.Item.class);
+    when(mockItem.getUri()).thenReturn(mock(Uri.class));
+    when(mockClipData.getItemAt(anyInt())).thenReturn(mockItem);
+    when(mockIntent.getClipData()).thenReturn(mockClipData);
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    verify(mockResult).success(new ArrayList<>(Arrays.asList("scaledPath0", "scaledPath1")));
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenMultipleImagesFailToProcess_FinishesWithError() {
+    when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class), any(), any()))
+        .thenThrow(new IllegalStateException("unreadable"));
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_MULTI_IMAGE_FROM_GALLERY,
+        Activity.RESULT_OK,
+        mockIntent);
+
+    verify(mockResult).error(eq("image_processing_failed"), any(), any());
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenVideoPickedFromGallery_AndTranscodeRequested_FinishesWithTranscodedPath()
+      throws IOException {
+    Map<String, Object> transcode = new HashMap<>();
+    transcode.put("maxHeight", 720);
+    when(mockMethodCall.argument("transcode")).thenReturn(transcode);
+    when(mockVideoTranscoder.transcode(eq("pathFromUri"), any(), any(), any()))
+        .thenReturn("transcodedPath");
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_VIDEO_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    verify(mockResult).success("transcodedPath");
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenTranscodeFails_FinishesWithError() throws IOException {
+    when(mockMethodCall.argument("transcode")).thenReturn(new HashMap<String, Object>());
+    when(mockVideoTranscoder.transcode(any(), any(), any(), any()))
+        .thenThrow(new IOException("no encoder"));
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_VIDEO_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    verify(mockResult).error(eq("video_transcode_failed"), any(), any());
+    verifyNoMoreInteractions(mockResult);
+  }
+
+  @Test
+  public void onActivityResult_WhenImportIsCanceled_FinishesWithNull() {
+    when(mockFileUtils.getPathFromUri(any(Context.class), any(Uri.class), any(), any()))
+        .thenThrow(new OperationCanceledException());
+
+    ImagePickerDelegate delegate = createDelegateWithPendingResultAndMethodCall();
+    delegate.onActivityResult(
+        ImagePickerDelegate.REQUEST_CODE_CHOOSE_VIDEO_FROM_GALLERY, Activity.RESULT_OK, mockIntent);
+
+    verify(mockResult).success(null);
+    verifyNoMoreInteractions(mockResult);
+  }
+
   @Test
   public void
       onActivityResult_WhenVideoPickedFromGallery_AndResizeParametersSupplied_FinishesWithFilePath() {
@@ -383,9 +474,9 @@ public class ImagePickerDelegateTest {
     pathList.add("/example/last_item");
     resultMap.put("pathList", pathList);
 
-    when(mockImageResizer.resizeImageIfNeeded(pathList.get(0), null, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded(pathList.get(0), null, null, 100, null, null))
         .thenReturn(pathList.get(0));
-    when(mockImageResizer.resizeImageIfNeeded(pathList.get(1), null, null, 100))
+    when(mockImageResizer.resizeImageIfNeeded(pathList.get(1), null, null, 100, null, null))
         .thenReturn(pathList.get(1));
     when(cache.getCacheMap()).thenReturn(resultMap);
 
@@ -412,7 +503,9 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        new MultiImageProcessor(Runnable::run, Runnable::run, null),
+        mockVideoTranscoder);
   }
 
   private ImagePickerDelegate createDelegateWithPendingResultAndMethodCall() {
@@ -425,7 +518,9 @@ public class ImagePickerDelegateTest {
         cache,
         mockPermissionManager,
         mockFileUriResolver,
-        mockFileUtils);
+        mockFileUtils,
+        new MultiImageProcessor(Runnable::run, Runnable::run, null),
+        mockVideoTranscoder);
   }
 
   private void verifyFinishedWithAlreadyActiveError() {
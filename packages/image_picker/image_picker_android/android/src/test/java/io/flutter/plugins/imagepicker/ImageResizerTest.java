@@ -6,11 +6,15 @@ package io.flutter.plugins.imagepicker;
 
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -70,4 +74,89 @@ public class ImageResizerTest {
     String outoutFile = invalidResizer.resizeImageIfNeeded(imageFile.getPath(), null, 50.0, null);
     assertThat(outoutFile, equalTo(nonExistentDirectory.getPath() + "/scaled_pngImage.png"));
   }
+
+  @Test
+  public void calculateInSampleSize_ReturnsLargestPowerOfTwoNotSmallerThanTarget() {
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 8000, 6000), equalTo(1));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 1000, 750), equalTo(8));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 1001, 750), equalTo(4));
+    assertThat(ImageResizer.calculateInSampleSize(8000, 6000, 10, 5000), equalTo(1));
+  }
+
+  @Test
+  public void calculateTargetSize_PreservesAspectRatio() {
+    assertThat(
+        ImageResizer.calculateTargetSize(8000, 6000, 1000.0, null), equalTo(new int[] {1000, 750}));
+    assertThat(
+        ImageResizer.calculateTargetSize(8000, 6000, null, 300.0), equalTo(new int[] {400, 300}));
+    assertThat(
+        ImageResizer.calculateTargetSize(8000, 6000, 10000.0, null),
+        equalTo(new int[] {8000, 6000}));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_WhenOutputFormatIsNotNull_ReturnsFileWithFormatExtension() {
+    String outoutFile =
+        resizer.resizeImageIfNeeded(
+            imageFile.getPath(), null, null, null, ImageOutputFormat.WEBP, null);
+    assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_pngImage.webp"));
+  }
+
+  @Test
+  public void onResizeImageIfNeeded_WhenOutputNamePrefixIsGiven_ReturnsFileWithPrefix() {
+    String outoutFile =
+        resizer.resizeImageIfNeeded(imageFile.getPath(), 50.0, null, null, null, null, "scaled_1_");
+    assertThat(outoutFile, equalTo(externalDirectory.getPath() + "/scaled_1_pngImage.png"));
+  }
+
+  @Test
+  public void encodeWithinFileSize_ReturnsHighestQualityThatFits() throws IOException {
+    List<Integer> encodedQualities = new ArrayList<>();
+    int quality =
+        ImageResizer.encodeWithinFileSize(
+            q -> {
+              encodedQualities.add(q);
+              return q * 1000L;
+            },
+            100,
+            55_000);
+
+    assertThat(quality, equalTo(55));
+    assertThat(encodedQualities.get(encodedQualities.size() - 1), equalTo(55));
+    assertTrue(encodedQualities.size() <= ImageResizer.MAX_ENCODE_ATTEMPTS);
+  }
+
+  @Test
+  public void encodeWithinFileSize_WhenMaxQualityFits_EncodesOnce() throws IOException {
+    List<Integer> encodedQualities = new ArrayList<>();
+    int quality =
+        ImageResizer.encodeWithinFileSize(
+            q -> {
+              encodedQualities.add(q);
+              return 1;
+            },
+            90,
+            55_000);
+
+    assertThat(quality, equalTo(90));
+    assertThat(encodedQualities, equalTo(Collections.singletonList(90)));
+  }
+
+  @Test
+  public void encodeWithinFileSize_WhenNothingFits_ReturnsMinQuality() throws IOException {
+    List<Integer> encodedQualities = new ArrayList<>();
+    int quality =
+        ImageResizer.encodeWithinFileSize(
+            q -> {
+              encodedQualities.add(q);
+              return Long.MAX_VALUE;
+            },
+            100,
+            55_000);
+
+    assertThat(quality, equalTo(ImageResizer.MIN_QUALITY));
+    assertThat(
+        encodedQualities.get(encodedQualities.size() - 1), equalTo(ImageResizer.MIN_QUALITY));
+    assertTrue(encodedQualities.size() <= ImageResizer.MAX_ENCODE_ATTEMPTS);
+  }
 }
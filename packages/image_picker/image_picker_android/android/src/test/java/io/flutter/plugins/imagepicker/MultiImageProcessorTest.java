@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class MultiImageProcessorTest {
+  private Queue<Runnable> pendingTasks;
+  private ProgressReporter mockProgressReporter;
+  private MultiImageProcessor processor;
+
+  @Before
+  public void setUp() {
+    pendingTasks = new ArrayDeque<>();
+    Executor queuingExecutor = pendingTasks::add;
+    mockProgressReporter = mock(ProgressReporter.class);
+    processor = new MultiImageProcessor(queuingExecutor, Runnable::run, mockProgressReporter);
+  }
+
+  @Test
+  public void process_WhenTasksFinishOutOfOrder_ReturnsPathsInPickOrder() {
+    RecordingCallback callback = new RecordingCallback();
+
+    processor.process(3, index -> "path" + index, callback);
+    List<Runnable> tasks = new ArrayList<>(pendingTasks);
+    tasks.get(2).run();
+    tasks.get(0).run();
+    assertNull(callback.paths);
+    tasks.get(1).run();
+
+    assertEquals(Arrays.asList("path0", "path1", "path2"), callback.paths);
+    assertNull(callback.exception);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void process_ReportsProgressAfterEachImage() {
+    processor.process(2, index -> "path" + index, new RecordingCallback());
+    runPendingTasks();
+
+    ArgumentCaptor<Map<String, Object>> eventCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(mockProgressReporter, times(2)).report(eventCaptor.capture());
+    Map<String, Object> lastEvent = eventCaptor.getAllValues().get(1);
+    assertEquals("image", lastEvent.get("type"));
+    assertEquals(1, lastEvent.get("index"));
+    assertEquals(2, lastEvent.get("completed"));
+    assertEquals(2, lastEvent.get("total"));
+  }
+
+  @Test
+  public void process_WhenTaskThrows_FinishesWithErrorOnceAndSkipsRemainingTasks() {
+    RecordingCallback callback = new RecordingCallback();
+    IllegalStateException failure = new IllegalStateException("decode failed");
+
+    processor.process(
+        3,
+        index -> {
+          throw failure;
+        },
+        callback);
+    runPendingTasks();
+
+    assertSame(failure, callback.exception);
+    assertEquals(1, callback.errorCount);
+    assertNull(callback.paths);
+    verify(mockProgressReporter, never()).report(any());
+  }
+
+  @Test
+  public void process_WhenEmpty_FinishesWithEmptyList() {
+    RecordingCallback callback = new RecordingCallback();
+
+    processor.process(0, index -> "unused", callback);
+
+    assertEquals(new ArrayList<String>(), callback.paths);
+  }
+
+  @Test
+  public void decode_ReturnsResultOfDecoder() throws InterruptedException {
+    assertEquals("decoded", processor.decode(() -> "decoded"));
+  }
+
+  private void runPendingTasks() {
+    Runnable task;
+    while ((task = pendingTasks.poll()) != null) {
+      task.run();
+    }
+  }
+
+  private static class RecordingCallback implements MultiImageProcessor.Callback {
+    ArrayList<String> paths;
+    Exception exception;
+    int errorCount = 0;
+
+    @Override
+    public void onComplete(ArrayList<String> paths) {
+      this.paths = paths;
+    }
+
+    @Override
+    public void onError(Exception exception) {
+      this.exception = exception;
+      errorCount++;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+// Runs on API 28 so thumbnails are created by the sampled decode rather than ThumbnailUtils.
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 28)
+public class ThumbnailGeneratorTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File imageFile;
+  private File cacheDirectory;
+  private ThumbnailGenerator generator;
+
+  @Before
+  public void setUp() throws IOException {
+    imageFile = temporaryFolder.newFile("pngImage.png");
+    copy(new File(getClass().getClassLoader().getResource("pngImage.png").getFile()), imageFile);
+    cacheDirectory = new File(temporaryFolder.getRoot(), "thumbnails");
+    generator = new ThumbnailGenerator(cacheDirectory, Runnable::run);
+  }
+
+  @Test
+  public void createThumbnail_WritesThumbnailIntoCacheDirectory() throws IOException {
+    File thumbnail = generator.createThumbnail(imageFile.getPath(), 64);
+
+    assertNotNull(thumbnail);
+    assertTrue(thumbnail.isFile());
+    assertEquals(cacheDirectory, thumbnail.getParentFile());
+  }
+
+  @Test
+  public void createThumbnail_WhenCalledTwice_ReturnsCachedThumbnail() throws IOException {
+    File first = generator.createThumbnail(imageFile.getPath(), 64);
+    assertTrue(first.setLastModified(0));
+
+    File second = generator.createThumbnail(imageFile.getPath(), 64);
+
+    assertEquals(first, second);
+    assertTrue(second.lastModified() > 0);
+    assertEquals(1, cacheDirectory.listFiles().length);
+  }
+
+  @Test
+  public void createThumbnail_WhenFileChanged_CreatesNewThumbnail() throws IOException {
+    File first = generator.createThumbnail(imageFile.getPath(), 64);
+    assertTrue(imageFile.setLastModified(imageFile.lastModified() - 60000));
+
+    File second = generator.createThumbnail(imageFile.getPath(), 64);
+
+    assertNotEquals(first, second);
+  }
+
+  @Test
+  public void createThumbnail_WhenFileIsMissing_ReturnsNull() throws IOException {
+    assertNull(generator.createThumbnail(new File(cacheDirectory, "missing.jpg").getPath(), 64));
+  }
+
+  @Test
+  public void getThumbnail_WhenAsBytes_FinishesWithThumbnailBytes() throws IOException {
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    generator.getThumbnail(imageFile.getPath(), 64, true, result);
+
+    File thumbnail = generator.createThumbnail(imageFile.getPath(), 64);
+    verify(result).success(eq(readBytes(thumbnail)));
+  }
+
+  @Test
+  public void getThumbnail_WhenFileIsMissing_FinishesWithNull() {
+    MethodChannel.Result result = mock(MethodChannel.Result.class);
+
+    generator.getThumbnail("/missing.jpg", 64, false, result);
+
+    verify(result).success(null);
+  }
+
+  @Test
+  public void cacheKey_DependsOnSize() {
+    assertNotEquals(
+        ThumbnailGenerator.cacheKey(imageFile, 64), ThumbnailGenerator.cacheKey(imageFile, 128));
+  }
+
+  @Test
+  public void fitInto_KeepsAspectRatio() {
+    assertArrayEquals(new int[] {256, 144}, ThumbnailGenerator.fitInto(1920, 1080, 256));
+    assertArrayEquals(new int[] {144, 256}, ThumbnailGenerator.fitInto(1080, 1920, 256));
+  }
+
+  @Test
+  public void fitInto_WhenSmaller_KeepsSize() {
+    assertArrayEquals(new int[] {100, 50}, ThumbnailGenerator.fitInto(100, 50, 256));
+  }
+
+  private static void copy(File source, File destination) throws IOException {
+    try (InputStream in = new FileInputStream(source);
+        OutputStream out = new FileOutputStream(destination)) {
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+    }
+  }
+
+  private static byte[] readBytes(File file) throws IOException {
+    byte[] bytes = new byte[(int) file.length()];
+    try (InputStream in = new FileInputStream(file)) {
+      int offset = 0;
+      int read;
+      while (offset < bytes.length && (read = in.read(bytes, offset, bytes.length - offset)) > 0) {
+        offset += read;
+      }
+    }
+    return bytes;
+  }
+}
@@ -0,0 +1,83 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.imagepicker;
+
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class VideoTranscoderTest {
+  @Test
+  public void calculateTargetSize_FitsIntoMaximumsKeepingAspectRatio() {
+    assertThat(
+        VideoTranscoder.calculateTargetSize(3840, 2160, 1280, 720), equalTo(new int[] {1280, 720}));
+    assertThat(
+        VideoTranscoder.calculateTargetSize(3840, 2160, null, 720), equalTo(new int[] {1280, 720}));
+    assertThat(
+        VideoTranscoder.calculateTargetSize(3840, 2160, 1000, null),
+        equalTo(new int[] {1000, 562}));
+  }
+
+  @Test
+  public void calculateTargetSize_DoesNotUpscale() {
+    assertThat(
+        VideoTranscoder.calculateTargetSize(1280, 720, 1920, 1080), equalTo(new int[] {1280, 720}));
+  }
+
+  @Test
+  public void calculateTargetSize_ReturnsEvenDimensionsWhenScaling() {
+    assertThat(
+        VideoTranscoder.calculateTargetSize(1921, 1081, 1281, null),
+        equalTo(new int[] {1280, 720}));
+  }
+
+  @Test
+  public void calculateTargetSize_ReturnsOriginalSizeWhenNoMaximumApplies() {
+    assertThat(
+        VideoTranscoder.calculateTargetSize(1921, 1081, null, null),
+        equalTo(new int[] {1921, 1081}));
+    assertThat(
+        VideoTranscoder.calculateTargetSize(1921, 1081, 1921, 1081),
+        equalTo(new int[] {1921, 1081}));
+  }
+
+  @Test
+  public void evenSize_RoundsDownToEvenDimensions() {
+    assertThat(VideoTranscoder.evenSize(1921, 1081), equalTo(new int[] {1920, 1080}));
+    assertThat(VideoTranscoder.evenSize(1, 1), equalTo(new int[] {2, 2}));
+  }
+
+  @Test
+  public void defaultBitrate_IsAboutATenthOfABitPerPixelAndFrame() {
+    assertThat(VideoTranscoder.defaultBitrate(1280, 720, 30), equalTo(2764800));
+  }
+
+  @Test
+  public void optionsFromArgument_ReadsAllFields() {
+    Map<String, Object> transcode = new HashMap<>();
+    transcode.put("maxWidth", 1280);
+    transcode.put("maxHeight", 720);
+    transcode.put("bitrate", 2000000);
+    transcode.put("codec", "hevc");
+
+    VideoTranscoder.Options options = VideoTranscoder.Options.fromArgument(transcode);
+
+    assertThat(options.maxWidth, equalTo(1280));
+    assertThat(options.maxHeight, equalTo(720));
+    assertThat(options.bitrate, equalTo(2000000));
+    assertThat(options.codec, equalTo(VideoTranscoder.Codec.HEVC));
+  }
+
+  @Test
+  public void optionsFromArgument_DefaultsToH264() {
+    VideoTranscoder.Options options =
+        VideoTranscoder.Options.fromArgument(new HashMap<String, Object>());
+
+    assertThat(options.codec, equalTo(VideoTranscoder.Codec.H264));
+  }
+}
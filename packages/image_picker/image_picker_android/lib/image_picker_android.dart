@@ -9,15 +9,96 @@ import 'package:flutter/services.dart';
 
 import 'package:image_picker_platform_interface/image_picker_platform_interface.dart';
 
+import 'src/image_output_format.dart';
+import 'src/image_picker_progress.dart';
+import 'src/video_transcode_options.dart';
+
+export 'src/image_output_format.dart';
+export 'src/image_picker_progress.dart';
+export 'src/video_transcode_options.dart';
+
 const MethodChannel _channel =
     MethodChannel('plugins.flutter.io/image_picker_android');
 
+const EventChannel _progressChannel =
+    EventChannel('plugins.flutter.io/image_picker_android/progress');
+
 /// An Android implementation of [ImagePickerPlatform].
 class ImagePickerAndroid extends ImagePickerPlatform {
   /// The MethodChannel that is being used by this implementation of the plugin.
   @visibleForTesting
   MethodChannel get channel => _channel;
 
+  /// The EventChannel that progress events are received on.
+  @visibleForTesting
+  EventChannel get progressChannel => _progressChannel;
+
+  /// Progress of processing picked media on the platform side.
+  ///
+  /// For [pickMultiImage] an event of type [ImagePickerProgressType.image]
+  /// is sent each time one of the picked images has been copied and resized.
+  /// Images are processed concurrently, so events may arrive out of pick
+  /// order.
+  Stream<ImagePickerProgress> get progressEvents => _progressChannel
+      .receiveBroadcastStream()
+      .map((dynamic event) => _toProgress(event as Map<dynamic, dynamic>));
+
+  ImagePickerProgress _toProgress(Map<dynamic, dynamic> event) {
+    return ImagePickerProgress(
+      type: _toProgressType(event['type']! as String),
+      index: event['index']! as int,
+      completed: event['completed']! as int,
+      total: event['total']! as int,
+    );
+  }
+
+  ImagePickerProgressType _toProgressType(String type) {
+    switch (type) {
+      case 'image':
+        return ImagePickerProgressType.image;
+      case 'copy':
+        return ImagePickerProgressType.copy;
+      case 'transcode':
+        return ImagePickerProgressType.transcode;
+    }
+    throw ArgumentError.value(type, 'type', 'Unknown progress type');
+  }
+
+  /// Cancels copying the files of the current pick into the app's cache, or
+  /// transcoding the picked video.
+  ///
+  /// The pick then completes with no result, as if the user had canceled it.
+  /// Does nothing if no files are being copied or transcoded.
+  Future<void> cancelImport() {
+    return _channel.invokeMethod<void>('cancelImport');
+  }
+
+  /// Returns a JPEG thumbnail of the picked image or video at [path].
+  ///
+  /// The longer side of the thumbnail is at most [maxSize] pixels. Thumbnails
+  /// are cached, so asking again for the same unchanged file is cheap.
+  ///
+  /// Returns null if no thumbnail can be created for the file.
+  Future<XFile?> getThumbnail(String path, {int maxSize = 256}) async {
+    final String? thumbnailPath = await _channel.invokeMethod<String>(
+      'getThumbnail',
+      <String, dynamic>{'path': path, 'maxSize': maxSize, 'asBytes': false},
+    );
+    return thumbnailPath != null ? XFile(thumbnailPath) : null;
+  }
+
+  /// Returns the bytes of a JPEG thumbnail of the picked image or video at
+  /// [path].
+  ///
+  /// Like [getThumbnail], but saves reading the thumbnail file on the Dart
+  /// side.
+  Future<Uint8List?> getThumbnailBytes(String path, {int maxSize = 256}) {
+    return _channel.invokeMethod<Uint8List>(
+      'getThumbnail',
+      <String, dynamic>{'path': path, 'maxSize': maxSize, 'asBytes': true},
+    );
+  }
+
   /// Registers this class as the default platform implementation.
   static void registerWith() {
     ImagePickerPlatform.instance = ImagePickerAndroid();
@@ -63,6 +144,8 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     double? maxWidth,
     double? maxHeight,
     int? imageQuality,
+    ImageOutputFormat? outputFormat,
+    int? maxFileSizeBytes,
   }) {
     if (imageQuality != null && (imageQuality < 0 || imageQuality > 100)) {
       throw ArgumentError.value(
@@ -77,16 +160,35 @@ class ImagePickerAndroid extends ImagePickerPlatform {
       throw ArgumentError.value(maxHeight, 'maxHeight', 'cannot be negative');
     }
 
+    _checkMaxFileSize(maxFileSizeBytes);
+
     return _channel.invokeMethod<List<dynamic>?>(
       'pickMultiImage',
       <String, dynamic>{
         'maxWidth': maxWidth,
         'maxHeight': maxHeight,
         'imageQuality': imageQuality,
+        ..._outputArguments(outputFormat, maxFileSizeBytes),
       },
     );
   }
 
+  void _checkMaxFileSize(int? maxFileSizeBytes) {
+    if (maxFileSizeBytes != null && maxFileSizeBytes <= 0) {
+      throw ArgumentError.value(
+          maxFileSizeBytes, 'maxFileSizeBytes', 'must be positive');
+    }
+  }
+
+  // Only sent when set, so the arguments of existing calls are unchanged.
+  Map<String, dynamic> _outputArguments(
+      ImageOutputFormat? outputFormat, int? maxFileSizeBytes) {
+    return <String, dynamic>{
+      if (outputFormat != null) 'outputFormat': describeEnum(outputFormat),
+      if (maxFileSizeBytes != null) 'maxFileSize': maxFileSizeBytes,
+    };
+  }
+
   Future<String?> _getImagePath({
     required ImageSource source,
     double? maxWidth,
@@ -94,6 +196,8 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     int? imageQuality,
     CameraDevice preferredCameraDevice = CameraDevice.rear,
     bool requestFullMetadata = true,
+    ImageOutputFormat? outputFormat,
+    int? maxFileSizeBytes,
   }) {
     if (imageQuality != null && (imageQuality < 0 || imageQuality > 100)) {
       throw ArgumentError.value(
@@ -108,6 +212,8 @@ class ImagePickerAndroid extends ImagePickerPlatform {
       throw ArgumentError.value(maxHeight, 'maxHeight', 'cannot be negative');
     }
 
+    _checkMaxFileSize(maxFileSizeBytes);
+
     return _channel.invokeMethod<String>(
       'pickImage',
       <String, dynamic>{
@@ -117,6 +223,7 @@ class ImagePickerAndroid extends ImagePickerPlatform {
         'imageQuality': imageQuality,
         'cameraDevice': preferredCameraDevice.index,
         'requestFullMetadata': requestFullMetadata,
+        ..._outputArguments(outputFormat, maxFileSizeBytes),
       },
     );
   }
@@ -139,17 +246,24 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     required ImageSource source,
     CameraDevice preferredCameraDevice = CameraDevice.rear,
     Duration? maxDuration,
+    VideoTranscodeOptions? transcode,
   }) {
     return _channel.invokeMethod<String>(
       'pickVideo',
       <String, dynamic>{
         'source': source.index,
         'maxDuration': maxDuration?.inSeconds,
-        'cameraDevice': preferredCameraDevice.index
+        'cameraDevice': preferredCameraDevice.index,
+        if (transcode != null) 'transcode': transcode.toMap(),
       },
     );
   }
 
+  /// See [ImagePickerPlatform.getImage].
+  ///
+  /// When [outputFormat] is set, the image is re-encoded in that format. When
+  /// [maxFileSizeBytes] is set, the image quality is lowered until the encoded
+  /// image fits into that many bytes, down to a minimum quality.
   @override
   Future<XFile?> getImage({
     required ImageSource source,
@@ -157,6 +271,8 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     double? maxHeight,
     int? imageQuality,
     CameraDevice preferredCameraDevice = CameraDevice.rear,
+    ImageOutputFormat? outputFormat,
+    int? maxFileSizeBytes,
   }) async {
     final String? path = await _getImagePath(
       source: source,
@@ -164,14 +280,21 @@ class ImagePickerAndroid extends ImagePickerPlatform {
       maxHeight: maxHeight,
       imageQuality: imageQuality,
       preferredCameraDevice: preferredCameraDevice,
+      outputFormat: outputFormat,
+      maxFileSizeBytes: maxFileSizeBytes,
     );
     return path != null ? XFile(path) : null;
   }
 
+  /// See [ImagePickerPlatform.getImageFromSource].
+  ///
+  /// [outputFormat] and [maxFileSizeBytes] work as in [getImage].
   @override
   Future<XFile?> getImageFromSource({
     required ImageSource source,
     ImagePickerOptions options = const ImagePickerOptions(),
+    ImageOutputFormat? outputFormat,
+    int? maxFileSizeBytes,
   }) async {
     final String? path = await _getImagePath(
       source: source,
@@ -180,20 +303,30 @@ class ImagePickerAndroid extends ImagePickerPlatform {
       imageQuality: options.imageQuality,
       preferredCameraDevice: options.preferredCameraDevice,
       requestFullMetadata: options.requestFullMetadata,
+      outputFormat: outputFormat,
+      maxFileSizeBytes: maxFileSizeBytes,
     );
     return path != null ? XFile(path) : null;
   }
 
+  /// See [ImagePickerPlatform.getMultiImage].
+  ///
+  /// [outputFormat] and [maxFileSizeBytes] work as in [getImage], and apply
+  /// to each image.
   @override
   Future<List<XFile>?> getMultiImage({
     double? maxWidth,
     double? maxHeight,
     int? imageQuality,
+    ImageOutputFormat? outputFormat,
+    int? maxFileSizeBytes,
   }) async {
     final List<dynamic>? paths = await _getMultiImagePath(
       maxWidth: maxWidth,
       maxHeight: maxHeight,
       imageQuality: imageQuality,
+      outputFormat: outputFormat,
+      maxFileSizeBytes: maxFileSizeBytes,
     );
     if (paths == null) {
       return null;
@@ -202,16 +335,23 @@ class ImagePickerAndroid extends ImagePickerPlatform {
     return paths.map((dynamic path) => XFile(path as String)).toList();
   }
 
+  /// See [ImagePickerPlatform.getVideo].
+  ///
+  /// When [transcode] is set, the picked video is transcoded with those
+  /// options before it is returned. Progress is reported on [progressEvents]
+  /// and the transcode can be canceled with [cancelImport].
   @override
   Future<XFile?> getVideo({
     required ImageSource source,
     CameraDevice preferredCameraDevice = CameraDevice.rear,
     Duration? maxDuration,
+    VideoTranscodeOptions? transcode,
   }) async {
     final String? path = await _getVideoPath(
       source: source,
       maxDuration: maxDuration,
       preferredCameraDevice: preferredCameraDevice,
+      transcode: transcode,
     );
     return path != null ? XFile(path) : null;
   }
@@ -0,0 +1,22 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The format picked images are re-encoded in.
+enum ImageOutputFormat {
+  /// JPEG, which is lossy and has no transparency.
+  jpeg,
+
+  /// PNG, which is lossless. The image quality and maximum file size have no
+  /// effect on it.
+  png,
+
+  /// WebP, which is lossy and typically smaller than JPEG at the same quality.
+  webp,
+
+  /// HEIF, which is lossy and typically smaller than WebP.
+  ///
+  /// It needs Android 9 or newer and a HEVC encoder. Images are encoded as
+  /// [jpeg] on devices that cannot encode HEIF.
+  heif,
+}
@@ -0,0 +1,67 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The kind of work an [ImagePickerProgress] event reports on.
+enum ImagePickerProgressType {
+  /// A picked image was copied and, if requested, resized.
+  image,
+
+  /// A chunk of a picked file was copied into the app's cache.
+  ///
+  /// [ImagePickerProgress.completed] and [ImagePickerProgress.total] are
+  /// counted in bytes. Only sent for files whose size is known.
+  copy,
+
+  /// A picked video was transcoded up to a position.
+  ///
+  /// [ImagePickerProgress.completed] and [ImagePickerProgress.total] are the
+  /// position and the duration of the video in milliseconds.
+  transcode,
+}
+
+/// Progress of processing the media returned by a pick.
+///
+/// Events are sent on [ImagePickerAndroid.progressEvents] while a pick is
+/// being processed on the platform side.
+class ImagePickerProgress {
+  /// Creates a progress event.
+  const ImagePickerProgress({
+    required this.type,
+    required this.index,
+    required this.completed,
+    required this.total,
+  });
+
+  /// The kind of work that made progress.
+  final ImagePickerProgressType type;
+
+  /// The position in the pick of the item that was just processed.
+  final int index;
+
+  /// The number of items that have been processed so far, or the number of
+  /// bytes copied for [ImagePickerProgressType.copy].
+  final int completed;
+
+  /// The number of items in the pick, or the size of the file in bytes for
+  /// [ImagePickerProgressType.copy].
+  final int total;
+
+  /// The fraction of the pick that has been processed, from 0 to 1.
+  double get fraction => total == 0 ? 1 : completed / total;
+
+  @override
+  bool operator ==(Object other) =>
+      other is ImagePickerProgress &&
+      other.type == type &&
+      other.index == index &&
+      other.completed == completed &&
+      other.total == total;
+
+  @override
+  int get hashCode => Object.hash(type, index, completed, total);
+
+  @override
+  String toString() => 'ImagePickerProgress(type: $type, index: $index, '
+      'completed: $completed, total: $total)';
+}
@@ -0,0 +1,59 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+
+/// The codecs picked videos can be transcoded to.
+enum VideoCodec {
+  /// H.264, which every Android device can encode.
+  h264,
+
+  /// HEVC, which is about half the size of H.264 at the same quality but is
+  /// not supported by every device.
+  hevc,
+}
+
+/// Options to transcode picked videos with.
+///
+/// Videos are transcoded with the device's hardware encoder in the
+/// background. Audio is copied without re-encoding. Videos that already fit
+/// the options are returned unchanged.
+@immutable
+class VideoTranscodeOptions {
+  /// Creates options to transcode picked videos with.
+  ///
+  /// Null values keep the value of the picked video.
+  const VideoTranscodeOptions({
+    this.maxWidth,
+    this.maxHeight,
+    this.bitrate,
+    this.codec = VideoCodec.h264,
+  })  : assert(maxWidth == null || maxWidth > 0),
+        assert(maxHeight == null || maxHeight > 0),
+        assert(bitrate == null || bitrate > 0);
+
+  /// The maximum width of the transcoded video as it is displayed.
+  final int? maxWidth;
+
+  /// The maximum height of the transcoded video as it is displayed.
+  final int? maxHeight;
+
+  /// The bitrate of the transcoded video in bits per second.
+  ///
+  /// If null, a bitrate suitable for the resolution and frame rate is used.
+  final int? bitrate;
+
+  /// The codec of the transcoded video.
+  final VideoCodec codec;
+
+  /// Returns the options as sent to the platform.
+  Map<String, dynamic> toMap() {
+    return <String, dynamic>{
+      'maxWidth': maxWidth,
+      'maxHeight': maxHeight,
+      'bitrate': bitrate,
+      'codec': describeEnum(codec),
+    };
+  }
+}
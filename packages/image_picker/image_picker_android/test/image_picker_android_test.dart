@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'package:flutter/services.dart';
 import 'package:flutter_test/flutter_test.dart';
 
@@ -508,6 +510,30 @@ void main() {
   });
 
   group('#getImage', () {
+    test('passes the output options correctly', () async {
+      await picker.getImage(
+        source: ImageSource.gallery,
+        outputFormat: ImageOutputFormat.webp,
+        maxFileSizeBytes: 200000,
+      );
+
+      expect(
+        log,
+        <Matcher>[
+          isMethodCall('pickImage', arguments: <String, dynamic>{
+            'source': 1,
+            'maxWidth': null,
+            'maxHeight': null,
+            'imageQuality': null,
+            'cameraDevice': 0,
+            'requestFullMetadata': true,
+            'outputFormat': 'webp',
+            'maxFileSize': 200000,
+          }),
+        ],
+      );
+    });
+
     test('passes the image source argument correctly', () async {
       await picker.getImage(source: ImageSource.camera);
       await picker.getImage(source: ImageSource.gallery);
@@ -711,6 +737,34 @@ void main() {
   });
 
   group('#getMultiImage', () {
+    test('passes the output options correctly', () async {
+      returnValue = <dynamic>['0', '1'];
+      await picker.getMultiImage(
+        outputFormat: ImageOutputFormat.heif,
+        maxFileSizeBytes: 500000,
+      );
+
+      expect(
+        log,
+        <Matcher>[
+          isMethodCall('pickMultiImage', arguments: <String, dynamic>{
+            'maxWidth': null,
+            'maxHeight': null,
+            'imageQuality': null,
+            'outputFormat': 'heif',
+            'maxFileSize': 500000,
+          }),
+        ],
+      );
+    });
+
+    test('does not accept a non-positive max file size', () {
+      expect(
+        () => picker.getMultiImage(maxFileSizeBytes: 0),
+        throwsArgumentError,
+      );
+    });
+
     test('calls the method correctly', () async {
       returnValue = <dynamic>['0', '1'];
       await picker.getMultiImage();
@@ -831,6 +885,34 @@ void main() {
   });
 
   group('#getVideo', () {
+    test('passes the transcode options correctly', () async {
+      await picker.getVideo(
+        source: ImageSource.gallery,
+        transcode: const VideoTranscodeOptions(
+          maxHeight: 720,
+          bitrate: 2000000,
+          codec: VideoCodec.hevc,
+        ),
+      );
+
+      expect(
+        log,
+        <Matcher>[
+          isMethodCall('pickVideo', arguments: <String, dynamic>{
+            'source': 1,
+            'maxDuration': null,
+            'cameraDevice': 0,
+            'transcode': <String, dynamic>{
+              'maxWidth': null,
+              'maxHeight': 720,
+              'bitrate': 2000000,
+              'codec': 'hevc',
+            },
+          }),
+        ],
+      );
+    });
+
     test('passes the image source argument correctly', () async {
       await picker.getVideo(source: ImageSource.camera);
       await picker.getVideo(source: ImageSource.gallery);
@@ -1253,4 +1335,102 @@ void main() {
       );
     });
   });
+  group('#cancelImport', () {
+    test('calls the method correctly', () async {
+      await picker.cancelImport();
+
+      expect(log, <Matcher>[isMethodCall('cancelImport', arguments: null)]);
+    });
+  });
+
+  group('#getThumbnail', () {
+    test('passes the arguments correctly', () async {
+      await picker.getThumbnail('/picked.jpg');
+      await picker.getThumbnail('/picked.mp4', maxSize: 96);
+
+      expect(log, <Matcher>[
+        isMethodCall('getThumbnail', arguments: <String, dynamic>{
+          'path': '/picked.jpg',
+          'maxSize': 256,
+          'asBytes': false,
+        }),
+        isMethodCall('getThumbnail', arguments: <String, dynamic>{
+          'path': '/picked.mp4',
+          'maxSize': 96,
+          'asBytes': false,
+        }),
+      ]);
+    });
+
+    test('returns the thumbnail file', () async {
+      returnValue = '/thumbnails/0.jpg';
+
+      final XFile? thumbnail = await picker.getThumbnail('/picked.jpg');
+
+      expect(thumbnail!.path, '/thumbnails/0.jpg');
+    });
+
+    test('handles a null result', () async {
+      returnValue = null;
+
+      expect(await picker.getThumbnail('/picked.txt'), isNull);
+    });
+  });
+
+  group('#getThumbnailBytes', () {
+    test('passes the arguments correctly', () async {
+      returnValue = Uint8List(0);
+
+      await picker.getThumbnailBytes('/picked.jpg', maxSize: 128);
+
+      expect(log, <Matcher>[
+        isMethodCall('getThumbnail', arguments: <String, dynamic>{
+          'path': '/picked.jpg',
+          'maxSize': 128,
+          'asBytes': true,
+        }),
+      ]);
+    });
+
+    test('returns the thumbnail bytes', () async {
+      returnValue = Uint8List.fromList(<int>[1, 2, 3]);
+
+      expect(await picker.getThumbnailBytes('/picked.jpg'), <int>[1, 2, 3]);
+    });
+  });
+
+  group('#progressEvents', () {
+    test('decodes image progress events', () async {
+      const StandardMethodCodec codec = StandardMethodCodec();
+      final String channelName = picker.progressChannel.name;
+      TestDefaultBinaryMessengerBinding.instance!.defaultBinaryMessenger
+          .setMockMessageHandler(channelName, (ByteData? message) async {
+        final MethodCall call = codec.decodeMethodCall(message);
+        if (call.method == 'listen') {
+          await TestDefaultBinaryMessengerBinding
+              .instance!.defaultBinaryMessenger
+              .handlePlatformMessage(
+                  channelName,
+                  codec.encodeSuccessEnvelope(<String, dynamic>{
+                    'type': 'image',
+                    'index': 1,
+                    'completed': 2,
+                    'total': 4,
+                  }),
+                  (ByteData? data) {});
+        }
+        return codec.encodeSuccessEnvelope(null);
+      });
+
+      expect(
+        await picker.progressEvents.first,
+        const ImagePickerProgress(
+          type: ImagePickerProgressType.image,
+          index: 1,
+          completed: 2,
+          total: 4,
+        ),
+      );
+    });
+  });
 }
@@ -0,0 +1,373 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.sharedpreferences;
+
+import android.util.Log;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the preferences of the Flutter app in a single file with a compact, typed binary format.
+ *
+ * <p>{@link android.content.SharedPreferences} can only store lists, doubles and big integers as
+ * prefixed strings, which have to be decoded again on every {@code getAll}. Here each value keeps
+ * its type. The file is read once, the values are kept in memory, and {@link #flush} replaces the
+ * whole file with the current values.
+ *
+ * <p>The file starts with a magic number and a version, followed by the number of entries and each
+ * entry as its key, a type byte and the value. Numbers are big endian, strings are UTF-8 preceded
+ * by their length in bytes, and lists are their length followed by their strings. A file that
+ * can't be read is moved aside with the suffix {@value #CORRUPT_FILE_SUFFIX}, and the store starts
+ * out empty instead.
+ */
+final class BinaryPreferencesStore {
+  /** Name of the file in {@link android.content.Context#getFilesDir} that stores the values. */
+  static final String FILE_NAME = "FlutterSharedPreferences.bin";
+
+  /** Suffix of the name the file is moved to when it can't be read. */
+  static final String CORRUPT_FILE_SUFFIX = ".corrupt";
+
+  private static final String TAG = "BinaryPreferencesStore";
+
+  // "FSPB" in ASCII.
+  private static final int MAGIC = 0x46535042;
+  private static final byte VERSION = 1;
+
+  private static final byte TYPE_BOOLEAN = 0;
+  private static final byte TYPE_LONG = 1;
+  private static final byte TYPE_DOUBLE = 2;
+  private static final byte TYPE_STRING = 3;
+  private static final byte TYPE_STRING_LIST = 4;
+  private static final byte TYPE_BIG_INTEGER = 5;
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final File file;
+  private final Object writeLock = new Object();
+
+  private final Map<String, Object> values = new HashMap<>();
+  private boolean loaded;
+  // Incremented by every change, so flush() knows whether the file is up to date.
+  private long generation;
+  private long writtenGeneration;
+
+  /**
+   * Constructs a {@link BinaryPreferencesStore} that stores the values in {@code file}. Nothing is
+   * read until {@link #load} is called.
+   */
+  BinaryPreferencesStore(File file) {
+    this.file = file;
+  }
+
+  /** Returns whether {@link #load} or {@link #clear} was called since the last {@link #unload}. */
+  synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Reads the values from the file.
+   *
+   * <p>If the file can't be read or isn't in the expected format, it is moved aside so it isn't
+   * read again, and the store starts out empty.
+   *
+   * @return false if the file doesn't exist yet or can't be read, in which case the store starts
+   *     out empty.
+   */
+  synchronized boolean load() {
+    values.clear();
+    loaded = true;
+    if (!file.exists()) {
+      return false;
+    }
+
+    try {
+      readValues();
+      return true;
+    } catch (IOException | RuntimeException e) {
+      Log.w(TAG, "Discarding unreadable preferences file " + file, e);
+      values.clear();
+      moveAside();
+      return false;
+    }
+  }
+
+  /**
+   * Forgets the values that were loaded or changed since the last {@link #flush}, so the next
+   * {@link #load} reads the file again.
+   */
+  synchronized void unload() {
+    values.clear();
+    loaded = false;
+    generation = writtenGeneration;
+  }
+
+  /** Returns a copy of all values. */
+  synchronized Map<String, Object> getAll() {
+    return new HashMap<>(values);
+  }
+
+  /**
+   * Sets the value of {@code key}.
+   *
+   * @param value a {@link Boolean}, a {@link Number}, a {@link String} or a {@link List} of {@link
+   *     String}s. Numbers other than {@link Double} and {@link BigInteger} are stored as {@link
+   *     Long}. null removes the key.
+   */
+  synchronized void put(String key, Object value) {
+    if (value == null) {
+      remove(key);
+      return;
+    }
+    values.put(key, normalize(value));
+    generation++;
+  }
+
+  /** Sets the values of all keys in {@code newValues}. See {@link #put}. */
+  synchronized void putAll(Map<String, Object> newValues) {
+    for (Map.Entry<String, Object> entry : newValues.entrySet()) {
+      if (entry.getValue() == null) {
+        values.remove(entry.getKey());
+      } else {
+        values.put(entry.getKey(), normalize(entry.getValue()));
+      }
+    }
+    generation++;
+  }
+
+  synchronized void remove(String key) {
+    if (values.remove(key) != null) {
+      generation++;
+    }
+  }
+
+  /** Removes all values. The file doesn't have to be loaded before. */
+  synchronized void clear() {
+    values.clear();
+    loaded = true;
+    generation++;
+  }
+
+  /**
+   * Writes the current values to the file if they changed since the last flush.
+   *
+   * <p>Blocks on disk I/O, so it is called on a background thread. The file is written next to the
+   * old one and renamed, so a crash never leaves a partially written file behind.
+   *
+   * @return whether the file is up to date.
+   */
+  boolean flush() {
+    synchronized (writeLock) {
+      final byte[] data;
+      final long dataGeneration;
+      synchronized (this) {
+        if (writtenGeneration == generation) {
+          return true;
+        }
+        dataGeneration = generation;
+        try {
+          data = encode(values);
+        } catch (IOException e) {
+          return false;
+        }
+      }
+
+      try {
+        write(data);
+      } catch (IOException e) {
+        return false;
+      }
+
+      synchronized (this) {
+        writtenGeneration = dataGeneration;
+      }
+      return true;
+    }
+  }
+
+  // The whole file is read first, so every length in it can be checked against the bytes that are
+  // left before anything is allocated for it.
+  private void readValues() throws IOException {
+    final long fileLength = file.length();
+    if (fileLength > Integer.MAX_VALUE) {
+      throw new IOException("Preferences file is too large: " + file);
+    }
+    final byte[] data = new byte[(int) fileLength];
+    final DataInputStream fileStream = new DataInputStream(new FileInputStream(file));
+    try {
+      fileStream.readFully(data);
+    } finally {
+      fileStream.close();
+    }
+
+    final DataInputStream stream = new DataInputStream(new ByteArrayInputStream(data));
+    try {
+      if (stream.readInt() != MAGIC || stream.readByte() != VERSION) {
+        throw new IOException("Unsupported preferences file " + file);
+      }
+      // Each entry has at least a key length and a type.
+      final int count = readLength(stream, 5);
+      for (int i = 0; i < count; i++) {
+        final String key = readString(stream);
+        values.put(key, readValue(stream));
+      }
+    } finally {
+      stream.close();
+    }
+  }
+
+  // Keeps the unreadable file around for debugging, but where it is never read again.
+  private void moveAside() {
+    final File corruptFile = new File(file.getPath() + CORRUPT_FILE_SUFFIX);
+    corruptFile.delete();
+    if (!file.renameTo(corruptFile) && !file.delete()) {
+      Log.e(TAG, "Could not remove unreadable preferences file " + file);
+    }
+  }
+
+  private static Object normalize(Object value) {
+    if (value instanceof Boolean
+        || value instanceof String
+        || value instanceof Double
+        || value instanceof BigInteger) {
+      return value;
+    } else if (value instanceof Number) {
+      return ((Number) value).longValue();
+    } else if (value instanceof List) {
+      final List<String> list = new ArrayList<>();
+      for (Object element : (List<?>) value) {
+        list.add((String) element);
+      }
+      return Collections.unmodifiableList(list);
+    }
+    throw new IllegalArgumentException("Unsupported value type: " + value.getClass());
+  }
+
+  private static byte[] encode(Map<String, Object> values) throws IOException {
+    final ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    final DataOutputStream stream = new DataOutputStream(byteStream);
+    stream.writeInt(MAGIC);
+    stream.writeByte(VERSION);
+    stream.writeInt(values.size());
+    for (Map.Entry<String, Object> entry : values.entrySet()) {
+      writeString(stream, entry.getKey());
+      writeValue(stream, entry.getValue());
+    }
+    stream.flush();
+    return byteStream.toByteArray();
+  }
+
+  private void write(byte[] data) throws IOException {
+    final File temporaryFile = new File(file.getPath() + ".tmp");
+    final FileOutputStream stream = new FileOutputStream(temporaryFile);
+    try {
+      stream.write(data);
+      stream.getFD().sync();
+    } finally {
+      stream.close();
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      throw new IOException("Could not replace " + file);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void writeValue(DataOutputStream stream, Object value) throws IOException {
+    if (value instanceof Boolean) {
+      stream.writeByte(TYPE_BOOLEAN);
+      stream.writeBoolean((Boolean) value);
+    } else if (value instanceof Long) {
+      stream.writeByte(TYPE_LONG);
+      stream.writeLong((Long) value);
+    } else if (value instanceof Double) {
+      stream.writeByte(TYPE_DOUBLE);
+      stream.writeDouble((Double) value);
+    } else if (value instanceof String) {
+      stream.writeByte(TYPE_STRING);
+      writeString(stream, (String) value);
+    } else if (value instanceof List) {
+      final List<String> list = (List<String>) value;
+      stream.writeByte(TYPE_STRING_LIST);
+      stream.writeInt(list.size());
+      for (String element : list) {
+        writeString(stream, element);
+      }
+    } else {
+      final byte[] bytes = ((BigInteger) value).toByteArray();
+      stream.writeByte(TYPE_BIG_INTEGER);
+      stream.writeInt(bytes.length);
+      stream.write(bytes);
+    }
+  }
+
+  private static Object readValue(DataInputStream stream) throws IOException {
+    final byte type = stream.readByte();
+    switch (type) {
+      case TYPE_BOOLEAN:
+        return stream.readBoolean();
+      case TYPE_LONG:
+        return stream.readLong();
+      case TYPE_DOUBLE:
+        return stream.readDouble();
+      case TYPE_STRING:
+        return readString(stream);
+      case TYPE_STRING_LIST:
+        final int size = readLength(stream, 4);
+        final List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readString(stream));
+        }
+        return Collections.unmodifiableList(list);
+      case TYPE_BIG_INTEGER:
+        final byte[] bytes = new byte[readLength(stream, 1)];
+        stream.readFully(bytes);
+        return new BigInteger(bytes);
+      default:
+        throw new IOException("Unknown value type " + type);
+    }
+  }
+
+  // DataOutputStream.writeUTF is limited to 65535 bytes and uses modified UTF-8, so strings are
+  // written with an int length instead.
+  private static void writeString(DataOutputStream stream, String value) throws IOException {
+    final byte[] bytes = value.getBytes(UTF_8);
+    stream.writeInt(bytes.length);
+    stream.write(bytes);
+  }
+
+  private static String readString(DataInputStream stream) throws IOException {
+    final byte[] bytes = new byte[readLength(stream, 1)];
+    stream.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  /**
+   * Reads the length of a string, list or map, which has to fit into the rest of the stream.
+   *
+   * @param minItemSize the minimum number of bytes each item takes up.
+   * @throws IOException if the length is negative or the items can't fit into the stream.
+   */
+  private static int readLength(DataInputStream stream, int minItemSize) throws IOException {
+    final int length = stream.readInt();
+    // The stream reads from a byte array, so available() is the exact number of bytes left.
+    if (length < 0 || (long) length * minItemSize > stream.available()) {
+      throw new IOException("Invalid length " + length);
+    }
+    return length;
+  }
+}
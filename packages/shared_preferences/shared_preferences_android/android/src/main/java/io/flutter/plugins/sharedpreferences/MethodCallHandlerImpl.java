@@ -6,6 +6,8 @@ package io.flutter.plugins.sharedpreferences;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.content.pm.ApplicationInfo;
+import android.content.pm.PackageManager;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.Base64;
@@ -13,6 +15,7 @@ import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -30,6 +33,10 @@ import java.util.concurrent.TimeUnit;
 /**
  * Implementation of the {@link MethodChannel.MethodCallHandler} for the plugin. It is also
  * responsible of managing the {@link android.content.SharedPreferences}.
+ *
+ * <p>Apps that set the {@link #BINARY_STORE_META_DATA_KEY} meta-data to true in their manifest
+ * store the preferences in a {@link BinaryPreferencesStore} instead. The preferences written to
+ * {@link android.content.SharedPreferences} before are moved to it the first time it is used.
  */
 @SuppressWarnings("unchecked")
 class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
@@ -41,17 +48,39 @@ class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
   private static final String BIG_INTEGER_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBCaWdJbnRlZ2Vy";
   private static final String DOUBLE_PREFIX = "VGhpcyBpcyB0aGUgcHJlZml4IGZvciBEb3VibGUu";
 
+  /** Name of the application meta-data that enables the {@link BinaryPreferencesStore}. */
+  static final String BINARY_STORE_META_DATA_KEY =
+      "io.flutter.plugins.sharedpreferences.UseBinaryStore";
+
   private final android.content.SharedPreferences preferences;
+  private final BinaryPreferencesStore binaryStore;
 
   private final ExecutorService executor;
   private final Handler handler;
 
+  // Calls to the binary store that wait for it to be loaded by the executor. Only used on the main
+  // thread.
+  private int pendingBinaryStoreCalls;
+
   /**
    * Constructs a {@link MethodCallHandlerImpl} instance. Creates a {@link
    * android.content.SharedPreferences} based on the {@code context}.
    */
   MethodCallHandlerImpl(Context context) {
+    this(context, isBinaryStoreEnabled(context));
+  }
+
+  /**
+   * Constructs a {@link MethodCallHandlerImpl} instance that stores the preferences in a {@link
+   * BinaryPreferencesStore} if {@code useBinaryStore} is true, regardless of the app's meta-data.
+   */
+  MethodCallHandlerImpl(Context context, boolean useBinaryStore) {
     preferences = context.getSharedPreferences(SHARED_PREFERENCES_NAME, Context.MODE_PRIVATE);
+    binaryStore =
+        useBinaryStore
+            ? new BinaryPreferencesStore(
+                new File(context.getFilesDir(), BinaryPreferencesStore.FILE_NAME))
+            : null;
     executor =
         new ThreadPoolExecutor(0, 1, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
     handler = new Handler(Looper.getMainLooper());
@@ -59,6 +88,10 @@ class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
 
   @Override
   public void onMethodCall(MethodCall call, MethodChannel.Result result) {
+    if (binaryStore != null) {
+      onBinaryStoreMethodCall(call, result);
+      return;
+    }
     String key = call.argument("key");
     try {
       switch (call.method) {
@@ -129,6 +162,83 @@ class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
     }
   }
 
+  // The first calls wait for the executor to load the binary store and migrate the preferences, so
+  // the platform thread doesn't block on disk I/O. Later calls keep their order behind them.
+  private void onBinaryStoreMethodCall(final MethodCall call, final MethodChannel.Result result) {
+    if (binaryStore.isLoaded() && pendingBinaryStoreCalls == 0) {
+      handleBinaryStoreMethodCall(call, result);
+      return;
+    }
+    pendingBinaryStoreCalls++;
+    executor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            IOException loadError = null;
+            try {
+              if (call.method.equals("clear") && !binaryStore.isLoaded()) {
+                // Nothing has to be loaded or migrated to clear all values.
+                removeLegacyPrefs();
+                binaryStore.clear();
+              } else {
+                loadBinaryStore();
+              }
+            } catch (IOException e) {
+              loadError = e;
+            }
+            final IOException error = loadError;
+            handler.post(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    pendingBinaryStoreCalls--;
+                    if (error != null) {
+                      result.error("IOException encountered", call.method, error);
+                    } else {
+                      handleBinaryStoreMethodCall(call, result);
+                    }
+                  }
+                });
+          }
+        });
+  }
+
+  private void handleBinaryStoreMethodCall(MethodCall call, MethodChannel.Result result) {
+    String key = call.argument("key");
+    switch (call.method) {
+      case "setBool":
+      case "setInt":
+      case "setString":
+      case "setStringList":
+        // Values keep their type, so strings don't have to be checked for the prefixes above.
+        binaryStore.put(key, call.argument("value"));
+        flushAsync(result);
+        break;
+      case "setDouble":
+        binaryStore.put(key, ((Number) call.argument("value")).doubleValue());
+        flushAsync(result);
+        break;
+      case "commit":
+        // We've been committing the whole time.
+        result.success(true);
+        break;
+      case "getAll":
+        result.success(binaryStore.getAll());
+        return;
+      case "remove":
+        binaryStore.remove(key);
+        flushAsync(result);
+        break;
+      case "clear":
+        binaryStore.clear();
+        flushAsync(result);
+        break;
+      default:
+        result.notImplemented();
+        break;
+    }
+  }
+
   public void teardown() {
     handler.removeCallbacksAndMessages(null);
     executor.shutdown();
@@ -152,6 +262,80 @@ class MethodCallHandlerImpl implements MethodChannel.MethodCallHandler {
         });
   }
 
+  // Changes to the binary store are written by the executor. Each call writes all changes made
+  // until then, so the calls queued behind it have nothing left to write.
+  private void flushAsync(final MethodChannel.Result result) {
+    executor.execute(
+        new Runnable() {
+          @Override
+          public void run() {
+            final boolean response = binaryStore.flush();
+            handler.post(
+                new Runnable() {
+                  @Override
+                  public void run() {
+                    result.success(response);
+                  }
+                });
+          }
+        });
+  }
+
+  // Runs on the executor.
+  private void loadBinaryStore() throws IOException {
+    if (binaryStore.isLoaded() || binaryStore.load()) {
+      return;
+    }
+    // The binary store is used for the first time, so move the preferences stored by
+    // SharedPreferences so far into it. They are only removed once the binary store was written.
+    // If that fails, the store is unloaded again, so the next call retries the migration instead of
+    // using an empty store.
+    final Map<String, Object> legacyPrefs;
+    try {
+      legacyPrefs = getAllPrefs();
+    } catch (IOException e) {
+      binaryStore.unload();
+      throw e;
+    }
+    if (legacyPrefs.isEmpty()) {
+      return;
+    }
+    binaryStore.putAll(legacyPrefs);
+    if (!binaryStore.flush()) {
+      binaryStore.unload();
+      throw new IOException("Could not migrate preferences to the binary store");
+    }
+    SharedPreferences.Editor editor = preferences.edit();
+    for (String legacyKey : legacyPrefs.keySet()) {
+      editor.remove(legacyKey);
+    }
+    editor.apply();
+  }
+
+  // Removes the preferences of the flutter app from SharedPreferences without decoding them, so
+  // they aren't migrated to the binary store later.
+  private void removeLegacyPrefs() {
+    SharedPreferences.Editor editor = preferences.edit();
+    for (String legacyKey : preferences.getAll().keySet()) {
+      if (legacyKey.startsWith("flutter.")) {
+        editor.remove(legacyKey);
+      }
+    }
+    editor.apply();
+  }
+
+  private static boolean isBinaryStoreEnabled(Context context) {
+    try {
+      ApplicationInfo info =
+          context
+              .getPackageManager()
+              .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA);
+      return info.metaData != null && info.metaData.getBoolean(BINARY_STORE_META_DATA_KEY, false);
+    } catch (PackageManager.NameNotFoundException e) {
+      return false;
+    }
+  }
+
   private List<String> decodeList(String encodedList) throws IOException {
     ObjectInputStream stream = null;
     try {
@@ -0,0 +1,201 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.sharedpreferences;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryPreferencesStoreTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  File file;
+  BinaryPreferencesStore store;
+
+  @Before
+  public void setUp() {
+    file = new File(temporaryFolder.getRoot(), BinaryPreferencesStore.FILE_NAME);
+    store = new BinaryPreferencesStore(file);
+  }
+
+  @Test
+  public void loadWithoutFile() throws IOException {
+    assertFalse(store.load());
+    assertTrue(store.isLoaded());
+    assertTrue(store.getAll().isEmpty());
+  }
+
+  @Test
+  public void valuesKeepTheirTypeAfterLoading() throws IOException {
+    store.load();
+    store.put("flutter.bool", true);
+    store.put("flutter.int", 42);
+    store.put("flutter.long", 1L << 40);
+    store.put("flutter.bigInteger", BigInteger.ONE.shiftLeft(70).negate());
+    store.put("flutter.double", 3.14159);
+    store.put("flutter.string", "héllo 😀");
+    store.put("flutter.list", Arrays.asList("foo", "", "bär"));
+    assertTrue(store.flush());
+
+    final BinaryPreferencesStore loadedStore = new BinaryPreferencesStore(file);
+    assertTrue(loadedStore.load());
+
+    final Map<String, Object> expected = new HashMap<>();
+    expected.put("flutter.bool", true);
+    expected.put("flutter.int", 42L);
+    expected.put("flutter.long", 1L << 40);
+    expected.put("flutter.bigInteger", BigInteger.ONE.shiftLeft(70).negate());
+    expected.put("flutter.double", 3.14159);
+    expected.put("flutter.string", "héllo 😀");
+    expected.put("flutter.list", Arrays.asList("foo", "", "bär"));
+    assertEquals(expected, loadedStore.getAll());
+  }
+
+  @Test
+  public void removeAndClear() throws IOException {
+    store.load();
+    store.put("flutter.a", "a");
+    store.put("flutter.b", "b");
+    store.remove("flutter.a");
+    assertTrue(store.flush());
+
+    BinaryPreferencesStore loadedStore = new BinaryPreferencesStore(file);
+    loadedStore.load();
+    assertEquals(Collections.singletonMap("flutter.b", "b"), loadedStore.getAll());
+
+    store.clear();
+    assertTrue(store.flush());
+    loadedStore = new BinaryPreferencesStore(file);
+    loadedStore.load();
+    assertTrue(loadedStore.getAll().isEmpty());
+  }
+
+  @Test
+  public void flushOnlyWritesChanges() throws IOException {
+    store.load();
+    store.put("flutter.a", "a");
+    assertTrue(store.flush());
+    assertTrue(file.delete());
+
+    assertTrue(store.flush());
+    assertFalse(file.exists());
+
+    store.put("flutter.b", "b");
+    assertTrue(store.flush());
+    assertTrue(file.exists());
+  }
+
+  @Test
+  public void putNullRemovesKey() throws IOException {
+    store.load();
+    store.put("flutter.a", "a");
+    store.put("flutter.a", null);
+    assertTrue(store.getAll().isEmpty());
+
+    store.putAll(Collections.<String, Object>singletonMap("flutter.b", null));
+    assertTrue(store.getAll().isEmpty());
+  }
+
+  @Test
+  public void clearWithoutLoading() throws IOException {
+    final BinaryPreferencesStore otherStore = new BinaryPreferencesStore(file);
+    otherStore.load();
+    otherStore.put("flutter.a", "a");
+    assertTrue(otherStore.flush());
+
+    store.clear();
+    assertTrue(store.isLoaded());
+    assertTrue(store.flush());
+
+    final BinaryPreferencesStore loadedStore = new BinaryPreferencesStore(file);
+    loadedStore.load();
+    assertTrue(loadedStore.getAll().isEmpty());
+  }
+
+  @Test
+  public void unloadForgetsUnwrittenValues() throws IOException {
+    store.load();
+    store.put("flutter.a", "a");
+    assertTrue(store.flush());
+    store.put("flutter.b", "b");
+
+    store.unload();
+    assertFalse(store.isLoaded());
+    assertTrue(store.getAll().isEmpty());
+
+    assertTrue(store.load());
+    assertEquals(Collections.singletonMap("flutter.a", "a"), store.getAll());
+  }
+
+  @Test
+  public void loadDiscardsUnknownFormat() throws IOException {
+    final FileOutputStream stream = new FileOutputStream(file);
+    stream.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+    stream.close();
+
+    assertFalse(store.load());
+    assertTrue(store.isLoaded());
+    assertTrue(store.getAll().isEmpty());
+    assertFalse(file.exists());
+    assertTrue(new File(file.getPath() + BinaryPreferencesStore.CORRUPT_FILE_SUFFIX).exists());
+
+    store.put("flutter.a", "a");
+    assertTrue(store.flush());
+    final BinaryPreferencesStore loadedStore = new BinaryPreferencesStore(file);
+    assertTrue(loadedStore.load());
+    assertEquals(Collections.singletonMap("flutter.a", "a"), loadedStore.getAll());
+  }
+
+  @Test
+  public void loadDiscardsTruncatedFile() throws IOException {
+    store.load();
+    store.put("flutter.a", "a");
+    assertTrue(store.flush());
+    truncate(file, file.length() - 2);
+
+    final BinaryPreferencesStore loadedStore = new BinaryPreferencesStore(file);
+    assertFalse(loadedStore.load());
+    assertTrue(loadedStore.getAll().isEmpty());
+  }
+
+  @Test
+  public void loadDiscardsFileWithInvalidLength() throws IOException {
+    final DataOutputStream stream = new DataOutputStream(new FileOutputStream(file));
+    // "FSPB", version 1 and one entry, whose key claims to be almost 2 GB long.
+    stream.writeInt(0x46535042);
+    stream.writeByte(1);
+    stream.writeInt(1);
+    stream.writeInt(Integer.MAX_VALUE);
+    stream.close();
+
+    assertFalse(store.load());
+    assertTrue(store.getAll().isEmpty());
+    assertFalse(file.exists());
+  }
+
+  private static void truncate(File file, long length) throws IOException {
+    final RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+    try {
+      randomAccessFile.setLength(length);
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+}
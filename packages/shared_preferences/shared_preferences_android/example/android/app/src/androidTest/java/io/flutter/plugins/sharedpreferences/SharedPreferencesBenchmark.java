@@ -0,0 +1,198 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.sharedpreferences;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.util.Log;
+import androidx.test.platform.app.InstrumentationRegistry;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Compares the latency of {@code getAll} and {@code set} calls on 1000 keys with the
+ * SharedPreferences backend and with the {@link BinaryPreferencesStore}.
+ *
+ * <p>Runs on a device, because both backends write to disk. The calls are made with {@link
+ * MethodCallHandlerImpl#onMethodCall} as the method channel would, and a {@code set} call lasts
+ * until its result is sent. The averages are logged with the tag {@value #TAG}. The tests only
+ * check that the values read back are the ones that were set.
+ */
+public class SharedPreferencesBenchmark {
+  private static final String TAG = "SharedPreferencesBenchmark";
+  private static final String SHARED_PREFERENCES_NAME = "FlutterSharedPreferences";
+  private static final int KEY_COUNT = 1000;
+  private static final int GET_ALL_ITERATIONS = 20;
+  private static final int SET_ITERATIONS = 100;
+
+  private Context context;
+  private MethodCallHandlerImpl handler;
+
+  @Before
+  public void setUp() {
+    context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+    clearStorage();
+  }
+
+  @After
+  public void tearDown() {
+    if (handler != null) {
+      handler.teardown();
+    }
+    clearStorage();
+  }
+
+  @Test
+  public void sharedPreferences() throws InterruptedException {
+    handler = new MethodCallHandlerImpl(context, false);
+    measure("sharedPreferences");
+  }
+
+  @Test
+  public void binaryStore() throws InterruptedException {
+    handler = new MethodCallHandlerImpl(context, true);
+    measure("binaryStore");
+  }
+
+  @Test
+  public void migrationToBinaryStore() throws InterruptedException {
+    final MethodCallHandlerImpl legacyHandler = new MethodCallHandlerImpl(context, false);
+    final Map<String, Object> values = setValues(legacyHandler);
+    legacyHandler.teardown();
+
+    handler = new MethodCallHandlerImpl(context, true);
+    final long start = System.nanoTime();
+    final Object migratedValues = call(handler, "getAll", null);
+    log("binaryStore.migration", System.nanoTime() - start);
+    assertEquals(values, migratedValues);
+
+    // The values are now only in the binary store.
+    assertEquals(values, getAllWithNewHandler(true));
+    assertTrue(((Map<?, ?>) getAllWithNewHandler(false)).isEmpty());
+  }
+
+  private void measure(String name) throws InterruptedException {
+    final Map<String, Object> values = setValues(handler);
+    assertEquals(values, call(handler, "getAll", null));
+
+    long start = System.nanoTime();
+    for (int i = 0; i < GET_ALL_ITERATIONS; i++) {
+      call(handler, "getAll", null);
+    }
+    log(name + ".getAll", (System.nanoTime() - start) / GET_ALL_ITERATIONS);
+
+    start = System.nanoTime();
+    for (int i = 0; i < SET_ITERATIONS; i++) {
+      set(handler, "StringList", "flutter.list" + i, Arrays.asList("updated", Integer.toString(i)));
+    }
+    log(name + ".setStringList", (System.nanoTime() - start) / SET_ITERATIONS);
+
+    start = System.nanoTime();
+    for (int i = 0; i < SET_ITERATIONS; i++) {
+      set(handler, "Int", "flutter.int" + i, i + 1);
+    }
+    log(name + ".setInt", (System.nanoTime() - start) / SET_ITERATIONS);
+  }
+
+  // Sets KEY_COUNT values, a quarter of each type, and returns them as getAll should.
+  private static Map<String, Object> setValues(MethodCallHandlerImpl handler)
+      throws InterruptedException {
+    final Map<String, Object> values = new HashMap<>();
+    for (int i = 0; i < KEY_COUNT / 4; i++) {
+      values.put("flutter.string" + i, "https://example.com/articles/" + i);
+      set(handler, "String", "flutter.string" + i, values.get("flutter.string" + i));
+      values.put("flutter.int" + i, (long) i);
+      set(handler, "Int", "flutter.int" + i, values.get("flutter.int" + i));
+      values.put("flutter.double" + i, i / 7.0);
+      set(handler, "Double", "flutter.double" + i, values.get("flutter.double" + i));
+      values.put(
+          "flutter.list" + i, Arrays.asList("alpha" + i, "beta", "gamma", "delta", "epsilon"));
+      set(handler, "StringList", "flutter.list" + i, values.get("flutter.list" + i));
+    }
+    return values;
+  }
+
+  private static void set(MethodCallHandlerImpl handler, String type, String key, Object value)
+      throws InterruptedException {
+    final Map<String, Object> arguments = new HashMap<>();
+    arguments.put("key", key);
+    arguments.put("value", value);
+    assertEquals(true, call(handler, "set" + type, arguments));
+  }
+
+  private static Object call(MethodCallHandlerImpl handler, String method, Object arguments)
+      throws InterruptedException {
+    final BlockingResult result = new BlockingResult();
+    handler.onMethodCall(new MethodCall(method, arguments), result);
+    return result.await();
+  }
+
+  private Object getAllWithNewHandler(boolean useBinaryStore) throws InterruptedException {
+    final MethodCallHandlerImpl newHandler = new MethodCallHandlerImpl(context, useBinaryStore);
+    try {
+      return call(newHandler, "getAll", null);
+    } finally {
+      newHandler.teardown();
+    }
+  }
+
+  private static void log(String name, long nanos) {
+    Log.i(TAG, String.format(Locale.ROOT, "%-36s %10.1f us", name, nanos / 1000.0));
+  }
+
+  private void clearStorage() {
+    context
+        .getSharedPreferences(SHARED_PREFERENCES_NAME, Context.MODE_PRIVATE)
+        .edit()
+        .clear()
+        .commit();
+    new File(context.getFilesDir(), BinaryPreferencesStore.FILE_NAME).delete();
+  }
+
+  /** Waits for the result of a method call, which is sent on the main thread. */
+  private static final class BlockingResult implements MethodChannel.Result {
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private Object value;
+    private String error;
+
+    @Override
+    public void success(Object result) {
+      value = result;
+      latch.countDown();
+    }
+
+    @Override
+    public void error(String errorCode, String errorMessage, Object errorDetails) {
+      error = errorCode + ": " + errorMessage;
+      latch.countDown();
+    }
+
+    @Override
+    public void notImplemented() {
+      error = "notImplemented";
+      latch.countDown();
+    }
+
+    Object await() throws InterruptedException {
+      assertTrue("Timed out", latch.await(10, TimeUnit.SECONDS));
+      if (error != null) {
+        throw new AssertionError(error);
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.DefaultLoadControl;
+import com.google.android.exoplayer2.DefaultRenderersFactory;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.mediacodec.MediaCodecInfo;
+import com.google.android.exoplayer2.mediacodec.MediaCodecSelector;
+import com.google.android.exoplayer2.trackselection.DefaultTrackSelector;
+import com.google.android.exoplayer2.upstream.BandwidthMeter;
+import com.google.android.exoplayer2.upstream.DefaultBandwidthMeter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates {@link ExoPlayer} instances configured from {@link VideoPlayerOptions}.
+ *
+ * <p>The load control and track selector are created for each player. Players use the process-wide
+ * bandwidth meter, so the bandwidth measured by one video is used to select the tracks of the next.
+ * Only players created with an initial bitrate estimate get their own meter, which starts from that
+ * estimate without affecting the other players.
+ */
+final class ExoPlayerFactory implements ExoPlayerPool.PlayerFactory {
+  /** Moves hardware accelerated decoders in front of software decoders. */
+  @VisibleForTesting
+  static final MediaCodecSelector HARDWARE_FIRST_CODEC_SELECTOR =
+      (mimeType, requiresSecureDecoder, requiresTunnelingDecoder) ->
+          sortHardwareFirst(
+              MediaCodecSelector.DEFAULT.getDecoderInfos(
+                  mimeType, requiresSecureDecoder, requiresTunnelingDecoder));
+
+  private final Context context;
+  private VideoPlayerOptions options;
+
+  ExoPlayerFactory(@NonNull Context context, @NonNull VideoPlayerOptions options) {
+    this.context = context;
+    setOptions(options);
+  }
+
+  /**
+   * Applies new options to players created from now on.
+   *
+   * @throws IllegalArgumentException if the buffer durations are inconsistent.
+   */
+  void setOptions(@NonNull VideoPlayerOptions options) {
+    // Building the load control validates the buffer durations before they are used.
+    buildLoadControl(options);
+    this.options = options;
+  }
+
+  @NonNull
+  @Override
+  public ExoPlayer create() {
+    DefaultRenderersFactory renderersFactory = new DefaultRenderersFactory(context);
+    if (options.preferHardwareCodecs) {
+      renderersFactory
+          .setMediaCodecSelector(HARDWARE_FIRST_CODEC_SELECTOR)
+          .setEnableDecoderFallback(true);
+    }
+    DefaultTrackSelector.Parameters trackSelectorParameters =
+        new DefaultTrackSelector.Parameters.Builder(context)
+            .setMaxVideoSize(options.maxVideoWidth, options.maxVideoHeight)
+            .setMaxVideoBitrate(options.maxVideoBitrate)
+            .build();
+
+    return new ExoPlayer.Builder(context, renderersFactory)
+        .setLoadControl(buildLoadControl(options))
+        .setTrackSelector(new DefaultTrackSelector(context, trackSelectorParameters))
+        .setBandwidthMeter(getBandwidthMeter())
+        .build();
+  }
+
+  private BandwidthMeter getBandwidthMeter() {
+    if (options.initialBitrateEstimate == null) {
+      return DefaultBandwidthMeter.getSingletonInstance(context);
+    }
+    return new DefaultBandwidthMeter.Builder(context)
+        .setInitialBitrateEstimate(options.initialBitrateEstimate)
+        .build();
+  }
+
+  private static DefaultLoadControl buildLoadControl(VideoPlayerOptions options) {
+    return new DefaultLoadControl.Builder()
+        .setBufferDurationsMs(
+            options.minBufferMs,
+            options.maxBufferMs,
+            options.bufferForPlaybackMs,
+            options.bufferForPlaybackAfterRebufferMs)
+        .build();
+  }
+
+  @VisibleForTesting
+  static List<MediaCodecInfo> sortHardwareFirst(List<MediaCodecInfo> decoderInfos) {
+    List<MediaCodecInfo> sortedInfos = new ArrayList<>(decoderInfos.size());
+    for (MediaCodecInfo info : decoderInfos) {
+      if (info.hardwareAccelerated) {
+        sortedInfos.add(info);
+      }
+    }
+    for (MediaCodecInfo info : decoderInfos) {
+      if (!info.hardwareAccelerated) {
+        sortedInfos.add(info);
+      }
+    }
+    return sortedInfos;
+  }
+}
@@ -0,0 +1,212 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.PlaybackParameters;
+import com.google.android.exoplayer2.util.Util;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps released {@link ExoPlayer} instances around so they can be reused by the next video, and
+ * prepares players for videos that are expected to be played soon.
+ *
+ * <p>Reusing a player keeps its playback thread, renderers, load control and bandwidth estimate,
+ * which shortens the time to the first frame of short clips. The pool holds at most {@link
+ * #setMaxSize(int)} players that are not in use, counting both idle and preloaded players. When the
+ * pool is full, idle players are released first, then the least recently preloaded ones. The
+ * default size is 0, which releases every player as soon as it is no longer used.
+ *
+ * <p>This class is not thread-safe and has to be used from the platform thread.
+ */
+final class ExoPlayerPool {
+  /** Creates new {@link ExoPlayer} instances. */
+  interface PlayerFactory {
+    @NonNull
+    ExoPlayer create();
+  }
+
+  private final PlayerFactory playerFactory;
+  private final VideoSourceFactory videoSourceFactory;
+
+  private final ArrayDeque<ExoPlayer> idlePlayers = new ArrayDeque<>();
+  private final LinkedHashMap<String, PreloadedPlayer> preloadedPlayers = new LinkedHashMap<>();
+  private int maxSize = 0;
+
+  ExoPlayerPool(
+      @NonNull PlayerFactory playerFactory, @NonNull VideoSourceFactory videoSourceFactory) {
+    this.playerFactory = playerFactory;
+    this.videoSourceFactory = videoSourceFactory;
+  }
+
+  /**
+   * Sets the number of unused players that are kept, releasing players that no longer fit.
+   *
+   * @param maxSize the maximum number of idle and preloaded players.
+   */
+  void setMaxSize(int maxSize) {
+    this.maxSize = Math.max(0, maxSize);
+    trim();
+  }
+
+  /**
+   * Prepares a player for the given video so a later call to {@link #takePreloaded(String, String,
+   * Map)} returns it without waiting for the first frame to be loaded and decoded.
+   *
+   * <p>Does nothing if the pool size is 0 or the video is already preloaded with the same format
+   * hint and HTTP headers.
+   */
+  void preload(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders) {
+    if (maxSize == 0) {
+      return;
+    }
+    PreloadedPlayer preloadedPlayer = preloadedPlayers.remove(dataSource);
+    if (preloadedPlayer == null || !preloadedPlayer.matches(formatHint, httpHeaders)) {
+      if (preloadedPlayer != null) {
+        recycle(preloadedPlayer.player);
+      }
+      preloadedPlayer =
+          new PreloadedPlayer(
+              prepare(dataSource, formatHint, httpHeaders), formatHint, httpHeaders);
+    }
+    // Re-inserting marks the video as the most recently preloaded one.
+    preloadedPlayers.put(dataSource, preloadedPlayer);
+    trim();
+  }
+
+  /**
+   * Removes the player that was preloaded for the given video from the pool.
+   *
+   * <p>A player that was preloaded with a different format hint or different HTTP headers is
+   * recycled, and one that failed to load the video is released.
+   *
+   * @return the prepared player, or null if the video was not preloaded with the same format hint
+   *     and HTTP headers or failed to load.
+   */
+  @Nullable
+  ExoPlayer takePreloaded(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders) {
+    PreloadedPlayer preloadedPlayer = preloadedPlayers.remove(dataSource);
+    if (preloadedPlayer == null) {
+      return null;
+    }
+    if (preloadedPlayer.player.getPlayerError() != null) {
+      preloadedPlayer.player.release();
+      return null;
+    }
+    if (!preloadedPlayer.matches(formatHint, httpHeaders)) {
+      recycle(preloadedPlayer.player);
+      return null;
+    }
+    return preloadedPlayer.player;
+  }
+
+  /** Returns a player, reusing an idle one if possible, that is preparing the given video. */
+  @NonNull
+  ExoPlayer prepare(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders) {
+    ExoPlayer player = idlePlayers.poll();
+    if (player == null) {
+      player = playerFactory.create();
+    }
+    player.setMediaSource(videoSourceFactory.create(dataSource, formatHint, httpHeaders));
+    player.prepare();
+    return player;
+  }
+
+  /**
+   * Returns a player that is no longer used to the pool, or releases it if the pool is full.
+   *
+   * <p>The player is stopped, detached from its surface and reset to its default settings.
+   */
+  void recycle(@NonNull ExoPlayer player) {
+    if (idlePlayers.size() + preloadedPlayers.size() >= maxSize) {
+      player.release();
+      return;
+    }
+
+    player.stop();
+    player.clearMediaItems();
+    player.clearVideoSurface();
+    player.setPlayWhenReady(false);
+    player.setRepeatMode(REPEAT_MODE_OFF);
+    player.setVolume(1.0f);
+    player.setPlaybackParameters(PlaybackParameters.DEFAULT);
+    idlePlayers.push(player);
+  }
+
+  /** Releases all idle and preloaded players. */
+  void clear() {
+    int size = maxSize;
+    setMaxSize(0);
+    maxSize = size;
+  }
+
+  @VisibleForTesting
+  int getIdleCount() {
+    return idlePlayers.size();
+  }
+
+  @VisibleForTesting
+  int getPreloadedCount() {
+    return preloadedPlayers.size();
+  }
+
+  private void trim() {
+    while (idlePlayers.size() + preloadedPlayers.size() > maxSize && !idlePlayers.isEmpty()) {
+      idlePlayers.pop().release();
+    }
+    Iterator<PreloadedPlayer> iterator = preloadedPlayers.values().iterator();
+    while (preloadedPlayers.size() > maxSize && iterator.hasNext()) {
+      iterator.next().player.release();
+      iterator.remove();
+    }
+  }
+
+  private static final class PreloadedPlayer {
+    final ExoPlayer player;
+    @Nullable final String formatHint;
+    @NonNull final Map<String, String> httpHeaders;
+
+    PreloadedPlayer(
+        ExoPlayer player,
+        @Nullable String formatHint,
+        @Nullable Map<String, String> httpHeaders) {
+      this.player = player;
+      this.formatHint = formatHint;
+      this.httpHeaders = copyOf(httpHeaders);
+    }
+
+    /** Returns whether the player was prepared with the given format hint and HTTP headers. */
+    boolean matches(@Nullable String formatHint, @Nullable Map<String, String> httpHeaders) {
+      return Util.areEqual(this.formatHint, formatHint)
+          && this.httpHeaders.equals(copyOf(httpHeaders));
+    }
+
+    // No headers and an empty map of headers load the video the same way.
+    private static Map<String, String> copyOf(@Nullable Map<String, String> httpHeaders) {
+      return httpHeaders == null
+          ? Collections.<String, String>emptyMap()
+          : new HashMap<>(httpHeaders);
+    }
+  }
+}
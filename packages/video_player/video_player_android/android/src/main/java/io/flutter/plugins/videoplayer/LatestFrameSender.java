@@ -0,0 +1,144 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Sends binary frames to Dart from a pool of three reusable direct buffers.
+ *
+ * <p>One buffer is written by the producer, one holds the latest finished frame and one is in
+ * flight until Dart replies. When the producer finishes a frame while another one is still
+ * pending, the pending frame is dropped, so a slow consumer only ever receives the latest frame and
+ * never blocks the producer.
+ *
+ * <p>{@link #obtainBuffer(int)} and {@link #submit()} have to be called from a single producer
+ * thread. Frames are sent on the thread of the supplied handler, which should be the platform
+ * thread.
+ */
+final class LatestFrameSender {
+  private static final int NONE = -1;
+
+  /**
+   * Offset of the number of frames that were dropped before a frame was sent, stored as a 32 bit
+   * integer. Producers have to reserve these bytes in each frame.
+   */
+  static final int DROPPED_FRAMES_OFFSET = 12;
+
+  private final BinaryMessenger messenger;
+  private final String channel;
+  private final Handler handler;
+
+  private final ByteBuffer[] buffers = new ByteBuffer[3];
+  private final Object lock = new Object();
+  private int writingIndex = NONE;
+  private int pendingIndex = NONE;
+  private int inFlightIndex = NONE;
+  private int droppedFrames = 0;
+  private long totalDroppedFrames = 0;
+  private boolean isSendScheduled = false;
+  private boolean isClosed = false;
+
+  LatestFrameSender(
+      @NonNull BinaryMessenger messenger, @NonNull String channel, @NonNull Handler handler) {
+    this.messenger = messenger;
+    this.channel = channel;
+    this.handler = handler;
+  }
+
+  /**
+   * Returns a cleared little endian buffer that is neither pending nor in flight.
+   *
+   * @param capacity the size of the frame that will be written.
+   */
+  @NonNull
+  ByteBuffer obtainBuffer(int capacity) {
+    synchronized (lock) {
+      for (int i = 0; i < buffers.length; i++) {
+        if (i != pendingIndex && i != inFlightIndex) {
+          writingIndex = i;
+          break;
+        }
+      }
+    }
+
+    ByteBuffer buffer = buffers[writingIndex];
+    if (buffer == null || buffer.capacity() < capacity) {
+      buffer = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+      buffers[writingIndex] = buffer;
+    }
+    buffer.clear();
+    return buffer;
+  }
+
+  /**
+   * Marks the buffer returned by the last call to {@link #obtainBuffer(int)} as the latest frame.
+   *
+   * <p>The buffer position has to be at the end of the frame.
+   */
+  void submit() {
+    synchronized (lock) {
+      if (isClosed || writingIndex == NONE) {
+        return;
+      }
+      if (pendingIndex != NONE) {
+        droppedFrames++;
+        totalDroppedFrames++;
+      }
+      pendingIndex = writingIndex;
+      writingIndex = NONE;
+      if (isSendScheduled || inFlightIndex != NONE) {
+        return;
+      }
+      isSendScheduled = true;
+    }
+    handler.post(this::sendPendingFrame);
+  }
+
+  /** Stops sending frames. Frames that are already in flight are still delivered. */
+  void close() {
+    synchronized (lock) {
+      isClosed = true;
+      pendingIndex = NONE;
+    }
+  }
+
+  /** The number of frames that were replaced by a newer frame before they could be sent. */
+  long getTotalDroppedFrames() {
+    synchronized (lock) {
+      return totalDroppedFrames;
+    }
+  }
+
+  @VisibleForTesting
+  void sendPendingFrame() {
+    ByteBuffer buffer;
+    synchronized (lock) {
+      isSendScheduled = false;
+      if (pendingIndex == NONE || inFlightIndex != NONE) {
+        return;
+      }
+      inFlightIndex = pendingIndex;
+      pendingIndex = NONE;
+      buffer = buffers[inFlightIndex];
+      buffer.putInt(DROPPED_FRAMES_OFFSET, droppedFrames);
+      droppedFrames = 0;
+    }
+
+    messenger.send(channel, buffer, reply -> onFrameDelivered());
+  }
+
+  private void onFrameDelivered() {
+    synchronized (lock) {
+      inFlightIndex = NONE;
+    }
+    sendPendingFrame();
+  }
+}
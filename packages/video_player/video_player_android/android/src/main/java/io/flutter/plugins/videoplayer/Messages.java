@@ -557,6 +557,855 @@ public class Messages {
     }
   }
 
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class FrameTapMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Long rowStride;
+
+    public @NonNull Long getRowStride() {
+      return rowStride;
+    }
+
+    public void setRowStride(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"rowStride\" is null.");
+      }
+      this.rowStride = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private FrameTapMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Long rowStride;
+
+      public @NonNull Builder setRowStride(@NonNull Long setterArg) {
+        this.rowStride = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameTapMessage build() {
+        FrameTapMessage pigeonReturn = new FrameTapMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setRowStride(rowStride);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("width", width);
+      toMapResult.put("height", height);
+      toMapResult.put("rowStride", rowStride);
+      return toMapResult;
+    }
+
+    static @NonNull FrameTapMessage fromMap(@NonNull Map<String, Object> map) {
+      FrameTapMessage pigeonResult = new FrameTapMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object width = map.get("width");
+      pigeonResult.setWidth(
+          (width == null)
+              ? null
+              : ((width instanceof Integer) ? (Integer) width : (Long) width));
+      Object height = map.get("height");
+      pigeonResult.setHeight(
+          (height == null)
+              ? null
+              : ((height instanceof Integer) ? (Integer) height : (Long) height));
+      Object rowStride = map.get("rowStride");
+      pigeonResult.setRowStride(
+          (rowStride == null)
+              ? null
+              : ((rowStride instanceof Integer) ? (Integer) rowStride : (Long) rowStride));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlayerOptionsMessage {
+    private @Nullable Long minBufferMs;
+
+    public @Nullable Long getMinBufferMs() {
+      return minBufferMs;
+    }
+
+    public void setMinBufferMs(@Nullable Long setterArg) {
+      this.minBufferMs = setterArg;
+    }
+
+    private @Nullable Long maxBufferMs;
+
+    public @Nullable Long getMaxBufferMs() {
+      return maxBufferMs;
+    }
+
+    public void setMaxBufferMs(@Nullable Long setterArg) {
+      this.maxBufferMs = setterArg;
+    }
+
+    private @Nullable Long bufferForPlaybackMs;
+
+    public @Nullable Long getBufferForPlaybackMs() {
+      return bufferForPlaybackMs;
+    }
+
+    public void setBufferForPlaybackMs(@Nullable Long setterArg) {
+      this.bufferForPlaybackMs = setterArg;
+    }
+
+    private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+    public @Nullable Long getBufferForPlaybackAfterRebufferMs() {
+      return bufferForPlaybackAfterRebufferMs;
+    }
+
+    public void setBufferForPlaybackAfterRebufferMs(@Nullable Long setterArg) {
+      this.bufferForPlaybackAfterRebufferMs = setterArg;
+    }
+
+    private @Nullable Long maxVideoWidth;
+
+    public @Nullable Long getMaxVideoWidth() {
+      return maxVideoWidth;
+    }
+
+    public void setMaxVideoWidth(@Nullable Long setterArg) {
+      this.maxVideoWidth = setterArg;
+    }
+
+    private @Nullable Long maxVideoHeight;
+
+    public @Nullable Long getMaxVideoHeight() {
+      return maxVideoHeight;
+    }
+
+    public void setMaxVideoHeight(@Nullable Long setterArg) {
+      this.maxVideoHeight = setterArg;
+    }
+
+    private @Nullable Long maxVideoBitrate;
+
+    public @Nullable Long getMaxVideoBitrate() {
+      return maxVideoBitrate;
+    }
+
+    public void setMaxVideoBitrate(@Nullable Long setterArg) {
+      this.maxVideoBitrate = setterArg;
+    }
+
+    private @NonNull Boolean preferHardwareCodecs;
+
+    public @NonNull Boolean getPreferHardwareCodecs() {
+      return preferHardwareCodecs;
+    }
+
+    public void setPreferHardwareCodecs(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"preferHardwareCodecs\" is null.");
+      }
+      this.preferHardwareCodecs = setterArg;
+    }
+
+    private @Nullable Long initialBitrateEstimate;
+
+    public @Nullable Long getInitialBitrateEstimate() {
+      return initialBitrateEstimate;
+    }
+
+    public void setInitialBitrateEstimate(@Nullable Long setterArg) {
+      this.initialBitrateEstimate = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PlayerOptionsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long minBufferMs;
+
+      public @NonNull Builder setMinBufferMs(@Nullable Long setterArg) {
+        this.minBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxBufferMs;
+
+      public @NonNull Builder setMaxBufferMs(@Nullable Long setterArg) {
+        this.maxBufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackMs;
+
+      public @NonNull Builder setBufferForPlaybackMs(@Nullable Long setterArg) {
+        this.bufferForPlaybackMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferForPlaybackAfterRebufferMs;
+
+      public @NonNull Builder setBufferForPlaybackAfterRebufferMs(@Nullable Long setterArg) {
+        this.bufferForPlaybackAfterRebufferMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoWidth;
+
+      public @NonNull Builder setMaxVideoWidth(@Nullable Long setterArg) {
+        this.maxVideoWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoHeight;
+
+      public @NonNull Builder setMaxVideoHeight(@Nullable Long setterArg) {
+        this.maxVideoHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxVideoBitrate;
+
+      public @NonNull Builder setMaxVideoBitrate(@Nullable Long setterArg) {
+        this.maxVideoBitrate = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean preferHardwareCodecs;
+
+      public @NonNull Builder setPreferHardwareCodecs(@NonNull Boolean setterArg) {
+        this.preferHardwareCodecs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long initialBitrateEstimate;
+
+      public @NonNull Builder setInitialBitrateEstimate(@Nullable Long setterArg) {
+        this.initialBitrateEstimate = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerOptionsMessage build() {
+        PlayerOptionsMessage pigeonReturn = new PlayerOptionsMessage();
+        pigeonReturn.setMinBufferMs(minBufferMs);
+        pigeonReturn.setMaxBufferMs(maxBufferMs);
+        pigeonReturn.setBufferForPlaybackMs(bufferForPlaybackMs);
+        pigeonReturn.setBufferForPlaybackAfterRebufferMs(bufferForPlaybackAfterRebufferMs);
+        pigeonReturn.setMaxVideoWidth(maxVideoWidth);
+        pigeonReturn.setMaxVideoHeight(maxVideoHeight);
+        pigeonReturn.setMaxVideoBitrate(maxVideoBitrate);
+        pigeonReturn.setPreferHardwareCodecs(preferHardwareCodecs);
+        pigeonReturn.setInitialBitrateEstimate(initialBitrateEstimate);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("minBufferMs", minBufferMs);
+      toMapResult.put("maxBufferMs", maxBufferMs);
+      toMapResult.put("bufferForPlaybackMs", bufferForPlaybackMs);
+      toMapResult.put("bufferForPlaybackAfterRebufferMs", bufferForPlaybackAfterRebufferMs);
+      toMapResult.put("maxVideoWidth", maxVideoWidth);
+      toMapResult.put("maxVideoHeight", maxVideoHeight);
+      toMapResult.put("maxVideoBitrate", maxVideoBitrate);
+      toMapResult.put("preferHardwareCodecs", preferHardwareCodecs);
+      toMapResult.put("initialBitrateEstimate", initialBitrateEstimate);
+      return toMapResult;
+    }
+
+    static @NonNull PlayerOptionsMessage fromMap(@NonNull Map<String, Object> map) {
+      PlayerOptionsMessage pigeonResult = new PlayerOptionsMessage();
+      Object minBufferMs = map.get("minBufferMs");
+      pigeonResult.setMinBufferMs(
+          (minBufferMs == null)
+              ? null
+              : ((minBufferMs instanceof Integer) ? (Integer) minBufferMs : (Long) minBufferMs));
+      Object maxBufferMs = map.get("maxBufferMs");
+      pigeonResult.setMaxBufferMs(
+          (maxBufferMs == null)
+              ? null
+              : ((maxBufferMs instanceof Integer) ? (Integer) maxBufferMs : (Long) maxBufferMs));
+      Object bufferForPlaybackMs = map.get("bufferForPlaybackMs");
+      pigeonResult.setBufferForPlaybackMs(
+          (bufferForPlaybackMs == null)
+              ? null
+              : ((bufferForPlaybackMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackMs
+                  : (Long) bufferForPlaybackMs));
+      Object bufferForPlaybackAfterRebufferMs = map.get("bufferForPlaybackAfterRebufferMs");
+      pigeonResult.setBufferForPlaybackAfterRebufferMs(
+          (bufferForPlaybackAfterRebufferMs == null)
+              ? null
+              : ((bufferForPlaybackAfterRebufferMs instanceof Integer)
+                  ? (Integer) bufferForPlaybackAfterRebufferMs
+                  : (Long) bufferForPlaybackAfterRebufferMs));
+      Object maxVideoWidth = map.get("maxVideoWidth");
+      pigeonResult.setMaxVideoWidth(
+          (maxVideoWidth == null)
+              ? null
+              : ((maxVideoWidth instanceof Integer)
+                  ? (Integer) maxVideoWidth
+                  : (Long) maxVideoWidth));
+      Object maxVideoHeight = map.get("maxVideoHeight");
+      pigeonResult.setMaxVideoHeight(
+          (maxVideoHeight == null)
+              ? null
+              : ((maxVideoHeight instanceof Integer)
+                  ? (Integer) maxVideoHeight
+                  : (Long) maxVideoHeight));
+      Object maxVideoBitrate = map.get("maxVideoBitrate");
+      pigeonResult.setMaxVideoBitrate(
+          (maxVideoBitrate == null)
+              ? null
+              : ((maxVideoBitrate instanceof Integer)
+                  ? (Integer) maxVideoBitrate
+                  : (Long) maxVideoBitrate));
+      Object preferHardwareCodecs = map.get("preferHardwareCodecs");
+      pigeonResult.setPreferHardwareCodecs((Boolean) preferHardwareCodecs);
+      Object initialBitrateEstimate = map.get("initialBitrateEstimate");
+      pigeonResult.setInitialBitrateEstimate(
+          (initialBitrateEstimate == null)
+              ? null
+              : ((initialBitrateEstimate instanceof Integer)
+                  ? (Integer) initialBitrateEstimate
+                  : (Long) initialBitrateEstimate));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PlayerPoolMessage {
+    private @NonNull Long maxSize;
+
+    public @NonNull Long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxSize\" is null.");
+      }
+      this.maxSize = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PlayerPoolMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxSize;
+
+      public @NonNull Builder setMaxSize(@NonNull Long setterArg) {
+        this.maxSize = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerPoolMessage build() {
+        PlayerPoolMessage pigeonReturn = new PlayerPoolMessage();
+        pigeonReturn.setMaxSize(maxSize);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxSize", maxSize);
+      return toMapResult;
+    }
+
+    static @NonNull PlayerPoolMessage fromMap(@NonNull Map<String, Object> map) {
+      PlayerPoolMessage pigeonResult = new PlayerPoolMessage();
+      Object maxSize = map.get("maxSize");
+      pigeonResult.setMaxSize(
+          (maxSize == null)
+              ? null
+              : ((maxSize instanceof Integer) ? (Integer) maxSize : (Long) maxSize));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class TimeToFirstFrameMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @Nullable Long timeToFirstFrame;
+
+    public @Nullable Long getTimeToFirstFrame() {
+      return timeToFirstFrame;
+    }
+
+    public void setTimeToFirstFrame(@Nullable Long setterArg) {
+      this.timeToFirstFrame = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private TimeToFirstFrameMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long timeToFirstFrame;
+
+      public @NonNull Builder setTimeToFirstFrame(@Nullable Long setterArg) {
+        this.timeToFirstFrame = setterArg;
+        return this;
+      }
+
+      public @NonNull TimeToFirstFrameMessage build() {
+        TimeToFirstFrameMessage pigeonReturn = new TimeToFirstFrameMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setTimeToFirstFrame(timeToFirstFrame);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("timeToFirstFrame", timeToFirstFrame);
+      return toMapResult;
+    }
+
+    static @NonNull TimeToFirstFrameMessage fromMap(@NonNull Map<String, Object> map) {
+      TimeToFirstFrameMessage pigeonResult = new TimeToFirstFrameMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object timeToFirstFrame = map.get("timeToFirstFrame");
+      pigeonResult.setTimeToFirstFrame(
+          (timeToFirstFrame == null)
+              ? null
+              : ((timeToFirstFrame instanceof Integer)
+                  ? (Integer) timeToFirstFrame
+                  : (Long) timeToFirstFrame));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PositionUpdatesMessage {
+    private @NonNull Long textureId;
+
+    public @NonNull Long getTextureId() {
+      return textureId;
+    }
+
+    public void setTextureId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"textureId\" is null.");
+      }
+      this.textureId = setterArg;
+    }
+
+    private @NonNull Long interval;
+
+    public @NonNull Long getInterval() {
+      return interval;
+    }
+
+    public void setInterval(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"interval\" is null.");
+      }
+      this.interval = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PositionUpdatesMessage() {}
+
+    public static class Builder {
+      private @Nullable Long textureId;
+
+      public @NonNull Builder setTextureId(@NonNull Long setterArg) {
+        this.textureId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long interval;
+
+      public @NonNull Builder setInterval(@NonNull Long setterArg) {
+        this.interval = setterArg;
+        return this;
+      }
+
+      public @NonNull PositionUpdatesMessage build() {
+        PositionUpdatesMessage pigeonReturn = new PositionUpdatesMessage();
+        pigeonReturn.setTextureId(textureId);
+        pigeonReturn.setInterval(interval);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("textureId", textureId);
+      toMapResult.put("interval", interval);
+      return toMapResult;
+    }
+
+    static @NonNull PositionUpdatesMessage fromMap(@NonNull Map<String, Object> map) {
+      PositionUpdatesMessage pigeonResult = new PositionUpdatesMessage();
+      Object textureId = map.get("textureId");
+      pigeonResult.setTextureId(
+          (textureId == null)
+              ? null
+              : ((textureId instanceof Integer) ? (Integer) textureId : (Long) textureId));
+      Object interval = map.get("interval");
+      pigeonResult.setInterval(
+          (interval == null)
+              ? null
+              : ((interval instanceof Integer) ? (Integer) interval : (Long) interval));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheMessage {
+    private @NonNull Long maxBytes;
+
+    public @NonNull Long getMaxBytes() {
+      return maxBytes;
+    }
+
+    public void setMaxBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxBytes\" is null.");
+      }
+      this.maxBytes = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheMessage() {}
+
+    public static class Builder {
+      private @Nullable Long maxBytes;
+
+      public @NonNull Builder setMaxBytes(@NonNull Long setterArg) {
+        this.maxBytes = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheMessage build() {
+        CacheMessage pigeonReturn = new CacheMessage();
+        pigeonReturn.setMaxBytes(maxBytes);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("maxBytes", maxBytes);
+      return toMapResult;
+    }
+
+    static @NonNull CacheMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheMessage pigeonResult = new CacheMessage();
+      Object maxBytes = map.get("maxBytes");
+      pigeonResult.setMaxBytes(
+          (maxBytes == null)
+              ? null
+              : ((maxBytes instanceof Integer) ? (Integer) maxBytes : (Long) maxBytes));
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class PrecacheMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull Long bytes;
+
+    public @NonNull Long getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bytes\" is null.");
+      }
+      this.bytes = setterArg;
+    }
+
+    private @NonNull Map<String, String> httpHeaders;
+
+    public @NonNull Map<String, String> getHttpHeaders() {
+      return httpHeaders;
+    }
+
+    public void setHttpHeaders(@NonNull Map<String, String> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"httpHeaders\" is null.");
+      }
+      this.httpHeaders = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private PrecacheMessage() {}
+
+    public static class Builder {
+      private @Nullable String uri;
+
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bytes;
+
+      public @NonNull Builder setBytes(@NonNull Long setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Map<String, String> httpHeaders;
+
+      public @NonNull Builder setHttpHeaders(@NonNull Map<String, String> setterArg) {
+        this.httpHeaders = setterArg;
+        return this;
+      }
+
+      public @NonNull PrecacheMessage build() {
+        PrecacheMessage pigeonReturn = new PrecacheMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setHttpHeaders(httpHeaders);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("uri", uri);
+      toMapResult.put("bytes", bytes);
+      toMapResult.put("httpHeaders", httpHeaders);
+      return toMapResult;
+    }
+
+    static @NonNull PrecacheMessage fromMap(@NonNull Map<String, Object> map) {
+      PrecacheMessage pigeonResult = new PrecacheMessage();
+      Object uri = map.get("uri");
+      pigeonResult.setUri((String) uri);
+      Object bytes = map.get("bytes");
+      pigeonResult.setBytes(
+          (bytes == null)
+              ? null
+              : ((bytes instanceof Integer) ? (Integer) bytes : (Long) bytes));
+      Object httpHeaders = map.get("httpHeaders");
+      pigeonResult.setHttpHeaders((Map<String, String>) httpHeaders);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static class CacheStatsMessage {
+    private @NonNull Long cachedBytesRead;
+
+    public @NonNull Long getCachedBytesRead() {
+      return cachedBytesRead;
+    }
+
+    public void setCachedBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cachedBytesRead\" is null.");
+      }
+      this.cachedBytesRead = setterArg;
+    }
+
+    private @NonNull Long networkBytesRead;
+
+    public @NonNull Long getNetworkBytesRead() {
+      return networkBytesRead;
+    }
+
+    public void setNetworkBytesRead(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"networkBytesRead\" is null.");
+      }
+      this.networkBytesRead = setterArg;
+    }
+
+    private @NonNull Long cacheSpace;
+
+    public @NonNull Long getCacheSpace() {
+      return cacheSpace;
+    }
+
+    public void setCacheSpace(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cacheSpace\" is null.");
+      }
+      this.cacheSpace = setterArg;
+    }
+
+    /** Constructor is private to enforce null safety; use Builder. */
+    private CacheStatsMessage() {}
+
+    public static class Builder {
+      private @Nullable Long cachedBytesRead;
+
+      public @NonNull Builder setCachedBytesRead(@NonNull Long setterArg) {
+        this.cachedBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Long networkBytesRead;
+
+      public @NonNull Builder setNetworkBytesRead(@NonNull Long setterArg) {
+        this.networkBytesRead = setterArg;
+        return this;
+      }
+
+      private @Nullable Long cacheSpace;
+
+      public @NonNull Builder setCacheSpace(@NonNull Long setterArg) {
+        this.cacheSpace = setterArg;
+        return this;
+      }
+
+      public @NonNull CacheStatsMessage build() {
+        CacheStatsMessage pigeonReturn = new CacheStatsMessage();
+        pigeonReturn.setCachedBytesRead(cachedBytesRead);
+        pigeonReturn.setNetworkBytesRead(networkBytesRead);
+        pigeonReturn.setCacheSpace(cacheSpace);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> toMapResult = new HashMap<>();
+      toMapResult.put("cachedBytesRead", cachedBytesRead);
+      toMapResult.put("networkBytesRead", networkBytesRead);
+      toMapResult.put("cacheSpace", cacheSpace);
+      return toMapResult;
+    }
+
+    static @NonNull CacheStatsMessage fromMap(@NonNull Map<String, Object> map) {
+      CacheStatsMessage pigeonResult = new CacheStatsMessage();
+      Object cachedBytesRead = map.get("cachedBytesRead");
+      pigeonResult.setCachedBytesRead(
+          (cachedBytesRead == null)
+              ? null
+              : ((cachedBytesRead instanceof Integer)
+                  ? (Integer) cachedBytesRead
+                  : (Long) cachedBytesRead));
+      Object networkBytesRead = map.get("networkBytesRead");
+      pigeonResult.setNetworkBytesRead(
+          (networkBytesRead == null)
+              ? null
+              : ((networkBytesRead instanceof Integer)
+                  ? (Integer) networkBytesRead
+                  : (Long) networkBytesRead));
+      Object cacheSpace = map.get("cacheSpace");
+      pigeonResult.setCacheSpace(
+          (cacheSpace == null)
+              ? null
+              : ((cacheSpace instanceof Integer) ? (Integer) cacheSpace : (Long) cacheSpace));
+      return pigeonResult;
+    }
+  }
+
   private static class AndroidVideoPlayerApiCodec extends StandardMessageCodec {
     public static final AndroidVideoPlayerApiCodec INSTANCE = new AndroidVideoPlayerApiCodec();
 
@@ -566,24 +1415,48 @@ public class Messages {
     protected Object readValueOfType(byte type, ByteBuffer buffer) {
       switch (type) {
         case (byte) 128:
-          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 129:
-          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CacheStatsMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 130:
-          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return CreateMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 131:
-          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return FrameTapMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 132:
-          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return LoopingMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 133:
-          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+          return MixWithOthersMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         case (byte) 134:
+          return PlaybackSpeedMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 135:
+          return PlayerOptionsMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 136:
+          return PlayerPoolMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 137:
+          return PositionMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 138:
+          return PositionUpdatesMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 139:
+          return PrecacheMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 140:
+          return TextureMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 141:
+          return TimeToFirstFrameMessage.fromMap((Map<String, Object>) readValue(buffer));
+
+        case (byte) 142:
           return VolumeMessage.fromMap((Map<String, Object>) readValue(buffer));
 
         default:
@@ -593,26 +1466,50 @@ public class Messages {
 
     @Override
     protected void writeValue(ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
+      if (value instanceof CacheMessage) {
         stream.write(128);
+        writeValue(stream, ((CacheMessage) value).toMap());
+      } else if (value instanceof CacheStatsMessage) {
+        stream.write(129);
+        writeValue(stream, ((CacheStatsMessage) value).toMap());
+      } else if (value instanceof CreateMessage) {
+        stream.write(130);
         writeValue(stream, ((CreateMessage) value).toMap());
+      } else if (value instanceof FrameTapMessage) {
+        stream.write(131);
+        writeValue(stream, ((FrameTapMessage) value).toMap());
       } else if (value instanceof LoopingMessage) {
-        stream.write(129);
+        stream.write(132);
         writeValue(stream, ((LoopingMessage) value).toMap());
       } else if (value instanceof MixWithOthersMessage) {
-        stream.write(130);
+        stream.write(133);
         writeValue(stream, ((MixWithOthersMessage) value).toMap());
       } else if (value instanceof PlaybackSpeedMessage) {
-        stream.write(131);
+        stream.write(134);
         writeValue(stream, ((PlaybackSpeedMessage) value).toMap());
+      } else if (value instanceof PlayerOptionsMessage) {
+        stream.write(135);
+        writeValue(stream, ((PlayerOptionsMessage) value).toMap());
+      } else if (value instanceof PlayerPoolMessage) {
+        stream.write(136);
+        writeValue(stream, ((PlayerPoolMessage) value).toMap());
       } else if (value instanceof PositionMessage) {
-        stream.write(132);
+        stream.write(137);
         writeValue(stream, ((PositionMessage) value).toMap());
+      } else if (value instanceof PositionUpdatesMessage) {
+        stream.write(138);
+        writeValue(stream, ((PositionUpdatesMessage) value).toMap());
+      } else if (value instanceof PrecacheMessage) {
+        stream.write(139);
+        writeValue(stream, ((PrecacheMessage) value).toMap());
       } else if (value instanceof TextureMessage) {
-        stream.write(133);
+        stream.write(140);
         writeValue(stream, ((TextureMessage) value).toMap());
+      } else if (value instanceof TimeToFirstFrameMessage) {
+        stream.write(141);
+        writeValue(stream, ((TimeToFirstFrameMessage) value).toMap());
       } else if (value instanceof VolumeMessage) {
-        stream.write(134);
+        stream.write(142);
         writeValue(stream, ((VolumeMessage) value).toMap());
       } else {
         super.writeValue(stream, value);
@@ -646,6 +1543,28 @@ public class Messages {
 
     void setMixWithOthers(@NonNull MixWithOthersMessage msg);
 
+    void setPlayerOptions(@NonNull PlayerOptionsMessage msg);
+
+    void startFrameTap(@NonNull FrameTapMessage msg);
+
+    void stopFrameTap(@NonNull TextureMessage msg);
+
+    void setPlayerPoolSize(@NonNull PlayerPoolMessage msg);
+
+    void preload(@NonNull CreateMessage msg);
+
+    @NonNull
+    TimeToFirstFrameMessage timeToFirstFrame(@NonNull TextureMessage msg);
+
+    void enableCache(@NonNull CacheMessage msg);
+
+    void precache(@NonNull PrecacheMessage msg);
+
+    @NonNull
+    CacheStatsMessage cacheStats();
+
+    void setPositionUpdateInterval(@NonNull PositionUpdatesMessage msg);
+
     /** The codec used by AndroidVideoPlayerApi. */
     static MessageCodec<Object> getCodec() {
       return AndroidVideoPlayerApiCodec.INSTANCE;
@@ -930,6 +1849,265 @@ public class Messages {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerOptions",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PlayerOptionsMessage msgArg = (PlayerOptionsMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPlayerOptions(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.startFrameTap",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  FrameTapMessage msgArg = (FrameTapMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.startFrameTap(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.stopFrameTap",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.stopFrameTap(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolSize",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PlayerPoolMessage msgArg = (PlayerPoolMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPlayerPoolSize(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.preload", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  CreateMessage msgArg = (CreateMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.preload(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.timeToFirstFrame",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  TextureMessage msgArg = (TextureMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  TimeToFirstFrameMessage output = api.timeToFirstFrame(msgArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.enableCache",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  CacheMessage msgArg = (CacheMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.enableCache(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.precache", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PrecacheMessage msgArg = (PrecacheMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.precache(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.AndroidVideoPlayerApi.cacheStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  CacheStatsMessage output = api.cacheStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  PositionUpdatesMessage msgArg = (PositionUpdatesMessage) args.get(0);
+                  if (msgArg == null) {
+                    throw new NullPointerException("msgArg unexpectedly null.");
+                  }
+                  api.setPositionUpdateInterval(msgArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
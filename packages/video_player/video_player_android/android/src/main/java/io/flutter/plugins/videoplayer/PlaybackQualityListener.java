@@ -0,0 +1,113 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener;
+import com.google.android.exoplayer2.decoder.DecoderReuseEvaluation;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends a {@code playbackQuality} event with the current video format and the playback quality
+ * counters whenever one of them changes.
+ *
+ * <p>The event contains the bitrate, width and height of the decoded video format (null if
+ * unknown), the number of switches between formats, the total number of dropped frames and the
+ * number of times playback stalled to rebuffer. Buffering after seeks is not counted as a rebuffer.
+ * It also contains the number of events the {@link QueuingEventSink} dropped or coalesced so far.
+ */
+final class PlaybackQualityListener implements AnalyticsListener {
+  private final QueuingEventSink eventSink;
+
+  @Nullable private Format videoFormat;
+  private int formatSwitches = 0;
+  private long droppedFrames = 0;
+  private int rebufferCount = 0;
+  private boolean hasBeenReady = false;
+  private boolean isSeeking = false;
+
+  PlaybackQualityListener(@NonNull QueuingEventSink eventSink) {
+    this.eventSink = eventSink;
+  }
+
+  @Override
+  public void onVideoInputFormatChanged(
+      @NonNull EventTime eventTime,
+      @NonNull Format format,
+      @Nullable DecoderReuseEvaluation decoderReuseEvaluation) {
+    if (videoFormat != null
+        && videoFormat.bitrate == format.bitrate
+        && videoFormat.width == format.width
+        && videoFormat.height == format.height) {
+      return;
+    }
+    if (videoFormat != null) {
+      formatSwitches++;
+    }
+    videoFormat = format;
+    sendPlaybackQuality();
+  }
+
+  @Override
+  public void onDroppedVideoFrames(@NonNull EventTime eventTime, int droppedFrames, long elapsedMs) {
+    this.droppedFrames += droppedFrames;
+    sendPlaybackQuality();
+  }
+
+  @Override
+  public void onPositionDiscontinuity(
+      @NonNull EventTime eventTime,
+      @NonNull Player.PositionInfo oldPosition,
+      @NonNull Player.PositionInfo newPosition,
+      int reason) {
+    if (reason == Player.DISCONTINUITY_REASON_SEEK) {
+      isSeeking = true;
+    }
+  }
+
+  @Override
+  public void onPlaybackStateChanged(@NonNull EventTime eventTime, int state) {
+    switch (state) {
+      case Player.STATE_READY:
+        hasBeenReady = true;
+        isSeeking = false;
+        break;
+      case Player.STATE_BUFFERING:
+        if (hasBeenReady && !isSeeking) {
+          rebufferCount++;
+          sendPlaybackQuality();
+        }
+        break;
+      case Player.STATE_IDLE:
+        hasBeenReady = false;
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void sendPlaybackQuality() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "playbackQuality");
+    event.put("bitrate", valueOrNull(videoFormat == null ? Format.NO_VALUE : videoFormat.bitrate));
+    event.put("width", valueOrNull(videoFormat == null ? Format.NO_VALUE : videoFormat.width));
+    event.put("height", valueOrNull(videoFormat == null ? Format.NO_VALUE : videoFormat.height));
+    event.put("formatSwitches", formatSwitches);
+    event.put("droppedFrames", droppedFrames);
+    event.put("rebufferCount", rebufferCount);
+    event.put("droppedEvents", eventSink.getDroppedEventCount());
+    event.put("coalescedEvents", eventSink.getCoalescedEventCount());
+    eventSink.success(event);
+  }
+
+  @Nullable
+  private static Integer valueOrNull(int value) {
+    return value == Format.NO_VALUE ? null : value;
+  }
+}
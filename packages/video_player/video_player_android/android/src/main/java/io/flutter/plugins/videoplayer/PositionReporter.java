@@ -0,0 +1,119 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.media.MediaFormat;
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.video.VideoFrameMetadataListener;
+
+/**
+ * Schedules playback position reports at a fixed rate, aligned with the frames of the video.
+ *
+ * <p>While the video renders frames, a report is scheduled for the release time of the first frame
+ * after each interval, so the reported position matches the frame on screen. Media without video
+ * frames, such as audio only streams, is reported by a timer while it is playing.
+ *
+ * <p>{@link #onVideoFrameAboutToBeRendered} is called on the playback thread. All other methods and
+ * the reports run on the thread of the supplied handler, which should be the platform thread.
+ */
+final class PositionReporter implements VideoFrameMetadataListener {
+  private static final long NANOS_PER_MILLI = 1_000_000;
+
+  private final Handler handler;
+  private final Runnable report;
+  private final Runnable deliverReport = this::deliverReport;
+  private final Runnable tick = this::tick;
+
+  private volatile long intervalNs = 0;
+  private volatile long lastReportNs;
+  private boolean isPlaying = false;
+
+  /**
+   * Creates a new reporter.
+   *
+   * @param handler the handler of the thread reports are run on.
+   * @param report sends the current position.
+   */
+  PositionReporter(@NonNull Handler handler, @NonNull Runnable report) {
+    this.handler = handler;
+    this.report = report;
+  }
+
+  /**
+   * Starts reporting the position, replacing any previous interval.
+   *
+   * @param intervalMs the minimum time between two reports in milliseconds.
+   */
+  void start(long intervalMs) {
+    if (intervalMs <= 0) {
+      throw new IllegalArgumentException("Invalid position update interval " + intervalMs);
+    }
+    intervalNs = intervalMs * NANOS_PER_MILLI;
+    lastReportNs = System.nanoTime() - intervalNs;
+    handler.removeCallbacks(tick);
+    if (isPlaying) {
+      handler.post(tick);
+    }
+  }
+
+  /** Stops reporting the position and cancels scheduled reports. */
+  void stop() {
+    intervalNs = 0;
+    handler.removeCallbacks(deliverReport);
+    handler.removeCallbacks(tick);
+  }
+
+  boolean isActive() {
+    return intervalNs != 0;
+  }
+
+  /** Starts or stops the timer that reports the position of media without video frames. */
+  void setPlaying(boolean isPlaying) {
+    this.isPlaying = isPlaying;
+    handler.removeCallbacks(tick);
+    if (isPlaying && isActive()) {
+      handler.postDelayed(tick, intervalNs / NANOS_PER_MILLI);
+    }
+  }
+
+  @Override
+  public void onVideoFrameAboutToBeRendered(
+      long presentationTimeUs,
+      long releaseTimeNs,
+      @NonNull Format format,
+      @Nullable MediaFormat mediaFormat) {
+    long interval = intervalNs;
+    if (interval == 0 || releaseTimeNs - lastReportNs < interval) {
+      return;
+    }
+    lastReportNs = releaseTimeNs;
+    long delayMs = Math.max(0, (releaseTimeNs - System.nanoTime()) / NANOS_PER_MILLI);
+    handler.postDelayed(deliverReport, delayMs);
+  }
+
+  private void deliverReport() {
+    if (isActive()) {
+      report.run();
+    }
+  }
+
+  @VisibleForTesting
+  void tick() {
+    long interval = intervalNs;
+    if (interval == 0 || !isPlaying) {
+      return;
+    }
+    long now = System.nanoTime();
+    if (now - lastReportNs >= interval) {
+      lastReportNs = now;
+      report.run();
+    }
+    handler.postDelayed(tick, interval / NANOS_PER_MILLI);
+  }
+}
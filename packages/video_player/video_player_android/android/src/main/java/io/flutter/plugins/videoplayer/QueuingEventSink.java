@@ -4,8 +4,19 @@
 
 package io.flutter.plugins.videoplayer;
 
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import io.flutter.plugin.common.EventChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * And implementation of {@link EventChannel.EventSink} which can wrap an underlying sink.
@@ -13,50 +24,154 @@ import java.util.ArrayList;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>Events may be sent from any thread and are delivered on the thread of the supplied handler,
+ * which has to be the platform thread. Events sent from that thread are delivered synchronously.
+ *
+ * <p>The queue is bounded. An event that is superseded by a newer event of the same type, such as
+ * {@code bufferingUpdate}, replaces the queued one in its place, so it is still delivered before
+ * the events that were queued after it. When the queue is full the oldest event is dropped, sparing
+ * {@code initialized} events and errors while other events are queued. Both are counted, and the
+ * counts are sent to Dart with each {@code playbackQuality} event.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
+  private static final int DEFAULT_CAPACITY = 64;
+
+  /** Events that only carry the latest state, so older queued ones can be discarded. */
+  private static final Set<String> COALESCED_EVENTS =
+      new HashSet<>(Arrays.asList("bufferingUpdate", "positionUpdate", "playbackQuality"));
+
+  private final Handler handler;
+  private final int capacity;
+  private final Runnable flush = this::flush;
+
+  private final Object lock = new Object();
+  private final List<Object> eventQueue = new ArrayList<>();
   private EventChannel.EventSink delegate;
-  private ArrayList<Object> eventQueue = new ArrayList<>();
   private boolean done = false;
+  private boolean isFlushScheduled = false;
+  private long droppedEvents = 0;
+  private long coalescedEvents = 0;
+
+  QueuingEventSink() {
+    this(new Handler(Looper.getMainLooper()), DEFAULT_CAPACITY);
+  }
+
+  @VisibleForTesting
+  QueuingEventSink(Handler handler, int capacity) {
+    this.handler = handler;
+    this.capacity = capacity;
+  }
 
   public void setDelegate(EventChannel.EventSink delegate) {
-    this.delegate = delegate;
+    synchronized (lock) {
+      this.delegate = delegate;
+    }
     maybeFlush();
   }
 
   @Override
   public void endOfStream() {
-    enqueue(new EndOfStreamEvent());
+    synchronized (lock) {
+      enqueue(new EndOfStreamEvent());
+      done = true;
+    }
     maybeFlush();
-    done = true;
   }
 
   @Override
   public void error(String code, String message, Object details) {
-    enqueue(new ErrorEvent(code, message, details));
+    synchronized (lock) {
+      enqueue(new ErrorEvent(code, message, details));
+    }
     maybeFlush();
   }
 
   @Override
   public void success(Object event) {
-    enqueue(event);
+    synchronized (lock) {
+      enqueue(event);
+    }
     maybeFlush();
   }
 
+  /** The number of events that were dropped because the queue was full. */
+  long getDroppedEventCount() {
+    synchronized (lock) {
+      return droppedEvents;
+    }
+  }
+
+  /** The number of queued events that were replaced by a newer event of the same type. */
+  long getCoalescedEventCount() {
+    synchronized (lock) {
+      return coalescedEvents;
+    }
+  }
+
   private void enqueue(Object event) {
     if (done) {
       return;
     }
+    String type = coalescedTypeOf(event);
+    if (type != null && replaceQueuedEvent(type, event)) {
+      coalescedEvents++;
+      return;
+    }
+    if (eventQueue.size() >= capacity) {
+      dropOldestEvent();
+      droppedEvents++;
+    }
     eventQueue.add(event);
   }
 
+  private boolean replaceQueuedEvent(String type, Object event) {
+    for (ListIterator<Object> iterator = eventQueue.listIterator(); iterator.hasNext(); ) {
+      if (type.equals(coalescedTypeOf(iterator.next()))) {
+        iterator.set(event);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void dropOldestEvent() {
+    for (Iterator<Object> iterator = eventQueue.iterator(); iterator.hasNext(); ) {
+      if (!isEssential(iterator.next())) {
+        iterator.remove();
+        return;
+      }
+    }
+    eventQueue.remove(0);
+  }
+
   private void maybeFlush() {
-    if (delegate == null) {
+    if (Looper.myLooper() == handler.getLooper()) {
+      flush();
       return;
     }
-    for (Object event : eventQueue) {
+    synchronized (lock) {
+      if (isFlushScheduled || delegate == null) {
+        return;
+      }
+      isFlushScheduled = true;
+    }
+    handler.post(flush);
+  }
+
+  private void flush() {
+    EventChannel.EventSink delegate;
+    List<Object> events;
+    synchronized (lock) {
+      isFlushScheduled = false;
+      delegate = this.delegate;
+      if (delegate == null || eventQueue.isEmpty()) {
+        return;
+      }
+      events = new ArrayList<>(eventQueue);
+      eventQueue.clear();
+    }
+
+    for (Object event : events) {
       if (event instanceof EndOfStreamEvent) {
         delegate.endOfStream();
       } else if (event instanceof ErrorEvent) {
@@ -66,7 +181,22 @@ final class QueuingEventSink implements EventChannel.EventSink {
         delegate.success(event);
       }
     }
-    eventQueue.clear();
+  }
+
+  @Nullable
+  private static String coalescedTypeOf(Object event) {
+    if (!(event instanceof Map)) {
+      return null;
+    }
+    Object type = ((Map<?, ?>) event).get("event");
+    return COALESCED_EVENTS.contains(type) ? (String) type : null;
+  }
+
+  private static boolean isEssential(Object event) {
+    if (event instanceof ErrorEvent || event instanceof EndOfStreamEvent) {
+      return true;
+    }
+    return event instanceof Map && "initialized".equals(((Map<?, ?>) event).get("event"));
   }
 
   private static class EndOfStreamEvent {}
@@ -0,0 +1,273 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.android.exoplayer2.database.StandaloneDatabaseProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.TransferListener;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheWriter;
+import com.google.android.exoplayer2.upstream.cache.LeastRecentlyUsedCacheEvictor;
+import com.google.android.exoplayer2.upstream.cache.SimpleCache;
+import io.flutter.Log;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An opt-in disk cache for network videos, shared by all players.
+ *
+ * <p>The cache is an LRU {@link SimpleCache} in the app's cache directory. Only one {@link
+ * SimpleCache} may use a directory per process, so the cache is shared by all plugin instances and
+ * its size can't be changed while it is in use. It is released when the last plugin instance that
+ * enabled it is released.
+ */
+final class VideoCache implements CacheDataSource.EventListener, TransferListener {
+  private static final String TAG = "VideoCache";
+  private static final String CACHE_DIRECTORY = "video_player";
+  // How long release() waits for a cancelled precache request before the cache is released.
+  private static final long PRECACHE_SHUTDOWN_TIMEOUT_MS = 1000;
+
+  @Nullable private static SimpleCache sharedCache;
+  private static long sharedCacheSize;
+  private static int sharedCacheUsers;
+
+  private final Context context;
+  private final AtomicLong cachedBytesRead = new AtomicLong();
+  private final AtomicLong networkBytesRead = new AtomicLong();
+  private final Set<CacheWriter> activeWriters =
+      Collections.newSetFromMap(new ConcurrentHashMap<CacheWriter, Boolean>());
+  @Nullable private ExecutorService precacheExecutor;
+  @Nullable private SimpleCache cache;
+
+  VideoCache(@NonNull Context context) {
+    this.context = context;
+  }
+
+  /**
+   * Creates the cache, or attaches to the cache that was already created by another plugin
+   * instance.
+   *
+   * @param maxBytes the size after which the least recently used media is evicted.
+   * @throws IllegalStateException if the cache was already created with a different size.
+   */
+  void enable(long maxBytes) {
+    if (cache != null) {
+      checkSharedCacheSize(maxBytes);
+      return;
+    }
+    cache = obtainSharedCache(context, maxBytes);
+  }
+
+  boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * Wraps the upstream factory of a network video so media is read from and written to the cache.
+   *
+   * <p>Returns {@code upstreamFactory} unchanged if the cache is not enabled.
+   */
+  @NonNull
+  DataSource.Factory wrap(@NonNull DefaultHttpDataSource.Factory upstreamFactory) {
+    if (cache == null) {
+      return upstreamFactory;
+    }
+    upstreamFactory.setTransferListener(this);
+    return new CacheDataSource.Factory()
+        .setCache(cache)
+        .setUpstreamDataSourceFactory(upstreamFactory)
+        .setFlags(CacheDataSource.FLAG_IGNORE_CACHE_ON_ERROR)
+        .setEventListener(this);
+  }
+
+  /**
+   * Downloads the first bytes of a progressive video into the cache in the background.
+   *
+   * @param uri the URI of the video.
+   * @param bytes the number of bytes to download from the start of the video.
+   * @param httpHeaders additional headers of the request.
+   * @throws IllegalStateException if the cache is not enabled.
+   */
+  void precache(@NonNull String uri, long bytes, @Nullable Map<String, String> httpHeaders) {
+    if (cache == null) {
+      throw new IllegalStateException("The video cache has to be enabled before precaching.");
+    }
+    DefaultHttpDataSource.Factory upstreamFactory =
+        new DefaultHttpDataSource.Factory()
+            .setUserAgent("ExoPlayer")
+            .setAllowCrossProtocolRedirects(true);
+    if (httpHeaders != null && !httpHeaders.isEmpty()) {
+      upstreamFactory.setDefaultRequestProperties(httpHeaders);
+    }
+    CacheDataSource dataSource =
+        new CacheDataSource.Factory()
+            .setCache(cache)
+            .setUpstreamDataSourceFactory(upstreamFactory)
+            .createDataSource();
+    DataSpec dataSpec = new DataSpec(Uri.parse(uri), 0, bytes);
+    CacheWriter writer = new CacheWriter(dataSource, dataSpec, null, null);
+
+    if (precacheExecutor == null) {
+      precacheExecutor = Executors.newSingleThreadExecutor();
+    }
+    activeWriters.add(writer);
+    precacheExecutor.execute(
+        () -> {
+          try {
+            writer.cache();
+          } catch (IOException e) {
+            Log.w(TAG, "Failed to precache " + uri, e);
+          } finally {
+            activeWriters.remove(writer);
+          }
+        });
+  }
+
+  /** The number of bytes players read from the cache. */
+  long getCachedBytesRead() {
+    return cachedBytesRead.get();
+  }
+
+  /** The number of bytes players read from the network, including bytes added to the cache. */
+  long getNetworkBytesRead() {
+    return networkBytesRead.get();
+  }
+
+  /** The number of bytes the cache currently uses on disk. */
+  long getCacheSpace() {
+    return cache == null ? 0 : cache.getCacheSpace();
+  }
+
+  /**
+   * Cancels the precache requests and detaches from the shared cache, which is released if no other
+   * plugin instance uses it.
+   *
+   * <p>The players that read from the cache have to be released first. If precache requests were
+   * made, the shared cache is detached on a background thread once they stopped, so the calling
+   * thread doesn't wait for them.
+   */
+  void release() {
+    final boolean usesCache = cache != null;
+    cache = null;
+    final ExecutorService executor = precacheExecutor;
+    precacheExecutor = null;
+    if (executor == null) {
+      if (usesCache) {
+        releaseSharedCacheIfUnused();
+      }
+      return;
+    }
+
+    executor.shutdownNow();
+    // A running CacheWriter doesn't react to interrupts while it waits for the network.
+    for (CacheWriter writer : activeWriters) {
+      writer.cancel();
+    }
+    activeWriters.clear();
+    new Thread(
+            () -> {
+              try {
+                if (!executor.awaitTermination(
+                    PRECACHE_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                  Log.w(TAG, "Precache requests are still running.");
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              if (usesCache) {
+                releaseSharedCacheIfUnused();
+              }
+            },
+            "VideoCacheRelease")
+        .start();
+  }
+
+  @Override
+  public void onCachedBytesRead(long cacheSizeBytes, long cachedBytesRead) {
+    this.cachedBytesRead.addAndGet(cachedBytesRead);
+  }
+
+  @Override
+  public void onCacheIgnored(int reason) {}
+
+  @Override
+  public void onTransferInitializing(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onTransferStart(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  @Override
+  public void onBytesTransferred(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork, int bytes) {
+    if (isNetwork) {
+      networkBytesRead.addAndGet(bytes);
+    }
+  }
+
+  @Override
+  public void onTransferEnd(
+      @NonNull DataSource source, @NonNull DataSpec dataSpec, boolean isNetwork) {}
+
+  private static synchronized SimpleCache obtainSharedCache(Context context, long maxBytes) {
+    if (sharedCache == null) {
+      File directory = new File(context.getCacheDir(), CACHE_DIRECTORY);
+      sharedCache =
+          new SimpleCache(
+              directory,
+              new LeastRecentlyUsedCacheEvictor(maxBytes),
+              new StandaloneDatabaseProvider(context));
+      sharedCacheSize = maxBytes;
+    } else {
+      checkSharedCacheSize(maxBytes);
+    }
+    sharedCacheUsers++;
+    return sharedCache;
+  }
+
+  private static synchronized void checkSharedCacheSize(long maxBytes) {
+    if (sharedCacheSize != maxBytes) {
+      throw new IllegalStateException(
+          "The video cache was already created with a size of " + sharedCacheSize + " bytes.");
+    }
+  }
+
+  private static synchronized void releaseSharedCacheIfUnused() {
+    sharedCacheUsers--;
+    if (sharedCacheUsers == 0) {
+      releaseSharedCache();
+    }
+  }
+
+  @VisibleForTesting
+  static synchronized void releaseSharedCache() {
+    if (sharedCache != null) {
+      sharedCache.release();
+      sharedCache = null;
+    }
+    sharedCacheUsers = 0;
+  }
+
+  @VisibleForTesting
+  static synchronized boolean isSharedCacheOpen() {
+    return sharedCache != null;
+  }
+}
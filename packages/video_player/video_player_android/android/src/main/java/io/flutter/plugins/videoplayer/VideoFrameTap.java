@@ -0,0 +1,184 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.graphics.ImageFormat;
+import android.media.Image;
+import android.media.ImageReader;
+import android.media.ImageWriter;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Surface;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import java.nio.ByteBuffer;
+
+/**
+ * Routes decoded video frames through an {@link ImageReader} and exports a downscaled copy of each
+ * frame to Dart.
+ *
+ * <p>The decoder renders into the surface of the image reader instead of the Flutter texture. Each
+ * frame is sampled into a pooled buffer of the {@link LatestFrameSender} and then forwarded to the
+ * Flutter texture by an {@link ImageWriter}, which hands over the decoded buffer without copying
+ * it. Only the downscaled copy is made on the CPU, so playback does not wait for Dart.
+ *
+ * <p>Frames are sent as a 24 byte little endian header followed by the I420 planes of the frame:
+ *
+ * <ul>
+ *   <li>width, height and row stride of the luma plane as 32 bit integers.
+ *   <li>the number of frames dropped since the previous frame as a 32 bit integer.
+ *   <li>the presentation timestamp in nanoseconds as a 64 bit integer.
+ * </ul>
+ *
+ * <p>The chroma planes use half the width, height and row stride of the luma plane, rounded up.
+ */
+@RequiresApi(Build.VERSION_CODES.M)
+final class VideoFrameTap implements ImageReader.OnImageAvailableListener {
+  private static final int MAX_IMAGES = 3;
+  @VisibleForTesting static final int HEADER_SIZE = 24;
+
+  private final int width;
+  private final int height;
+  private final int rowStride;
+  private final LatestFrameSender frameSender;
+
+  private final HandlerThread thread;
+  private final Handler handler;
+  private final ImageReader imageReader;
+  private final ImageWriter imageWriter;
+
+  /**
+   * Creates a new frame tap.
+   *
+   * @param displaySurface the surface of the Flutter texture that frames are forwarded to.
+   * @param sourceWidth the width of the decoded video.
+   * @param sourceHeight the height of the decoded video.
+   * @param width the width of the exported frames.
+   * @param height the height of the exported frames.
+   * @param rowStride the row stride of the exported luma plane, at least {@code width}.
+   * @param frameSender the sender that delivers the exported frames to Dart.
+   */
+  VideoFrameTap(
+      @NonNull Surface displaySurface,
+      int sourceWidth,
+      int sourceHeight,
+      int width,
+      int height,
+      int rowStride,
+      @NonNull LatestFrameSender frameSender) {
+    if (width <= 0 || height <= 0 || rowStride < width) {
+      throw new IllegalArgumentException(
+          "Invalid frame size " + width + "x" + height + " with row stride " + rowStride);
+    }
+    this.width = width;
+    this.height = height;
+    this.rowStride = rowStride;
+    this.frameSender = frameSender;
+
+    thread = new HandlerThread("VideoPlayerFrameTap");
+    thread.start();
+    handler = new Handler(thread.getLooper());
+    imageReader =
+        ImageReader.newInstance(sourceWidth, sourceHeight, ImageFormat.YUV_420_888, MAX_IMAGES);
+    imageReader.setOnImageAvailableListener(this, handler);
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+      imageWriter = ImageWriter.newInstance(displaySurface, MAX_IMAGES, ImageFormat.YUV_420_888);
+    } else {
+      imageWriter = ImageWriter.newInstance(displaySurface, MAX_IMAGES);
+    }
+  }
+
+  /** The surface the video has to be rendered into. */
+  @NonNull
+  Surface getSurface() {
+    return imageReader.getSurface();
+  }
+
+  @Override
+  public void onImageAvailable(ImageReader reader) {
+    Image image = reader.acquireNextImage();
+    if (image == null) {
+      return;
+    }
+
+    ByteBuffer frame = frameSender.obtainBuffer(getFrameSize(width, height, rowStride));
+    frame.putInt(0, width);
+    frame.putInt(4, height);
+    frame.putInt(8, rowStride);
+    frame.putLong(16, image.getTimestamp());
+
+    int chromaWidth = (width + 1) / 2;
+    int chromaHeight = (height + 1) / 2;
+    int chromaRowStride = (rowStride + 1) / 2;
+    int offset = HEADER_SIZE;
+    Image.Plane[] planes = image.getPlanes();
+    for (int i = 0; i < planes.length; i++) {
+      boolean isLuma = i == 0;
+      int planeWidth = isLuma ? image.getWidth() : (image.getWidth() + 1) / 2;
+      int planeHeight = isLuma ? image.getHeight() : (image.getHeight() + 1) / 2;
+      scalePlane(
+          planes[i].getBuffer(),
+          planeWidth,
+          planeHeight,
+          planes[i].getRowStride(),
+          planes[i].getPixelStride(),
+          frame,
+          offset,
+          isLuma ? width : chromaWidth,
+          isLuma ? height : chromaHeight,
+          isLuma ? rowStride : chromaRowStride);
+      offset += isLuma ? rowStride * height : chromaRowStride * chromaHeight;
+    }
+    frame.position(offset);
+    frameSender.submit();
+
+    // Hands the decoded buffer over to the Flutter texture and closes the image.
+    imageWriter.queueInputImage(image);
+  }
+
+  /** Stops exporting frames and releases the image reader and writer. */
+  void release() {
+    frameSender.close();
+    imageReader.setOnImageAvailableListener(null, null);
+    // Closing on the tap thread makes sure no frame is being processed at the same time.
+    handler.post(
+        () -> {
+          imageReader.close();
+          imageWriter.close();
+        });
+    thread.quitSafely();
+  }
+
+  @VisibleForTesting
+  static int getFrameSize(int width, int height, int rowStride) {
+    int chromaPlaneSize = ((rowStride + 1) / 2) * ((height + 1) / 2);
+    return HEADER_SIZE + rowStride * height + 2 * chromaPlaneSize;
+  }
+
+  /** Copies a plane into {@code destination} using nearest neighbour sampling. */
+  @VisibleForTesting
+  static void scalePlane(
+      @NonNull ByteBuffer source,
+      int sourceWidth,
+      int sourceHeight,
+      int sourceRowStride,
+      int sourcePixelStride,
+      @NonNull ByteBuffer destination,
+      int destinationOffset,
+      int destinationWidth,
+      int destinationHeight,
+      int destinationRowStride) {
+    for (int y = 0; y < destinationHeight; y++) {
+      int sourceRow = (int) ((long) y * sourceHeight / destinationHeight) * sourceRowStride;
+      int destinationRow = destinationOffset + y * destinationRowStride;
+      for (int x = 0; x < destinationWidth; x++) {
+        int sourceColumn = (int) ((long) x * sourceWidth / destinationWidth) * sourcePixelStride;
+        destination.put(destinationRow + x, source.get(sourceRow + sourceColumn));
+      }
+    }
+  }
+}
@@ -7,31 +7,22 @@ package io.flutter.plugins.videoplayer;
 import static com.google.android.exoplayer2.Player.REPEAT_MODE_ALL;
 import static com.google.android.exoplayer2.Player.REPEAT_MODE_OFF;
 
-import android.content.Context;
-import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.view.Surface;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import com.google.android.exoplayer2.C;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
-import com.google.android.exoplayer2.MediaItem;
 import com.google.android.exoplayer2.PlaybackException;
 import com.google.android.exoplayer2.PlaybackParameters;
 import com.google.android.exoplayer2.Player;
 import com.google.android.exoplayer2.Player.Listener;
 import com.google.android.exoplayer2.audio.AudioAttributes;
-import com.google.android.exoplayer2.source.MediaSource;
-import com.google.android.exoplayer2.source.ProgressiveMediaSource;
-import com.google.android.exoplayer2.source.dash.DashMediaSource;
-import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
-import com.google.android.exoplayer2.source.hls.HlsMediaSource;
-import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
-import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
-import com.google.android.exoplayer2.upstream.DataSource;
-import com.google.android.exoplayer2.upstream.DefaultDataSource;
-import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
-import com.google.android.exoplayer2.util.Util;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
 import java.util.Arrays;
@@ -41,11 +32,6 @@ import java.util.List;
 import java.util.Map;
 
 final class VideoPlayer {
-  private static final String FORMAT_SS = "ss";
-  private static final String FORMAT_DASH = "dash";
-  private static final String FORMAT_HLS = "hls";
-  private static final String FORMAT_OTHER = "other";
-
   private ExoPlayer exoPlayer;
 
   private Surface surface;
@@ -60,8 +46,22 @@ final class VideoPlayer {
 
   private final VideoPlayerOptions options;
 
+  private VideoFrameTap frameTap;
+
+  @Nullable private final ExoPlayerPool playerPool;
+
+  private Listener listener;
+
+  private PlaybackQualityListener qualityListener;
+
+  private final long createdAtMs = SystemClock.elapsedRealtime();
+
+  @Nullable private Long timeToFirstFrameMs;
+
+  private PositionReporter positionReporter;
+
   VideoPlayer(
-      Context context,
+      ExoPlayerPool playerPool,
       EventChannel eventChannel,
       TextureRegistry.SurfaceTextureEntry textureEntry,
       String dataSource,
@@ -71,31 +71,13 @@ final class VideoPlayer {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = playerPool;
 
-    ExoPlayer exoPlayer = new ExoPlayer.Builder(context).build();
-
-    Uri uri = Uri.parse(dataSource);
-    DataSource.Factory dataSourceFactory;
-
-    if (isHTTP(uri)) {
-      DefaultHttpDataSource.Factory httpDataSourceFactory =
-          new DefaultHttpDataSource.Factory()
-              .setUserAgent("ExoPlayer")
-              .setAllowCrossProtocolRedirects(true);
-
-      if (httpHeaders != null && !httpHeaders.isEmpty()) {
-        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
-      }
-      dataSourceFactory = httpDataSourceFactory;
-    } else {
-      dataSourceFactory = new DefaultDataSource.Factory(context);
+    ExoPlayer exoPlayer = playerPool.takePreloaded(dataSource, formatHint, httpHeaders);
+    if (exoPlayer == null) {
+      exoPlayer = playerPool.prepare(dataSource, formatHint, httpHeaders);
     }
 
-    MediaSource mediaSource = buildMediaSource(uri, dataSourceFactory, formatHint, context);
-
-    exoPlayer.setMediaSource(mediaSource);
-    exoPlayer.prepare();
-
     setUpVideoPlayer(exoPlayer, new QueuingEventSink());
   }
 
@@ -110,69 +92,16 @@ final class VideoPlayer {
     this.eventChannel = eventChannel;
     this.textureEntry = textureEntry;
     this.options = options;
+    this.playerPool = null;
 
     setUpVideoPlayer(exoPlayer, eventSink);
   }
 
-  private static boolean isHTTP(Uri uri) {
-    if (uri == null || uri.getScheme() == null) {
-      return false;
-    }
-    String scheme = uri.getScheme();
-    return scheme.equals("http") || scheme.equals("https");
-  }
-
-  private MediaSource buildMediaSource(
-      Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint, Context context) {
-    int type;
-    if (formatHint == null) {
-      type = Util.inferContentType(uri);
-    } else {
-      switch (formatHint) {
-        case FORMAT_SS:
-          type = C.CONTENT_TYPE_SS;
-          break;
-        case FORMAT_DASH:
-          type = C.CONTENT_TYPE_DASH;
-          break;
-        case FORMAT_HLS:
-          type = C.CONTENT_TYPE_HLS;
-          break;
-        case FORMAT_OTHER:
-          type = C.CONTENT_TYPE_OTHER;
-          break;
-        default:
-          type = -1;
-          break;
-      }
-    }
-    switch (type) {
-      case C.CONTENT_TYPE_SS:
-        return new SsMediaSource.Factory(
-                new DefaultSsChunkSource.Factory(mediaDataSourceFactory),
-                new DefaultDataSource.Factory(context, mediaDataSourceFactory))
-            .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_DASH:
-        return new DashMediaSource.Factory(
-                new DefaultDashChunkSource.Factory(mediaDataSourceFactory),
-                new DefaultDataSource.Factory(context, mediaDataSourceFactory))
-            .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_HLS:
-        return new HlsMediaSource.Factory(mediaDataSourceFactory)
-            .createMediaSource(MediaItem.fromUri(uri));
-      case C.CONTENT_TYPE_OTHER:
-        return new ProgressiveMediaSource.Factory(mediaDataSourceFactory)
-            .createMediaSource(MediaItem.fromUri(uri));
-      default:
-        {
-          throw new IllegalStateException("Unsupported type: " + type);
-        }
-    }
-  }
-
   private void setUpVideoPlayer(ExoPlayer exoPlayer, QueuingEventSink eventSink) {
     this.exoPlayer = exoPlayer;
     this.eventSink = eventSink;
+    this.positionReporter =
+        new PositionReporter(new Handler(Looper.getMainLooper()), this::sendPositionUpdate);
 
     eventChannel.setStreamHandler(
         new EventChannel.StreamHandler() {
@@ -191,7 +120,7 @@ final class VideoPlayer {
     exoPlayer.setVideoSurface(surface);
     setAudioAttributes(exoPlayer, options.mixWithOthers);
 
-    exoPlayer.addListener(
+    listener =
         new Listener() {
           private boolean isBuffering = false;
 
@@ -232,16 +161,66 @@ final class VideoPlayer {
               eventSink.error("VideoError", "Video player had error " + error, null);
             }
           }
-        });
+
+          @Override
+          public void onIsPlayingChanged(boolean isPlaying) {
+            positionReporter.setPlaying(isPlaying);
+            if (positionReporter.isActive()) {
+              sendPositionUpdate();
+            }
+          }
+
+          @Override
+          public void onPositionDiscontinuity(
+              @NonNull Player.PositionInfo oldPosition,
+              @NonNull Player.PositionInfo newPosition,
+              int reason) {
+            if (positionReporter.isActive()) {
+              sendPositionUpdate();
+            }
+          }
+
+          @Override
+          public void onRenderedFirstFrame() {
+            if (timeToFirstFrameMs == null) {
+              timeToFirstFrameMs = SystemClock.elapsedRealtime() - createdAtMs;
+            }
+          }
+        };
+    exoPlayer.addListener(listener);
+    qualityListener = new PlaybackQualityListener(eventSink);
+    exoPlayer.addAnalyticsListener(qualityListener);
+
+    // A preloaded player may already be ready or have failed, in which case no state change or
+    // error is reported.
+    if (exoPlayer.getPlayerError() != null) {
+      eventSink.error("VideoError", "Video player had error " + exoPlayer.getPlayerError(), null);
+    } else if (exoPlayer.getPlaybackState() == Player.STATE_READY) {
+      isInitialized = true;
+      sendInitialized();
+    }
   }
 
   void sendBufferingUpdate() {
     Map<String, Object> event = new HashMap<>();
     event.put("event", "bufferingUpdate");
+    event.put("values", getBufferedRanges());
+    eventSink.success(event);
+  }
+
+  @VisibleForTesting
+  void sendPositionUpdate() {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", "positionUpdate");
+    event.put("position", exoPlayer.getCurrentPosition());
+    event.put("values", getBufferedRanges());
+    eventSink.success(event);
+  }
+
+  private List<List<? extends Number>> getBufferedRanges() {
     List<? extends Number> range = Arrays.asList(0, exoPlayer.getBufferedPosition());
     // iOS supports a list of buffered ranges, so here is a list with a single range.
-    event.put("values", Collections.singletonList(range));
-    eventSink.success(event);
+    return Collections.singletonList(range);
   }
 
   private static void setAudioAttributes(ExoPlayer exoPlayer, boolean isMixMode) {
@@ -283,6 +262,77 @@ final class VideoPlayer {
     return exoPlayer.getCurrentPosition();
   }
 
+  /**
+   * Starts or stops pushing the playback position and buffered ranges to Dart.
+   *
+   * <p>While the video plays, updates are sent at most once per interval, when a frame is displayed.
+   * Seeks, pauses and resumes are sent immediately.
+   *
+   * @param intervalMs the minimum time between two updates in milliseconds, or 0 to stop.
+   */
+  void setPositionUpdateInterval(long intervalMs) {
+    if (intervalMs <= 0) {
+      positionReporter.stop();
+      exoPlayer.clearVideoFrameMetadataListener(positionReporter);
+      return;
+    }
+    positionReporter.start(intervalMs);
+    exoPlayer.setVideoFrameMetadataListener(positionReporter);
+    positionReporter.setPlaying(exoPlayer.isPlaying());
+    sendPositionUpdate();
+  }
+
+  /** Whether buffered ranges are already sent along with position updates. */
+  boolean isReportingPosition() {
+    return positionReporter.isActive();
+  }
+
+  /**
+   * The time between the creation of this player and the first frame being rendered.
+   *
+   * @return the time in milliseconds, or null if no frame was rendered yet.
+   */
+  @Nullable
+  Long getTimeToFirstFrame() {
+    return timeToFirstFrameMs;
+  }
+
+  /**
+   * Starts exporting downscaled copies of the decoded frames to Dart.
+   *
+   * <p>The video keeps being rendered into the Flutter texture. Any previous frame tap is replaced.
+   *
+   * @param frameSender the sender that delivers the frames to Dart.
+   * @param width the width of the exported frames.
+   * @param height the height of the exported frames.
+   * @param rowStride the row stride of the exported luma plane.
+   */
+  void startFrameTap(@NonNull LatestFrameSender frameSender, int width, int height, int rowStride) {
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      throw new UnsupportedOperationException("Frame taps require Android 6.0 or newer.");
+    }
+    Format videoFormat = exoPlayer.getVideoFormat();
+    if (!isInitialized || videoFormat == null) {
+      throw new IllegalStateException("Frame taps require an initialized video.");
+    }
+
+    stopFrameTap();
+    frameTap =
+        new VideoFrameTap(
+            surface, videoFormat.width, videoFormat.height, width, height, rowStride, frameSender);
+    exoPlayer.setVideoSurface(frameTap.getSurface());
+  }
+
+  /** Stops exporting frames and renders the video directly into the Flutter texture again. */
+  void stopFrameTap() {
+    if (frameTap == null || Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+      return;
+    }
+    exoPlayer.setVideoSurface(surface);
+    frameTap.release();
+    frameTap = null;
+  }
+
   @SuppressWarnings("SuspiciousNameCombination")
   @VisibleForTesting
   void sendInitialized() {
@@ -321,13 +371,21 @@ final class VideoPlayer {
     if (isInitialized) {
       exoPlayer.stop();
     }
+    stopFrameTap();
+    setPositionUpdateInterval(0);
     textureEntry.release();
     eventChannel.setStreamHandler(null);
+    if (exoPlayer != null) {
+      exoPlayer.removeListener(listener);
+      exoPlayer.removeAnalyticsListener(qualityListener);
+      if (playerPool != null) {
+        playerPool.recycle(exoPlayer);
+      } else {
+        exoPlayer.release();
+      }
+    }
     if (surface != null) {
       surface.release();
     }
-    if (exoPlayer != null) {
-      exoPlayer.release();
-    }
   }
 }
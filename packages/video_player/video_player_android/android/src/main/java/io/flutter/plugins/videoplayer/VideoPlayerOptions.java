@@ -4,6 +4,24 @@
 
 package io.flutter.plugins.videoplayer;
 
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.DefaultLoadControl;
+
 class VideoPlayerOptions {
   public boolean mixWithOthers;
+
+  public int minBufferMs = DefaultLoadControl.DEFAULT_MIN_BUFFER_MS;
+  public int maxBufferMs = DefaultLoadControl.DEFAULT_MAX_BUFFER_MS;
+  public int bufferForPlaybackMs = DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_MS;
+  public int bufferForPlaybackAfterRebufferMs =
+      DefaultLoadControl.DEFAULT_BUFFER_FOR_PLAYBACK_AFTER_REBUFFER_MS;
+
+  public int maxVideoWidth = Integer.MAX_VALUE;
+  public int maxVideoHeight = Integer.MAX_VALUE;
+  public int maxVideoBitrate = Integer.MAX_VALUE;
+
+  public boolean preferHardwareCodecs;
+
+  /** The bandwidth in bits per second assumed before the first measurement. */
+  @Nullable public Long initialBitrateEstimate;
 }
@@ -6,6 +6,8 @@ package io.flutter.plugins.videoplayer;
 
 import android.content.Context;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.LongSparseArray;
 import io.flutter.FlutterInjector;
 import io.flutter.Log;
@@ -13,12 +15,20 @@ import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugins.videoplayer.Messages.AndroidVideoPlayerApi;
+import io.flutter.plugins.videoplayer.Messages.CacheMessage;
+import io.flutter.plugins.videoplayer.Messages.CacheStatsMessage;
 import io.flutter.plugins.videoplayer.Messages.CreateMessage;
+import io.flutter.plugins.videoplayer.Messages.FrameTapMessage;
 import io.flutter.plugins.videoplayer.Messages.LoopingMessage;
 import io.flutter.plugins.videoplayer.Messages.MixWithOthersMessage;
 import io.flutter.plugins.videoplayer.Messages.PlaybackSpeedMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerOptionsMessage;
+import io.flutter.plugins.videoplayer.Messages.PlayerPoolMessage;
 import io.flutter.plugins.videoplayer.Messages.PositionMessage;
+import io.flutter.plugins.videoplayer.Messages.PositionUpdatesMessage;
+import io.flutter.plugins.videoplayer.Messages.PrecacheMessage;
 import io.flutter.plugins.videoplayer.Messages.TextureMessage;
+import io.flutter.plugins.videoplayer.Messages.TimeToFirstFrameMessage;
 import io.flutter.plugins.videoplayer.Messages.VolumeMessage;
 import io.flutter.view.TextureRegistry;
 import java.security.KeyManagementException;
@@ -32,6 +42,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
   private final LongSparseArray<VideoPlayer> videoPlayers = new LongSparseArray<>();
   private FlutterState flutterState;
   private VideoPlayerOptions options = new VideoPlayerOptions();
+  private ExoPlayerFactory playerFactory;
+  private ExoPlayerPool playerPool;
+  private VideoCache videoCache;
 
   /** Register this with the v2 embedding for the plugin to respond to lifecycle callbacks. */
   public VideoPlayerPlugin() {}
@@ -45,6 +58,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             registrar::lookupKeyForAsset,
             registrar::lookupKeyForAsset,
             registrar.textures());
+    videoCache = new VideoCache(registrar.context());
+    playerFactory = new ExoPlayerFactory(registrar.context(), options);
+    playerPool =
+        new ExoPlayerPool(playerFactory, new VideoSourceFactory(registrar.context(), videoCache));
     flutterState.startListening(this, registrar.messenger());
   }
 
@@ -82,6 +99,10 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             injector.flutterLoader()::getLookupKeyForAsset,
             injector.flutterLoader()::getLookupKeyForAsset,
             binding.getTextureRegistry());
+    Context context = binding.getApplicationContext();
+    videoCache = new VideoCache(context);
+    playerFactory = new ExoPlayerFactory(context, options);
+    playerPool = new ExoPlayerPool(playerFactory, new VideoSourceFactory(context, videoCache));
     flutterState.startListening(this, binding.getBinaryMessenger());
   }
 
@@ -100,6 +121,12 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
       videoPlayers.valueAt(i).dispose();
     }
     videoPlayers.clear();
+    if (playerPool != null) {
+      playerPool.clear();
+    }
+    if (videoCache != null) {
+      videoCache.release();
+    }
   }
 
   private void onDestroy() {
@@ -122,7 +149,22 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
         new EventChannel(
             flutterState.binaryMessenger, "flutter.io/videoPlayer/videoEvents" + handle.id());
 
-    VideoPlayer player;
+    VideoPlayer player =
+        new VideoPlayer(
+            playerPool,
+            eventChannel,
+            handle,
+            dataSourceFor(arg),
+            formatHintFor(arg),
+            httpHeadersFor(arg),
+            options);
+    videoPlayers.put(handle.id(), player);
+
+    TextureMessage result = new TextureMessage.Builder().setTextureId(handle.id()).build();
+    return result;
+  }
+
+  private String dataSourceFor(CreateMessage arg) {
     if (arg.getAsset() != null) {
       String assetLookupKey;
       if (arg.getPackageName() != null) {
@@ -131,32 +173,22 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
       } else {
         assetLookupKey = flutterState.keyForAsset.get(arg.getAsset());
       }
-      player =
-          new VideoPlayer(
-              flutterState.applicationContext,
-              eventChannel,
-              handle,
-              "asset:///" + assetLookupKey,
-              null,
-              null,
-              options);
-    } else {
-      @SuppressWarnings("unchecked")
-      Map<String, String> httpHeaders = arg.getHttpHeaders();
-      player =
-          new VideoPlayer(
-              flutterState.applicationContext,
-              eventChannel,
-              handle,
-              arg.getUri(),
-              arg.getFormatHint(),
-              httpHeaders,
-              options);
+      return "asset:///" + assetLookupKey;
     }
-    videoPlayers.put(handle.id(), player);
+    return arg.getUri();
+  }
 
-    TextureMessage result = new TextureMessage.Builder().setTextureId(handle.id()).build();
-    return result;
+  private static String formatHintFor(CreateMessage arg) {
+    return arg.getAsset() != null ? null : arg.getFormatHint();
+  }
+
+  private static Map<String, String> httpHeadersFor(CreateMessage arg) {
+    if (arg.getAsset() != null) {
+      return null;
+    }
+    @SuppressWarnings("unchecked")
+    Map<String, String> httpHeaders = arg.getHttpHeaders();
+    return httpHeaders;
   }
 
   public void dispose(TextureMessage arg) {
@@ -192,7 +224,9 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
             .setPosition(player.getPosition())
             .setTextureId(arg.getTextureId())
             .build();
-    player.sendBufferingUpdate();
+    if (!player.isReportingPosition()) {
+      player.sendBufferingUpdate();
+    }
     return result;
   }
 
@@ -211,6 +245,106 @@ public class VideoPlayerPlugin implements FlutterPlugin, AndroidVideoPlayerApi {
     options.mixWithOthers = arg.getMixWithOthers();
   }
 
+  @Override
+  public void setPlayerOptions(PlayerOptionsMessage arg) {
+    VideoPlayerOptions playerOptions = new VideoPlayerOptions();
+    playerOptions.mixWithOthers = options.mixWithOthers;
+    if (arg.getMinBufferMs() != null) {
+      playerOptions.minBufferMs = arg.getMinBufferMs().intValue();
+    }
+    if (arg.getMaxBufferMs() != null) {
+      playerOptions.maxBufferMs = arg.getMaxBufferMs().intValue();
+    }
+    if (arg.getBufferForPlaybackMs() != null) {
+      playerOptions.bufferForPlaybackMs = arg.getBufferForPlaybackMs().intValue();
+    }
+    if (arg.getBufferForPlaybackAfterRebufferMs() != null) {
+      playerOptions.bufferForPlaybackAfterRebufferMs =
+          arg.getBufferForPlaybackAfterRebufferMs().intValue();
+    }
+    if (arg.getMaxVideoWidth() != null) {
+      playerOptions.maxVideoWidth = arg.getMaxVideoWidth().intValue();
+    }
+    if (arg.getMaxVideoHeight() != null) {
+      playerOptions.maxVideoHeight = arg.getMaxVideoHeight().intValue();
+    }
+    if (arg.getMaxVideoBitrate() != null) {
+      playerOptions.maxVideoBitrate = arg.getMaxVideoBitrate().intValue();
+    }
+    playerOptions.preferHardwareCodecs = arg.getPreferHardwareCodecs();
+    playerOptions.initialBitrateEstimate = arg.getInitialBitrateEstimate();
+
+    playerFactory.setOptions(playerOptions);
+    options = playerOptions;
+    // Pooled players were configured with the previous options.
+    playerPool.clear();
+  }
+
+  @Override
+  public void startFrameTap(FrameTapMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    LatestFrameSender frameSender =
+        new LatestFrameSender(
+            flutterState.binaryMessenger,
+            "flutter.io/videoPlayer/videoFrames" + arg.getTextureId(),
+            new Handler(Looper.getMainLooper()));
+    player.startFrameTap(
+        frameSender,
+        arg.getWidth().intValue(),
+        arg.getHeight().intValue(),
+        arg.getRowStride().intValue());
+  }
+
+  @Override
+  public void stopFrameTap(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.stopFrameTap();
+  }
+
+  @Override
+  public void setPlayerPoolSize(PlayerPoolMessage arg) {
+    playerPool.setMaxSize(arg.getMaxSize().intValue());
+  }
+
+  @Override
+  public void preload(CreateMessage arg) {
+    playerPool.preload(dataSourceFor(arg), formatHintFor(arg), httpHeadersFor(arg));
+  }
+
+  @Override
+  public TimeToFirstFrameMessage timeToFirstFrame(TextureMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    return new TimeToFirstFrameMessage.Builder()
+        .setTextureId(arg.getTextureId())
+        .setTimeToFirstFrame(player.getTimeToFirstFrame())
+        .build();
+  }
+
+  @Override
+  public void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    VideoPlayer player = videoPlayers.get(arg.getTextureId());
+    player.setPositionUpdateInterval(arg.getInterval());
+  }
+
+  @Override
+  public void enableCache(CacheMessage arg) {
+    videoCache.enable(arg.getMaxBytes());
+  }
+
+  @Override
+  public void precache(PrecacheMessage arg) {
+    videoCache.precache(arg.getUri(), arg.getBytes(), arg.getHttpHeaders());
+  }
+
+  @Override
+  public CacheStatsMessage cacheStats() {
+    return new CacheStatsMessage.Builder()
+        .setCachedBytesRead(videoCache.getCachedBytesRead())
+        .setNetworkBytesRead(videoCache.getNetworkBytesRead())
+        .setCacheSpace(videoCache.getCacheSpace())
+        .build();
+  }
+
   private interface KeyForAssetFn {
     String get(String asset);
   }
@@ -0,0 +1,126 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import android.content.Context;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import com.google.android.exoplayer2.C;
+import com.google.android.exoplayer2.MediaItem;
+import com.google.android.exoplayer2.source.MediaSource;
+import com.google.android.exoplayer2.source.ProgressiveMediaSource;
+import com.google.android.exoplayer2.source.dash.DashMediaSource;
+import com.google.android.exoplayer2.source.dash.DefaultDashChunkSource;
+import com.google.android.exoplayer2.source.hls.HlsMediaSource;
+import com.google.android.exoplayer2.source.smoothstreaming.DefaultSsChunkSource;
+import com.google.android.exoplayer2.source.smoothstreaming.SsMediaSource;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DefaultDataSource;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.util.Util;
+import java.util.Map;
+
+/** Builds the {@link MediaSource} of a video from its data source and format hint. */
+final class VideoSourceFactory {
+  private static final String FORMAT_SS = "ss";
+  private static final String FORMAT_DASH = "dash";
+  private static final String FORMAT_HLS = "hls";
+  private static final String FORMAT_OTHER = "other";
+
+  private final Context context;
+  @Nullable private final VideoCache videoCache;
+
+  /**
+   * Creates a factory whose network videos are read through {@code videoCache} once the cache is
+   * enabled.
+   */
+  VideoSourceFactory(@NonNull Context context, @Nullable VideoCache videoCache) {
+    this.context = context;
+    this.videoCache = videoCache;
+  }
+
+  @NonNull
+  MediaSource create(
+      @NonNull String dataSource,
+      @Nullable String formatHint,
+      @Nullable Map<String, String> httpHeaders) {
+    Uri uri = Uri.parse(dataSource);
+    DataSource.Factory dataSourceFactory;
+
+    if (isHTTP(uri)) {
+      DefaultHttpDataSource.Factory httpDataSourceFactory =
+          new DefaultHttpDataSource.Factory()
+              .setUserAgent("ExoPlayer")
+              .setAllowCrossProtocolRedirects(true);
+
+      if (httpHeaders != null && !httpHeaders.isEmpty()) {
+        httpDataSourceFactory.setDefaultRequestProperties(httpHeaders);
+      }
+      dataSourceFactory =
+          videoCache == null ? httpDataSourceFactory : videoCache.wrap(httpDataSourceFactory);
+    } else {
+      dataSourceFactory = new DefaultDataSource.Factory(context);
+    }
+
+    return buildMediaSource(uri, dataSourceFactory, formatHint, context);
+  }
+
+  private static boolean isHTTP(Uri uri) {
+    if (uri == null || uri.getScheme() == null) {
+      return false;
+    }
+    String scheme = uri.getScheme();
+    return scheme.equals("http") || scheme.equals("https");
+  }
+
+  private static MediaSource buildMediaSource(
+      Uri uri, DataSource.Factory mediaDataSourceFactory, String formatHint, Context context) {
+    int type;
+    if (formatHint == null) {
+      type = Util.inferContentType(uri);
+    } else {
+      switch (formatHint) {
+        case FORMAT_SS:
+          type = C.CONTENT_TYPE_SS;
+          break;
+        case FORMAT_DASH:
+          type = C.CONTENT_TYPE_DASH;
+          break;
+        case FORMAT_HLS:
+          type = C.CONTENT_TYPE_HLS;
+          break;
+        case FORMAT_OTHER:
+          type = C.CONTENT_TYPE_OTHER;
+          break;
+        default:
+          type = -1;
+          break;
+      }
+    }
+    switch (type) {
+      case C.CONTENT_TYPE_SS:
+        return new SsMediaSource.Factory(
+                new DefaultSsChunkSource.Factory(mediaDataSourceFactory),
+                new DefaultDataSource.Factory(context, mediaDataSourceFactory))
+            .createMediaSource(MediaItem.fromUri(uri));
+      case C.CONTENT_TYPE_DASH:
+        return new DashMediaSource.Factory(
+                new DefaultDashChunkSource.Factory(mediaDataSourceFactory),
+                new DefaultDataSource.Factory(context, mediaDataSourceFactory))
+            .createMediaSource(MediaItem.fromUri(uri));
+      case C.CONTENT_TYPE_HLS:
+        return new HlsMediaSource.Factory(mediaDataSourceFactory)
+            .createMediaSource(MediaItem.fromUri(uri));
+      case C.CONTENT_TYPE_OTHER:
+        return new ProgressiveMediaSource.Factory(mediaDataSourceFactory)
+            .createMediaSource(MediaItem.fromUri(uri));
+      default:
+        {
+          throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+  }
+}
@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import android.content.Context;
+import com.google.android.exoplayer2.mediacodec.MediaCodecInfo;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class ExoPlayerFactoryTest {
+  @Test
+  public void setOptions_rejectsInconsistentBufferDurations() {
+    ExoPlayerFactory factory = new ExoPlayerFactory(mock(Context.class), new VideoPlayerOptions());
+    VideoPlayerOptions options = new VideoPlayerOptions();
+    options.minBufferMs = 10000;
+    options.maxBufferMs = 5000;
+
+    assertThrows(IllegalArgumentException.class, () -> factory.setOptions(options));
+  }
+
+  @Test
+  public void sortHardwareFirst_keepsOrderWithinGroups() {
+    MediaCodecInfo software1 = codecInfo("software1", false);
+    MediaCodecInfo hardware1 = codecInfo("hardware1", true);
+    MediaCodecInfo software2 = codecInfo("software2", false);
+    MediaCodecInfo hardware2 = codecInfo("hardware2", true);
+
+    List<MediaCodecInfo> sorted =
+        ExoPlayerFactory.sortHardwareFirst(
+            Arrays.asList(software1, hardware1, software2, hardware2));
+
+    assertEquals(Arrays.asList(hardware1, hardware2, software1, software2), sorted);
+  }
+
+  private static MediaCodecInfo codecInfo(String name, boolean hardwareAccelerated) {
+    return MediaCodecInfo.newInstance(
+        name,
+        "video/avc",
+        "video/avc",
+        null,
+        hardwareAccelerated,
+        !hardwareAccelerated,
+        false,
+        false,
+        false);
+  }
+}
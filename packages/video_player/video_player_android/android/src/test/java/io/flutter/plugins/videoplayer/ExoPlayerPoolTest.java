@@ -0,0 +1,177 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.ExoPlaybackException;
+import com.google.android.exoplayer2.ExoPlayer;
+import com.google.android.exoplayer2.source.MediaSource;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExoPlayerPoolTest {
+  private VideoSourceFactory mockVideoSourceFactory;
+  private ExoPlayerPool playerPool;
+
+  @Before
+  public void setUp() {
+    mockVideoSourceFactory = mock(VideoSourceFactory.class);
+    when(mockVideoSourceFactory.create(any(), any(), any()))
+        .thenAnswer(invocation -> mock(MediaSource.class));
+    playerPool = new ExoPlayerPool(() -> mock(ExoPlayer.class), mockVideoSourceFactory);
+  }
+
+  @Test
+  public void recycle_releasesPlayerWhenPoolIsEmpty() {
+    ExoPlayer player = playerPool.prepare("https://example.com/a.mp4", null, null);
+
+    playerPool.recycle(player);
+
+    verify(player, times(1)).release();
+    assertEquals(0, playerPool.getIdleCount());
+  }
+
+  @Test
+  public void prepare_reusesRecycledPlayer() {
+    playerPool.setMaxSize(1);
+    ExoPlayer player = playerPool.prepare("https://example.com/a.mp4", null, null);
+
+    playerPool.recycle(player);
+    ExoPlayer reusedPlayer = playerPool.prepare("https://example.com/b.mp4", null, null);
+
+    assertSame(player, reusedPlayer);
+    verify(player, never()).release();
+    verify(player, times(1)).clearVideoSurface();
+    verify(player, times(2)).setMediaSource(any(MediaSource.class));
+    verify(player, times(2)).prepare();
+  }
+
+  @Test
+  public void preload_doesNothingWhenPoolIsEmpty() {
+    playerPool.preload("https://example.com/a.mp4", null, null);
+
+    assertEquals(0, playerPool.getPreloadedCount());
+    assertNull(playerPool.takePreloaded("https://example.com/a.mp4", null, null));
+  }
+
+  @Test
+  public void takePreloaded_returnsPreparedPlayer() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", "hls", null);
+
+    ExoPlayer player = playerPool.takePreloaded("https://example.com/a.mp4", "hls", null);
+
+    verify(player, times(1)).prepare();
+    assertEquals(0, playerPool.getPreloadedCount());
+  }
+
+  @Test
+  public void takePreloaded_recyclesPlayerWithDifferentFormatHint() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", "hls", null);
+
+    assertNull(playerPool.takePreloaded("https://example.com/a.mp4", "dash", null));
+    assertEquals(0, playerPool.getPreloadedCount());
+    assertEquals(1, playerPool.getIdleCount());
+  }
+
+  @Test
+  public void takePreloaded_releasesPlayerThatFailed() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", null, null);
+    ExoPlayer player = playerPool.takePreloaded("https://example.com/a.mp4", null, null);
+    playerPool.recycle(player);
+    playerPool.preload("https://example.com/a.mp4", null, null);
+    when(player.getPlayerError()).thenReturn(mock(ExoPlaybackException.class));
+
+    assertNull(playerPool.takePreloaded("https://example.com/a.mp4", null, null));
+    verify(player, times(1)).release();
+    assertEquals(0, playerPool.getPreloadedCount());
+    assertEquals(0, playerPool.getIdleCount());
+  }
+
+  @Test
+  public void takePreloaded_recyclesPlayerWithDifferentHttpHeaders() {
+    playerPool.setMaxSize(2);
+    playerPool.preload(
+        "https://example.com/a.mp4", null, Collections.singletonMap("Authorization", "a"));
+
+    assertNull(
+        playerPool.takePreloaded(
+            "https://example.com/a.mp4", null, Collections.singletonMap("Authorization", "b")));
+    assertEquals(0, playerPool.getPreloadedCount());
+    assertEquals(1, playerPool.getIdleCount());
+  }
+
+  @Test
+  public void preload_preparesAgainWhenHttpHeadersChange() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", null, null);
+    playerPool.preload(
+        "https://example.com/a.mp4", null, Collections.singletonMap("Authorization", "a"));
+
+    verify(mockVideoSourceFactory, times(2)).create(any(), any(), any());
+    assertEquals(1, playerPool.getPreloadedCount());
+    ExoPlayer player =
+        playerPool.takePreloaded(
+            "https://example.com/a.mp4", null, Collections.singletonMap("Authorization", "a"));
+    verify(player, times(2)).prepare();
+  }
+
+  @Test
+  public void preload_releasesLeastRecentlyPreloadedPlayerWhenFull() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", null, null);
+    playerPool.preload("https://example.com/b.mp4", null, null);
+    // Preloading a video again marks it as the most recent one without preparing it twice.
+    playerPool.preload("https://example.com/a.mp4", null, null);
+
+    playerPool.preload("https://example.com/c.mp4", null, null);
+
+    assertEquals(2, playerPool.getPreloadedCount());
+    assertNull(playerPool.takePreloaded("https://example.com/b.mp4", null, null));
+    verify(mockVideoSourceFactory, times(3)).create(any(), any(), any());
+  }
+
+  @Test
+  public void setMaxSize_releasesIdlePlayersFirst() {
+    playerPool.setMaxSize(3);
+    playerPool.preload("https://example.com/b.mp4", null, null);
+    ExoPlayer idlePlayer = playerPool.prepare("https://example.com/a.mp4", null, null);
+    playerPool.recycle(idlePlayer);
+
+    playerPool.setMaxSize(1);
+
+    verify(idlePlayer, times(1)).release();
+    assertEquals(0, playerPool.getIdleCount());
+    assertEquals(1, playerPool.getPreloadedCount());
+  }
+
+  @Test
+  public void clear_releasesAllPlayers() {
+    playerPool.setMaxSize(2);
+    playerPool.preload("https://example.com/a.mp4", null, null);
+    ExoPlayer player = playerPool.takePreloaded("https://example.com/a.mp4", null, null);
+    playerPool.recycle(player);
+    playerPool.preload("https://example.com/b.mp4", null, null);
+
+    playerPool.clear();
+
+    assertEquals(0, playerPool.getIdleCount());
+    assertEquals(0, playerPool.getPreloadedCount());
+    playerPool.preload("https://example.com/c.mp4", null, null);
+    assertEquals(1, playerPool.getPreloadedCount());
+  }
+}
@@ -0,0 +1,106 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class LatestFrameSenderTest {
+  private static final String CHANNEL = "flutter.io/videoPlayer/videoFrames1";
+  private static final int FRAME_SIZE = 32;
+
+  private BinaryMessenger mockMessenger;
+  private LatestFrameSender frameSender;
+
+  @Before
+  public void setUp() {
+    mockMessenger = mock(BinaryMessenger.class);
+    Handler mockHandler = mock(Handler.class);
+    when(mockHandler.post(any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    frameSender = new LatestFrameSender(mockMessenger, CHANNEL, mockHandler);
+  }
+
+  @Test
+  public void submit_sendsFrame() {
+    submitFrame(1);
+
+    List<ByteBuffer> frames = captureSentFrames(1);
+    assertEquals(1, frames.get(0).getLong(16));
+    assertEquals(0, frames.get(0).getInt(LatestFrameSender.DROPPED_FRAMES_OFFSET));
+  }
+
+  @Test
+  public void submit_onlySendsLatestFrameWhileFrameIsInFlight() {
+    submitFrame(1);
+    submitFrame(2);
+    submitFrame(3);
+
+    ArgumentCaptor<BinaryMessenger.BinaryReply> replyCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockMessenger, times(1)).send(eq(CHANNEL), any(ByteBuffer.class), replyCaptor.capture());
+
+    replyCaptor.getValue().reply(null);
+
+    List<ByteBuffer> frames = captureSentFrames(2);
+    assertEquals(3, frames.get(1).getLong(16));
+    assertEquals(1, frames.get(1).getInt(LatestFrameSender.DROPPED_FRAMES_OFFSET));
+    assertEquals(1, frameSender.getTotalDroppedFrames());
+  }
+
+  @Test
+  public void obtainBuffer_doesNotReturnPendingOrInFlightBuffer() {
+    ByteBuffer inFlight = submitFrame(1);
+    ByteBuffer pending = submitFrame(2);
+
+    ByteBuffer writing = frameSender.obtainBuffer(FRAME_SIZE);
+
+    assertNotSame(inFlight, pending);
+    assertNotSame(inFlight, writing);
+    assertNotSame(pending, writing);
+  }
+
+  @Test
+  public void close_stopsSendingFrames() {
+    frameSender.close();
+
+    submitFrame(1);
+
+    verify(mockMessenger, never()).send(any(), any(), any());
+  }
+
+  private ByteBuffer submitFrame(long timestamp) {
+    ByteBuffer buffer = frameSender.obtainBuffer(FRAME_SIZE);
+    buffer.putLong(16, timestamp);
+    buffer.position(FRAME_SIZE);
+    frameSender.submit();
+    return buffer;
+  }
+
+  private List<ByteBuffer> captureSentFrames(int count) {
+    ArgumentCaptor<ByteBuffer> frameCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockMessenger, times(count)).send(eq(CHANNEL), frameCaptor.capture(), any());
+    return frameCaptor.getAllValues();
+  }
+}
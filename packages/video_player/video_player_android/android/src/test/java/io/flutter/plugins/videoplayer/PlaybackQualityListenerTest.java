@@ -0,0 +1,110 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
+import com.google.android.exoplayer2.analytics.AnalyticsListener.EventTime;
+import java.util.HashMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+
+public class PlaybackQualityListenerTest {
+  private QueuingEventSink mockEventSink;
+  private EventTime eventTime;
+  private PlaybackQualityListener listener;
+
+  @Captor private ArgumentCaptor<HashMap<String, Object>> eventCaptor;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.openMocks(this);
+    mockEventSink = mock(QueuingEventSink.class);
+    eventTime = mock(EventTime.class);
+    listener = new PlaybackQualityListener(mockEventSink);
+  }
+
+  @Test
+  public void countsFormatSwitches() {
+    listener.onVideoInputFormatChanged(eventTime, format(500000, 640, 360), null);
+    listener.onVideoInputFormatChanged(eventTime, format(500000, 640, 360), null);
+    listener.onVideoInputFormatChanged(eventTime, format(2000000, 1280, 720), null);
+
+    verify(mockEventSink, times(2)).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals("playbackQuality", event.get("event"));
+    assertEquals(2000000, event.get("bitrate"));
+    assertEquals(1280, event.get("width"));
+    assertEquals(720, event.get("height"));
+    assertEquals(1, event.get("formatSwitches"));
+  }
+
+  @Test
+  public void sendsEventSinkCounters() {
+    when(mockEventSink.getDroppedEventCount()).thenReturn(2L);
+    when(mockEventSink.getCoalescedEventCount()).thenReturn(5L);
+
+    listener.onDroppedVideoFrames(eventTime, 1, 1000);
+
+    verify(mockEventSink).success(eventCaptor.capture());
+    assertEquals(2L, eventCaptor.getValue().get("droppedEvents"));
+    assertEquals(5L, eventCaptor.getValue().get("coalescedEvents"));
+  }
+
+  @Test
+  public void sendsNullForUnknownBitrate() {
+    listener.onVideoInputFormatChanged(eventTime, format(Format.NO_VALUE, 640, 360), null);
+
+    verify(mockEventSink).success(eventCaptor.capture());
+    assertNull(eventCaptor.getValue().get("bitrate"));
+  }
+
+  @Test
+  public void accumulatesDroppedFrames() {
+    listener.onDroppedVideoFrames(eventTime, 3, 1000);
+    listener.onDroppedVideoFrames(eventTime, 4, 1000);
+
+    verify(mockEventSink, times(2)).success(eventCaptor.capture());
+    assertEquals(7L, eventCaptor.getValue().get("droppedFrames"));
+  }
+
+  @Test
+  public void countsRebuffersButNotInitialBufferingOrSeeks() {
+    Player.PositionInfo position = mock(Player.PositionInfo.class);
+
+    listener.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    listener.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    listener.onPositionDiscontinuity(
+        eventTime, position, position, Player.DISCONTINUITY_REASON_SEEK);
+    listener.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+    listener.onPlaybackStateChanged(eventTime, Player.STATE_READY);
+    verify(mockEventSink, never()).success(eventCaptor.capture());
+
+    listener.onPlaybackStateChanged(eventTime, Player.STATE_BUFFERING);
+
+    verify(mockEventSink).success(eventCaptor.capture());
+    assertEquals(1, eventCaptor.getValue().get("rebufferCount"));
+  }
+
+  private static Format format(int bitrate, int width, int height) {
+    return new Format.Builder()
+        .setAverageBitrate(bitrate)
+        .setPeakBitrate(bitrate)
+        .setWidth(width)
+        .setHeight(height)
+        .build();
+  }
+}
@@ -0,0 +1,101 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import com.google.android.exoplayer2.Format;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PositionReporterTest {
+  private static final Format FORMAT = new Format.Builder().build();
+
+  private Handler mockHandler;
+  private Runnable mockReport;
+  private PositionReporter reporter;
+
+  @Before
+  public void setUp() {
+    mockHandler = mock(Handler.class);
+    mockReport = mock(Runnable.class);
+    reporter = new PositionReporter(mockHandler, mockReport);
+  }
+
+  @Test
+  public void schedulesOneReportPerInterval() {
+    reporter.start(100);
+    long now = System.nanoTime();
+
+    reporter.onVideoFrameAboutToBeRendered(0, now, FORMAT, null);
+    reporter.onVideoFrameAboutToBeRendered(0, now + 50_000_000L, FORMAT, null);
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), anyLong());
+
+    reporter.onVideoFrameAboutToBeRendered(0, now + 100_000_000L, FORMAT, null);
+    verify(mockHandler, times(2)).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void reportsWhenScheduledReportRuns() {
+    reporter.start(100);
+    reporter.onVideoFrameAboutToBeRendered(0, System.nanoTime(), FORMAT, null);
+
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(runnableCaptor.capture(), anyLong());
+    runnableCaptor.getValue().run();
+
+    verify(mockReport).run();
+  }
+
+  @Test
+  public void stopCancelsScheduledReports() {
+    reporter.start(100);
+    reporter.onVideoFrameAboutToBeRendered(0, System.nanoTime(), FORMAT, null);
+    ArgumentCaptor<Runnable> runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
+    verify(mockHandler).postDelayed(runnableCaptor.capture(), anyLong());
+
+    reporter.stop();
+    runnableCaptor.getValue().run();
+    reporter.onVideoFrameAboutToBeRendered(0, System.nanoTime() + 1_000_000_000L, FORMAT, null);
+
+    assertFalse(reporter.isActive());
+    verify(mockHandler).removeCallbacks(runnableCaptor.getValue());
+    verify(mockReport, never()).run();
+    verify(mockHandler, times(1)).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void tickReportsWhilePlayingWithoutFrames() {
+    reporter.start(100);
+    reporter.setPlaying(true);
+
+    assertTrue(reporter.isActive());
+    verify(mockHandler).postDelayed(any(Runnable.class), anyLong());
+
+    reporter.tick();
+
+    verify(mockReport).run();
+    verify(mockHandler, times(2)).postDelayed(any(Runnable.class), anyLong());
+  }
+
+  @Test
+  public void tickDoesNothingWhilePaused() {
+    reporter.start(100);
+
+    reporter.tick();
+
+    verify(mockReport, never()).run();
+    verify(mockHandler, never()).postDelayed(any(Runnable.class), anyLong());
+  }
+}
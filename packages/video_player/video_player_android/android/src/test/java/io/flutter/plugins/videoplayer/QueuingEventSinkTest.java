@@ -0,0 +1,125 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Handler;
+import android.os.Looper;
+import io.flutter.plugin.common.EventChannel;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class QueuingEventSinkTest {
+  private EventChannel.EventSink mockDelegate;
+  private QueuingEventSink eventSink;
+
+  @Before
+  public void setUp() {
+    mockDelegate = mock(EventChannel.EventSink.class);
+    eventSink = new QueuingEventSink(new Handler(Looper.getMainLooper()), 3);
+  }
+
+  @Test
+  public void queuesEventsUntilDelegateIsSet() {
+    Map<String, Object> initialized = event("initialized");
+    Map<String, Object> completed = event("completed");
+
+    eventSink.success(initialized);
+    eventSink.error("VideoError", "message", null);
+    eventSink.success(completed);
+    verify(mockDelegate, never()).success(any());
+
+    eventSink.setDelegate(mockDelegate);
+
+    InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).error("VideoError", "message", null);
+    inOrder.verify(mockDelegate).success(completed);
+  }
+
+  @Test
+  public void replacesSupersededEventInPlace() {
+    Map<String, Object> firstUpdate = event("bufferingUpdate");
+    Map<String, Object> completed = event("completed");
+    Map<String, Object> secondUpdate = event("bufferingUpdate");
+
+    eventSink.success(firstUpdate);
+    eventSink.success(completed);
+    eventSink.success(secondUpdate);
+    eventSink.setDelegate(mockDelegate);
+
+    InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(secondUpdate);
+    inOrder.verify(mockDelegate).success(completed);
+    verify(mockDelegate, never()).success(firstUpdate);
+    assertEquals(1, eventSink.getCoalescedEventCount());
+  }
+
+  @Test
+  public void dropsOldestEventWhenFullButKeepsInitialized() {
+    Map<String, Object> initialized = event("initialized");
+    Map<String, Object> bufferingStart = event("bufferingStart");
+    Map<String, Object> bufferingEnd = event("bufferingEnd");
+    Map<String, Object> completed = event("completed");
+
+    eventSink.success(initialized);
+    eventSink.success(bufferingStart);
+    eventSink.success(bufferingEnd);
+    eventSink.success(completed);
+    eventSink.setDelegate(mockDelegate);
+
+    InOrder inOrder = inOrder(mockDelegate);
+    inOrder.verify(mockDelegate).success(initialized);
+    inOrder.verify(mockDelegate).success(bufferingEnd);
+    inOrder.verify(mockDelegate).success(completed);
+    verify(mockDelegate, never()).success(bufferingStart);
+    assertEquals(1, eventSink.getDroppedEventCount());
+  }
+
+  @Test
+  public void deliversEventsFromOtherThreadsOnMainThread() throws InterruptedException {
+    eventSink.setDelegate(mockDelegate);
+    Map<String, Object> completed = event("completed");
+
+    Thread thread = new Thread(() -> eventSink.success(completed));
+    thread.start();
+    thread.join();
+    verify(mockDelegate, never()).success(any());
+
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(mockDelegate).success(completed);
+  }
+
+  @Test
+  public void ignoresEventsAfterEndOfStream() {
+    eventSink.setDelegate(mockDelegate);
+
+    eventSink.endOfStream();
+    eventSink.success(event("completed"));
+
+    verify(mockDelegate).endOfStream();
+    verify(mockDelegate, never()).success(any());
+  }
+
+  private static Map<String, Object> event(String type) {
+    Map<String, Object> event = new HashMap<>();
+    event.put("event", type);
+    return event;
+  }
+}
@@ -0,0 +1,108 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import androidx.test.core.app.ApplicationProvider;
+import com.google.android.exoplayer2.upstream.DataSource;
+import com.google.android.exoplayer2.upstream.DataSpec;
+import com.google.android.exoplayer2.upstream.DefaultHttpDataSource;
+import com.google.android.exoplayer2.upstream.cache.CacheDataSource;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+@RunWith(RobolectricTestRunner.class)
+public class VideoCacheTest {
+  private VideoCache videoCache;
+
+  @Before
+  public void setUp() {
+    videoCache = new VideoCache(ApplicationProvider.getApplicationContext());
+  }
+
+  @After
+  public void tearDown() {
+    videoCache.release();
+    VideoCache.releaseSharedCache();
+  }
+
+  @Test
+  public void wrap_returnsUpstreamFactoryWhenDisabled() {
+    DefaultHttpDataSource.Factory upstreamFactory = new DefaultHttpDataSource.Factory();
+
+    assertFalse(videoCache.isEnabled());
+    assertSame(upstreamFactory, videoCache.wrap(upstreamFactory));
+  }
+
+  @Test
+  public void wrap_returnsCacheDataSourceFactoryWhenEnabled() {
+    videoCache.enable(1024 * 1024);
+
+    DataSource.Factory factory = videoCache.wrap(new DefaultHttpDataSource.Factory());
+
+    assertTrue(videoCache.isEnabled());
+    assertTrue(factory instanceof CacheDataSource.Factory);
+  }
+
+  @Test
+  public void enable_sharesCacheBetweenInstances() {
+    VideoCache otherCache = new VideoCache(ApplicationProvider.getApplicationContext());
+
+    videoCache.enable(1024 * 1024);
+    otherCache.enable(1024 * 1024);
+
+    assertTrue(otherCache.isEnabled());
+    assertThrows(IllegalStateException.class, () -> otherCache.enable(2048));
+  }
+
+  @Test
+  public void release_releasesSharedCacheAfterLastInstance() {
+    VideoCache otherCache = new VideoCache(ApplicationProvider.getApplicationContext());
+    videoCache.enable(1024 * 1024);
+    otherCache.enable(1024 * 1024);
+
+    otherCache.release();
+    assertFalse(otherCache.isEnabled());
+    assertTrue(VideoCache.isSharedCacheOpen());
+
+    videoCache.release();
+    assertFalse(VideoCache.isSharedCacheOpen());
+
+    // The size can be changed once nobody uses the cache.
+    videoCache.enable(2048);
+    assertTrue(videoCache.isEnabled());
+  }
+
+  @Test
+  public void precache_throwsWhenDisabled() {
+    assertThrows(
+        IllegalStateException.class,
+        () -> videoCache.precache("https://example.com/a.mp4", 1024, Collections.emptyMap()));
+  }
+
+  @Test
+  public void countsBytesReadFromCacheAndNetwork() {
+    DataSource source = mock(DataSource.class);
+    DataSpec dataSpec = new DataSpec.Builder().setUri("https://example.com/a.mp4").build();
+
+    videoCache.onCachedBytesRead(4096, 100);
+    videoCache.onCachedBytesRead(4096, 50);
+    videoCache.onBytesTransferred(source, dataSpec, true, 30);
+    videoCache.onBytesTransferred(source, dataSpec, false, 1000);
+
+    assertEquals(150, videoCache.getCachedBytesRead());
+    assertEquals(30, videoCache.getNetworkBytesRead());
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.videoplayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class VideoFrameTapTest {
+  @Test
+  public void getFrameSize_includesHeaderAndAllPlanes() {
+    // 24 byte header, 8x4 luma plane and two 4x2 chroma planes.
+    assertEquals(24 + 32 + 2 * 8, VideoFrameTap.getFrameSize(6, 4, 8));
+    // Odd sizes round the chroma planes up.
+    assertEquals(24 + 15 + 2 * 6, VideoFrameTap.getFrameSize(5, 3, 5));
+  }
+
+  @Test
+  public void scalePlane_samplesNearestPixels() {
+    ByteBuffer source =
+        ByteBuffer.wrap(
+            new byte[] {
+              0, 1, 2, 3, //
+              4, 5, 6, 7, //
+              8, 9, 10, 11, //
+              12, 13, 14, 15
+            });
+    ByteBuffer destination = ByteBuffer.allocate(6);
+
+    VideoFrameTap.scalePlane(source, 4, 4, 4, 1, destination, 0, 2, 2, 3);
+
+    assertArrayEquals(new byte[] {0, 2, 0, 8, 10, 0}, destination.array());
+  }
+
+  @Test
+  public void scalePlane_honorsSourcePixelStride() {
+    // Interleaved chroma plane where every second byte belongs to the other plane.
+    ByteBuffer source = ByteBuffer.wrap(new byte[] {1, -1, 2, -1, 3, -1, 4, -1});
+    ByteBuffer destination = ByteBuffer.allocate(5);
+
+    VideoFrameTap.scalePlane(source, 2, 2, 4, 2, destination, 1, 2, 2, 2);
+
+    assertArrayEquals(new byte[] {0, 1, 2, 3, 4}, destination.array());
+  }
+}
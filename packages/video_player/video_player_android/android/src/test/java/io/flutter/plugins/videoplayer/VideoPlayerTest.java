@@ -5,14 +5,25 @@
 package io.flutter.plugins.videoplayer;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.android.exoplayer2.ExoPlaybackException;
 import com.google.android.exoplayer2.ExoPlayer;
 import com.google.android.exoplayer2.Format;
+import com.google.android.exoplayer2.Player;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.view.TextureRegistry;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +42,7 @@ public class VideoPlayerTest {
   private QueuingEventSink fakeEventSink;
 
   @Captor private ArgumentCaptor<HashMap<String, Object>> eventCaptor;
+  @Captor private ArgumentCaptor<Player.Listener> listenerCaptor;
 
   @Before
   public void before() {
@@ -154,4 +166,115 @@ public class VideoPlayerTest {
     assertEquals(event.get("height"), 200);
     assertEquals(event.get("rotationCorrection"), 180);
   }
+
+  @Test
+  public void sendsInitializedEventForReadyPlayer() {
+    Format testFormat = new Format.Builder().setWidth(100).setHeight(200).build();
+    when(fakeExoPlayer.getPlaybackState()).thenReturn(Player.STATE_READY);
+    when(fakeExoPlayer.getVideoFormat()).thenReturn(testFormat);
+    when(fakeExoPlayer.getDuration()).thenReturn(10L);
+
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    assertEquals(videoPlayer.isInitialized, true);
+    verify(fakeEventSink).success(eventCaptor.capture());
+    assertEquals(eventCaptor.getValue().get("event"), "initialized");
+  }
+
+  @Test
+  public void sendsErrorForFailedPlayer() {
+    when(fakeExoPlayer.getPlayerError()).thenReturn(mock(ExoPlaybackException.class));
+
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+
+    assertFalse(videoPlayer.isInitialized);
+    verify(fakeEventSink).error(eq("VideoError"), anyString(), any());
+  }
+
+  @Test
+  public void recordsTimeToFirstFrame() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    verify(fakeExoPlayer).addListener(listenerCaptor.capture());
+
+    assertNull(videoPlayer.getTimeToFirstFrame());
+
+    listenerCaptor.getValue().onRenderedFirstFrame();
+
+    assertNotNull(videoPlayer.getTimeToFirstFrame());
+  }
+
+  @Test
+  public void disposeRemovesListenerAndReleasesPlayer() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    verify(fakeExoPlayer).addListener(listenerCaptor.capture());
+
+    videoPlayer.dispose();
+
+    verify(fakeExoPlayer).removeListener(listenerCaptor.getValue());
+    verify(fakeExoPlayer).release();
+  }
+
+  @Test
+  public void setPositionUpdateIntervalSendsPositionWithBufferedRanges() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    when(fakeExoPlayer.getCurrentPosition()).thenReturn(1000L);
+    when(fakeExoPlayer.getBufferedPosition()).thenReturn(5000L);
+
+    videoPlayer.setPositionUpdateInterval(100);
+
+    assertTrue(videoPlayer.isReportingPosition());
+    verify(fakeExoPlayer).setVideoFrameMetadataListener(any());
+    verify(fakeEventSink).success(eventCaptor.capture());
+    HashMap<String, Object> event = eventCaptor.getValue();
+    assertEquals("positionUpdate", event.get("event"));
+    assertEquals(1000L, event.get("position"));
+    assertEquals(Collections.singletonList(Arrays.asList(0, 5000L)), event.get("values"));
+  }
+
+  @Test
+  public void setPositionUpdateIntervalStopsUpdatesForZero() {
+    VideoPlayer videoPlayer =
+        new VideoPlayer(
+            fakeExoPlayer,
+            fakeEventChannel,
+            fakeSurfaceTextureEntry,
+            fakeVideoPlayerOptions,
+            fakeEventSink);
+    videoPlayer.setPositionUpdateInterval(100);
+
+    videoPlayer.setPositionUpdateInterval(0);
+
+    assertFalse(videoPlayer.isReportingPosition());
+    verify(fakeExoPlayer).clearVideoFrameMetadataListener(any());
+  }
 }
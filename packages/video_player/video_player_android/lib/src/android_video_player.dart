@@ -9,11 +9,18 @@ import 'package:flutter/widgets.dart';
 import 'package:video_player_platform_interface/video_player_platform_interface.dart';
 
 import 'messages.g.dart';
+import 'playback_quality.dart';
+import 'video_cache_stats.dart';
+import 'video_frame.dart';
 
 /// An Android implementation of [VideoPlayerPlatform] that uses the
 /// Pigeon-generated [VideoPlayerApi].
 class AndroidVideoPlayer extends VideoPlayerPlatform {
   final AndroidVideoPlayerApi _api = AndroidVideoPlayerApi();
+  final Map<int, StreamController<Duration>> _positionControllers =
+      <int, StreamController<Duration>>{};
+  final Map<int, StreamController<PlaybackQuality>> _qualityControllers =
+      <int, StreamController<PlaybackQuality>>{};
 
   /// Registers this class as the default instance of [PathProviderPlatform].
   static void registerWith() {
@@ -32,6 +39,109 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
 
   @override
   Future<int?> create(DataSource dataSource) async {
+    final TextureMessage response =
+        await _api.create(_createMessageFor(dataSource));
+    return response.textureId;
+  }
+
+  /// Sets the number of unused native players that are kept for reuse.
+  ///
+  /// Reusing a player skips most of its setup, which shortens the time to the
+  /// first frame of the next video. Both players of disposed videos and
+  /// players created by [preload] count against [maxSize]. Defaults to 0,
+  /// which releases players as soon as their video is disposed.
+  Future<void> setPlayerPoolSize(int maxSize) {
+    return _api.setPlayerPoolSize(PlayerPoolMessage(maxSize: maxSize));
+  }
+
+  /// Starts loading a video that is expected to be created soon.
+  ///
+  /// A later [create] call with the same data source takes over the prepared
+  /// player. Does nothing unless the player pool size was set to a value
+  /// greater than 0 with [setPlayerPoolSize]; when the pool is full the least
+  /// recently preloaded video is released.
+  Future<void> preload(DataSource dataSource) {
+    return _api.preload(_createMessageFor(dataSource));
+  }
+
+  /// Returns the time between the creation of a video and its first rendered
+  /// frame, or null if no frame was rendered yet.
+  Future<Duration?> getTimeToFirstFrame(int textureId) async {
+    final TimeToFirstFrameMessage response =
+        await _api.timeToFirstFrame(TextureMessage(textureId: textureId));
+    final int? timeToFirstFrame = response.timeToFirstFrame;
+    return timeToFirstFrame == null
+        ? null
+        : Duration(milliseconds: timeToFirstFrame);
+  }
+
+  /// Configures buffering and track selection of videos created from now on.
+  ///
+  /// [minBuffer] and [maxBuffer] bound the media that is buffered ahead of the
+  /// playback position. Playback starts once [bufferForPlayback] is buffered,
+  /// or [bufferForPlaybackAfterRebuffer] after a stall. Adaptive streams use
+  /// no track larger than [maxVideoWidth] x [maxVideoHeight] or above
+  /// [maxVideoBitrate] bits per second, and start with the track that fits
+  /// [initialBitrateEstimate] bits per second until the bandwidth was
+  /// measured. [preferHardwareCodecs] tries hardware decoders before software
+  /// decoders. Options that are not given use the ExoPlayer defaults.
+  ///
+  /// Pooled players are released so they are recreated with the new options.
+  Future<void> setPlayerOptions({
+    Duration? minBuffer,
+    Duration? maxBuffer,
+    Duration? bufferForPlayback,
+    Duration? bufferForPlaybackAfterRebuffer,
+    int? maxVideoWidth,
+    int? maxVideoHeight,
+    int? maxVideoBitrate,
+    bool preferHardwareCodecs = false,
+    int? initialBitrateEstimate,
+  }) {
+    return _api.setPlayerOptions(PlayerOptionsMessage(
+      minBufferMs: minBuffer?.inMilliseconds,
+      maxBufferMs: maxBuffer?.inMilliseconds,
+      bufferForPlaybackMs: bufferForPlayback?.inMilliseconds,
+      bufferForPlaybackAfterRebufferMs:
+          bufferForPlaybackAfterRebuffer?.inMilliseconds,
+      maxVideoWidth: maxVideoWidth,
+      maxVideoHeight: maxVideoHeight,
+      maxVideoBitrate: maxVideoBitrate,
+      preferHardwareCodecs: preferHardwareCodecs,
+      initialBitrateEstimate: initialBitrateEstimate,
+    ));
+  }
+
+  /// Enables a disk cache for network videos that is shared by all players.
+  ///
+  /// The least recently used videos are evicted once the cache exceeds
+  /// [maxBytes]. Only videos created after this call use the cache. The size
+  /// can't be changed once the cache was enabled.
+  Future<void> enableCache({required int maxBytes}) {
+    return _api.enableCache(CacheMessage(maxBytes: maxBytes));
+  }
+
+  /// Downloads the first [bytes] of a progressive network video into the
+  /// cache in the background.
+  ///
+  /// The cache has to be enabled with [enableCache] first.
+  Future<void> precache(String uri,
+      {required int bytes, Map<String, String> httpHeaders = const <String, String>{}}) {
+    return _api.precache(
+        PrecacheMessage(uri: uri, bytes: bytes, httpHeaders: httpHeaders));
+  }
+
+  /// Returns how many bytes were read from the cache and from the network.
+  Future<VideoCacheStats> getCacheStats() async {
+    final CacheStatsMessage response = await _api.cacheStats();
+    return VideoCacheStats(
+      cachedBytesRead: response.cachedBytesRead,
+      networkBytesRead: response.networkBytesRead,
+      cacheSpace: response.cacheSpace,
+    );
+  }
+
+  CreateMessage _createMessageFor(DataSource dataSource) {
     String? asset;
     String? packageName;
     String? uri;
@@ -54,16 +164,13 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         uri = dataSource.uri;
         break;
     }
-    final CreateMessage message = CreateMessage(
+    return CreateMessage(
       asset: asset,
       packageName: packageName,
       uri: uri,
       httpHeaders: httpHeaders,
       formatHint: formatHint,
     );
-
-    final TextureMessage response = await _api.create(message);
-    return response.textureId;
   }
 
   @override
@@ -136,6 +243,15 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
           return VideoEvent(
             eventType: VideoEventType.completed,
           );
+        case 'positionUpdate':
+          _positionControllers[textureId]
+              ?.add(Duration(milliseconds: map['position'] as int));
+          final List<dynamic> values = map['values'] as List<dynamic>;
+
+          return VideoEvent(
+            buffered: values.map<DurationRange>(_toDurationRange).toList(),
+            eventType: VideoEventType.bufferingUpdate,
+          );
         case 'bufferingUpdate':
           final List<dynamic> values = map['values'] as List<dynamic>;
 
@@ -143,6 +259,18 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
             buffered: values.map<DurationRange>(_toDurationRange).toList(),
             eventType: VideoEventType.bufferingUpdate,
           );
+        case 'playbackQuality':
+          _qualityControllers[textureId]?.add(PlaybackQuality(
+            bitrate: map['bitrate'] as int?,
+            width: map['width'] as int?,
+            height: map['height'] as int?,
+            formatSwitches: map['formatSwitches'] as int,
+            droppedFrames: map['droppedFrames'] as int,
+            rebufferCount: map['rebufferCount'] as int,
+            droppedEvents: map['droppedEvents'] as int? ?? 0,
+            coalescedEvents: map['coalescedEvents'] as int? ?? 0,
+          ));
+          return VideoEvent(eventType: VideoEventType.unknown);
         case 'bufferingStart':
           return VideoEvent(eventType: VideoEventType.bufferingStart);
         case 'bufferingEnd':
@@ -164,6 +292,101 @@ class AndroidVideoPlayer extends VideoPlayerPlatform {
         .setMixWithOthers(MixWithOthersMessage(mixWithOthers: mixWithOthers));
   }
 
+  /// Returns a stream of downscaled copies of the decoded frames of a video.
+  ///
+  /// Frames are scaled to [width] x [height] pixels, with [rowStride] bytes
+  /// per row of the luma plane (defaults to [width]). The stream only holds
+  /// the latest frame: frames that arrive while the previous one has not been
+  /// delivered yet are skipped and counted in [VideoFrame.droppedFrames], so
+  /// playback is never slowed down by the listener.
+  ///
+  /// The video has to be initialized before the stream is listened to.
+  /// Requires Android 6.0 or newer.
+  Stream<VideoFrame> videoFramesFor(
+    int textureId, {
+    required int width,
+    required int height,
+    int? rowStride,
+  }) {
+    final BasicMessageChannel<ByteData?> channel =
+        BasicMessageChannel<ByteData?>(
+            'flutter.io/videoPlayer/videoFrames$textureId', const BinaryCodec());
+    late final StreamController<VideoFrame> controller;
+    controller = StreamController<VideoFrame>(
+      onListen: () async {
+        channel.setMessageHandler((ByteData? data) async {
+          if (data != null) {
+            controller.add(VideoFrame.fromByteData(data));
+          }
+          return null;
+        });
+        try {
+          await _api.startFrameTap(FrameTapMessage(
+            textureId: textureId,
+            width: width,
+            height: height,
+            rowStride: rowStride ?? width,
+          ));
+        } on PlatformException catch (e) {
+          controller.addError(e);
+        }
+      },
+      onCancel: () async {
+        channel.setMessageHandler(null);
+        await _api.stopFrameTap(TextureMessage(textureId: textureId));
+      },
+    );
+    return controller.stream;
+  }
+
+  /// Returns a stream of playback positions pushed by the player.
+  ///
+  /// While the video plays, a position is sent at most once per [interval],
+  /// when a frame is displayed. Seeks, pauses and resumes are sent
+  /// immediately. The buffered ranges are sent along with each position as
+  /// [VideoEventType.bufferingUpdate] events of [videoEventsFor], and are no
+  /// longer sent on each [getPosition] call.
+  ///
+  /// Positions are only delivered while [videoEventsFor] is listened to.
+  Stream<Duration> positionsFor(
+    int textureId, {
+    Duration interval = const Duration(milliseconds: 200),
+  }) {
+    late final StreamController<Duration> controller;
+    controller = StreamController<Duration>(
+      onListen: () async {
+        _positionControllers[textureId] = controller;
+        await _api.setPositionUpdateInterval(PositionUpdatesMessage(
+          textureId: textureId,
+          interval: interval.inMilliseconds,
+        ));
+      },
+      onCancel: () async {
+        _positionControllers.remove(textureId);
+        await _api.setPositionUpdateInterval(
+            PositionUpdatesMessage(textureId: textureId, interval: 0));
+      },
+    );
+    return controller.stream;
+  }
+
+  /// Returns a stream of the decoded video format and playback quality
+  /// counters of a video, sent whenever one of them changes.
+  ///
+  /// Updates are only delivered while [videoEventsFor] is listened to.
+  Stream<PlaybackQuality> playbackQualityFor(int textureId) {
+    late final StreamController<PlaybackQuality> controller;
+    controller = StreamController<PlaybackQuality>(
+      onListen: () {
+        _qualityControllers[textureId] = controller;
+      },
+      onCancel: () {
+        _qualityControllers.remove(textureId);
+      },
+    );
+    return controller.stream;
+  }
+
   EventChannel _eventChannelFor(int textureId) {
     return EventChannel('flutter.io/videoPlayer/videoEvents$textureId');
   }
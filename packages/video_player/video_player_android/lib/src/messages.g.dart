@@ -191,31 +191,293 @@ class MixWithOthersMessage {
   }
 }
 
+class FrameTapMessage {
+  FrameTapMessage({
+    required this.textureId,
+    required this.width,
+    required this.height,
+    required this.rowStride,
+  });
+
+  int textureId;
+  int width;
+  int height;
+  int rowStride;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['width'] = width;
+    pigeonMap['height'] = height;
+    pigeonMap['rowStride'] = rowStride;
+    return pigeonMap;
+  }
+
+  static FrameTapMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return FrameTapMessage(
+      textureId: pigeonMap['textureId']! as int,
+      width: pigeonMap['width']! as int,
+      height: pigeonMap['height']! as int,
+      rowStride: pigeonMap['rowStride']! as int,
+    );
+  }
+}
+
+class PlayerOptionsMessage {
+  PlayerOptionsMessage({
+    this.minBufferMs,
+    this.maxBufferMs,
+    this.bufferForPlaybackMs,
+    this.bufferForPlaybackAfterRebufferMs,
+    this.maxVideoWidth,
+    this.maxVideoHeight,
+    this.maxVideoBitrate,
+    required this.preferHardwareCodecs,
+    this.initialBitrateEstimate,
+  });
+
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? bufferForPlaybackMs;
+  int? bufferForPlaybackAfterRebufferMs;
+  int? maxVideoWidth;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+  bool preferHardwareCodecs;
+  int? initialBitrateEstimate;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['minBufferMs'] = minBufferMs;
+    pigeonMap['maxBufferMs'] = maxBufferMs;
+    pigeonMap['bufferForPlaybackMs'] = bufferForPlaybackMs;
+    pigeonMap['bufferForPlaybackAfterRebufferMs'] = bufferForPlaybackAfterRebufferMs;
+    pigeonMap['maxVideoWidth'] = maxVideoWidth;
+    pigeonMap['maxVideoHeight'] = maxVideoHeight;
+    pigeonMap['maxVideoBitrate'] = maxVideoBitrate;
+    pigeonMap['preferHardwareCodecs'] = preferHardwareCodecs;
+    pigeonMap['initialBitrateEstimate'] = initialBitrateEstimate;
+    return pigeonMap;
+  }
+
+  static PlayerOptionsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlayerOptionsMessage(
+      minBufferMs: pigeonMap['minBufferMs'] as int?,
+      maxBufferMs: pigeonMap['maxBufferMs'] as int?,
+      bufferForPlaybackMs: pigeonMap['bufferForPlaybackMs'] as int?,
+      bufferForPlaybackAfterRebufferMs:
+          pigeonMap['bufferForPlaybackAfterRebufferMs'] as int?,
+      maxVideoWidth: pigeonMap['maxVideoWidth'] as int?,
+      maxVideoHeight: pigeonMap['maxVideoHeight'] as int?,
+      maxVideoBitrate: pigeonMap['maxVideoBitrate'] as int?,
+      preferHardwareCodecs: pigeonMap['preferHardwareCodecs']! as bool,
+      initialBitrateEstimate: pigeonMap['initialBitrateEstimate'] as int?,
+    );
+  }
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage({
+    required this.maxSize,
+  });
+
+  int maxSize;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxSize'] = maxSize;
+    return pigeonMap;
+  }
+
+  static PlayerPoolMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PlayerPoolMessage(
+      maxSize: pigeonMap['maxSize']! as int,
+    );
+  }
+}
+
+class TimeToFirstFrameMessage {
+  TimeToFirstFrameMessage({
+    required this.textureId,
+    this.timeToFirstFrame,
+  });
+
+  int textureId;
+  int? timeToFirstFrame;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['timeToFirstFrame'] = timeToFirstFrame;
+    return pigeonMap;
+  }
+
+  static TimeToFirstFrameMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return TimeToFirstFrameMessage(
+      textureId: pigeonMap['textureId']! as int,
+      timeToFirstFrame: pigeonMap['timeToFirstFrame'] as int?,
+    );
+  }
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage({
+    required this.textureId,
+    required this.interval,
+  });
+
+  int textureId;
+  int interval;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['textureId'] = textureId;
+    pigeonMap['interval'] = interval;
+    return pigeonMap;
+  }
+
+  static PositionUpdatesMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PositionUpdatesMessage(
+      textureId: pigeonMap['textureId']! as int,
+      interval: pigeonMap['interval']! as int,
+    );
+  }
+}
+
+class CacheMessage {
+  CacheMessage({
+    required this.maxBytes,
+  });
+
+  int maxBytes;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['maxBytes'] = maxBytes;
+    return pigeonMap;
+  }
+
+  static CacheMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheMessage(
+      maxBytes: pigeonMap['maxBytes']! as int,
+    );
+  }
+}
+
+class PrecacheMessage {
+  PrecacheMessage({
+    required this.uri,
+    required this.bytes,
+    required this.httpHeaders,
+  });
+
+  String uri;
+  int bytes;
+  Map<String?, String?> httpHeaders;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['uri'] = uri;
+    pigeonMap['bytes'] = bytes;
+    pigeonMap['httpHeaders'] = httpHeaders;
+    return pigeonMap;
+  }
+
+  static PrecacheMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return PrecacheMessage(
+      uri: pigeonMap['uri']! as String,
+      bytes: pigeonMap['bytes']! as int,
+      httpHeaders: (pigeonMap['httpHeaders'] as Map<Object?, Object?>?)!
+          .cast<String?, String?>(),
+    );
+  }
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage({
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.cacheSpace,
+  });
+
+  int cachedBytesRead;
+  int networkBytesRead;
+  int cacheSpace;
+
+  Object encode() {
+    final Map<Object?, Object?> pigeonMap = <Object?, Object?>{};
+    pigeonMap['cachedBytesRead'] = cachedBytesRead;
+    pigeonMap['networkBytesRead'] = networkBytesRead;
+    pigeonMap['cacheSpace'] = cacheSpace;
+    return pigeonMap;
+  }
+
+  static CacheStatsMessage decode(Object message) {
+    final Map<Object?, Object?> pigeonMap = message as Map<Object?, Object?>;
+    return CacheStatsMessage(
+      cachedBytesRead: pigeonMap['cachedBytesRead']! as int,
+      networkBytesRead: pigeonMap['networkBytesRead']! as int,
+      cacheSpace: pigeonMap['cacheSpace']! as int,
+    );
+  }
+}
+
 class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   const _AndroidVideoPlayerApiCodec();
   @override
   void writeValue(WriteBuffer buffer, Object? value) {
-    if (value is CreateMessage) {
+    if (value is CacheMessage) {
       buffer.putUint8(128);
       writeValue(buffer, value.encode());
-    } else if (value is LoopingMessage) {
+    } else if (value is CacheStatsMessage) {
       buffer.putUint8(129);
       writeValue(buffer, value.encode());
-    } else if (value is MixWithOthersMessage) {
+    } else if (value is CreateMessage) {
       buffer.putUint8(130);
       writeValue(buffer, value.encode());
-    } else if (value is PlaybackSpeedMessage) {
+    } else if (value is FrameTapMessage) {
       buffer.putUint8(131);
       writeValue(buffer, value.encode());
-    } else if (value is PositionMessage) {
+    } else if (value is LoopingMessage) {
       buffer.putUint8(132);
       writeValue(buffer, value.encode());
-    } else if (value is TextureMessage) {
+    } else if (value is MixWithOthersMessage) {
       buffer.putUint8(133);
       writeValue(buffer, value.encode());
-    } else if (value is VolumeMessage) {
+    } else if (value is PlaybackSpeedMessage) {
       buffer.putUint8(134);
       writeValue(buffer, value.encode());
+    } else if (value is PlayerOptionsMessage) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.encode());
+    } else if (value is PlayerPoolMessage) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionMessage) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
+    } else if (value is PositionUpdatesMessage) {
+      buffer.putUint8(138);
+      writeValue(buffer, value.encode());
+    } else if (value is PrecacheMessage) {
+      buffer.putUint8(139);
+      writeValue(buffer, value.encode());
+    } else if (value is TextureMessage) {
+      buffer.putUint8(140);
+      writeValue(buffer, value.encode());
+    } else if (value is TimeToFirstFrameMessage) {
+      buffer.putUint8(141);
+      writeValue(buffer, value.encode());
+    } else if (value is VolumeMessage) {
+      buffer.putUint8(142);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -225,24 +487,48 @@ class _AndroidVideoPlayerApiCodec extends StandardMessageCodec {
   Object? readValueOfType(int type, ReadBuffer buffer) {
     switch (type) {
       case 128:
-        return CreateMessage.decode(readValue(buffer)!);
+        return CacheMessage.decode(readValue(buffer)!);
 
       case 129:
-        return LoopingMessage.decode(readValue(buffer)!);
+        return CacheStatsMessage.decode(readValue(buffer)!);
 
       case 130:
-        return MixWithOthersMessage.decode(readValue(buffer)!);
+        return CreateMessage.decode(readValue(buffer)!);
 
       case 131:
-        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+        return FrameTapMessage.decode(readValue(buffer)!);
 
       case 132:
-        return PositionMessage.decode(readValue(buffer)!);
+        return LoopingMessage.decode(readValue(buffer)!);
 
       case 133:
-        return TextureMessage.decode(readValue(buffer)!);
+        return MixWithOthersMessage.decode(readValue(buffer)!);
 
       case 134:
+        return PlaybackSpeedMessage.decode(readValue(buffer)!);
+
+      case 135:
+        return PlayerOptionsMessage.decode(readValue(buffer)!);
+
+      case 136:
+        return PlayerPoolMessage.decode(readValue(buffer)!);
+
+      case 137:
+        return PositionMessage.decode(readValue(buffer)!);
+
+      case 138:
+        return PositionUpdatesMessage.decode(readValue(buffer)!);
+
+      case 139:
+        return PrecacheMessage.decode(readValue(buffer)!);
+
+      case 140:
+        return TextureMessage.decode(readValue(buffer)!);
+
+      case 141:
+        return TimeToFirstFrameMessage.decode(readValue(buffer)!);
+
+      case 142:
         return VolumeMessage.decode(readValue(buffer)!);
 
       default:
@@ -535,4 +821,256 @@ class AndroidVideoPlayerApi {
       return;
     }
   }
+
+  Future<void> setPlayerOptions(PlayerOptionsMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerOptions', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> startFrameTap(FrameTapMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.startFrameTap', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> stopFrameTap(TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.stopFrameTap', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> setPlayerPoolSize(PlayerPoolMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPlayerPoolSize', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> preload(CreateMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.preload', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<TimeToFirstFrameMessage> timeToFirstFrame(
+      TextureMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.timeToFirstFrame', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as TimeToFirstFrameMessage?)!;
+    }
+  }
+
+  Future<void> enableCache(CacheMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.enableCache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<void> precache(PrecacheMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.precache', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
+
+  Future<CacheStatsMessage> cacheStats() async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.cacheStats', codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(null) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else if (replyMap['result'] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (replyMap['result'] as CacheStatsMessage?)!;
+    }
+  }
+
+  Future<void> setPositionUpdateInterval(PositionUpdatesMessage arg_msg) async {
+    final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+        'dev.flutter.pigeon.AndroidVideoPlayerApi.setPositionUpdateInterval',
+        codec,
+        binaryMessenger: _binaryMessenger);
+    final Map<Object?, Object?>? replyMap =
+        await channel.send(<Object?>[arg_msg]) as Map<Object?, Object?>?;
+    if (replyMap == null) {
+      throw PlatformException(
+        code: 'channel-error',
+        message: 'Unable to establish connection on channel.',
+      );
+    } else if (replyMap['error'] != null) {
+      final Map<Object?, Object?> error =
+          (replyMap['error'] as Map<Object?, Object?>?)!;
+      throw PlatformException(
+        code: (error['code'] as String?)!,
+        message: error['message'] as String?,
+        details: error['details'],
+      );
+    } else {
+      return;
+    }
+  }
 }
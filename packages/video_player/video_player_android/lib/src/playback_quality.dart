@@ -0,0 +1,45 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// The decoded video format and playback quality counters of a video.
+class PlaybackQuality {
+  /// Creates new playback quality information.
+  const PlaybackQuality({
+    this.bitrate,
+    this.width,
+    this.height,
+    required this.formatSwitches,
+    required this.droppedFrames,
+    required this.rebufferCount,
+    this.droppedEvents = 0,
+    this.coalescedEvents = 0,
+  });
+
+  /// The bitrate of the decoded video format in bits per second, if known.
+  final int? bitrate;
+
+  /// The width of the decoded video format in pixels, if known.
+  final int? width;
+
+  /// The height of the decoded video format in pixels, if known.
+  final int? height;
+
+  /// The number of switches between video formats, such as adaptive bitrate
+  /// changes.
+  final int formatSwitches;
+
+  /// The total number of video frames dropped by the renderer.
+  final int droppedFrames;
+
+  /// The number of times playback stalled to rebuffer, not counting seeks.
+  final int rebufferCount;
+
+  /// The number of events of the video that were dropped because too many
+  /// were waiting to be delivered.
+  final int droppedEvents;
+
+  /// The number of events of the video that were replaced by a newer event of
+  /// the same type before they were delivered.
+  final int coalescedEvents;
+}
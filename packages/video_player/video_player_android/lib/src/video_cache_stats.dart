@@ -0,0 +1,32 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+/// Statistics of the disk cache for network videos.
+class VideoCacheStats {
+  /// Creates new cache statistics.
+  const VideoCacheStats({
+    required this.cachedBytesRead,
+    required this.networkBytesRead,
+    required this.cacheSpace,
+  });
+
+  /// The number of bytes players read from the cache.
+  final int cachedBytesRead;
+
+  /// The number of bytes players read from the network.
+  ///
+  /// Bytes downloaded by precaching are not included.
+  final int networkBytesRead;
+
+  /// The number of bytes the cache currently uses on disk.
+  final int cacheSpace;
+
+  /// The share of bytes read from the cache, between 0 and 1.
+  ///
+  /// Returns 0 if no bytes were read yet.
+  double get hitRatio {
+    final int totalBytesRead = cachedBytesRead + networkBytesRead;
+    return totalBytesRead == 0 ? 0 : cachedBytesRead / totalBytesRead;
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'dart:typed_data';
+
+/// A downscaled copy of a decoded video frame.
+///
+/// The pixels are stored as planar YUV 4:2:0 (I420). The luma plane uses
+/// [rowStride] bytes per row, the two chroma planes use half the width,
+/// height and row stride of the luma plane, rounded up.
+class VideoFrame {
+  /// Creates a new video frame.
+  VideoFrame({
+    required this.width,
+    required this.height,
+    required this.rowStride,
+    required this.droppedFrames,
+    required this.timestamp,
+    required this.bytes,
+  });
+
+  /// Decodes a frame sent by the platform side.
+  factory VideoFrame.fromByteData(ByteData data) {
+    return VideoFrame(
+      width: data.getInt32(0, Endian.little),
+      height: data.getInt32(4, Endian.little),
+      rowStride: data.getInt32(8, Endian.little),
+      droppedFrames: data.getInt32(12, Endian.little),
+      timestamp: Duration(
+          microseconds: data.getInt64(16, Endian.little) ~/ 1000),
+      bytes: data.buffer.asUint8List(
+          data.offsetInBytes + _headerSize, data.lengthInBytes - _headerSize),
+    );
+  }
+
+  static const int _headerSize = 24;
+
+  /// The width of the frame in pixels.
+  final int width;
+
+  /// The height of the frame in pixels.
+  final int height;
+
+  /// The number of bytes per row of the luma plane.
+  final int rowStride;
+
+  /// The number of frames that were skipped since the previous frame because
+  /// the stream was not consumed fast enough.
+  final int droppedFrames;
+
+  /// The presentation timestamp of the frame.
+  final Duration timestamp;
+
+  /// The luma plane followed by the two chroma planes.
+  final Uint8List bytes;
+
+  /// The luma plane.
+  Uint8List get yPlane => Uint8List.sublistView(bytes, 0, rowStride * height);
+
+  /// The first chroma plane.
+  Uint8List get uPlane {
+    final int start = rowStride * height;
+    return Uint8List.sublistView(bytes, start, start + _chromaPlaneSize);
+  }
+
+  /// The second chroma plane.
+  Uint8List get vPlane {
+    final int start = rowStride * height + _chromaPlaneSize;
+    return Uint8List.sublistView(bytes, start, start + _chromaPlaneSize);
+  }
+
+  int get _chromaPlaneSize => ((rowStride + 1) ~/ 2) * ((height + 1) ~/ 2);
+}
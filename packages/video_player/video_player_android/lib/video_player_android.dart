@@ -3,3 +3,6 @@
 // found in the LICENSE file.
 
 export 'src/android_video_player.dart';
+export 'src/video_frame.dart';
+export 'src/video_cache_stats.dart';
+export 'src/playback_quality.dart';
@@ -56,6 +56,64 @@ class MixWithOthersMessage {
   bool mixWithOthers;
 }
 
+class FrameTapMessage {
+  FrameTapMessage(this.textureId, this.width, this.height, this.rowStride);
+  int textureId;
+  int width;
+  int height;
+  int rowStride;
+}
+
+class PlayerOptionsMessage {
+  PlayerOptionsMessage(this.preferHardwareCodecs);
+  int? minBufferMs;
+  int? maxBufferMs;
+  int? bufferForPlaybackMs;
+  int? bufferForPlaybackAfterRebufferMs;
+  int? maxVideoWidth;
+  int? maxVideoHeight;
+  int? maxVideoBitrate;
+  bool preferHardwareCodecs;
+  int? initialBitrateEstimate;
+}
+
+class PlayerPoolMessage {
+  PlayerPoolMessage(this.maxSize);
+  int maxSize;
+}
+
+class TimeToFirstFrameMessage {
+  TimeToFirstFrameMessage(this.textureId);
+  int textureId;
+  int? timeToFirstFrame;
+}
+
+class PositionUpdatesMessage {
+  PositionUpdatesMessage(this.textureId, this.interval);
+  int textureId;
+  int interval;
+}
+
+class CacheMessage {
+  CacheMessage(this.maxBytes);
+  int maxBytes;
+}
+
+class PrecacheMessage {
+  PrecacheMessage(this.uri, this.bytes, {required this.httpHeaders});
+  String uri;
+  int bytes;
+  Map<String?, String?> httpHeaders;
+}
+
+class CacheStatsMessage {
+  CacheStatsMessage(
+      this.cachedBytesRead, this.networkBytesRead, this.cacheSpace);
+  int cachedBytesRead;
+  int networkBytesRead;
+  int cacheSpace;
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVideoPlayerApi')
 abstract class AndroidVideoPlayerApi {
   void initialize();
@@ -69,4 +127,14 @@ abstract class AndroidVideoPlayerApi {
   void seekTo(PositionMessage msg);
   void pause(TextureMessage msg);
   void setMixWithOthers(MixWithOthersMessage msg);
+  void setPlayerOptions(PlayerOptionsMessage msg);
+  void startFrameTap(FrameTapMessage msg);
+  void stopFrameTap(TextureMessage msg);
+  void setPlayerPoolSize(PlayerPoolMessage msg);
+  void preload(CreateMessage msg);
+  TimeToFirstFrameMessage timeToFirstFrame(TextureMessage msg);
+  void enableCache(CacheMessage msg);
+  void precache(PrecacheMessage msg);
+  CacheStatsMessage cacheStats();
+  void setPositionUpdateInterval(PositionUpdatesMessage msg);
 }
@@ -23,6 +23,12 @@ class _ApiLogger implements TestHostVideoPlayerApi {
   VolumeMessage? volumeMessage;
   PlaybackSpeedMessage? playbackSpeedMessage;
   MixWithOthersMessage? mixWithOthersMessage;
+  FrameTapMessage? frameTapMessage;
+  PlayerPoolMessage? playerPoolMessage;
+  CacheMessage? cacheMessage;
+  PrecacheMessage? precacheMessage;
+  PositionUpdatesMessage? positionUpdatesMessage;
+  PlayerOptionsMessage? playerOptionsMessage;
 
   @override
   TextureMessage create(CreateMessage arg) {
@@ -90,6 +96,69 @@ class _ApiLogger implements TestHostVideoPlayerApi {
     log.add('setPlaybackSpeed');
     playbackSpeedMessage = arg;
   }
+
+  @override
+  void startFrameTap(FrameTapMessage arg) {
+    log.add('startFrameTap');
+    frameTapMessage = arg;
+  }
+
+  @override
+  void stopFrameTap(TextureMessage arg) {
+    log.add('stopFrameTap');
+    textureMessage = arg;
+  }
+
+  @override
+  void setPlayerPoolSize(PlayerPoolMessage arg) {
+    log.add('setPlayerPoolSize');
+    playerPoolMessage = arg;
+  }
+
+  @override
+  void preload(CreateMessage arg) {
+    log.add('preload');
+    createMessage = arg;
+  }
+
+  @override
+  TimeToFirstFrameMessage timeToFirstFrame(TextureMessage arg) {
+    log.add('timeToFirstFrame');
+    textureMessage = arg;
+    return TimeToFirstFrameMessage(
+        textureId: arg.textureId, timeToFirstFrame: 123);
+  }
+
+  @override
+  void enableCache(CacheMessage arg) {
+    log.add('enableCache');
+    cacheMessage = arg;
+  }
+
+  @override
+  void precache(PrecacheMessage arg) {
+    log.add('precache');
+    precacheMessage = arg;
+  }
+
+  @override
+  CacheStatsMessage cacheStats() {
+    log.add('cacheStats');
+    return CacheStatsMessage(
+        cachedBytesRead: 300, networkBytesRead: 100, cacheSpace: 1000);
+  }
+
+  @override
+  void setPlayerOptions(PlayerOptionsMessage arg) {
+    log.add('setPlayerOptions');
+    playerOptionsMessage = arg;
+  }
+
+  @override
+  void setPositionUpdateInterval(PositionUpdatesMessage arg) {
+    log.add('setPositionUpdateInterval');
+    positionUpdatesMessage = arg;
+  }
 }
 
 void main() {
@@ -176,6 +245,74 @@ void main() {
       expect(textureId, 3);
     });
 
+    test('setPlayerPoolSize', () async {
+      await player.setPlayerPoolSize(3);
+      expect(log.log.last, 'setPlayerPoolSize');
+      expect(log.playerPoolMessage?.maxSize, 3);
+    });
+
+    test('preload', () async {
+      await player.preload(DataSource(
+        sourceType: DataSourceType.network,
+        uri: 'someUri',
+        formatHint: VideoFormat.hls,
+      ));
+      expect(log.log.last, 'preload');
+      expect(log.createMessage?.uri, 'someUri');
+      expect(log.createMessage?.formatHint, 'hls');
+      expect(log.createMessage?.httpHeaders, <String, String>{});
+    });
+
+    test('getTimeToFirstFrame', () async {
+      final Duration? timeToFirstFrame = await player.getTimeToFirstFrame(1);
+      expect(log.log.last, 'timeToFirstFrame');
+      expect(log.textureMessage?.textureId, 1);
+      expect(timeToFirstFrame, const Duration(milliseconds: 123));
+    });
+
+    test('setPlayerOptions', () async {
+      await player.setPlayerOptions(
+        minBuffer: const Duration(seconds: 5),
+        bufferForPlayback: const Duration(milliseconds: 500),
+        maxVideoHeight: 720,
+        preferHardwareCodecs: true,
+        initialBitrateEstimate: 1000000,
+      );
+      expect(log.log.last, 'setPlayerOptions');
+      expect(log.playerOptionsMessage?.minBufferMs, 5000);
+      expect(log.playerOptionsMessage?.maxBufferMs, null);
+      expect(log.playerOptionsMessage?.bufferForPlaybackMs, 500);
+      expect(log.playerOptionsMessage?.maxVideoWidth, null);
+      expect(log.playerOptionsMessage?.maxVideoHeight, 720);
+      expect(log.playerOptionsMessage?.preferHardwareCodecs, true);
+      expect(log.playerOptionsMessage?.initialBitrateEstimate, 1000000);
+    });
+
+    test('enableCache', () async {
+      await player.enableCache(maxBytes: 1024);
+      expect(log.log.last, 'enableCache');
+      expect(log.cacheMessage?.maxBytes, 1024);
+    });
+
+    test('precache', () async {
+      await player.precache('https://example.com',
+          bytes: 512, httpHeaders: <String, String>{'Authorization': 'Bearer'});
+      expect(log.log.last, 'precache');
+      expect(log.precacheMessage?.uri, 'https://example.com');
+      expect(log.precacheMessage?.bytes, 512);
+      expect(log.precacheMessage?.httpHeaders,
+          <String, String>{'Authorization': 'Bearer'});
+    });
+
+    test('getCacheStats', () async {
+      final VideoCacheStats stats = await player.getCacheStats();
+      expect(log.log.last, 'cacheStats');
+      expect(stats.cachedBytesRead, 300);
+      expect(stats.networkBytesRead, 100);
+      expect(stats.cacheSpace, 1000);
+      expect(stats.hitRatio, 0.75);
+    });
+
     test('setLooping', () async {
       await player.setLooping(1, true);
       expect(log.log.last, 'setLooping');
@@ -353,6 +490,149 @@ void main() {
             VideoEvent(eventType: VideoEventType.bufferingEnd),
           ]));
     });
+
+    test('positionsFor', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        'flutter.io/videoPlayer/videoEvents123',
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents123',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'positionUpdate',
+                      'position': 567,
+                      'values': <List<dynamic>>[
+                        <int>[0, 1234],
+                      ],
+                    }),
+                    (ByteData? data) {});
+          }
+          return const StandardMethodCodec().encodeSuccessEnvelope(null);
+        },
+      );
+
+      final Future<Duration> firstPosition = player
+          .positionsFor(123, interval: const Duration(milliseconds: 100))
+          .first;
+      await Future<void>.delayed(Duration.zero);
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(log.positionUpdatesMessage?.textureId, 123);
+      expect(log.positionUpdatesMessage?.interval, 100);
+
+      final VideoEvent event = await player.videoEventsFor(123).first;
+      expect(
+          event,
+          VideoEvent(
+              eventType: VideoEventType.bufferingUpdate,
+              buffered: <DurationRange>[
+                DurationRange(
+                  Duration.zero,
+                  const Duration(milliseconds: 1234),
+                ),
+              ]));
+      expect(await firstPosition, const Duration(milliseconds: 567));
+
+      await Future<void>.delayed(Duration.zero);
+      expect(log.log.last, 'setPositionUpdateInterval');
+      expect(log.positionUpdatesMessage?.interval, 0);
+    });
+
+    test('playbackQualityFor', () async {
+      _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .setMockMessageHandler(
+        'flutter.io/videoPlayer/videoEvents123',
+        (ByteData? message) async {
+          final MethodCall methodCall =
+              const StandardMethodCodec().decodeMethodCall(message);
+          if (methodCall.method == 'listen') {
+            await _ambiguate(ServicesBinding.instance)
+                ?.defaultBinaryMessenger
+                .handlePlatformMessage(
+                    'flutter.io/videoPlayer/videoEvents123',
+                    const StandardMethodCodec()
+                        .encodeSuccessEnvelope(<String, dynamic>{
+                      'event': 'playbackQuality',
+                      'bitrate': 800000,
+                      'width': 1280,
+                      'height': 720,
+                      'formatSwitches': 2,
+                      'droppedFrames': 12,
+                      'rebufferCount': 1,
+                      'droppedEvents': 3,
+                      'coalescedEvents': 4,
+                    }),
+                    (ByteData? data) {});
+          }
+          return const StandardMethodCodec().encodeSuccessEnvelope(null);
+        },
+      );
+
+      final Future<PlaybackQuality> firstQuality =
+          player.playbackQualityFor(123).first;
+      await Future<void>.delayed(Duration.zero);
+
+      final VideoEvent event = await player.videoEventsFor(123).first;
+      expect(event, VideoEvent(eventType: VideoEventType.unknown));
+      final PlaybackQuality quality = await firstQuality;
+      expect(quality.bitrate, 800000);
+      expect(quality.width, 1280);
+      expect(quality.height, 720);
+      expect(quality.formatSwitches, 2);
+      expect(quality.droppedFrames, 12);
+      expect(quality.rebufferCount, 1);
+      expect(quality.droppedEvents, 3);
+      expect(quality.coalescedEvents, 4);
+    });
+
+    test('videoFramesFor', () async {
+      final Stream<VideoFrame> frames =
+          player.videoFramesFor(123, width: 4, height: 2);
+      final Future<VideoFrame> firstFrame = frames.first;
+      await Future<void>.delayed(Duration.zero);
+
+      expect(log.log.last, 'startFrameTap');
+      expect(log.frameTapMessage?.textureId, 123);
+      expect(log.frameTapMessage?.width, 4);
+      expect(log.frameTapMessage?.height, 2);
+      expect(log.frameTapMessage?.rowStride, 4);
+
+      // 24 byte header followed by a 4x2 luma and two 2x1 chroma planes.
+      final ByteData message = ByteData(24 + 8 + 2 + 2)
+        ..setInt32(0, 4, Endian.little)
+        ..setInt32(4, 2, Endian.little)
+        ..setInt32(8, 4, Endian.little)
+        ..setInt32(12, 3, Endian.little)
+        ..setInt64(16, 5000000, Endian.little)
+        ..setUint8(24, 7)
+        ..setUint8(32, 8)
+        ..setUint8(34, 9);
+      await _ambiguate(ServicesBinding.instance)
+          ?.defaultBinaryMessenger
+          .handlePlatformMessage('flutter.io/videoPlayer/videoFrames123',
+              message, (ByteData? data) {});
+
+      final VideoFrame frame = await firstFrame;
+      expect(frame.width, 4);
+      expect(frame.height, 2);
+      expect(frame.rowStride, 4);
+      expect(frame.droppedFrames, 3);
+      expect(frame.timestamp, const Duration(milliseconds: 5));
+      expect(frame.yPlane, <int>[7, 0, 0, 0, 0, 0, 0, 0]);
+      expect(frame.uPlane, <int>[8, 0]);
+      expect(frame.vPlane, <int>[9, 0]);
+
+      await Future<void>.delayed(Duration.zero);
+      expect(log.log.last, 'stopFrameTap');
+      expect(log.textureMessage?.textureId, 123);
+    });
   });
 }
 
@@ -0,0 +1,191 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Base64;
+import android.view.Choreographer;
+import android.webkit.JavascriptInterface;
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link JavaScriptChannel} that coalesces the messages posted within a frame into a single
+ * message to Dart.
+ *
+ * <p>Besides `postMessage`, exposes `postMessages`, which takes a JSON array of strings, and
+ * `postBinaryMessage`, which takes base64 encoded bytes that are passed to Dart as a Uint8List.
+ *
+ * <p>At most one batch is sent to Dart at a time. Messages posted while Dart handles a batch wait
+ * for the next one. Once {@code maxPendingMessages} messages are waiting, either the oldest waiting
+ * message or the new message is dropped, and Dart is told how many were dropped with the next
+ * batch.
+ */
+public class BatchedJavaScriptChannel extends JavaScriptChannel {
+  /** Runs callbacks before the next frame is drawn, replaceable for testing. */
+  public interface FrameScheduler {
+    /** Runs {@code callback} before the next frame. Called on the main thread. */
+    void postFrameCallback(Runnable callback);
+  }
+
+  /** Schedules callbacks with the {@link Choreographer} of the main thread. */
+  public static final FrameScheduler CHOREOGRAPHER_FRAME_SCHEDULER =
+      callback -> Choreographer.getInstance().postFrameCallback(frameTimeNanos -> callback.run());
+
+  private final int maxPendingMessages;
+  private final boolean dropOldest;
+  private final FrameScheduler frameScheduler;
+
+  private final Object lock = new Object();
+  // Each message is a String or a byte[]. Guarded by lock, like the fields below.
+  private final ArrayDeque<Object> pendingMessages = new ArrayDeque<>();
+  private long droppedCount;
+  private boolean flushScheduled;
+  private boolean batchInFlight;
+
+  /**
+   * Creates a {@link BatchedJavaScriptChannel} that passes batches of messages to Dart.
+   *
+   * @param flutterApi the Flutter Api to which JS messages are sent
+   * @param channelName JavaScript channel the message was sent through
+   * @param platformThreadHandler handles making callbacks on the desired thread
+   * @param maxPendingMessages the number of messages that can wait for the next batch
+   * @param dropOldest whether the oldest waiting message is dropped instead of the new message when
+   *     {@code maxPendingMessages} messages are waiting
+   * @param frameScheduler schedules sending the waiting messages before the next frame
+   */
+  public BatchedJavaScriptChannel(
+      @NonNull JavaScriptChannelFlutterApiImpl flutterApi,
+      String channelName,
+      Handler platformThreadHandler,
+      int maxPendingMessages,
+      boolean dropOldest,
+      @NonNull FrameScheduler frameScheduler) {
+    super(flutterApi, channelName, platformThreadHandler);
+    this.maxPendingMessages = Math.max(1, maxPendingMessages);
+    this.dropOldest = dropOldest;
+    this.frameScheduler = frameScheduler;
+  }
+
+  // Suppressing unused warning as this is invoked from JavaScript.
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  @Override
+  public void postMessage(final String message) {
+    enqueue(message);
+  }
+
+  /**
+   * Posts each string of a JSON array, e.g. {@code Channel.postMessages(JSON.stringify(batch))}.
+   *
+   * <p>Throws an {@link IllegalArgumentException}, which is raised in JavaScript, if {@code
+   * messages} is not a JSON array of strings.
+   */
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postMessages(final String messages) {
+    final List<String> parsedMessages = JsonStrings.parseStringArray(messages);
+    synchronized (lock) {
+      for (String message : parsedMessages) {
+        add(message);
+      }
+    }
+    scheduleFlushIfNeeded();
+  }
+
+  /**
+   * Posts bytes encoded with base64, e.g. {@code Channel.postBinaryMessage(btoa(binaryString))}.
+   *
+   * <p>Throws an {@link IllegalArgumentException}, which is raised in JavaScript, if {@code
+   * base64Message} is not valid base64.
+   */
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postBinaryMessage(final String base64Message) {
+    enqueue(Base64.decode(base64Message, Base64.DEFAULT));
+  }
+
+  @Override
+  public void release() {
+    synchronized (lock) {
+      pendingMessages.clear();
+      droppedCount = 0;
+    }
+    super.release();
+  }
+
+  private void enqueue(Object message) {
+    synchronized (lock) {
+      add(message);
+    }
+    scheduleFlushIfNeeded();
+  }
+
+  // Must hold lock.
+  private void add(Object message) {
+    if (pendingMessages.size() >= maxPendingMessages) {
+      droppedCount++;
+      if (!dropOldest) {
+        return;
+      }
+      pendingMessages.poll();
+    }
+    pendingMessages.add(message);
+  }
+
+  private void scheduleFlushIfNeeded() {
+    synchronized (lock) {
+      if (flushScheduled) {
+        return;
+      }
+      flushScheduled = true;
+    }
+
+    final Runnable scheduleFlushRunnable = () -> frameScheduler.postFrameCallback(this::flush);
+    if (platformThreadHandler.getLooper() == Looper.myLooper()) {
+      scheduleFlushRunnable.run();
+    } else {
+      platformThreadHandler.post(scheduleFlushRunnable);
+    }
+  }
+
+  /** Sends the waiting messages to Dart unless Dart is still handling the previous batch. */
+  @VisibleForTesting
+  void flush() {
+    final List<Object> batch;
+    final long dropped;
+    synchronized (lock) {
+      if (batchInFlight) {
+        // Sent when Dart replies to the batch in flight.
+        return;
+      }
+      flushScheduled = false;
+      if (flutterApi == null || (pendingMessages.isEmpty() && droppedCount == 0)) {
+        return;
+      }
+      batch = new ArrayList<>(pendingMessages);
+      pendingMessages.clear();
+      dropped = droppedCount;
+      droppedCount = 0;
+      batchInFlight = true;
+    }
+
+    flutterApi.postMessages(this, batch, dropped, reply -> onBatchHandled());
+  }
+
+  private void onBatchHandled() {
+    synchronized (lock) {
+      batchInFlight = false;
+      if (!flushScheduled) {
+        return;
+      }
+    }
+    frameScheduler.postFrameCallback(this::flush);
+  }
+}
@@ -4,11 +4,13 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
 import androidx.annotation.NonNull;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.plugin.common.PluginRegistry;
 import java.io.IOException;
+import java.io.InputStream;
 
 /** Provides access to the assets registered as part of the App bundle. */
 abstract class FlutterAssetManager {
@@ -47,6 +49,31 @@ abstract class FlutterAssetManager {
     return assetManager.list(path);
   }
 
+  /**
+   * Opens an asset for streaming access.
+   *
+   * @param path A relative path within the assets as returned by {@link
+   *     #getAssetFilePathByName(String)}.
+   * @return InputStream Stream of the contents of the asset.
+   * @throws IOException Throws an IOException if the asset doesn't exist or can't be read.
+   */
+  public InputStream open(@NonNull String path) throws IOException {
+    return assetManager.open(path);
+  }
+
+  /**
+   * Opens an asset that is stored uncompressed in the App bundle as a file descriptor.
+   *
+   * @param path A relative path within the assets as returned by {@link
+   *     #getAssetFilePathByName(String)}.
+   * @return AssetFileDescriptor Descriptor of the App bundle with the offset and length of the
+   *     asset.
+   * @throws IOException Throws a FileNotFoundException if the asset doesn't exist or is compressed.
+   */
+  public AssetFileDescriptor openFd(@NonNull String path) throws IOException {
+    return assetManager.openFd(path);
+  }
+
   /**
    * Provides access to assets using the {@link PluginRegistry.Registrar} for looking up file paths
    * to Flutter assets.
@@ -519,6 +519,24 @@ public class GeneratedAndroidWebView {
 
     void setBackgroundColor(@NonNull Long instanceId, @NonNull Long color);
 
+    void evaluateJavascriptBatch(
+        @NonNull Long instanceId,
+        @NonNull List<String> javascriptStrings,
+        Result<List<String>> result);
+
+    void evaluateJavascriptChunked(
+        @NonNull Long instanceId,
+        @NonNull String javascriptString,
+        @NonNull Long streamId,
+        @NonNull Long chunkSize,
+        Result<Long> result);
+
+    void setEventReportingEnabled(
+        @NonNull Long instanceId,
+        @NonNull Boolean enabled,
+        @NonNull Long minScrollDelta,
+        @NonNull Long minProgressDelta);
+
     /** The codec used by WebViewHostApi. */
     static MessageCodec<Object> getCodec() {
       return WebViewHostApiCodec.INSTANCE;
@@ -1333,6 +1351,151 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  List<String> javascriptStringsArg = (List<String>) args.get(1);
+                  if (javascriptStringsArg == null) {
+                    throw new NullPointerException("javascriptStringsArg unexpectedly null.");
+                  }
+                  Result<List<String>> resultCallback =
+                      new Result<List<String>>() {
+                        public void success(List<String> result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.evaluateJavascriptBatch(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      javascriptStringsArg,
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String javascriptStringArg = (String) args.get(1);
+                  if (javascriptStringArg == null) {
+                    throw new NullPointerException("javascriptStringArg unexpectedly null.");
+                  }
+                  Number streamIdArg = (Number) args.get(2);
+                  if (streamIdArg == null) {
+                    throw new NullPointerException("streamIdArg unexpectedly null.");
+                  }
+                  Number chunkSizeArg = (Number) args.get(3);
+                  if (chunkSizeArg == null) {
+                    throw new NullPointerException("chunkSizeArg unexpectedly null.");
+                  }
+                  Result<Long> resultCallback =
+                      new Result<Long>() {
+                        public void success(Long result) {
+                          wrapped.put("result", result);
+                          reply.reply(wrapped);
+                        }
+
+                        public void error(Throwable error) {
+                          wrapped.put("error", wrapError(error));
+                          reply.reply(wrapped);
+                        }
+                      };
+
+                  api.evaluateJavascriptChunked(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      javascriptStringArg,
+                      (streamIdArg == null) ? null : streamIdArg.longValue(),
+                      (chunkSizeArg == null) ? null : chunkSizeArg.longValue(),
+                      resultCallback);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                  reply.reply(wrapped);
+                }
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  Boolean enabledArg = (Boolean) args.get(1);
+                  if (enabledArg == null) {
+                    throw new NullPointerException("enabledArg unexpectedly null.");
+                  }
+                  Number minScrollDeltaArg = (Number) args.get(2);
+                  if (minScrollDeltaArg == null) {
+                    throw new NullPointerException("minScrollDeltaArg unexpectedly null.");
+                  }
+                  Number minProgressDeltaArg = (Number) args.get(3);
+                  if (minProgressDeltaArg == null) {
+                    throw new NullPointerException("minProgressDeltaArg unexpectedly null.");
+                  }
+                  api.setEventReportingEnabled(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      enabledArg,
+                      (minScrollDeltaArg == null) ? null : minScrollDeltaArg.longValue(),
+                      (minProgressDeltaArg == null) ? null : minProgressDeltaArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1833,6 +1996,12 @@ public class GeneratedAndroidWebView {
   public interface JavaScriptChannelHostApi {
     void create(@NonNull Long instanceId, @NonNull String channelName);
 
+    void createBatched(
+        @NonNull Long instanceId,
+        @NonNull String channelName,
+        @NonNull Long maxPendingMessages,
+        @NonNull Boolean dropOldest);
+
     /** The codec used by JavaScriptChannelHostApi. */
     static MessageCodec<Object> getCodec() {
       return JavaScriptChannelHostApiCodec.INSTANCE;
@@ -1873,6 +2042,49 @@ public class GeneratedAndroidWebView {
           channel.setMessageHandler(null);
         }
       }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number instanceIdArg = (Number) args.get(0);
+                  if (instanceIdArg == null) {
+                    throw new NullPointerException("instanceIdArg unexpectedly null.");
+                  }
+                  String channelNameArg = (String) args.get(1);
+                  if (channelNameArg == null) {
+                    throw new NullPointerException("channelNameArg unexpectedly null.");
+                  }
+                  Number maxPendingMessagesArg = (Number) args.get(2);
+                  if (maxPendingMessagesArg == null) {
+                    throw new NullPointerException("maxPendingMessagesArg unexpectedly null.");
+                  }
+                  Boolean dropOldestArg = (Boolean) args.get(3);
+                  if (dropOldestArg == null) {
+                    throw new NullPointerException("dropOldestArg unexpectedly null.");
+                  }
+                  api.createBatched(
+                      (instanceIdArg == null) ? null : instanceIdArg.longValue(),
+                      channelNameArg,
+                      (maxPendingMessagesArg == null) ? null : maxPendingMessagesArg.longValue(),
+                      dropOldestArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
     }
   }
 
@@ -1925,6 +2137,23 @@ public class GeneratedAndroidWebView {
             callback.reply(null);
           });
     }
+
+    public void postMessages(
+        @NonNull Long instanceIdArg,
+        @NonNull List<Object> messagesArg,
+        @NonNull Long droppedCountArg,
+        Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.JavaScriptChannelFlutterApi.postMessages",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(instanceIdArg, messagesArg, droppedCountArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
   }
 
   private static class WebViewClientHostApiCodec extends StandardMessageCodec {
@@ -2525,6 +2754,501 @@ public class GeneratedAndroidWebView {
     }
   }
 
+  private static class WebResourceInterceptorHostApiCodec extends StandardMessageCodec {
+    public static final WebResourceInterceptorHostApiCodec INSTANCE =
+        new WebResourceInterceptorHostApiCodec();
+
+    private WebResourceInterceptorHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebResourceInterceptorHostApi {
+    @NonNull
+    Long addRule(
+        @NonNull String urlPattern,
+        @NonNull Boolean isRegex,
+        @NonNull String source,
+        @Nullable String location);
+
+    void removeRule(@NonNull Long ruleId);
+
+    void clearRules();
+
+    void setCacheMaxSize(@NonNull Long maxBytes);
+
+    void clearCache();
+
+    @NonNull
+    Map<String, Long> getStats();
+
+    void resetStats();
+
+    /** The codec used by WebResourceInterceptorHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebResourceInterceptorHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebResourceInterceptorHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebResourceInterceptorHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  String urlPatternArg = (String) args.get(0);
+                  if (urlPatternArg == null) {
+                    throw new NullPointerException("urlPatternArg unexpectedly null.");
+                  }
+                  Boolean isRegexArg = (Boolean) args.get(1);
+                  if (isRegexArg == null) {
+                    throw new NullPointerException("isRegexArg unexpectedly null.");
+                  }
+                  String sourceArg = (String) args.get(2);
+                  if (sourceArg == null) {
+                    throw new NullPointerException("sourceArg unexpectedly null.");
+                  }
+                  String locationArg = (String) args.get(3);
+                  Long output = api.addRule(urlPatternArg, isRegexArg, sourceArg, locationArg);
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.removeRule",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number ruleIdArg = (Number) args.get(0);
+                  if (ruleIdArg == null) {
+                    throw new NullPointerException("ruleIdArg unexpectedly null.");
+                  }
+                  api.removeRule((ruleIdArg == null) ? null : ruleIdArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.clearRules",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clearRules();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number maxBytesArg = (Number) args.get(0);
+                  if (maxBytesArg == null) {
+                    throw new NullPointerException("maxBytesArg unexpectedly null.");
+                  }
+                  api.setCacheMaxSize((maxBytesArg == null) ? null : maxBytesArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clearCache();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebResourceInterceptorHostApi.resetStats",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.resetStats();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class WebViewPoolHostApiCodec extends StandardMessageCodec {
+    public static final WebViewPoolHostApiCodec INSTANCE = new WebViewPoolHostApiCodec();
+
+    private WebViewPoolHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewPoolHostApi {
+    void setMaxSize(@NonNull Long maxSize);
+
+    void prewarm(@NonNull Long count, @NonNull Boolean useHybridComposition);
+
+    void clear();
+
+    @NonNull
+    Map<String, Long> getStats();
+
+    void resetStats();
+
+    /** The codec used by WebViewPoolHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewPoolHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebViewPoolHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewPoolHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number maxSizeArg = (Number) args.get(0);
+                  if (maxSizeArg == null) {
+                    throw new NullPointerException("maxSizeArg unexpectedly null.");
+                  }
+                  api.setMaxSize((maxSizeArg == null) ? null : maxSizeArg.longValue());
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.prewarm", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number countArg = (Number) args.get(0);
+                  if (countArg == null) {
+                    throw new NullPointerException("countArg unexpectedly null.");
+                  }
+                  Boolean useHybridCompositionArg = (Boolean) args.get(1);
+                  if (useHybridCompositionArg == null) {
+                    throw new NullPointerException("useHybridCompositionArg unexpectedly null.");
+                  }
+                  api.prewarm(
+                      (countArg == null) ? null : countArg.longValue(), useHybridCompositionArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.clear", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.clear();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.getStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  Map<String, Long> output = api.getStats();
+                  wrapped.put("result", output);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.WebViewPoolHostApi.resetStats", getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  api.resetStats();
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class WebViewLifecycleHostApiCodec extends StandardMessageCodec {
+    public static final WebViewLifecycleHostApiCodec INSTANCE = new WebViewLifecycleHostApiCodec();
+
+    private WebViewLifecycleHostApiCodec() {}
+  }
+
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface WebViewLifecycleHostApi {
+    void setHidden(@NonNull Long webViewInstanceId, @NonNull Boolean hidden);
+
+    void setTrimPolicy(@NonNull Long minTrimLevel, @NonNull Boolean saveState);
+
+    /** The codec used by WebViewLifecycleHostApi. */
+    static MessageCodec<Object> getCodec() {
+      return WebViewLifecycleHostApiCodec.INSTANCE;
+    }
+
+    /**
+     * Sets up an instance of `WebViewLifecycleHostApi` to handle messages through the
+     * `binaryMessenger`.
+     */
+    static void setup(BinaryMessenger binaryMessenger, WebViewLifecycleHostApi api) {
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewLifecycleHostApi.setHidden",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number webViewInstanceIdArg = (Number) args.get(0);
+                  if (webViewInstanceIdArg == null) {
+                    throw new NullPointerException("webViewInstanceIdArg unexpectedly null.");
+                  }
+                  Boolean hiddenArg = (Boolean) args.get(1);
+                  if (hiddenArg == null) {
+                    throw new NullPointerException("hiddenArg unexpectedly null.");
+                  }
+                  api.setHidden(
+                      (webViewInstanceIdArg == null) ? null : webViewInstanceIdArg.longValue(),
+                      hiddenArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger,
+                "dev.flutter.pigeon.WebViewLifecycleHostApi.setTrimPolicy",
+                getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                Map<String, Object> wrapped = new HashMap<>();
+                try {
+                  ArrayList<Object> args = (ArrayList<Object>) message;
+                  Number minTrimLevelArg = (Number) args.get(0);
+                  if (minTrimLevelArg == null) {
+                    throw new NullPointerException("minTrimLevelArg unexpectedly null.");
+                  }
+                  Boolean saveStateArg = (Boolean) args.get(1);
+                  if (saveStateArg == null) {
+                    throw new NullPointerException("saveStateArg unexpectedly null.");
+                  }
+                  api.setTrimPolicy(
+                      (minTrimLevelArg == null) ? null : minTrimLevelArg.longValue(), saveStateArg);
+                  wrapped.put("result", null);
+                } catch (Error | RuntimeException exception) {
+                  wrapped.put("error", wrapError(exception));
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+    }
+  }
+
+  private static class WebViewLifecycleFlutterApiCodec extends StandardMessageCodec {
+    public static final WebViewLifecycleFlutterApiCodec INSTANCE =
+        new WebViewLifecycleFlutterApiCodec();
+
+    private WebViewLifecycleFlutterApiCodec() {}
+  }
+
+  /** Generated class from Pigeon that represents Flutter messages that can be called from Java. */
+  public static class WebViewLifecycleFlutterApi {
+    private final BinaryMessenger binaryMessenger;
+
+    public WebViewLifecycleFlutterApi(BinaryMessenger argBinaryMessenger) {
+      this.binaryMessenger = argBinaryMessenger;
+    }
+
+    public interface Reply<T> {
+      void reply(T reply);
+    }
+
+    static MessageCodec<Object> getCodec() {
+      return WebViewLifecycleFlutterApiCodec.INSTANCE;
+    }
+
+    public void onStateChanged(
+        @NonNull Long webViewInstanceIdArg, @NonNull String stateArg, Reply<Void> callback) {
+      BasicMessageChannel<Object> channel =
+          new BasicMessageChannel<>(
+              binaryMessenger,
+              "dev.flutter.pigeon.WebViewLifecycleFlutterApi.onStateChanged",
+              getCodec());
+      channel.send(
+          new ArrayList<Object>(Arrays.asList(webViewInstanceIdArg, stateArg)),
+          channelReply -> {
+            callback.reply(null);
+          });
+    }
+  }
+
   private static Map<String, Object> wrapError(Throwable exception) {
     Map<String, Object> errorMap = new HashMap<>();
     errorMap.put("message", exception.toString());
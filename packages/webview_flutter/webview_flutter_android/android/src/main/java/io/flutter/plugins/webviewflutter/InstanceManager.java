@@ -4,12 +4,9 @@
 
 package io.flutter.plugins.webviewflutter;
 
-import android.os.Handler;
-import android.os.Looper;
 import androidx.annotation.Nullable;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.WeakHashMap;
 
 /**
@@ -23,6 +20,9 @@ import java.util.WeakHashMap;
  * is removed and then the identifier is retrieved with the intention to pass the identifier to Dart
  * (e.g. calling {@link #getIdentifierForStrongReference(Object)}), the strong reference to the
  * instance is recreated. The strong reference will then need to be removed manually again.
+ *
+ * <p>All methods can be called from any thread. Deallocated weak references are reclaimed by a
+ * daemon thread as soon as the garbage collector enqueues them.
  */
 @SuppressWarnings("unchecked")
 public class InstanceManager {
@@ -31,26 +31,41 @@ public class InstanceManager {
   // Host uses identifiers >= 2^16 and Dart is expected to use values n where,
   // 0 <= n < 2^16.
   private static final long MIN_HOST_CREATED_IDENTIFIER = 65536;
-  private static final long CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL = 30000;
 
-  /** Interface for listening when a weak reference of an instance is removed from the manager. */
+  /**
+   * Interface for listening when a weak reference of an instance is removed from the manager.
+   *
+   * <p>Called on the thread that reclaims deallocated weak references.
+   */
   public interface FinalizationListener {
     void onFinalize(long identifier);
   }
 
+  /** A weak reference to an instance that remembers the identifier of the instance. */
+  private static class IdentifiedWeakReference extends WeakReference<Object> {
+    final long identifier;
+
+    IdentifiedWeakReference(Object instance, long identifier, ReferenceQueue<Object> queue) {
+      super(instance, queue);
+      this.identifier = identifier;
+    }
+  }
+
+  // The maps and counters below are guarded by lock.
+  private final Object lock = new Object();
   private final WeakHashMap<Object, Long> identifiers = new WeakHashMap<>();
-  private final HashMap<Long, WeakReference<Object>> weakInstances = new HashMap<>();
-  private final HashMap<Long, Object> strongInstances = new HashMap<>();
+  private final LongObjectHashMap<IdentifiedWeakReference> weakInstances =
+      new LongObjectHashMap<>();
+  private final LongObjectHashMap<Object> strongInstances = new LongObjectHashMap<>();
+  private long finalizedInstanceCount = 0;
+  private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
 
   private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
-  private final HashMap<WeakReference<Object>, Long> weakReferencesToIdentifiers = new HashMap<>();
-
-  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Thread referenceReclaimer;
 
   private final FinalizationListener finalizationListener;
 
-  private long nextIdentifier = MIN_HOST_CREATED_IDENTIFIER;
-  private boolean isClosed = false;
+  private volatile boolean isClosed = false;
 
   /**
    * Instantiate a new manager.
@@ -66,8 +81,9 @@ public class InstanceManager {
 
   private InstanceManager(FinalizationListener finalizationListener) {
     this.finalizationListener = finalizationListener;
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    referenceReclaimer = new Thread(this::reclaimFinalizedInstances, "InstanceManager-reclaimer");
+    referenceReclaimer.setDaemon(true);
+    referenceReclaimer.start();
   }
 
   /**
@@ -81,7 +97,9 @@ public class InstanceManager {
   @Nullable
   public <T> T remove(long identifier) {
     assertManagerIsNotClosed();
-    return (T) strongInstances.remove(identifier);
+    synchronized (lock) {
+      return (T) strongInstances.remove(identifier);
+    }
   }
 
   /**
@@ -97,11 +115,13 @@ public class InstanceManager {
   @Nullable
   public Long getIdentifierForStrongReference(Object instance) {
     assertManagerIsNotClosed();
-    final Long identifier = identifiers.get(instance);
-    if (identifier != null) {
-      strongInstances.put(identifier, instance);
+    synchronized (lock) {
+      final Long identifier = identifiers.get(instance);
+      if (identifier != null) {
+        strongInstances.put(identifier, instance);
+      }
+      return identifier;
     }
-    return identifier;
   }
 
   /**
@@ -116,7 +136,9 @@ public class InstanceManager {
    */
   public void addDartCreatedInstance(Object instance, long identifier) {
     assertManagerIsNotClosed();
-    addInstance(instance, identifier);
+    synchronized (lock) {
+      addInstance(instance, identifier);
+    }
   }
 
   /**
@@ -127,9 +149,11 @@ public class InstanceManager {
    */
   public long addHostCreatedInstance(Object instance) {
     assertManagerIsNotClosed();
-    final long identifier = nextIdentifier++;
-    addInstance(instance, identifier);
-    return identifier;
+    synchronized (lock) {
+      final long identifier = nextIdentifier++;
+      addInstance(instance, identifier);
+      return identifier;
+    }
   }
 
   /**
@@ -143,11 +167,13 @@ public class InstanceManager {
   @Nullable
   public <T> T getInstance(long identifier) {
     assertManagerIsNotClosed();
-    final WeakReference<T> instance = (WeakReference<T>) weakInstances.get(identifier);
-    if (instance != null) {
-      return instance.get();
+    synchronized (lock) {
+      final IdentifiedWeakReference instance = weakInstances.get(identifier);
+      if (instance != null) {
+        return (T) instance.get();
+      }
+      return (T) strongInstances.get(identifier);
     }
-    return (T) strongInstances.get(identifier);
   }
 
   /**
@@ -158,7 +184,47 @@ public class InstanceManager {
    */
   public boolean containsInstance(Object instance) {
     assertManagerIsNotClosed();
-    return identifiers.containsKey(instance);
+    synchronized (lock) {
+      return identifiers.containsKey(instance);
+    }
+  }
+
+  /**
+   * Returns the number of instances whose weak reference has not been reclaimed yet.
+   *
+   * <p>This includes the instances counted by {@link #getStrongInstanceCount()} and {@link
+   * #getWeakInstanceCount()}.
+   */
+  public int getLiveInstanceCount() {
+    synchronized (lock) {
+      return weakInstances.size();
+    }
+  }
+
+  /** Returns the number of instances the manager holds a strong reference to. */
+  public int getStrongInstanceCount() {
+    synchronized (lock) {
+      return strongInstances.size();
+    }
+  }
+
+  /**
+   * Returns the number of instances the manager only holds a weak reference to.
+   *
+   * <p>These instances are reclaimed once they are no longer referenced elsewhere. A count that
+   * keeps growing hints at instances that leak outside of the manager.
+   */
+  public int getWeakInstanceCount() {
+    synchronized (lock) {
+      return weakInstances.size() - strongInstances.size();
+    }
+  }
+
+  /** Returns the number of instances whose weak reference has been reclaimed so far. */
+  public long getFinalizedInstanceCount() {
+    synchronized (lock) {
+      return finalizedInstanceCount;
+    }
   }
 
   /**
@@ -168,32 +234,42 @@ public class InstanceManager {
    * excluded.
    */
   public void close() {
-    handler.removeCallbacks(this::releaseAllFinalizedInstances);
     isClosed = true;
+    referenceReclaimer.interrupt();
   }
 
-  private void releaseAllFinalizedInstances() {
-    WeakReference<Object> reference;
-    while ((reference = (WeakReference<Object>) referenceQueue.poll()) != null) {
-      final Long identifier = weakReferencesToIdentifiers.remove(reference);
-      if (identifier != null) {
-        weakInstances.remove(identifier);
-        strongInstances.remove(identifier);
-        finalizationListener.onFinalize(identifier);
+  private void reclaimFinalizedInstances() {
+    while (!isClosed) {
+      try {
+        reclaimFinalizedInstance((IdentifiedWeakReference) referenceQueue.remove());
+      } catch (InterruptedException e) {
+        // Interrupted by close().
+        return;
+      }
+    }
+  }
+
+  private void reclaimFinalizedInstance(IdentifiedWeakReference reference) {
+    synchronized (lock) {
+      // The identifier may have been paired with another instance since.
+      if (isClosed || weakInstances.get(reference.identifier) != reference) {
+        return;
       }
+      weakInstances.remove(reference.identifier);
+      strongInstances.remove(reference.identifier);
+      finalizedInstanceCount++;
     }
-    handler.postDelayed(
-        this::releaseAllFinalizedInstances, CLEAR_FINALIZED_WEAK_REFERENCES_INTERVAL);
+    finalizationListener.onFinalize(reference.identifier);
   }
 
+  // Must hold lock.
   private void addInstance(Object instance, long identifier) {
     if (identifier < 0) {
       throw new IllegalArgumentException("Identifier must be >= 0.");
     }
-    final WeakReference<Object> weakReference = new WeakReference<>(instance, referenceQueue);
     identifiers.put(instance, identifier);
-    weakInstances.put(identifier, weakReference);
-    weakReferencesToIdentifiers.put(weakReference, identifier);
+    weakInstances.put(
+        identifier, new IdentifiedWeakReference(instance, identifier, referenceQueue));
     strongInstances.put(identifier, instance);
   }
 
@@ -20,9 +20,9 @@ import androidx.annotation.Nullable;
  * <p>No messages are sent to Dart after {@link JavaScriptChannel#release} is called.
  */
 public class JavaScriptChannel implements Releasable {
-  private final Handler platformThreadHandler;
+  final Handler platformThreadHandler;
   final String javaScriptChannelName;
-  @Nullable private JavaScriptChannelFlutterApiImpl flutterApi;
+  @Nullable JavaScriptChannelFlutterApiImpl flutterApi;
 
   /**
    * Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart.
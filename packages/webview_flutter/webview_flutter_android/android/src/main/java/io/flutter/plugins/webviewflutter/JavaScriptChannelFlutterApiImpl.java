@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.List;
 
 /**
  * Flutter Api implementation for {@link JavaScriptChannel}.
@@ -33,6 +34,23 @@ public class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi
     super.postMessage(getIdentifierForJavaScriptChannel(javaScriptChannel), messageArg, callback);
   }
 
+  /**
+   * Passes a batch of messages from a {@link BatchedJavaScriptChannel} to Dart.
+   *
+   * @param javaScriptChannel the channel the messages were posted to
+   * @param messages the messages in the order they were posted, each a String or a byte[]
+   * @param droppedCount the number of messages dropped since the previous batch
+   * @param callback called once Dart handled the batch
+   */
+  public void postMessages(
+      JavaScriptChannel javaScriptChannel,
+      List<Object> messages,
+      long droppedCount,
+      Reply<Void> callback) {
+    super.postMessages(
+        getIdentifierForJavaScriptChannel(javaScriptChannel), messages, droppedCount, callback);
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link JavaScriptChannel} was removed.
    *
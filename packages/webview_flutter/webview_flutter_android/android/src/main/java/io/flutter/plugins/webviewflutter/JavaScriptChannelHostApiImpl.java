@@ -35,6 +35,31 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
         Handler platformThreadHandler) {
       return new JavaScriptChannel(flutterApi, channelName, platformThreadHandler);
     }
+
+    /**
+     * Creates a {@link BatchedJavaScriptChannel}.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param channelName JavaScript channel the message should be sent through
+     * @param platformThreadHandler handles making callbacks on the desired thread
+     * @param maxPendingMessages the number of messages that can wait for the next batch
+     * @param dropOldest whether the oldest waiting message is dropped instead of the new message
+     * @return the created {@link BatchedJavaScriptChannel}
+     */
+    public BatchedJavaScriptChannel createBatchedJavaScriptChannel(
+        JavaScriptChannelFlutterApiImpl flutterApi,
+        String channelName,
+        Handler platformThreadHandler,
+        int maxPendingMessages,
+        boolean dropOldest) {
+      return new BatchedJavaScriptChannel(
+          flutterApi,
+          channelName,
+          platformThreadHandler,
+          maxPendingMessages,
+          dropOldest,
+          BatchedJavaScriptChannel.CHOREOGRAPHER_FRAME_SCHEDULER);
+    }
   }
 
   /**
@@ -72,4 +97,17 @@ public class JavaScriptChannelHostApiImpl implements JavaScriptChannelHostApi {
             flutterApi, channelName, platformThreadHandler);
     instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
   }
+
+  @Override
+  public void createBatched(
+      Long instanceId, String channelName, Long maxPendingMessages, Boolean dropOldest) {
+    final BatchedJavaScriptChannel javaScriptChannel =
+        javaScriptChannelCreator.createBatchedJavaScriptChannel(
+            flutterApi,
+            channelName,
+            platformThreadHandler,
+            maxPendingMessages.intValue(),
+            dropOldest);
+    instanceManager.addDartCreatedInstance(javaScriptChannel, instanceId);
+  }
 }
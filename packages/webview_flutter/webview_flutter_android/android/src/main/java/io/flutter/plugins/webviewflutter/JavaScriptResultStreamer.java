@@ -0,0 +1,160 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Handler;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+
+/**
+ * Streams the result of a script to Dart in chunks of UTF-8 bytes.
+ *
+ * <p>{@link android.webkit.WebView#evaluateJavascript} passes results as JSON. A string result is
+ * unescaped so Dart receives the string itself instead of a JSON string literal, any other result
+ * is sent as its JSON.
+ *
+ * <p>Chunks are encoded on a background thread straight from the result, and the next chunk is only
+ * encoded once Dart has received the previous one. The main thread only passes each chunk to the
+ * {@link BinaryMessenger}, and at most one chunk of the result is held as bytes.
+ */
+public class JavaScriptResultStreamer {
+  /** Prefix of the channel name a result is sent through, followed by the stream identifier. */
+  public static final String CHANNEL_NAME_PREFIX = "plugins.flutter.io/webview/javascript_result/";
+
+  // Large enough to hold any UTF-8 encoded code point.
+  private static final int MIN_CHUNK_SIZE = 16;
+
+  private final BinaryMessenger binaryMessenger;
+  private final Handler mainThreadHandler;
+  private final Executor executor;
+
+  /** A result that is being sent to Dart. */
+  private class ResultStream {
+    final String channelName;
+    final CharBuffer input;
+    final CharsetEncoder encoder;
+    final int chunkSize;
+    final GeneratedAndroidWebView.Result<Long> callback;
+    long bytesSent = 0;
+
+    ResultStream(
+        String channelName,
+        CharSequence text,
+        int chunkSize,
+        GeneratedAndroidWebView.Result<Long> callback) {
+      this.channelName = channelName;
+      this.input = CharBuffer.wrap(text);
+      this.encoder =
+          StandardCharsets.UTF_8
+              .newEncoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      this.chunkSize = chunkSize;
+      this.callback = callback;
+    }
+
+    // Called on the background thread.
+    void encodeNextChunk() {
+      // BinaryMessenger sends the bytes up to the position of the buffer.
+      final ByteBuffer chunk = ByteBuffer.allocateDirect(chunkSize);
+      encoder.encode(input, chunk, true);
+      final boolean isLast = !input.hasRemaining();
+      if (isLast) {
+        encoder.flush(chunk);
+      }
+      bytesSent += chunk.position();
+      mainThreadHandler.post(() -> send(chunk, isLast));
+    }
+
+    // Called on the main thread.
+    void send(ByteBuffer chunk, boolean isLast) {
+      if (chunk.position() == 0) {
+        callback.success(bytesSent);
+        return;
+      }
+      binaryMessenger.send(
+          channelName,
+          chunk,
+          reply -> {
+            if (reply == null) {
+              callback.error(
+                  new IllegalStateException("Dart stopped listening to " + channelName + "."));
+            } else if (isLast) {
+              callback.success(bytesSent);
+            } else {
+              executor.execute(this::encodeNextChunk);
+            }
+          });
+    }
+  }
+
+  /**
+   * Creates a {@link JavaScriptResultStreamer}.
+   *
+   * @param binaryMessenger sends the chunks to Dart
+   * @param mainThreadHandler the handler of the thread the {@link BinaryMessenger} is used from
+   * @param executor unescapes and encodes results in the background
+   */
+  public JavaScriptResultStreamer(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull Handler mainThreadHandler,
+      @NonNull Executor executor) {
+    this.binaryMessenger = binaryMessenger;
+    this.mainThreadHandler = mainThreadHandler;
+    this.executor = executor;
+  }
+
+  /**
+   * Sends {@code result} to Dart through the channel of {@code streamId}.
+   *
+   * <p>Dart acknowledges each chunk with a non-empty reply. A null reply means Dart stopped
+   * listening and no further chunks are sent.
+   *
+   * @param result the JSON result of {@link android.webkit.WebView#evaluateJavascript}
+   * @param streamId identifies the channel the chunks are sent through
+   * @param chunkSize the maximum number of bytes of a chunk
+   * @param callback called on the main thread with the number of bytes sent once Dart received the
+   *     last chunk
+   */
+  public void stream(
+      @Nullable String result,
+      long streamId,
+      int chunkSize,
+      @NonNull GeneratedAndroidWebView.Result<Long> callback) {
+    executor.execute(
+        () -> {
+          final String text;
+          try {
+            text = toText(result);
+          } catch (IllegalArgumentException exception) {
+            mainThreadHandler.post(() -> callback.error(exception));
+            return;
+          }
+          new ResultStream(
+                  CHANNEL_NAME_PREFIX + streamId,
+                  text,
+                  Math.max(MIN_CHUNK_SIZE, chunkSize),
+                  callback)
+              .encodeNextChunk();
+        });
+  }
+
+  private static String toText(@Nullable String result) {
+    if (result == null) {
+      return "null";
+    }
+    if (result.startsWith("\"")) {
+      return JsonStrings.parseString(result);
+    }
+    return result;
+  }
+}
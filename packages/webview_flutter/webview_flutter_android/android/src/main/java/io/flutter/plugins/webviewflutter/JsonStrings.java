@@ -0,0 +1,133 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the JSON strings produced by JavaScript, e.g. by {@code JSON.stringify} or as the result
+ * of {@link android.webkit.WebView#evaluateJavascript}.
+ *
+ * <p>{@code org.json} is avoided so the parser also runs in unit tests.
+ */
+final class JsonStrings {
+  private JsonStrings() {}
+
+  /**
+   * Parses a JSON string literal, e.g. {@code "a\nb"}.
+   *
+   * @throws IllegalArgumentException if {@code json} is not a string literal
+   */
+  static String parseString(String json) {
+    final StringBuilder string = new StringBuilder(json.length());
+    final int index = parseString(json, skipWhitespace(json, 0), string);
+    if (skipWhitespace(json, index) != json.length()) {
+      throw new IllegalArgumentException("Unexpected characters after the JSON string.");
+    }
+    return string.toString();
+  }
+
+  /**
+   * Parses a JSON array of strings, e.g. {@code ["a","b\n"]}.
+   *
+   * @throws IllegalArgumentException if {@code json} is not an array of strings
+   */
+  static List<String> parseStringArray(String json) {
+    final List<String> strings = new ArrayList<>();
+    int index = skipWhitespace(json, 0);
+    index = expect(json, index, '[');
+    index = skipWhitespace(json, index);
+    if (index < json.length() && json.charAt(index) == ']') {
+      index++;
+    } else {
+      while (true) {
+        final StringBuilder string = new StringBuilder();
+        index = parseString(json, skipWhitespace(json, index), string);
+        strings.add(string.toString());
+        index = skipWhitespace(json, index);
+        if (index < json.length() && json.charAt(index) == ',') {
+          index++;
+          continue;
+        }
+        index = expect(json, index, ']');
+        break;
+      }
+    }
+    if (skipWhitespace(json, index) != json.length()) {
+      throw new IllegalArgumentException("Unexpected characters after the JSON array.");
+    }
+    return strings;
+  }
+
+  private static int parseString(String json, int index, StringBuilder string) {
+    index = expect(json, index, '"');
+    while (index < json.length()) {
+      final char character = json.charAt(index++);
+      if (character == '"') {
+        return index;
+      }
+      if (character != '\\') {
+        string.append(character);
+        continue;
+      }
+      if (index >= json.length()) {
+        break;
+      }
+      final char escaped = json.charAt(index++);
+      switch (escaped) {
+        case '"':
+        case '\\':
+        case '/':
+          string.append(escaped);
+          break;
+        case 'b':
+          string.append('\b');
+          break;
+        case 'f':
+          string.append('\f');
+          break;
+        case 'n':
+          string.append('\n');
+          break;
+        case 'r':
+          string.append('\r');
+          break;
+        case 't':
+          string.append('\t');
+          break;
+        case 'u':
+          if (index + 4 > json.length()) {
+            throw new IllegalArgumentException("Invalid unicode escape in JSON string.");
+          }
+          try {
+            string.append((char) Integer.parseInt(json.substring(index, index + 4), 16));
+          } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid unicode escape in JSON string.", e);
+          }
+          index += 4;
+          break;
+        default:
+          throw new IllegalArgumentException("Invalid escape in JSON string: \\" + escaped);
+      }
+    }
+    throw new IllegalArgumentException("Unterminated JSON string.");
+  }
+
+  private static int expect(String json, int index, char expected) {
+    if (index >= json.length() || json.charAt(index) != expected) {
+      throw new IllegalArgumentException(
+          "Expected '" + expected + "' at index " + index + " of a JSON array of strings.");
+    }
+    return index + 1;
+  }
+
+  private static int skipWhitespace(String json, int index) {
+    while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+}
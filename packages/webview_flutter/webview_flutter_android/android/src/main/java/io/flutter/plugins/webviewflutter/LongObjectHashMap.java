@@ -0,0 +1,133 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * A hash map from primitive {@code long} keys to non-null values.
+ *
+ * <p>Unlike a {@link java.util.HashMap}, keys are not boxed and entries are not allocated, which
+ * keeps lookups by identifier cheap. Uses open addressing with linear probing. Not thread safe.
+ */
+class LongObjectHashMap<V> {
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  // A null value marks an empty slot.
+  private Object[] values;
+  private int size;
+
+  LongObjectHashMap() {
+    keys = new long[MIN_CAPACITY];
+    values = new Object[MIN_CAPACITY];
+  }
+
+  /** Returns the value for {@code key}, or null if the map does not contain {@code key}. */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  V get(long key) {
+    final int index = indexOf(key);
+    return index < 0 ? null : (V) values[index];
+  }
+
+  /** Maps {@code key} to {@code value} and returns the previous value for {@code key}, if any. */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  V put(long key, @NonNull V value) {
+    int index = slot(key, keys.length);
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        final V previousValue = (V) values[index];
+        values[index] = value;
+        return previousValue;
+      }
+      index = (index + 1) & (keys.length - 1);
+    }
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    // Keeps the load factor at or below 1/2 so probe sequences stay short.
+    if (size * 2 > keys.length) {
+      resize(keys.length * 2);
+    }
+    return null;
+  }
+
+  /** Removes {@code key} and returns its value, or null if the map did not contain {@code key}. */
+  @Nullable
+  @SuppressWarnings("unchecked")
+  V remove(long key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    final V removedValue = (V) values[index];
+    values[index] = null;
+    size--;
+
+    // Moves back the entries that follow in the probe sequence so lookups don't stop at the hole.
+    final int mask = keys.length - 1;
+    int next = (index + 1) & mask;
+    while (values[next] != null) {
+      final int preferred = slot(keys[next], keys.length);
+      if (((next - preferred) & mask) >= ((next - index) & mask)) {
+        keys[index] = keys[next];
+        values[index] = values[next];
+        values[next] = null;
+        index = next;
+      }
+      next = (next + 1) & mask;
+    }
+    return removedValue;
+  }
+
+  /** Returns the number of entries in the map. */
+  int size() {
+    return size;
+  }
+
+  /** Removes all entries. */
+  void clear() {
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  private int indexOf(long key) {
+    int index = slot(key, keys.length);
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & (keys.length - 1);
+    }
+    return -1;
+  }
+
+  private void resize(int capacity) {
+    final long[] oldKeys = keys;
+    final Object[] oldValues = values;
+    keys = new long[capacity];
+    values = new Object[capacity];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        int index = slot(oldKeys[i], capacity);
+        while (values[index] != null) {
+          index = (index + 1) & (capacity - 1);
+        }
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private static int slot(long key, int capacity) {
+    // Spreads sequential identifiers across the table.
+    final long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & (capacity - 1);
+  }
+}
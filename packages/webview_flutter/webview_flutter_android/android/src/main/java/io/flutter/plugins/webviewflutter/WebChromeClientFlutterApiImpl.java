@@ -6,6 +6,7 @@ package io.flutter.plugins.webviewflutter;
 
 import android.webkit.WebChromeClient;
 import android.webkit.WebView;
+import androidx.annotation.NonNull;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientFlutterApi;
 
@@ -15,6 +16,7 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClient
  * <p>Passes arguments of callbacks methods from a {@link WebChromeClient} to Dart.
  */
 public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
+  private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
 
   /**
@@ -26,6 +28,7 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
   public WebChromeClientFlutterApiImpl(
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
+    this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
   }
 
@@ -36,10 +39,24 @@ public class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
     if (webViewIdentifier == null) {
       throw new IllegalStateException("Could not find identifier for WebView.");
     }
-    super.onProgressChanged(
+    onProgressChanged(
         getIdentifierForClient(webChromeClient), webViewIdentifier, progress, callback);
   }
 
+  @Override
+  public void onProgressChanged(
+      @NonNull Long instanceIdArg,
+      @NonNull Long webViewInstanceIdArg,
+      @NonNull Long progressArg,
+      Reply<Void> callback) {
+    // Sent often enough while a page loads to skip the Pigeon codec.
+    binaryMessenger.send(
+        WebViewCallbackCodec.CHANNEL_NAME,
+        WebViewCallbackCodec.encodeProgressChanged(
+            instanceIdArg, webViewInstanceIdArg, progressArg),
+        reply -> callback.reply(null));
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link WebChromeClient}} was removed.
    *
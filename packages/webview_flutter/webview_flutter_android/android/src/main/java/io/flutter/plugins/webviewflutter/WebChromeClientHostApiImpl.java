@@ -100,11 +100,19 @@ public class WebChromeClientHostApiImpl implements WebChromeClientHostApi {
       return true;
     }
 
+    /**
+     * Passes the progress to Dart, and to the {@link WebViewEventReporter} of {@code view} if it
+     * reports events, which sends it with the scroll position at most once per frame.
+     */
     @Override
     public void onProgressChanged(WebView view, int progress) {
       if (flutterApi != null) {
         flutterApi.onProgressChanged(this, view, (long) progress, reply -> {});
       }
+      final WebViewEventReporter eventReporter = WebViewEventReporter.of(view);
+      if (eventReporter != null) {
+        eventReporter.onProgressChanged(progress);
+      }
     }
 
     /**
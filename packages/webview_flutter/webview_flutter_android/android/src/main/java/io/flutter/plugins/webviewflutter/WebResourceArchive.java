@@ -0,0 +1,328 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.res.AssetFileDescriptor;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A zip archive whose entries are read straight from a memory-mapped file.
+ *
+ * <p>The central directory is read once when the archive is opened and kept as an index from entry
+ * name to location, so opening an entry neither extracts nor searches anything. Stored entries are
+ * read from the mapping as is, deflated entries are inflated while they are read.
+ *
+ * <p>Entries can be opened from any thread. ZIP64 and encrypted entries are not supported.
+ */
+class WebResourceArchive {
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int CENTRAL_DIRECTORY_SIGNATURE = 0x02014b50;
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+  private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int MAX_COMMENT_SIZE = 0xffff;
+  private static final int METHOD_STORED = 0;
+  private static final int METHOD_DEFLATED = 8;
+  private static final int FLAG_ENCRYPTED = 1;
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private final ByteBuffer data;
+  private final Map<String, Entry> entries;
+
+  /** Location of an entry in the archive. */
+  private static class Entry {
+    final int method;
+    final int localHeaderOffset;
+    final int compressedSize;
+
+    Entry(int method, int localHeaderOffset, int compressedSize) {
+      this.method = method;
+      this.localHeaderOffset = localHeaderOffset;
+      this.compressedSize = compressedSize;
+    }
+  }
+
+  /**
+   * Maps the archive at {@code file} into memory and reads its index.
+   *
+   * @throws IOException if the file can't be read or isn't a supported zip archive
+   */
+  @NonNull
+  static WebResourceArchive open(@NonNull File file) throws IOException {
+    try (FileInputStream input = new FileInputStream(file)) {
+      final FileChannel channel = input.getChannel();
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Archives larger than 2 GiB are not supported.");
+      }
+      // The mapping stays valid after the channel is closed.
+      return new WebResourceArchive(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Maps the Flutter asset at {@code assetKey} into memory and reads its index.
+   *
+   * <p>Assets that are stored uncompressed in the APK, which is the default for files ending in
+   * ".zip", are mapped in place. Compressed assets can't be mapped and are read into memory.
+   *
+   * @param assetKey a path as returned by {@link FlutterAssetManager#getAssetFilePathByName}
+   * @throws IOException if the asset can't be read or isn't a supported zip archive
+   */
+  @NonNull
+  static WebResourceArchive open(
+      @NonNull FlutterAssetManager flutterAssetManager, @NonNull String assetKey)
+      throws IOException {
+    final AssetFileDescriptor descriptor;
+    try {
+      descriptor = flutterAssetManager.openFd(assetKey);
+    } catch (FileNotFoundException e) {
+      try (InputStream input = flutterAssetManager.open(assetKey)) {
+        return new WebResourceArchive(readFully(input));
+      }
+    }
+    // Closing the stream closes the descriptor.
+    try (FileInputStream input = descriptor.createInputStream()) {
+      return new WebResourceArchive(
+          input
+              .getChannel()
+              .map(
+                  FileChannel.MapMode.READ_ONLY,
+                  descriptor.getStartOffset(),
+                  descriptor.getLength()));
+    }
+  }
+
+  /**
+   * Reads the index of the archive in {@code data}.
+   *
+   * @throws IOException if {@code data} isn't a supported zip archive
+   */
+  WebResourceArchive(@NonNull ByteBuffer data) throws IOException {
+    this.data = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    this.entries = readIndex(this.data);
+  }
+
+  /** Returns the number of files in the archive. */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * Opens the file named {@code path}, or returns null if the archive has no such file.
+   *
+   * @throws IOException if the entry is corrupt or uses an unsupported compression method
+   */
+  @Nullable
+  InputStream open(@NonNull String path) throws IOException {
+    final Entry entry = entries.get(path);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.localHeaderOffset > data.limit() - LOCAL_HEADER_SIZE
+        || data.getInt(entry.localHeaderOffset) != LOCAL_HEADER_SIGNATURE) {
+      throw new IOException("Corrupt local header of " + path + ".");
+    }
+    // The extra field of the local header may differ from the one in the central directory.
+    final int dataOffset =
+        entry.localHeaderOffset
+            + LOCAL_HEADER_SIZE
+            + getUnsignedShort(data, entry.localHeaderOffset + 26)
+            + getUnsignedShort(data, entry.localHeaderOffset + 28);
+    if (dataOffset > data.limit() - entry.compressedSize) {
+      throw new IOException("Truncated entry " + path + ".");
+    }
+
+    final ByteBuffer compressed = data.duplicate();
+    compressed.limit(dataOffset + entry.compressedSize).position(dataOffset);
+    final InputStream input = new ByteBufferInputStream(compressed);
+    switch (entry.method) {
+      case METHOD_STORED:
+        return input;
+      case METHOD_DEFLATED:
+        return new EntryInflaterInputStream(
+            input, Math.max(1, Math.min(entry.compressedSize, BUFFER_SIZE)));
+      default:
+        throw new IOException("Unsupported compression method " + entry.method + ".");
+    }
+  }
+
+  private static Map<String, Entry> readIndex(ByteBuffer data) throws IOException {
+    final int endOffset = findEndOfCentralDirectory(data);
+    final int entryCount = getUnsignedShort(data, endOffset + 10);
+    final long directorySize = getUnsignedInt(data, endOffset + 12);
+    final long directoryOffset = getUnsignedInt(data, endOffset + 16);
+    if (entryCount == 0xffff || directorySize == 0xffffffffL || directoryOffset == 0xffffffffL) {
+      throw new IOException("ZIP64 archives are not supported.");
+    }
+    if (directoryOffset + directorySize > endOffset) {
+      throw new IOException("Corrupt central directory.");
+    }
+
+    final Map<String, Entry> entries = new HashMap<>(Math.max(16, entryCount * 4 / 3 + 1));
+    int offset = (int) directoryOffset;
+    for (int i = 0; i < entryCount; i++) {
+      if (offset > endOffset - CENTRAL_DIRECTORY_HEADER_SIZE
+          || data.getInt(offset) != CENTRAL_DIRECTORY_SIGNATURE) {
+        throw new IOException("Corrupt central directory.");
+      }
+      final int flags = getUnsignedShort(data, offset + 8);
+      final int method = getUnsignedShort(data, offset + 10);
+      final long compressedSize = getUnsignedInt(data, offset + 20);
+      final long size = getUnsignedInt(data, offset + 24);
+      final int nameLength = getUnsignedShort(data, offset + 28);
+      final int extraLength = getUnsignedShort(data, offset + 30);
+      final int commentLength = getUnsignedShort(data, offset + 32);
+      final long localHeaderOffset = getUnsignedInt(data, offset + 42);
+      if (compressedSize == 0xffffffffL
+          || size == 0xffffffffL
+          || localHeaderOffset == 0xffffffffL) {
+        throw new IOException("ZIP64 archives are not supported.");
+      }
+      final int nameOffset = offset + CENTRAL_DIRECTORY_HEADER_SIZE;
+      if (nameOffset + nameLength > endOffset) {
+        throw new IOException("Corrupt central directory.");
+      }
+      final byte[] name = new byte[nameLength];
+      final ByteBuffer nameBuffer = data.duplicate();
+      nameBuffer.position(nameOffset);
+      nameBuffer.get(name);
+      final String path = new String(name, UTF_8);
+
+      // Directories have no data, and encrypted entries can't be served.
+      if (!path.endsWith("/") && (flags & FLAG_ENCRYPTED) == 0) {
+        entries.put(path, new Entry(method, (int) localHeaderOffset, (int) compressedSize));
+      }
+      offset = nameOffset + nameLength + extraLength + commentLength;
+    }
+    return entries;
+  }
+
+  private static int findEndOfCentralDirectory(ByteBuffer data) throws IOException {
+    final int lastOffset = data.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+    final int firstOffset = Math.max(0, lastOffset - MAX_COMMENT_SIZE);
+    // The record is followed by a comment of up to 64 KiB, so it is searched from the end.
+    for (int offset = lastOffset; offset >= firstOffset; offset--) {
+      if (data.getInt(offset) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+          && offset + END_OF_CENTRAL_DIRECTORY_SIZE + getUnsignedShort(data, offset + 20)
+              == data.limit()) {
+        return offset;
+      }
+    }
+    throw new IOException("Not a zip archive.");
+  }
+
+  private static int getUnsignedShort(ByteBuffer data, int offset) {
+    return data.getShort(offset) & 0xffff;
+  }
+
+  private static long getUnsignedInt(ByteBuffer data, int offset) {
+    return data.getInt(offset) & 0xffffffffL;
+  }
+
+  private static ByteBuffer readFully(InputStream input) throws IOException {
+    byte[] bytes = new byte[Math.max(BUFFER_SIZE, input.available())];
+    int length = 0;
+    int read;
+    while ((read = input.read(bytes, length, bytes.length - length)) != -1) {
+      length += read;
+      if (length == bytes.length) {
+        final byte[] grown = new byte[bytes.length * 2];
+        System.arraycopy(bytes, 0, grown, 0, length);
+        bytes = grown;
+      }
+    }
+    return ByteBuffer.wrap(bytes, 0, length).slice();
+  }
+
+  /** Reads the remaining bytes of a buffer without copying them first. */
+  private static class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(@NonNull byte[] bytes, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long count) {
+      final int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+      buffer.position(buffer.position() + skipped);
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
+  /** Inflates raw deflate data and releases the native memory of its inflater when closed. */
+  private static class EntryInflaterInputStream extends InflaterInputStream {
+    private boolean closed;
+    private boolean inputEnded;
+
+    EntryInflaterInputStream(InputStream input, int bufferSize) {
+      super(input, new Inflater(true), bufferSize);
+    }
+
+    @Override
+    protected void fill() throws IOException {
+      if (inputEnded) {
+        throw new EOFException("Unexpected end of deflated data.");
+      }
+      len = in.read(buf, 0, buf.length);
+      if (len == -1) {
+        // An inflater without zlib header may need one byte past the end of the data.
+        buf[0] = 0;
+        len = 1;
+        inputEnded = true;
+      }
+      inf.setInput(buf, 0, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        super.close();
+        inf.end();
+      }
+    }
+  }
+}
@@ -0,0 +1,437 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Disk cache of GET responses that is revalidated with {@code ETag} and {@code Last-Modified}.
+ *
+ * <p>Each response is stored in a single file holding a small header followed by the body, so an
+ * entry is replaced atomically by renaming a temporary file. Entries are evicted least recently
+ * used first once the cache exceeds its maximum size.
+ *
+ * <p>The cache is meant for static resources such as scripts, style sheets and fonts. The status
+ * and headers of the upstream response are stored with the body, except for cookies and headers
+ * that only apply to the connection. Cookies are neither sent nor stored.
+ */
+class WebResourceCache {
+  @VisibleForTesting static final long DEFAULT_MAX_SIZE = 50 * 1024 * 1024;
+  private static final int ENTRY_VERSION = 2;
+  private static final int BUFFER_SIZE = 16 * 1024;
+  private static final int TIMEOUT_MS = 15000;
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /** Opens connections to the network, replaceable for testing. */
+  interface ConnectionFactory {
+    HttpURLConnection open(URL url) throws IOException;
+  }
+
+  /** A response served by the cache. */
+  static class Response {
+    final String mimeType;
+    @Nullable final String encoding;
+    final int statusCode;
+    final String reasonPhrase;
+    /** The headers of the upstream response. */
+    final Map<String, String> headers;
+
+    final InputStream data;
+    final Source source;
+
+    Response(
+        String mimeType,
+        @Nullable String encoding,
+        int statusCode,
+        String reasonPhrase,
+        Map<String, String> headers,
+        InputStream data,
+        Source source) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+      this.data = data;
+      this.source = source;
+    }
+  }
+
+  /** Where the body of a {@link Response} came from. */
+  enum Source {
+    /** The cached entry was fresh according to the server. */
+    REVALIDATED,
+    /** The entry was fetched from the network and cached. */
+    NETWORK,
+    /** The server could not be reached, so the cached entry is served as is. */
+    STALE
+  }
+
+  private final File directory;
+  private final ConnectionFactory connectionFactory;
+  private volatile long maxSize = DEFAULT_MAX_SIZE;
+
+  WebResourceCache(File directory) {
+    this(directory, url -> (HttpURLConnection) url.openConnection());
+  }
+
+  @VisibleForTesting
+  WebResourceCache(File directory, ConnectionFactory connectionFactory) {
+    this.directory = directory;
+    this.connectionFactory = connectionFactory;
+  }
+
+  void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+    trim();
+  }
+
+  /** Deletes all cached responses. */
+  synchronized void clear() {
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+  }
+
+  /**
+   * Returns the response to a GET request for {@code url}, revalidating a cached entry with the
+   * server.
+   *
+   * <p>Returns null if the server responds with anything other than a cacheable success, in which
+   * case the WebView should load the resource itself.
+   */
+  @Nullable
+  Response get(@NonNull String url, @NonNull Map<String, String> requestHeaders) {
+    final File entryFile = new File(directory, key(url));
+    final Entry cached = Entry.read(entryFile);
+
+    HttpURLConnection connection = null;
+    try {
+      connection = connectionFactory.open(new URL(url));
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+        if (!isConditionalHeader(header.getKey())) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      if (cached != null && cached.etag != null) {
+        connection.setRequestProperty("If-None-Match", cached.etag);
+      }
+      if (cached != null && cached.lastModified != null) {
+        connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+      }
+
+      final int status = connection.getResponseCode();
+      if (status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+        connection.disconnect();
+        entryFile.setLastModified(System.currentTimeMillis());
+        return cached.toResponse(entryFile, Source.REVALIDATED);
+      }
+      if (status != HttpURLConnection.HTTP_OK || !isStorable(connection)) {
+        connection.disconnect();
+        return null;
+      }
+
+      final String reasonPhrase = connection.getResponseMessage();
+      final Entry entry =
+          new Entry(
+              mimeType(connection.getContentType()),
+              charset(connection.getContentType()),
+              connection.getHeaderField("ETag"),
+              connection.getHeaderField("Last-Modified"),
+              status,
+              reasonPhrase == null || reasonPhrase.isEmpty() ? "OK" : reasonPhrase,
+              storableHeaders(connection.getHeaderFields()));
+      final File written = write(entry, connection.getInputStream(), entryFile);
+      connection.disconnect();
+      trim();
+      return entry.toResponse(written, Source.NETWORK);
+    } catch (IOException e) {
+      if (connection != null) {
+        connection.disconnect();
+      }
+      if (cached == null) {
+        return null;
+      }
+      try {
+        return cached.toResponse(entryFile, Source.STALE);
+      } catch (IOException ignored) {
+        return null;
+      }
+    }
+  }
+
+  private File write(Entry entry, InputStream body, File entryFile) throws IOException {
+    if (!directory.exists() && !directory.mkdirs()) {
+      throw new IOException("Unable to create " + directory);
+    }
+    final File temporary =
+        new File(directory, entryFile.getName() + ".tmp" + Thread.currentThread().getId());
+    try {
+      final DataOutputStream output =
+          new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporary)));
+      try {
+        entry.writeHeader(output);
+        copy(body, output);
+      } finally {
+        output.close();
+        body.close();
+      }
+      if (!temporary.renameTo(entryFile)) {
+        throw new IOException("Unable to write " + entryFile);
+      }
+      return entryFile;
+    } finally {
+      temporary.delete();
+    }
+  }
+
+  private synchronized void trim() {
+    final File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    long totalSize = 0;
+    for (File file : files) {
+      totalSize += file.length();
+    }
+    if (totalSize <= maxSize) {
+      return;
+    }
+    Arrays.sort(
+        files,
+        new Comparator<File>() {
+          @Override
+          public int compare(File a, File b) {
+            return Long.compare(a.lastModified(), b.lastModified());
+          }
+        });
+    for (File file : files) {
+      if (totalSize <= maxSize) {
+        break;
+      }
+      final long length = file.length();
+      if (file.delete()) {
+        totalSize -= length;
+      }
+    }
+  }
+
+  private static boolean isConditionalHeader(String name) {
+    final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+    return lowerCaseName.startsWith("if-") || lowerCaseName.equals("range");
+  }
+
+  private static boolean isStorable(HttpURLConnection connection) {
+    final String cacheControl = connection.getHeaderField("Cache-Control");
+    return cacheControl == null || !cacheControl.toLowerCase(Locale.ROOT).contains("no-store");
+  }
+
+  /** Returns the response headers worth replaying, with the values of repeated headers joined. */
+  private static Map<String, String> storableHeaders(
+      @Nullable Map<String, List<String>> headerFields) {
+    final Map<String, String> headers = new HashMap<>();
+    if (headerFields == null) {
+      return headers;
+    }
+    for (Map.Entry<String, List<String>> field : headerFields.entrySet()) {
+      // The status line is stored with a null name.
+      if (field.getKey() == null || field.getValue() == null || !isStorableHeader(field.getKey())) {
+        continue;
+      }
+      final StringBuilder value = new StringBuilder();
+      for (String fieldValue : field.getValue()) {
+        if (value.length() > 0) {
+          value.append(", ");
+        }
+        value.append(fieldValue);
+      }
+      headers.put(field.getKey(), value.toString());
+    }
+    return headers;
+  }
+
+  private static boolean isStorableHeader(String name) {
+    final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+    return !lowerCaseName.equals("connection")
+        && !lowerCaseName.equals("keep-alive")
+        && !lowerCaseName.equals("transfer-encoding")
+        && !lowerCaseName.startsWith("set-cookie")
+        // Added by the platform's HttpURLConnection, e.g. X-Android-Received-Millis.
+        && !lowerCaseName.startsWith("x-android-");
+  }
+
+  private static String mimeType(@Nullable String contentType) {
+    if (contentType == null) {
+      return "application/octet-stream";
+    }
+    final int parametersStart = contentType.indexOf(';');
+    return (parametersStart < 0 ? contentType : contentType.substring(0, parametersStart)).trim();
+  }
+
+  @Nullable
+  private static String charset(@Nullable String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    for (String parameter : contentType.split(";")) {
+      final String trimmed = parameter.trim();
+      if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+        return trimmed.substring("charset=".length()).replace("\"", "");
+      }
+    }
+    return null;
+  }
+
+  private static void copy(InputStream input, OutputStream output) throws IOException {
+    final byte[] buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+  }
+
+  @VisibleForTesting
+  static String key(String url) {
+    try {
+      final byte[] hash = MessageDigest.getInstance("SHA-1").digest(url.getBytes(UTF_8));
+      final StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-1 is available on every Android version.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** The header of a cached response. */
+  private static class Entry {
+    final String mimeType;
+    @Nullable final String encoding;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    final int statusCode;
+    final String reasonPhrase;
+    final Map<String, String> headers;
+
+    Entry(
+        String mimeType,
+        @Nullable String encoding,
+        @Nullable String etag,
+        @Nullable String lastModified,
+        int statusCode,
+        String reasonPhrase,
+        Map<String, String> headers) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+    }
+
+    @Nullable
+    static Entry read(File file) {
+      if (!file.isFile()) {
+        return null;
+      }
+      try (DataInputStream input = new DataInputStream(new FileInputStream(file))) {
+        return readHeader(input);
+      } catch (IOException e) {
+        file.delete();
+        return null;
+      }
+    }
+
+    private static Entry readHeader(DataInputStream input) throws IOException {
+      if (input.readInt() != ENTRY_VERSION) {
+        throw new IOException("Unknown cache entry version");
+      }
+      final String mimeType = input.readUTF();
+      final String encoding = readOptional(input);
+      final String etag = readOptional(input);
+      final String lastModified = readOptional(input);
+      final int statusCode = input.readInt();
+      final String reasonPhrase = input.readUTF();
+      final int headerCount = input.readInt();
+      final Map<String, String> headers = new HashMap<>();
+      for (int i = 0; i < headerCount; i++) {
+        headers.put(input.readUTF(), input.readUTF());
+      }
+      return new Entry(mimeType, encoding, etag, lastModified, statusCode, reasonPhrase, headers);
+    }
+
+    void writeHeader(DataOutputStream output) throws IOException {
+      output.writeInt(ENTRY_VERSION);
+      output.writeUTF(mimeType);
+      writeOptional(output, encoding);
+      writeOptional(output, etag);
+      writeOptional(output, lastModified);
+      output.writeInt(statusCode);
+      output.writeUTF(reasonPhrase);
+      output.writeInt(headers.size());
+      for (Map.Entry<String, String> header : headers.entrySet()) {
+        output.writeUTF(header.getKey());
+        output.writeUTF(header.getValue());
+      }
+    }
+
+    /** Opens the body of the entry stored in {@code file}. */
+    Response toResponse(File file, Source source) throws IOException {
+      final DataInputStream input =
+          new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+      try {
+        readHeader(input);
+      } catch (IOException e) {
+        input.close();
+        throw e;
+      }
+      return new Response(mimeType, encoding, statusCode, reasonPhrase, headers, input, source);
+    }
+
+    @Nullable
+    private static String readOptional(DataInputStream input) throws IOException {
+      return input.readBoolean() ? input.readUTF() : null;
+    }
+
+    private static void writeOptional(DataOutputStream output, @Nullable String value)
+        throws IOException {
+      output.writeBoolean(value != null);
+      if (value != null) {
+        output.writeUTF(value);
+      }
+    }
+  }
+}
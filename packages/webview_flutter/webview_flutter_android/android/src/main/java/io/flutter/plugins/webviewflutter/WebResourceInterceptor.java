@@ -0,0 +1,457 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.os.Build;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves requests of WebViews from Flutter assets, a local directory, a zip archive or a {@link
+ * WebResourceCache} according to rules registered from Dart.
+ *
+ * <p>Requests are matched on the thread the WebView calls {@code shouldInterceptRequest} on, so no
+ * message is sent to Dart per request. The first rule that matches a url wins. Requests no rule
+ * matches, or that the matching source can't serve, are loaded by the WebView as usual.
+ *
+ * <p>Responses from assets, directories and archives allow requests from any origin, because pages
+ * loaded from a virtual origin still fetch them with CORS, e.g. fonts. Responses from the cache
+ * keep the status and headers of the upstream response, so they are as visible to other origins as
+ * the upstream response was.
+ */
+public class WebResourceInterceptor {
+  /** Where the responses of a rule come from. */
+  enum Source {
+    /** Flutter assets below the directory given as the location of the rule. */
+    ASSET,
+    /** Files below the directory given as the location of the rule. */
+    DIRECTORY,
+    /** The network, through the disk cache. */
+    CACHE,
+    /** Files in the zip archive that is the Flutter asset given as the location of the rule. */
+    ARCHIVE_ASSET,
+    /** Files in the zip archive at the path given as the location of the rule. */
+    ARCHIVE_FILE
+  }
+
+  private static final Map<String, String> WEB_MIME_TYPES = new HashMap<>();
+
+  static {
+    WEB_MIME_TYPES.put("html", "text/html");
+    WEB_MIME_TYPES.put("htm", "text/html");
+    WEB_MIME_TYPES.put("js", "text/javascript");
+    WEB_MIME_TYPES.put("mjs", "text/javascript");
+    WEB_MIME_TYPES.put("css", "text/css");
+    WEB_MIME_TYPES.put("json", "application/json");
+    WEB_MIME_TYPES.put("svg", "image/svg+xml");
+    WEB_MIME_TYPES.put("wasm", "application/wasm");
+    WEB_MIME_TYPES.put("woff", "font/woff");
+    WEB_MIME_TYPES.put("woff2", "font/woff2");
+    WEB_MIME_TYPES.put("ttf", "font/ttf");
+    WEB_MIME_TYPES.put("webp", "image/webp");
+  }
+
+  private final List<Rule> rules = new CopyOnWriteArrayList<>();
+  private final AtomicLong nextRuleId = new AtomicLong();
+  private final FlutterAssetManager flutterAssetManager;
+  private final WebResourceCache cache;
+
+  private final AtomicLong assetHits = new AtomicLong();
+  private final AtomicLong directoryHits = new AtomicLong();
+  private final AtomicLong archiveHits = new AtomicLong();
+  private final AtomicLong cacheHits = new AtomicLong();
+  private final AtomicLong cacheMisses = new AtomicLong();
+  private final AtomicLong staleHits = new AtomicLong();
+  private final AtomicLong notFound = new AtomicLong();
+
+  /**
+   * Creates an interceptor without rules.
+   *
+   * @param flutterAssetManager looks up the Flutter assets of {@link Source#ASSET} rules
+   * @param cache stores the responses of {@link Source#CACHE} rules
+   */
+  public WebResourceInterceptor(
+      @NonNull FlutterAssetManager flutterAssetManager, @NonNull WebResourceCache cache) {
+    this.flutterAssetManager = flutterAssetManager;
+    this.cache = cache;
+  }
+
+  /**
+   * Adds a rule that is checked after all rules added before.
+   *
+   * @param urlPattern the url prefix, or regular expression if {@code isRegex}, to match
+   * @param isRegex whether {@code urlPattern} is a regular expression. The path served is its first
+   *     group if it has one, or the path of the url otherwise
+   * @param source where responses come from
+   * @param location the asset directory, local directory, archive asset or archive file responses
+   *     are served from
+   * @return the identifier of the rule, which can be passed to {@link #removeRule}
+   */
+  long addRule(
+      @NonNull String urlPattern,
+      boolean isRegex,
+      @NonNull Source source,
+      @Nullable String location) {
+    if (source != Source.CACHE && location == null) {
+      throw new IllegalArgumentException("A location is required for " + source + " rules.");
+    }
+    final long id = nextRuleId.getAndIncrement();
+    rules.add(
+        new Rule(
+            id,
+            isRegex ? null : urlPattern,
+            isRegex ? Pattern.compile(urlPattern) : null,
+            source,
+            location));
+    return id;
+  }
+
+  void removeRule(long id) {
+    for (Rule rule : rules) {
+      if (rule.id == id) {
+        rules.remove(rule);
+      }
+    }
+  }
+
+  void clearRules() {
+    rules.clear();
+  }
+
+  WebResourceCache getCache() {
+    return cache;
+  }
+
+  /** Counters of how requests were served since the last {@link #resetStats}. */
+  Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("assetHits", assetHits.get());
+    stats.put("directoryHits", directoryHits.get());
+    stats.put("archiveHits", archiveHits.get());
+    stats.put("cacheHits", cacheHits.get());
+    stats.put("cacheMisses", cacheMisses.get());
+    stats.put("staleHits", staleHits.get());
+    stats.put("notFound", notFound.get());
+    return stats;
+  }
+
+  void resetStats() {
+    assetHits.set(0);
+    directoryHits.set(0);
+    archiveHits.set(0);
+    cacheHits.set(0);
+    cacheMisses.set(0);
+    staleHits.set(0);
+    notFound.set(0);
+  }
+
+  /**
+   * Returns the response to a request, or null if the WebView should load it itself.
+   *
+   * <p>Called by WebViewClients on a background thread.
+   */
+  @Nullable
+  WebResourceResponse shouldInterceptRequest(
+      @NonNull String url, @NonNull String method, @Nullable Map<String, String> requestHeaders) {
+    final Resource resource = resolve(url, method, requestHeaders);
+    if (resource == null) {
+      return null;
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      return new WebResourceResponse(
+          resource.mimeType,
+          resource.encoding,
+          resource.statusCode,
+          resource.reasonPhrase,
+          resource.headers,
+          resource.data);
+    }
+    return new WebResourceResponse(resource.mimeType, resource.encoding, resource.data);
+  }
+
+  @VisibleForTesting
+  @Nullable
+  Resource resolve(
+      @NonNull String url, @NonNull String method, @Nullable Map<String, String> requestHeaders) {
+    for (Rule rule : rules) {
+      final String path = rule.match(url);
+      if (path == null) {
+        continue;
+      }
+      switch (rule.source) {
+        case ASSET:
+          return openAsset(rule.location, path);
+        case DIRECTORY:
+          return openFile(rule.location, path);
+        case CACHE:
+          return fetch(url, method, requestHeaders);
+        case ARCHIVE_ASSET:
+        case ARCHIVE_FILE:
+          return openArchiveEntry(rule, path);
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private Resource openAsset(String assetDirectory, String path) {
+    final String assetKey = flutterAssetManager.getAssetFilePathByName(join(assetDirectory, path));
+    try {
+      final InputStream data = flutterAssetManager.open(assetKey);
+      assetHits.incrementAndGet();
+      return Resource.local(guessMimeType(path), data);
+    } catch (IOException e) {
+      notFound.incrementAndGet();
+      return null;
+    }
+  }
+
+  @Nullable
+  private Resource openFile(String directory, String path) {
+    try {
+      final File root = new File(directory).getCanonicalFile();
+      final File file = new File(root, path).getCanonicalFile();
+      // Rejects paths that escape the directory, e.g. with "..".
+      if (!file.getPath().startsWith(root.getPath() + File.separator) || !file.isFile()) {
+        notFound.incrementAndGet();
+        return null;
+      }
+      final InputStream data = new FileInputStream(file);
+      directoryHits.incrementAndGet();
+      return Resource.local(guessMimeType(path), data);
+    } catch (FileNotFoundException e) {
+      notFound.incrementAndGet();
+      return null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private Resource openArchiveEntry(Rule rule, String path) {
+    try {
+      final InputStream data = rule.getArchive(flutterAssetManager).open(path);
+      if (data == null) {
+        notFound.incrementAndGet();
+        return null;
+      }
+      archiveHits.incrementAndGet();
+      return Resource.local(guessMimeType(path), data);
+    } catch (IOException e) {
+      notFound.incrementAndGet();
+      return null;
+    }
+  }
+
+  @Nullable
+  private Resource fetch(String url, String method, @Nullable Map<String, String> requestHeaders) {
+    if (!"GET".equalsIgnoreCase(method)
+        || !(url.startsWith("http://") || url.startsWith("https://"))) {
+      return null;
+    }
+    final Map<String, String> headers =
+        requestHeaders != null ? requestHeaders : Collections.<String, String>emptyMap();
+    for (String name : headers.keySet()) {
+      // Partial responses are left to the WebView, e.g. for media.
+      if ("range".equalsIgnoreCase(name)) {
+        return null;
+      }
+    }
+    final WebResourceCache.Response response = cache.get(url, headers);
+    if (response == null) {
+      return null;
+    }
+    switch (response.source) {
+      case REVALIDATED:
+        cacheHits.incrementAndGet();
+        break;
+      case NETWORK:
+        cacheMisses.incrementAndGet();
+        break;
+      case STALE:
+        staleHits.incrementAndGet();
+        break;
+    }
+    return new Resource(
+        response.mimeType,
+        response.encoding,
+        response.statusCode,
+        response.reasonPhrase,
+        response.headers,
+        response.data);
+  }
+
+  private static String join(String directory, String path) {
+    if (directory.isEmpty()) {
+      return path;
+    }
+    return directory.endsWith("/") ? directory + path : directory + "/" + path;
+  }
+
+  @VisibleForTesting
+  static String guessMimeType(String path) {
+    final int extensionStart = path.lastIndexOf('.');
+    if (extensionStart >= 0) {
+      final String mimeType =
+          WEB_MIME_TYPES.get(path.substring(extensionStart + 1).toLowerCase(Locale.ROOT));
+      if (mimeType != null) {
+        return mimeType;
+      }
+    }
+    final String mimeType = URLConnection.guessContentTypeFromName(path);
+    return mimeType != null ? mimeType : "application/octet-stream";
+  }
+
+  /** The data, type, status and headers of a response. */
+  @VisibleForTesting
+  static class Resource {
+    final String mimeType;
+    @Nullable final String encoding;
+    final int statusCode;
+    final String reasonPhrase;
+    final Map<String, String> headers;
+    final InputStream data;
+
+    Resource(
+        String mimeType,
+        @Nullable String encoding,
+        int statusCode,
+        String reasonPhrase,
+        Map<String, String> headers,
+        InputStream data) {
+      this.mimeType = mimeType;
+      this.encoding = encoding;
+      this.statusCode = statusCode;
+      this.reasonPhrase = reasonPhrase;
+      this.headers = headers;
+      this.data = data;
+    }
+
+    /** Returns a successful response from a local source that any origin may read. */
+    static Resource local(String mimeType, InputStream data) {
+      final Map<String, String> headers = new HashMap<>();
+      headers.put("Access-Control-Allow-Origin", "*");
+      return new Resource(mimeType, null, 200, "OK", headers, data);
+    }
+  }
+
+  private static class Rule {
+    final long id;
+    @Nullable final String prefix;
+    @Nullable final Pattern pattern;
+    final Source source;
+    @Nullable final String location;
+    // Opened on the first request of an archive rule.
+    @Nullable private volatile WebResourceArchive archive;
+
+    Rule(
+        long id,
+        @Nullable String prefix,
+        @Nullable Pattern pattern,
+        Source source,
+        @Nullable String location) {
+      this.id = id;
+      this.prefix = prefix;
+      this.pattern = pattern;
+      this.source = source;
+      this.location = location;
+    }
+
+    /** Returns the archive of an archive rule, which is mapped and indexed only once. */
+    WebResourceArchive getArchive(FlutterAssetManager flutterAssetManager) throws IOException {
+      final WebResourceArchive openedArchive = archive;
+      if (openedArchive != null) {
+        return openedArchive;
+      }
+      synchronized (this) {
+        if (archive == null) {
+          archive =
+              source == Source.ARCHIVE_ASSET
+                  ? WebResourceArchive.open(
+                      flutterAssetManager, flutterAssetManager.getAssetFilePathByName(location))
+                  : WebResourceArchive.open(new File(location));
+        }
+        return archive;
+      }
+    }
+
+    /** Returns the decoded path to serve for {@code url}, or null if the rule doesn't match. */
+    @Nullable
+    String match(String url) {
+      String path;
+      if (prefix != null) {
+        if (!url.startsWith(prefix)) {
+          return null;
+        }
+        path = url.substring(prefix.length());
+      } else {
+        final Matcher matcher = pattern.matcher(url);
+        if (!matcher.find()) {
+          return null;
+        }
+        if (matcher.groupCount() >= 1 && matcher.group(1) != null) {
+          path = matcher.group(1);
+        } else {
+          path = pathOf(url);
+        }
+      }
+      path = stripQueryAndFragment(path);
+      while (path.startsWith("/")) {
+        path = path.substring(1);
+      }
+      if (path.isEmpty() || path.endsWith("/")) {
+        path += "index.html";
+      }
+      return decode(path);
+    }
+
+    private static String pathOf(String url) {
+      final int schemeEnd = url.indexOf("://");
+      final int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+      return pathStart < 0 ? "" : url.substring(pathStart);
+    }
+
+    private static String stripQueryAndFragment(String path) {
+      int end = path.length();
+      final int queryStart = path.indexOf('?');
+      if (queryStart >= 0) {
+        end = queryStart;
+      }
+      final int fragmentStart = path.indexOf('#');
+      if (fragmentStart >= 0 && fragmentStart < end) {
+        end = fragmentStart;
+      }
+      return path.substring(0, end);
+    }
+
+    private static String decode(String path) {
+      try {
+        // URLDecoder decodes form encoding, which would turn a literal '+' into a space.
+        return URLDecoder.decode(path.replace("+", "%2B"), "UTF-8");
+      } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+        return path;
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Host api implementation for {@link WebResourceInterceptor}.
+ *
+ * <p>Handles the rules of the {@link WebResourceInterceptor} shared by all WebViewClients.
+ */
+public class WebResourceInterceptorHostApiImpl implements WebResourceInterceptorHostApi {
+  private final WebResourceInterceptor interceptor;
+
+  /**
+   * Creates a host API that handles the rules of a {@link WebResourceInterceptor}.
+   *
+   * @param interceptor the interceptor used by all WebViewClients
+   */
+  public WebResourceInterceptorHostApiImpl(@NonNull WebResourceInterceptor interceptor) {
+    this.interceptor = interceptor;
+  }
+
+  @NonNull
+  @Override
+  public Long addRule(
+      @NonNull String urlPattern,
+      @NonNull Boolean isRegex,
+      @NonNull String source,
+      @Nullable String location) {
+    return interceptor.addRule(
+        urlPattern,
+        isRegex,
+        WebResourceInterceptor.Source.valueOf(source.toUpperCase(Locale.ROOT)),
+        location);
+  }
+
+  @Override
+  public void removeRule(@NonNull Long ruleId) {
+    interceptor.removeRule(ruleId);
+  }
+
+  @Override
+  public void clearRules() {
+    interceptor.clearRules();
+  }
+
+  @Override
+  public void setCacheMaxSize(@NonNull Long maxBytes) {
+    interceptor.getCache().setMaxSize(maxBytes);
+  }
+
+  @Override
+  public void clearCache() {
+    interceptor.getCache().clear();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getStats() {
+    return interceptor.getStats();
+  }
+
+  @Override
+  public void resetStats() {
+    interceptor.resetStats();
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+
+/**
+ * Encodes the callbacks that WebViews send to Dart most often by writing their arguments one after
+ * another into a single buffer.
+ *
+ * <p>The Pigeon codec wraps the arguments of each callback in a list and converts data classes to
+ * maps, so every page load and progress update allocates several collections on both sides. Each
+ * message here starts with the type of the callback and the identifiers of the client and the
+ * WebView, followed by the arguments. Numbers are little endian and strings are UTF-8 preceded by
+ * their length in bytes. The layout must match {@code WebViewCallbackFlutterApiImpl} in Dart.
+ */
+final class WebViewCallbackCodec {
+  /** Name of the channel the callbacks are sent through with a {@link ByteBuffer} per callback. */
+  static final String CHANNEL_NAME = "plugins.flutter.io/webview/callbacks";
+
+  static final byte ON_PAGE_STARTED = 0;
+  static final byte ON_PAGE_FINISHED = 1;
+  static final byte URL_LOADING = 2;
+  static final byte REQUEST_LOADING = 3;
+  static final byte ON_PROGRESS_CHANGED = 4;
+  static final byte WEB_VIEW_EVENT = 5;
+
+  static final int FLAG_IS_FOR_MAIN_FRAME = 1;
+  static final int FLAG_HAS_GESTURE = 1 << 1;
+  static final int FLAG_HAS_IS_REDIRECT = 1 << 2;
+  static final int FLAG_IS_REDIRECT = 1 << 3;
+
+  // The type, the identifier of the client and the identifier of the WebView.
+  private static final int HEADER_SIZE = 1 + 8 + 8;
+
+  private WebViewCallbackCodec() {}
+
+  /** Encodes a callback whose only argument is a url, e.g. {@link #ON_PAGE_STARTED}. */
+  @NonNull
+  static ByteBuffer encodeUrlCallback(
+      byte type, long instanceId, long webViewInstanceId, @NonNull String url) {
+    final ByteBuffer message = allocate(HEADER_SIZE + sizeOf(url));
+    putHeader(message, type, instanceId, webViewInstanceId);
+    putString(message, url);
+    return message;
+  }
+
+  /** Encodes {@link #ON_PROGRESS_CHANGED}. */
+  @NonNull
+  static ByteBuffer encodeProgressChanged(long instanceId, long webViewInstanceId, long progress) {
+    final ByteBuffer message = allocate(HEADER_SIZE + 4);
+    putHeader(message, ON_PROGRESS_CHANGED, instanceId, webViewInstanceId);
+    message.putInt((int) progress);
+    return message;
+  }
+
+  /**
+   * Encodes {@link #WEB_VIEW_EVENT}. The event is sent by the WebView itself, so both identifiers
+   * of the header are {@code webViewInstanceId}.
+   */
+  @NonNull
+  static ByteBuffer encodeWebViewEvent(
+      long webViewInstanceId, int scrollX, int scrollY, int progress) {
+    final ByteBuffer message = allocate(HEADER_SIZE + 4 + 4 + 4);
+    putHeader(message, WEB_VIEW_EVENT, webViewInstanceId, webViewInstanceId);
+    message.putInt(scrollX);
+    message.putInt(scrollY);
+    message.putInt(progress);
+    return message;
+  }
+
+  /** Encodes {@link #REQUEST_LOADING} without converting {@code request} to a map. */
+  @NonNull
+  static ByteBuffer encodeRequestLoading(
+      long instanceId,
+      long webViewInstanceId,
+      @NonNull GeneratedAndroidWebView.WebResourceRequestData request) {
+    final Map<String, String> headers = request.getRequestHeaders();
+    int size = HEADER_SIZE + sizeOf(request.getUrl()) + 1 + sizeOf(request.getMethod()) + 4;
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      size += sizeOf(header.getKey()) + sizeOf(header.getValue());
+    }
+
+    final ByteBuffer message = allocate(size);
+    putHeader(message, REQUEST_LOADING, instanceId, webViewInstanceId);
+    putString(message, request.getUrl());
+    int flags = 0;
+    if (request.getIsForMainFrame()) {
+      flags |= FLAG_IS_FOR_MAIN_FRAME;
+    }
+    if (request.getHasGesture()) {
+      flags |= FLAG_HAS_GESTURE;
+    }
+    final Boolean isRedirect = request.getIsRedirect();
+    if (isRedirect != null) {
+      flags |= FLAG_HAS_IS_REDIRECT;
+      if (isRedirect) {
+        flags |= FLAG_IS_REDIRECT;
+      }
+    }
+    message.put((byte) flags);
+    putString(message, request.getMethod());
+    message.putInt(headers.size());
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      putString(message, header.getKey());
+      putString(message, header.getValue());
+    }
+    return message;
+  }
+
+  // BinaryMessenger requires a direct buffer and sends the bytes up to its position.
+  private static ByteBuffer allocate(int size) {
+    return ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static void putHeader(
+      ByteBuffer message, byte type, long instanceId, long webViewInstanceId) {
+    message.put(type);
+    message.putLong(instanceId);
+    message.putLong(webViewInstanceId);
+  }
+
+  private static int sizeOf(@Nullable String value) {
+    return 4 + utf8Length(value == null ? "" : value);
+  }
+
+  /** Writes the UTF-8 bytes of {@code value} straight into the buffer, without a byte array. */
+  private static void putString(ByteBuffer message, @Nullable String value) {
+    final String text = value == null ? "" : value;
+    message.putInt(utf8Length(text));
+    final int length = text.length();
+    for (int i = 0; i < length; i++) {
+      final char c = text.charAt(i);
+      if (c < 0x80) {
+        message.put((byte) c);
+      } else if (c < 0x800) {
+        message.put((byte) (0xc0 | (c >> 6)));
+        message.put((byte) (0x80 | (c & 0x3f)));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+        message.put((byte) (0xf0 | (codePoint >> 18)));
+        message.put((byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+        message.put((byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+        message.put((byte) (0x80 | (codePoint & 0x3f)));
+      } else {
+        // An unpaired surrogate has no UTF-8 encoding and is written as U+FFFD.
+        final char encoded = Character.isSurrogate(c) ? '\uFFFD' : c;
+        message.put((byte) (0xe0 | (encoded >> 12)));
+        message.put((byte) (0x80 | ((encoded >> 6) & 0x3f)));
+        message.put((byte) (0x80 | (encoded & 0x3f)));
+      }
+    }
+  }
+
+  private static int utf8Length(String text) {
+    final int length = text.length();
+    int bytes = length;
+    for (int i = 0; i < length; i++) {
+      final char c = text.charAt(i);
+      if (c >= 0x800) {
+        bytes += 2;
+        // A surrogate pair is two chars and four bytes.
+        if (Character.isHighSurrogate(c)
+            && i + 1 < length
+            && Character.isLowSurrogate(text.charAt(i + 1))) {
+          i++;
+        }
+      } else if (c >= 0x80) {
+        bytes += 1;
+      }
+    }
+    return bytes;
+  }
+}
@@ -10,10 +10,12 @@ import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientFlutterApi;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 
 /**
@@ -22,6 +24,7 @@ import java.util.HashMap;
  * <p>Passes arguments of callbacks methods from a {@link WebViewClient} to Dart.
  */
 public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
+  private final BinaryMessenger binaryMessenger;
   private final InstanceManager instanceManager;
 
   @RequiresApi(api = Build.VERSION_CODES.M)
@@ -71,6 +74,7 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
   public WebViewClientFlutterApiImpl(
       BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
     super(binaryMessenger);
+    this.binaryMessenger = binaryMessenger;
     this.instanceManager = instanceManager;
   }
 
@@ -197,6 +201,53 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
     urlLoading(getIdentifierForClient(webViewClient), webViewIdentifier, urlArg, callback);
   }
 
+  @Override
+  public void onPageStarted(
+      @NonNull Long instanceIdArg,
+      @NonNull Long webViewInstanceIdArg,
+      @NonNull String urlArg,
+      Reply<Void> callback) {
+    send(
+        WebViewCallbackCodec.encodeUrlCallback(
+            WebViewCallbackCodec.ON_PAGE_STARTED, instanceIdArg, webViewInstanceIdArg, urlArg),
+        callback);
+  }
+
+  @Override
+  public void onPageFinished(
+      @NonNull Long instanceIdArg,
+      @NonNull Long webViewInstanceIdArg,
+      @NonNull String urlArg,
+      Reply<Void> callback) {
+    send(
+        WebViewCallbackCodec.encodeUrlCallback(
+            WebViewCallbackCodec.ON_PAGE_FINISHED, instanceIdArg, webViewInstanceIdArg, urlArg),
+        callback);
+  }
+
+  @Override
+  public void requestLoading(
+      @NonNull Long instanceIdArg,
+      @NonNull Long webViewInstanceIdArg,
+      @NonNull GeneratedAndroidWebView.WebResourceRequestData requestArg,
+      Reply<Void> callback) {
+    send(
+        WebViewCallbackCodec.encodeRequestLoading(instanceIdArg, webViewInstanceIdArg, requestArg),
+        callback);
+  }
+
+  @Override
+  public void urlLoading(
+      @NonNull Long instanceIdArg,
+      @NonNull Long webViewInstanceIdArg,
+      @NonNull String urlArg,
+      Reply<Void> callback) {
+    send(
+        WebViewCallbackCodec.encodeUrlCallback(
+            WebViewCallbackCodec.URL_LOADING, instanceIdArg, webViewInstanceIdArg, urlArg),
+        callback);
+  }
+
   /**
    * Communicates to Dart that the reference to a {@link WebViewClient} was removed.
    *
@@ -211,6 +262,11 @@ public class WebViewClientFlutterApiImpl extends WebViewClientFlutterApi {
     }
   }
 
+  // Sends the callbacks that are frequent enough to skip the Pigeon codec.
+  private void send(ByteBuffer message, Reply<Void> callback) {
+    binaryMessenger.send(WebViewCallbackCodec.CHANNEL_NAME, message, reply -> callback.reply(null));
+  }
+
   private long getIdentifierForClient(WebViewClient webViewClient) {
     final Long identifier = instanceManager.getIdentifierForStrongReference(webViewClient);
     if (identifier == null) {
@@ -11,6 +11,7 @@ import android.os.Build;
 import android.view.KeyEvent;
 import android.webkit.WebResourceError;
 import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
@@ -39,6 +40,7 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
   public static class WebViewClientImpl extends WebViewClient implements ReleasableWebViewClient {
     @Nullable private WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    @Nullable private final WebResourceInterceptor webResourceInterceptor;
 
     /**
      * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
@@ -48,8 +50,23 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
      */
     public WebViewClientImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, null);
+    }
+
+    /**
+     * Creates a {@link WebViewClient} that passes arguments of callbacks methods to Dart.
+     *
+     * @param flutterApi handles sending messages to Dart
+     * @param shouldOverrideUrlLoading whether loading a url should be overridden
+     * @param webResourceInterceptor serves requests that match its rules
+     */
+    public WebViewClientImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @Nullable WebResourceInterceptor webResourceInterceptor) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.webResourceInterceptor = webResourceInterceptor;
     }
 
     @Override
@@ -98,6 +115,16 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       return shouldOverrideUrlLoading;
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.shouldInterceptRequest(
+          request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -121,11 +148,20 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       implements ReleasableWebViewClient {
     private @Nullable WebViewClientFlutterApiImpl flutterApi;
     private final boolean shouldOverrideUrlLoading;
+    private @Nullable final WebResourceInterceptor webResourceInterceptor;
 
     public WebViewClientCompatImpl(
         @NonNull WebViewClientFlutterApiImpl flutterApi, boolean shouldOverrideUrlLoading) {
+      this(flutterApi, shouldOverrideUrlLoading, null);
+    }
+
+    public WebViewClientCompatImpl(
+        @NonNull WebViewClientFlutterApiImpl flutterApi,
+        boolean shouldOverrideUrlLoading,
+        @Nullable WebResourceInterceptor webResourceInterceptor) {
       this.shouldOverrideUrlLoading = shouldOverrideUrlLoading;
       this.flutterApi = flutterApi;
+      this.webResourceInterceptor = webResourceInterceptor;
     }
 
     @Override
@@ -183,6 +219,27 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       return shouldOverrideUrlLoading;
     }
 
+    @Nullable
+    @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.shouldInterceptRequest(
+          request.getUrl().toString(), request.getMethod(), request.getRequestHeaders());
+    }
+
+    // Only called before Lollipop, which doesn't pass the method and headers of the request.
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(WebView view, String url) {
+      if (webResourceInterceptor == null) {
+        return null;
+      }
+      return webResourceInterceptor.shouldInterceptRequest(url, "GET", null);
+    }
+
     @Override
     public void onUnhandledKeyEvent(WebView view, KeyEvent event) {
       // Deliberately empty. Occasionally the webview will mark events as having failed to be
@@ -200,6 +257,22 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
 
   /** Handles creating {@link WebViewClient}s for a {@link WebViewClientHostApiImpl}. */
   public static class WebViewClientCreator {
+    @Nullable private final WebResourceInterceptor webResourceInterceptor;
+
+    /** Creates a {@link WebViewClientCreator} whose clients don't intercept requests. */
+    public WebViewClientCreator() {
+      this(null);
+    }
+
+    /**
+     * Creates a {@link WebViewClientCreator}.
+     *
+     * @param webResourceInterceptor serves the requests of created clients that match its rules
+     */
+    public WebViewClientCreator(@Nullable WebResourceInterceptor webResourceInterceptor) {
+      this.webResourceInterceptor = webResourceInterceptor;
+    }
+
     /**
      * Creates a {@link WebViewClient}.
      *
@@ -217,9 +290,10 @@ public class WebViewClientHostApiImpl implements GeneratedAndroidWebView.WebView
       // to bug https://bugs.chromium.org/p/chromium/issues/detail?id=925887. Also, see
       // https://github.com/flutter/flutter/issues/29446.
       if (android.os.Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientImpl(flutterApi, shouldOverrideUrlLoading, webResourceInterceptor);
       } else {
-        return new WebViewClientCompatImpl(flutterApi, shouldOverrideUrlLoading);
+        return new WebViewClientCompatImpl(
+            flutterApi, shouldOverrideUrlLoading, webResourceInterceptor);
       }
     }
   }
@@ -0,0 +1,194 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Reports the scroll position and loading progress of a {@link WebView} to Dart at most once per
+ * frame.
+ *
+ * <p>Changes are collected until the next frame, when a single event with the latest scroll
+ * position and progress is sent through {@link WebViewCallbackCodec#CHANNEL_NAME}. The event is
+ * only sent if the scroll position moved by at least {@code minScrollDelta} pixels or the progress
+ * changed by at least {@code minProgressDelta} since the last event. Smaller changes are included
+ * in the next event that is sent, or sent on their own once a frame passes without changes, so the
+ * position the view comes to rest at is always reported. Reaching a progress of 100 is always
+ * reported.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+public class WebViewEventReporter implements Releasable {
+  /** Implemented by {@link WebView}s that report their scroll position and progress. */
+  public interface Reporting {
+    /**
+     * Sets the reporter that is told about scroll and progress changes, and releases the previous
+     * one.
+     *
+     * @param eventReporter the reporter, or null to stop reporting
+     */
+    void setEventReporter(@Nullable WebViewEventReporter eventReporter);
+
+    /** Returns the reporter that is told about scroll and progress changes, if any. */
+    @Nullable
+    WebViewEventReporter getEventReporter();
+  }
+
+  /** Handles creating {@link WebViewEventReporter}s that send events to Dart. */
+  public static class WebViewEventReporterCreator {
+    private final BinaryMessenger binaryMessenger;
+    private final BatchedJavaScriptChannel.FrameScheduler frameScheduler;
+
+    /**
+     * Creates a {@link WebViewEventReporterCreator}.
+     *
+     * @param binaryMessenger used to send events to Dart
+     * @param frameScheduler schedules sending events before the next frame
+     */
+    public WebViewEventReporterCreator(
+        @NonNull BinaryMessenger binaryMessenger,
+        @NonNull BatchedJavaScriptChannel.FrameScheduler frameScheduler) {
+      this.binaryMessenger = binaryMessenger;
+      this.frameScheduler = frameScheduler;
+    }
+
+    /**
+     * Creates a {@link WebViewEventReporter}.
+     *
+     * @param webViewInstanceId identifier of the {@link WebView} the events are reported for
+     * @param minScrollDelta the distance in pixels the scroll position must move to be reported
+     * @param minProgressDelta the change of the progress that is reported
+     * @return the created {@link WebViewEventReporter}
+     */
+    public WebViewEventReporter createWebViewEventReporter(
+        long webViewInstanceId, int minScrollDelta, int minProgressDelta) {
+      return new WebViewEventReporter(
+          binaryMessenger, frameScheduler, webViewInstanceId, minScrollDelta, minProgressDelta);
+    }
+  }
+
+  private final BinaryMessenger binaryMessenger;
+  private final BatchedJavaScriptChannel.FrameScheduler frameScheduler;
+  private final long webViewInstanceId;
+  private final int minScrollDelta;
+  private final int minProgressDelta;
+
+  private int scrollX;
+  private int scrollY;
+  private int progress = -1;
+  private boolean hasSentEvent;
+  private int sentScrollX;
+  private int sentScrollY;
+  private int sentProgress = -1;
+  private boolean frameScheduled;
+  // Whether anything changed since the last flush, which tells whether the view is still moving.
+  private boolean changedSinceFlush;
+  private boolean released;
+
+  /**
+   * Creates a {@link WebViewEventReporter}.
+   *
+   * @param binaryMessenger used to send events to Dart
+   * @param frameScheduler schedules sending events before the next frame
+   * @param webViewInstanceId identifier of the {@link WebView} the events are reported for
+   * @param minScrollDelta the distance in pixels the scroll position must move to be reported
+   * @param minProgressDelta the change of the progress that is reported
+   */
+  public WebViewEventReporter(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull BatchedJavaScriptChannel.FrameScheduler frameScheduler,
+      long webViewInstanceId,
+      int minScrollDelta,
+      int minProgressDelta) {
+    this.binaryMessenger = binaryMessenger;
+    this.frameScheduler = frameScheduler;
+    this.webViewInstanceId = webViewInstanceId;
+    this.minScrollDelta = Math.max(1, minScrollDelta);
+    this.minProgressDelta = Math.max(1, minProgressDelta);
+  }
+
+  /**
+   * Returns the reporter of {@code webView}, or null if it doesn't report events.
+   *
+   * @param webView the {@link WebView}, which may not implement {@link Reporting}
+   */
+  @Nullable
+  static WebViewEventReporter of(@Nullable WebView webView) {
+    return webView instanceof Reporting ? ((Reporting) webView).getEventReporter() : null;
+  }
+
+  /** Records the scroll position passed to {@link WebView#onScrollChanged}. */
+  public void onScrollChanged(int scrollX, int scrollY) {
+    this.scrollX = scrollX;
+    this.scrollY = scrollY;
+    changedSinceFlush = true;
+    scheduleFlushIfNeeded();
+  }
+
+  /** Records the progress passed to {@link android.webkit.WebChromeClient#onProgressChanged}. */
+  public void onProgressChanged(int progress) {
+    this.progress = progress;
+    changedSinceFlush = true;
+    scheduleFlushIfNeeded();
+  }
+
+  @Override
+  public void release() {
+    released = true;
+  }
+
+  private void scheduleFlushIfNeeded() {
+    if (frameScheduled || released) {
+      return;
+    }
+    frameScheduled = true;
+    frameScheduler.postFrameCallback(this::flush);
+  }
+
+  /**
+   * Sends the latest scroll position and progress if they changed enough since the last event, or
+   * if they stopped changing before they did.
+   */
+  @VisibleForTesting
+  void flush() {
+    frameScheduled = false;
+    if (released) {
+      return;
+    }
+    final boolean isIdle = !changedSinceFlush;
+    changedSinceFlush = false;
+
+    final boolean scrolled =
+        Math.abs(scrollX - sentScrollX) >= minScrollDelta
+            || Math.abs(scrollY - sentScrollY) >= minScrollDelta;
+    final boolean progressed =
+        progress != sentProgress
+            && (Math.abs(progress - sentProgress) >= minProgressDelta || progress == 100);
+    if (hasSentEvent && !scrolled && !progressed) {
+      final boolean hasUnsentChanges =
+          scrollX != sentScrollX || scrollY != sentScrollY || progress != sentProgress;
+      if (!hasUnsentChanges) {
+        return;
+      }
+      if (!isIdle) {
+        // Checks again in the next frame whether the view came to rest.
+        scheduleFlushIfNeeded();
+        return;
+      }
+    }
+
+    hasSentEvent = true;
+    sentScrollX = scrollX;
+    sentScrollY = scrollY;
+    sentProgress = progress;
+    binaryMessenger.send(
+        WebViewCallbackCodec.CHANNEL_NAME,
+        WebViewCallbackCodec.encodeWebViewEvent(webViewInstanceId, scrollX, scrollY, progress));
+  }
+}
@@ -18,10 +18,16 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.DownloadListene
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.FlutterAssetManagerHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebChromeClientHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebResourceInterceptorHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebSettingsHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebStorageHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewClientHostApi;
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewLifecycleHostApi;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Java platform implementation of the webview_flutter plugin.
@@ -31,11 +37,16 @@ import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
  * <p>Call {@link #registerWith} to use the stable {@code io.flutter.plugin.common} package instead.
  */
 public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
+  private static final String WEB_RESOURCE_CACHE_DIRECTORY = "webview_flutter_resource_cache";
+
   private InstanceManager instanceManager;
 
   private FlutterPluginBinding pluginBinding;
   private WebViewHostApiImpl webViewHostApi;
+  private WebViewPool webViewPool;
+  private ExecutorService javaScriptResultExecutor;
   private JavaScriptChannelHostApiImpl javaScriptChannelHostApi;
+  private WebViewLifecycleManager webViewLifecycleManager;
 
   /**
    * Add an instance of this to {@link io.flutter.embedding.engine.plugins.PluginRegistry} to
@@ -79,12 +90,35 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
     instanceManager = InstanceManager.open(identifier -> {});
 
+    final WebResourceInterceptor webResourceInterceptor =
+        new WebResourceInterceptor(
+            flutterAssetManager,
+            new WebResourceCache(new File(context.getCacheDir(), WEB_RESOURCE_CACHE_DIRECTORY)));
+
     viewRegistry.registerViewFactory(
         "plugins.flutter.io/webview", new FlutterWebViewFactory(instanceManager));
 
     webViewHostApi =
         new WebViewHostApiImpl(
             instanceManager, new WebViewHostApiImpl.WebViewProxy(), context, containerView);
+    webViewPool =
+        new WebViewPool(
+            webViewHostApi::createWebView,
+            new WebViewPool.PoolProxy(),
+            context.getApplicationContext());
+    webViewHostApi.setWebViewPool(webViewPool);
+    javaScriptResultExecutor = Executors.newSingleThreadExecutor();
+    webViewHostApi.setJavaScriptResultStreamer(
+        new JavaScriptResultStreamer(
+            binaryMessenger, new Handler(context.getMainLooper()), javaScriptResultExecutor));
+    webViewHostApi.setWebViewEventReporterCreator(
+        new WebViewEventReporter.WebViewEventReporterCreator(
+            binaryMessenger, BatchedJavaScriptChannel.CHOREOGRAPHER_FRAME_SCHEDULER));
+    webViewLifecycleManager =
+        new WebViewLifecycleManager(
+            new WebViewLifecycleFlutterApiImpl(binaryMessenger, instanceManager));
+    webViewHostApi.setWebViewLifecycleManager(webViewLifecycleManager);
+    context.getApplicationContext().registerComponentCallbacks(webViewLifecycleManager);
     javaScriptChannelHostApi =
         new JavaScriptChannelHostApiImpl(
             instanceManager,
@@ -98,7 +132,7 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
         binaryMessenger,
         new WebViewClientHostApiImpl(
             instanceManager,
-            new WebViewClientHostApiImpl.WebViewClientCreator(),
+            new WebViewClientHostApiImpl.WebViewClientCreator(webResourceInterceptor),
             new WebViewClientFlutterApiImpl(binaryMessenger, instanceManager)));
     WebChromeClientHostApi.setup(
         binaryMessenger,
@@ -122,6 +156,11 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
     WebStorageHostApi.setup(
         binaryMessenger,
         new WebStorageHostApiImpl(instanceManager, new WebStorageHostApiImpl.WebStorageCreator()));
+    WebResourceInterceptorHostApi.setup(
+        binaryMessenger, new WebResourceInterceptorHostApiImpl(webResourceInterceptor));
+    WebViewPoolHostApi.setup(binaryMessenger, new WebViewPoolHostApiImpl(webViewPool));
+    WebViewLifecycleHostApi.setup(
+        binaryMessenger, new WebViewLifecycleHostApiImpl(instanceManager, webViewLifecycleManager));
   }
 
   @Override
@@ -138,6 +177,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    binding.getApplicationContext().unregisterComponentCallbacks(webViewLifecycleManager);
+    webViewPool.clear();
+    javaScriptResultExecutor.shutdownNow();
     instanceManager.close();
   }
 
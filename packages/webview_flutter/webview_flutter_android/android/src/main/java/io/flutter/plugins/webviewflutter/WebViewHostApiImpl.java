@@ -19,7 +19,9 @@ import io.flutter.plugins.webviewflutter.DownloadListenerHostApiImpl.DownloadLis
 import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewHostApi;
 import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.ReleasableWebViewClient;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,6 +36,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   @Nullable private final View containerView;
 
   private Context context;
+  @Nullable private WebViewPool webViewPool;
+  @Nullable private JavaScriptResultStreamer javaScriptResultStreamer;
+  @Nullable
+  private WebViewEventReporter.WebViewEventReporterCreator webViewEventReporterCreator;
+  @Nullable private WebViewLifecycleManager webViewLifecycleManager;
 
   /** Handles creating and calling static methods for {@link WebView}s. */
   public static class WebViewProxy {
@@ -97,7 +104,8 @@ public class WebViewHostApiImpl implements WebViewHostApi {
   }
 
   /** Implementation of {@link WebView} that can be used as a Flutter {@link PlatformView}s. */
-  public static class WebViewPlatformView extends WebView implements PlatformView, Releasable {
+  public static class WebViewPlatformView extends WebView
+      implements PlatformView, Releasable, WebViewPool.Poolable, WebViewEventReporter.Reporting {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -106,6 +114,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    private final ReleasableValue<WebViewEventReporter> currentEventReporter =
+        new ReleasableValue<>();
+    @Nullable private WebViewPool pool;
 
     /**
      * Creates a {@link WebViewPlatformView}.
@@ -123,7 +134,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
 
     @Override
     public void dispose() {
-      destroy();
+      if (pool != null) {
+        pool.onPlatformViewDisposed(this);
+      } else {
+        destroy();
+      }
     }
 
     @Override
@@ -175,10 +190,47 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> channel :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(channel.getKey());
+        channel.getValue().release();
       }
       javaScriptInterfaces.clear();
+      currentEventReporter.release();
+    }
+
+    @Override
+    public void setEventReporter(@Nullable WebViewEventReporter eventReporter) {
+      currentEventReporter.set(eventReporter);
+    }
+
+    @Nullable
+    @Override
+    public WebViewEventReporter getEventReporter() {
+      return currentEventReporter.get();
+    }
+
+    @Override
+    protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
+      super.onScrollChanged(left, top, oldLeft, oldTop);
+      final WebViewEventReporter eventReporter = currentEventReporter.get();
+      if (eventReporter != null) {
+        eventReporter.onScrollChanged(left, top);
+      }
+    }
+
+    @Override
+    public void setPool(@Nullable WebViewPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void resetForReuse(@NonNull WebViewClient resetClient) {
+      release();
+      super.setWebViewClient(resetClient);
+      super.setWebChromeClient(null);
+      super.setDownloadListener(null);
+      WebViewPool.resetState(this);
     }
   }
 
@@ -188,7 +240,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
    */
   @SuppressLint("ViewConstructor")
   public static class InputAwareWebViewPlatformView extends InputAwareWebView
-      implements PlatformView, Releasable {
+      implements PlatformView, Releasable, WebViewPool.Poolable, WebViewEventReporter.Reporting {
     private final ReleasableValue<WebViewClientHostApiImpl.ReleasableWebViewClient>
         currentWebViewClient = new ReleasableValue<>();
     private final ReleasableValue<DownloadListenerImpl> currentDownloadListener =
@@ -197,6 +249,9 @@ public class WebViewHostApiImpl implements WebViewHostApi {
         new ReleasableValue<>();
     private final Map<String, ReleasableValue<JavaScriptChannel>> javaScriptInterfaces =
         new HashMap<>();
+    private final ReleasableValue<WebViewEventReporter> currentEventReporter =
+        new ReleasableValue<>();
+    @Nullable private WebViewPool pool;
 
     /**
      * Creates a {@link InputAwareWebViewPlatformView}.
@@ -225,7 +280,11 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     @Override
     public void dispose() {
       super.dispose();
-      destroy();
+      if (pool != null) {
+        pool.onPlatformViewDisposed(this);
+      } else {
+        destroy();
+      }
     }
 
     @Override
@@ -287,10 +346,47 @@ public class WebViewHostApiImpl implements WebViewHostApi {
       currentWebViewClient.release();
       currentDownloadListener.release();
       currentWebChromeClient.release();
-      for (ReleasableValue<JavaScriptChannel> channel : javaScriptInterfaces.values()) {
-        channel.release();
+      for (Map.Entry<String, ReleasableValue<JavaScriptChannel>> channel :
+          javaScriptInterfaces.entrySet()) {
+        super.removeJavascriptInterface(channel.getKey());
+        channel.getValue().release();
       }
       javaScriptInterfaces.clear();
+      currentEventReporter.release();
+    }
+
+    @Override
+    public void setEventReporter(@Nullable WebViewEventReporter eventReporter) {
+      currentEventReporter.set(eventReporter);
+    }
+
+    @Nullable
+    @Override
+    public WebViewEventReporter getEventReporter() {
+      return currentEventReporter.get();
+    }
+
+    @Override
+    protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
+      super.onScrollChanged(left, top, oldLeft, oldTop);
+      final WebViewEventReporter eventReporter = currentEventReporter.get();
+      if (eventReporter != null) {
+        eventReporter.onScrollChanged(left, top);
+      }
+    }
+
+    @Override
+    public void setPool(@Nullable WebViewPool pool) {
+      this.pool = pool;
+    }
+
+    @Override
+    public void resetForReuse(@NonNull WebViewClient resetClient) {
+      release();
+      super.setWebViewClient(resetClient);
+      super.setWebChromeClient(null);
+      super.setDownloadListener(null);
+      WebViewPool.resetState(this);
     }
   }
 
@@ -322,8 +418,66 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     this.context = context;
   }
 
+  /**
+   * Sets the pool {@link #create} takes {@link WebView}s from and {@link #dispose} returns them to.
+   *
+   * @param webViewPool the pool, or null to always create new {@link WebView}s
+   */
+  public void setWebViewPool(@Nullable WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  /**
+   * Sets the streamer {@link #evaluateJavascriptChunked} sends results through.
+   *
+   * @param javaScriptResultStreamer the streamer, or null if results can't be streamed
+   */
+  public void setJavaScriptResultStreamer(
+      @Nullable JavaScriptResultStreamer javaScriptResultStreamer) {
+    this.javaScriptResultStreamer = javaScriptResultStreamer;
+  }
+
+  /**
+   * Sets the manager that pauses and unloads the {@link WebView}s Dart marked as hidden.
+   *
+   * @param webViewLifecycleManager the manager, or null if {@link WebView}s aren't managed
+   */
+  public void setWebViewLifecycleManager(
+      @Nullable WebViewLifecycleManager webViewLifecycleManager) {
+    this.webViewLifecycleManager = webViewLifecycleManager;
+  }
+
+  /**
+   * Sets the creator {@link #setEventReportingEnabled} creates the reporter of a {@link WebView}
+   * with.
+   *
+   * @param webViewEventReporterCreator the creator, or null if events can't be reported
+   */
+  public void setWebViewEventReporterCreator(
+      @Nullable WebViewEventReporter.WebViewEventReporterCreator webViewEventReporterCreator) {
+    this.webViewEventReporterCreator = webViewEventReporterCreator;
+  }
+
   @Override
   public void create(Long instanceId, Boolean useHybridComposition) {
+    final WebView webView =
+        webViewPool != null
+            ? webViewPool.obtain(context, useHybridComposition)
+            : createWebView(context, useHybridComposition);
+    instanceManager.addDartCreatedInstance(webView, instanceId);
+    if (webViewLifecycleManager != null) {
+      webViewLifecycleManager.add(webView);
+    }
+  }
+
+  /**
+   * Creates a new {@link WebView}.
+   *
+   * @param context the context of the {@link WebView}
+   * @param useHybridComposition whether the {@link WebView} is displayed with hybrid composition
+   * @return the created {@link WebView}
+   */
+  WebView createWebView(Context context, boolean useHybridComposition) {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
@@ -335,7 +489,7 @@ public class WebViewHostApiImpl implements WebViewHostApi {
             : webViewProxy.createInputAwareWebView(context, containerView);
 
     displayListenerProxy.onPostWebViewInitialization(displayManager);
-    instanceManager.addDartCreatedInstance(webView, instanceId);
+    return webView;
   }
 
   @Override
@@ -344,6 +498,12 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     if (instance != null) {
       ((Releasable) instance).release();
       instanceManager.remove(instanceId);
+      if (webViewLifecycleManager != null) {
+        webViewLifecycleManager.remove(instance);
+      }
+      if (webViewPool != null) {
+        webViewPool.onReleased(instance);
+      }
     }
   }
 
@@ -426,6 +586,52 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     webView.evaluateJavascript(javascriptString, result::success);
   }
 
+  @Override
+  public void evaluateJavascriptBatch(
+      Long instanceId,
+      List<String> javascriptStrings,
+      GeneratedAndroidWebView.Result<List<String>> result) {
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    evaluateNextJavascript(
+        webView, javascriptStrings, new ArrayList<>(javascriptStrings.size()), result);
+  }
+
+  // Evaluates each script once the previous one has finished so they run in order.
+  private static void evaluateNextJavascript(
+      WebView webView,
+      List<String> javascriptStrings,
+      List<String> results,
+      GeneratedAndroidWebView.Result<List<String>> result) {
+    if (results.size() == javascriptStrings.size()) {
+      result.success(results);
+      return;
+    }
+    webView.evaluateJavascript(
+        javascriptStrings.get(results.size()),
+        value -> {
+          results.add(value);
+          evaluateNextJavascript(webView, javascriptStrings, results, result);
+        });
+  }
+
+  @Override
+  public void evaluateJavascriptChunked(
+      Long instanceId,
+      String javascriptString,
+      Long streamId,
+      Long chunkSize,
+      GeneratedAndroidWebView.Result<Long> result) {
+    final JavaScriptResultStreamer streamer = javaScriptResultStreamer;
+    if (streamer == null) {
+      result.error(new IllegalStateException("Results can't be streamed without a streamer."));
+      return;
+    }
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    webView.evaluateJavascript(
+        javascriptString,
+        value -> streamer.stream(value, streamId, chunkSize.intValue(), result));
+  }
+
   @Override
   public String getTitle(Long instanceId) {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
@@ -500,4 +706,26 @@ public class WebViewHostApiImpl implements WebViewHostApi {
     final WebView webView = (WebView) instanceManager.getInstance(instanceId);
     webView.setBackgroundColor(color.intValue());
   }
+
+  @Override
+  public void setEventReportingEnabled(
+      Long instanceId, Boolean enabled, Long minScrollDelta, Long minProgressDelta) {
+    final WebView webView = (WebView) instanceManager.getInstance(instanceId);
+    final WebViewEventReporter.Reporting reporting = (WebViewEventReporter.Reporting) webView;
+    if (!enabled) {
+      reporting.setEventReporter(null);
+      return;
+    }
+    if (webViewEventReporterCreator == null) {
+      throw new IllegalStateException("Events can't be reported without a reporter creator.");
+    }
+
+    final WebViewEventReporter eventReporter =
+        webViewEventReporterCreator.createWebViewEventReporter(
+            instanceId, minScrollDelta.intValue(), minProgressDelta.intValue());
+    reporting.setEventReporter(eventReporter);
+    // The first event reports the current state.
+    eventReporter.onScrollChanged(webView.getScrollX(), webView.getScrollY());
+    eventReporter.onProgressChanged(webView.getProgress());
+  }
 }
@@ -0,0 +1,47 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewLifecycleFlutterApi;
+
+/**
+ * Flutter Api implementation for {@link WebViewLifecycleManager}.
+ *
+ * <p>Passes the lifecycle changes of {@link WebView}s to Dart.
+ */
+public class WebViewLifecycleFlutterApiImpl extends WebViewLifecycleFlutterApi {
+  private final InstanceManager instanceManager;
+
+  /**
+   * Creates a Flutter api that sends messages to Dart.
+   *
+   * @param binaryMessenger handles sending messages to Dart
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   */
+  public WebViewLifecycleFlutterApiImpl(
+      BinaryMessenger binaryMessenger, InstanceManager instanceManager) {
+    super(binaryMessenger);
+    this.instanceManager = instanceManager;
+  }
+
+  /**
+   * Passes a lifecycle change of {@code webView} to Dart, unless Dart already released it.
+   *
+   * @param webView the WebView whose state changed
+   * @param state one of the states of {@link WebViewLifecycleManager}, e.g. {@link
+   *     WebViewLifecycleManager#STATE_PAUSED}
+   * @param callback reply callback with return value from Dart
+   */
+  public void onStateChanged(WebView webView, String state, Reply<Void> callback) {
+    final Long identifier = instanceManager.getIdentifierForStrongReference(webView);
+    if (identifier == null) {
+      callback.reply(null);
+      return;
+    }
+    onStateChanged(identifier, state, callback);
+  }
+}
@@ -0,0 +1,42 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewLifecycleHostApi;
+
+/**
+ * Host api implementation for {@link WebViewLifecycleManager}.
+ *
+ * <p>Handles marking {@link WebView}s as hidden and configuring when they are unloaded.
+ */
+public class WebViewLifecycleHostApiImpl implements WebViewLifecycleHostApi {
+  private final InstanceManager instanceManager;
+  private final WebViewLifecycleManager lifecycleManager;
+
+  /**
+   * Creates a host API that handles marking {@link WebView}s as hidden.
+   *
+   * @param instanceManager maintains instances stored to communicate with Dart objects
+   * @param lifecycleManager pauses and unloads hidden WebViews
+   */
+  public WebViewLifecycleHostApiImpl(
+      @NonNull InstanceManager instanceManager, @NonNull WebViewLifecycleManager lifecycleManager) {
+    this.instanceManager = instanceManager;
+    this.lifecycleManager = lifecycleManager;
+  }
+
+  @Override
+  public void setHidden(@NonNull Long webViewInstanceId, @NonNull Boolean hidden) {
+    final WebView webView = (WebView) instanceManager.getInstance(webViewInstanceId);
+    lifecycleManager.setHidden(webView, hidden);
+  }
+
+  @Override
+  public void setTrimPolicy(@NonNull Long minTrimLevel, @NonNull Boolean saveState) {
+    lifecycleManager.setTrimPolicy(minTrimLevel.intValue(), saveState);
+  }
+}
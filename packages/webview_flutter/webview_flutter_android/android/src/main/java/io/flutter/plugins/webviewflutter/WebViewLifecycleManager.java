@@ -0,0 +1,183 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Pauses the {@link WebView}s Dart marked as hidden and unloads them when the system is low on
+ * memory.
+ *
+ * <p>A hidden WebView is paused with {@link WebView#onPause}, and JavaScript timers, which can only
+ * be paused for all WebViews of the process, are paused with {@link WebView#pauseTimers} while
+ * every WebView is hidden. When {@link #onTrimMemory} reports a level of at least {@code
+ * minTrimLevel}, the pages of hidden WebViews are replaced by about:blank so the renderer can free
+ * their memory. If enabled, the url of the page is kept and loaded again when the WebView is shown.
+ * Loading about:blank drops the forward entries of the back/forward list, and the reloaded page is
+ * added after the about:blank entry. {@link WebView#restoreState} isn't used, as it only works on a
+ * WebView that hasn't loaded anything.
+ *
+ * <p>Dart is told about each of these changes. All methods must be called on the main thread.
+ */
+public class WebViewLifecycleManager implements ComponentCallbacks2 {
+  private static final String BLANK_URL = "about:blank";
+
+  /** The WebView was hidden and paused. */
+  public static final String STATE_PAUSED = "paused";
+
+  /** The WebView was shown and resumed. */
+  public static final String STATE_RESUMED = "resumed";
+
+  /** The page of the hidden WebView was unloaded to free memory. */
+  public static final String STATE_DISCARDED = "discarded";
+
+  /** The WebView was shown and the page that was unloaded is loaded again. */
+  public static final String STATE_RESTORED = "restored";
+
+  /**
+   * The WebView was shown, but the page that was unloaded isn't loaded again, so it shows a blank
+   * page until one is loaded.
+   */
+  public static final String STATE_NEEDS_RELOAD = "needsReload";
+
+  /** State of a {@link WebView} that is hidden. */
+  private static class HiddenWebView {
+    boolean discarded;
+    // The url of the page that was unloaded, if it is loaded again when the WebView is shown.
+    @Nullable String url;
+  }
+
+  private final WebViewLifecycleFlutterApiImpl flutterApi;
+
+  private final Set<WebView> webViews = Collections.newSetFromMap(new WeakHashMap<>());
+  private final Map<WebView, HiddenWebView> hiddenWebViews = new WeakHashMap<>();
+  private int minTrimLevel = TRIM_MEMORY_RUNNING_LOW;
+  private boolean saveState = true;
+  private boolean timersPaused;
+
+  /**
+   * Creates a {@link WebViewLifecycleManager}.
+   *
+   * @param flutterApi handles sending messages to Dart
+   */
+  public WebViewLifecycleManager(@NonNull WebViewLifecycleFlutterApiImpl flutterApi) {
+    this.flutterApi = flutterApi;
+  }
+
+  /**
+   * Sets when hidden WebViews are unloaded.
+   *
+   * @param minTrimLevel the lowest level passed to {@link #onTrimMemory} that unloads hidden
+   *     WebViews. {@link #TRIM_MEMORY_UI_HIDDEN} never does, as it isn't caused by low memory.
+   * @param saveState whether the page that was unloaded is loaded again when the WebView is shown
+   */
+  public void setTrimPolicy(int minTrimLevel, boolean saveState) {
+    this.minTrimLevel = minTrimLevel;
+    this.saveState = saveState;
+  }
+
+  /** Starts managing {@code webView}, which is visible. */
+  public void add(@NonNull WebView webView) {
+    webViews.add(webView);
+    updateTimers(webView);
+  }
+
+  /** Stops managing {@code webView} and resumes it if it is hidden. */
+  public void remove(@NonNull WebView webView) {
+    if (hiddenWebViews.remove(webView) != null) {
+      webView.onResume();
+    }
+    webViews.remove(webView);
+    updateTimers(webView);
+  }
+
+  /**
+   * Pauses {@code webView} when it is hidden and resumes it, loading its page again if it was
+   * unloaded, when it is shown.
+   */
+  public void setHidden(@NonNull WebView webView, boolean hidden) {
+    webViews.add(webView);
+    if (hidden) {
+      if (hiddenWebViews.containsKey(webView)) {
+        return;
+      }
+      hiddenWebViews.put(webView, new HiddenWebView());
+      webView.onPause();
+      flutterApi.onStateChanged(webView, STATE_PAUSED, reply -> {});
+    } else {
+      final HiddenWebView hiddenWebView = hiddenWebViews.remove(webView);
+      if (hiddenWebView == null) {
+        return;
+      }
+      webView.onResume();
+      final String state;
+      if (!hiddenWebView.discarded) {
+        state = STATE_RESUMED;
+      } else if (hiddenWebView.url != null) {
+        webView.loadUrl(hiddenWebView.url);
+        state = STATE_RESTORED;
+      } else {
+        state = STATE_NEEDS_RELOAD;
+      }
+      flutterApi.onStateChanged(webView, state, reply -> {});
+    }
+    updateTimers(webView);
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    if (level < minTrimLevel || level == TRIM_MEMORY_UI_HIDDEN) {
+      return;
+    }
+    for (Map.Entry<WebView, HiddenWebView> entry : hiddenWebViews.entrySet()) {
+      if (!entry.getValue().discarded) {
+        discard(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  private void discard(WebView webView, HiddenWebView hiddenWebView) {
+    if (saveState) {
+      final String url = webView.getUrl();
+      if (url != null && !url.equals(BLANK_URL)) {
+        hiddenWebView.url = url;
+      }
+    }
+    hiddenWebView.discarded = true;
+    webView.stopLoading();
+    webView.loadUrl(BLANK_URL);
+    flutterApi.onStateChanged(webView, STATE_DISCARDED, reply -> {});
+  }
+
+  // pauseTimers and resumeTimers affect all WebViews, so they are called on any of them.
+  private void updateTimers(WebView webView) {
+    final boolean pause = !webViews.isEmpty() && hiddenWebViews.size() >= webViews.size();
+    if (pause == timersPaused) {
+      return;
+    }
+    timersPaused = pause;
+    if (pause) {
+      webView.pauseTimers();
+    } else {
+      webView.resumeTimers();
+    }
+  }
+}
@@ -0,0 +1,409 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.ViewGroup;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps {@link WebView}s ready to be handed out by {@link WebViewHostApiImpl#create}.
+ *
+ * <p>The first WebView of a process loads the WebView provider on the main thread, which takes
+ * hundreds of milliseconds on many devices. {@link #prewarm} moves that cost, and the construction
+ * of a number of WebViews, to moments the main thread is idle. WebViews that were handed out are
+ * reset and returned to the pool once both Dart released them and their platform view was
+ * disposed. They are only handed out again once about:blank finished loading and their history was
+ * cleared, as clearing it before would keep the previous page in the back/forward list.
+ *
+ * <p>Pooled WebViews are created with a {@link MutableContextWrapper}, so they can be moved between
+ * the application context while idle and the current Activity while in use. Pooling is disabled
+ * until {@link #setMaxSize} or {@link #prewarm} is called.
+ *
+ * <p>All methods must be called on the main thread.
+ */
+public class WebViewPool {
+  /** Creates the {@link WebView}s of a pool. */
+  public interface WebViewFactory {
+    WebView create(Context context, boolean useHybridComposition);
+  }
+
+  /** Implemented by WebViews that can be returned to a pool. */
+  interface Poolable {
+    /** Sets the pool that handles the disposal of the platform view, or null to destroy it. */
+    void setPool(@Nullable WebViewPool pool);
+
+    /**
+     * Releases all clients and interfaces set from Dart and resets the state of the WebView.
+     *
+     * @param resetClient the {@link WebViewClient} used until the WebView is handed out again
+     */
+    void resetForReuse(@NonNull WebViewClient resetClient);
+  }
+
+  /** Handles calls to static Android methods. */
+  public static class PoolProxy {
+    /**
+     * Runs {@code idleHandler} whenever the message queue of the current thread is idle until it
+     * returns false.
+     */
+    public void addIdleHandler(MessageQueue.IdleHandler idleHandler) {
+      Looper.myQueue().addIdleHandler(idleHandler);
+    }
+
+    /** Loads the WebView provider without creating a {@link WebView}. */
+    public void initializeProvider(Context context) {
+      WebSettings.getDefaultUserAgent(context);
+    }
+
+    /** Returns the current time in nanoseconds for measurements. */
+    public long nanoTime() {
+      return System.nanoTime();
+    }
+  }
+
+  private static final String RESET_URL = "about:blank";
+
+  private static class Entry {
+    final WebView webView;
+    final long creationMicros;
+    // Whether the WebView has no history, which a recycled WebView only has once about:blank
+    // finished loading.
+    boolean isReset;
+
+    Entry(WebView webView, long creationMicros, boolean isReset) {
+      this.webView = webView;
+      this.creationMicros = creationMicros;
+      this.isReset = isReset;
+    }
+  }
+
+  /** Clears the history of a recycled WebView once the about:blank load of its reset committed. */
+  private static class ResetWebViewClient extends WebViewClient {
+    private final Entry entry;
+
+    ResetWebViewClient(Entry entry) {
+      this.entry = entry;
+    }
+
+    @Override
+    public void onPageFinished(WebView view, String url) {
+      if (!entry.isReset && RESET_URL.equals(url)) {
+        view.clearHistory();
+        entry.isReset = true;
+      }
+    }
+  }
+
+  private final WebViewFactory webViewFactory;
+  private final PoolProxy poolProxy;
+  private final Context applicationContext;
+
+  private final ArrayDeque<Entry> hybridCompositionWebViews = new ArrayDeque<>();
+  private final ArrayDeque<Entry> virtualDisplayWebViews = new ArrayDeque<>();
+  // WebViews created by this pool, which are returned to it when they are done with.
+  private final Set<WebView> members = Collections.newSetFromMap(new WeakHashMap<>());
+  // Members for which only one of the release and the platform view disposal happened so far.
+  private final Set<WebView> partiallyDisposed = Collections.newSetFromMap(new WeakHashMap<>());
+
+  private int maxSize;
+  private int hybridCompositionTarget;
+  private int virtualDisplayTarget;
+  private boolean providerInitialized;
+  private boolean providerInitCounted;
+  private boolean idleHandlerAdded;
+
+  private long hits;
+  private long misses;
+  private long recycled;
+  private long created;
+  private long totalCreationMicros;
+  private long providerInitMicros;
+  private long timeSavedMicros;
+
+  /**
+   * Creates a pool with pooling disabled.
+   *
+   * @param webViewFactory creates the WebViews of the pool
+   * @param poolProxy handles calls to static Android methods
+   * @param applicationContext the context of WebViews while they are idle in the pool
+   */
+  public WebViewPool(
+      @NonNull WebViewFactory webViewFactory,
+      @NonNull PoolProxy poolProxy,
+      @NonNull Context applicationContext) {
+    this.webViewFactory = webViewFactory;
+    this.poolProxy = poolProxy;
+    this.applicationContext = applicationContext;
+  }
+
+  /**
+   * Sets the maximum number of idle WebViews kept for each composition mode.
+   *
+   * <p>Zero disables pooling and destroys all idle WebViews.
+   */
+  public void setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    hybridCompositionTarget = Math.min(hybridCompositionTarget, maxSize);
+    virtualDisplayTarget = Math.min(virtualDisplayTarget, maxSize);
+    trim(hybridCompositionWebViews);
+    trim(virtualDisplayWebViews);
+  }
+
+  /**
+   * Loads the WebView provider and creates {@code count} idle WebViews, one at a time whenever the
+   * main thread is idle.
+   *
+   * <p>Raises the maximum size of the pool to {@code count} if it is lower.
+   */
+  public void prewarm(int count, boolean useHybridComposition) {
+    maxSize = Math.max(maxSize, count);
+    if (useHybridComposition) {
+      hybridCompositionTarget = Math.max(hybridCompositionTarget, count);
+    } else {
+      virtualDisplayTarget = Math.max(virtualDisplayTarget, count);
+    }
+    if (!idleHandlerAdded) {
+      idleHandlerAdded = true;
+      poolProxy.addIdleHandler(this::prewarmNext);
+    }
+  }
+
+  /** Destroys all idle WebViews. */
+  public void clear() {
+    hybridCompositionTarget = 0;
+    virtualDisplayTarget = 0;
+    for (Entry entry : hybridCompositionWebViews) {
+      destroy(entry.webView);
+    }
+    hybridCompositionWebViews.clear();
+    for (Entry entry : virtualDisplayWebViews) {
+      destroy(entry.webView);
+    }
+    virtualDisplayWebViews.clear();
+  }
+
+  /**
+   * Returns an idle WebView, or creates one if the pool has none.
+   *
+   * @param context the context the WebView is used with
+   * @param useHybridComposition whether the WebView is displayed with hybrid composition
+   */
+  @NonNull
+  public WebView obtain(@NonNull Context context, boolean useHybridComposition) {
+    if (providerInitialized && !providerInitCounted) {
+      // The first WebView created on demand would have loaded the provider.
+      providerInitCounted = true;
+      timeSavedMicros += providerInitMicros;
+    }
+    if (maxSize <= 0) {
+      return webViewFactory.create(context, useHybridComposition);
+    }
+
+    final Entry entry = pollReset(queueFor(useHybridComposition));
+    if (entry != null) {
+      hits++;
+      timeSavedMicros += entry.creationMicros;
+      setBaseContext(entry.webView, context);
+      return entry.webView;
+    }
+
+    misses++;
+    return createMember(new MutableContextWrapper(context), useHybridComposition).webView;
+  }
+
+  /** Called when Dart released {@code webView}. */
+  public void onReleased(@NonNull WebView webView) {
+    onPartiallyDisposed(webView);
+  }
+
+  /** Called when the platform view of a WebView created by this pool was disposed. */
+  public void onPlatformViewDisposed(@NonNull WebView webView) {
+    onPartiallyDisposed(webView);
+  }
+
+  /**
+   * Counters of how WebViews were handed out since the last {@link #resetStats}.
+   *
+   * <p>{@code timeSavedMicros} is the sum of the creation times of the WebViews that were handed
+   * out from the pool instead of being created while Dart waited, plus the time it took to load the
+   * WebView provider if {@link #prewarm} loaded it. {@code providerInitMicros} is not reset.
+   */
+  @NonNull
+  public Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("hits", hits);
+    stats.put("misses", misses);
+    stats.put("recycled", recycled);
+    stats.put("created", created);
+    stats.put("idle", (long) (hybridCompositionWebViews.size() + virtualDisplayWebViews.size()));
+    stats.put("averageCreationMicros", averageCreationMicros());
+    stats.put("providerInitMicros", providerInitMicros);
+    stats.put("timeSavedMicros", timeSavedMicros);
+    return stats;
+  }
+
+  /** Sets all counters returned by {@link #getStats} to zero. */
+  public void resetStats() {
+    hits = 0;
+    misses = 0;
+    recycled = 0;
+    created = 0;
+    totalCreationMicros = 0;
+    timeSavedMicros = 0;
+  }
+
+  @VisibleForTesting
+  boolean prewarmNext() {
+    if (!providerInitialized) {
+      final long start = poolProxy.nanoTime();
+      poolProxy.initializeProvider(applicationContext);
+      providerInitMicros = (poolProxy.nanoTime() - start) / 1000;
+      providerInitialized = true;
+      return keepPrewarming();
+    }
+
+    if (hybridCompositionWebViews.size() < hybridCompositionTarget) {
+      hybridCompositionWebViews.add(
+          createMember(new MutableContextWrapper(applicationContext), true));
+    } else if (virtualDisplayWebViews.size() < virtualDisplayTarget) {
+      virtualDisplayWebViews.add(
+          createMember(new MutableContextWrapper(applicationContext), false));
+    }
+    return keepPrewarming();
+  }
+
+  private boolean keepPrewarming() {
+    idleHandlerAdded =
+        hybridCompositionWebViews.size() < hybridCompositionTarget
+            || virtualDisplayWebViews.size() < virtualDisplayTarget;
+    return idleHandlerAdded;
+  }
+
+  private Entry createMember(Context context, boolean useHybridComposition) {
+    final long start = poolProxy.nanoTime();
+    final WebView webView = webViewFactory.create(context, useHybridComposition);
+    final long creationMicros = (poolProxy.nanoTime() - start) / 1000;
+    created++;
+    totalCreationMicros += creationMicros;
+    if (webView instanceof Poolable) {
+      ((Poolable) webView).setPool(this);
+      members.add(webView);
+    }
+    return new Entry(webView, creationMicros, true);
+  }
+
+  // Removes the first WebView that finished its reset from the queue.
+  @Nullable
+  private static Entry pollReset(ArrayDeque<Entry> queue) {
+    for (Iterator<Entry> iterator = queue.iterator(); iterator.hasNext(); ) {
+      final Entry entry = iterator.next();
+      if (entry.isReset) {
+        iterator.remove();
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private void onPartiallyDisposed(WebView webView) {
+    if (!members.contains(webView)) {
+      return;
+    }
+    if (partiallyDisposed.add(webView)) {
+      return;
+    }
+    partiallyDisposed.remove(webView);
+
+    final ArrayDeque<Entry> queue = queueFor(isHybridComposition(webView));
+    if (queue.size() >= maxSize) {
+      destroy(webView);
+      return;
+    }
+    final Entry entry = new Entry(webView, averageCreationMicros(), false);
+    ((Poolable) webView).resetForReuse(new ResetWebViewClient(entry));
+    setBaseContext(webView, applicationContext);
+    recycled++;
+    queue.add(entry);
+  }
+
+  private void trim(ArrayDeque<Entry> queue) {
+    while (queue.size() > maxSize) {
+      destroy(queue.removeLast().webView);
+    }
+  }
+
+  private void destroy(WebView webView) {
+    members.remove(webView);
+    ((Poolable) webView).setPool(null);
+    webView.destroy();
+  }
+
+  private long averageCreationMicros() {
+    return created == 0 ? 0 : totalCreationMicros / created;
+  }
+
+  private ArrayDeque<Entry> queueFor(boolean useHybridComposition) {
+    return useHybridComposition ? hybridCompositionWebViews : virtualDisplayWebViews;
+  }
+
+  private static boolean isHybridComposition(WebView webView) {
+    return !(webView instanceof WebViewHostApiImpl.InputAwareWebViewPlatformView);
+  }
+
+  private static void setBaseContext(WebView webView, Context context) {
+    if (webView.getContext() instanceof MutableContextWrapper) {
+      ((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+    }
+  }
+
+  /**
+   * Resets the state of {@code webView} that Dart can change, so a recycled WebView behaves like a
+   * new one.
+   */
+  static void resetState(WebView webView) {
+    if (webView.getParent() instanceof ViewGroup) {
+      ((ViewGroup) webView.getParent()).removeView(webView);
+    }
+    webView.stopLoading();
+    webView.loadUrl(RESET_URL);
+    webView.scrollTo(0, 0);
+    webView.setBackgroundColor(Color.WHITE);
+
+    final WebSettings settings = webView.getSettings();
+    if (settings == null) {
+      return;
+    }
+    settings.setDomStorageEnabled(false);
+    settings.setJavaScriptCanOpenWindowsAutomatically(false);
+    settings.setSupportMultipleWindows(false);
+    settings.setJavaScriptEnabled(false);
+    settings.setUserAgentString(null);
+    settings.setMediaPlaybackRequiresUserGesture(true);
+    settings.setSupportZoom(true);
+    settings.setLoadWithOverviewMode(false);
+    settings.setUseWideViewPort(false);
+    settings.setDisplayZoomControls(true);
+    settings.setBuiltInZoomControls(false);
+    settings.setAllowFileAccess(Build.VERSION.SDK_INT < Build.VERSION_CODES.R);
+  }
+}
@@ -0,0 +1,53 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import androidx.annotation.NonNull;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.WebViewPoolHostApi;
+import java.util.Map;
+
+/**
+ * Host api implementation for {@link WebViewPool}.
+ *
+ * <p>Handles pre-warming and sizing the pool {@link WebViewHostApiImpl} takes WebViews from.
+ */
+public class WebViewPoolHostApiImpl implements WebViewPoolHostApi {
+  private final WebViewPool webViewPool;
+
+  /**
+   * Creates a host API that handles pre-warming and sizing a {@link WebViewPool}.
+   *
+   * @param webViewPool the pool used to create WebViews
+   */
+  public WebViewPoolHostApiImpl(@NonNull WebViewPool webViewPool) {
+    this.webViewPool = webViewPool;
+  }
+
+  @Override
+  public void setMaxSize(@NonNull Long maxSize) {
+    webViewPool.setMaxSize(maxSize.intValue());
+  }
+
+  @Override
+  public void prewarm(@NonNull Long count, @NonNull Boolean useHybridComposition) {
+    webViewPool.prewarm(count.intValue(), useHybridComposition);
+  }
+
+  @Override
+  public void clear() {
+    webViewPool.clear();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getStats() {
+    return webViewPool.getStats();
+  }
+
+  @Override
+  public void resetStats() {
+    webViewPool.resetStats();
+  }
+}
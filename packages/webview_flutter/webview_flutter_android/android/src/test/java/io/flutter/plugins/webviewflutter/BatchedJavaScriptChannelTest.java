@@ -0,0 +1,131 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Handler;
+import io.flutter.plugins.webviewflutter.GeneratedAndroidWebView.JavaScriptChannelFlutterApi;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class BatchedJavaScriptChannelTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public JavaScriptChannelFlutterApiImpl mockFlutterApi;
+
+  final List<Runnable> frameCallbacks = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    frameCallbacks.clear();
+  }
+
+  @Test
+  public void messagesWithinAFrameAreSentAsOneBatch() {
+    final BatchedJavaScriptChannel channel = createChannel(10, false);
+
+    channel.postMessage("a");
+    channel.postMessages("[\"b\", \"c\"]");
+    assertEquals(1, frameCallbacks.size());
+    verify(mockFlutterApi, never()).postMessages(any(), any(), anyLong(), any());
+
+    runFrame();
+
+    verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Arrays.<Object>asList("a", "b", "c")), eq(0L), any());
+  }
+
+  @Test
+  public void messagesWaitForTheBatchInFlight() {
+    final BatchedJavaScriptChannel channel = createChannel(10, false);
+    channel.postMessage("a");
+    runFrame();
+    final JavaScriptChannelFlutterApi.Reply<Void> reply = captureReply();
+
+    channel.postMessage("b");
+    runFrame();
+    verify(mockFlutterApi, times(1)).postMessages(any(), any(), anyLong(), any());
+
+    reply.reply(null);
+    runFrame();
+    verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Collections.<Object>singletonList("b")), eq(0L), any());
+  }
+
+  @Test
+  public void newMessagesAreDroppedWhenFull() {
+    final BatchedJavaScriptChannel channel = createChannel(2, false);
+
+    channel.postMessages("[\"a\",\"b\",\"c\",\"d\"]");
+    runFrame();
+
+    verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Arrays.<Object>asList("a", "b")), eq(2L), any());
+  }
+
+  @Test
+  public void oldestMessagesAreDroppedWhenFull() {
+    final BatchedJavaScriptChannel channel = createChannel(2, true);
+
+    channel.postMessages("[\"a\",\"b\",\"c\",\"d\"]");
+    runFrame();
+
+    verify(mockFlutterApi)
+        .postMessages(eq(channel), eq(Arrays.<Object>asList("c", "d")), eq(2L), any());
+  }
+
+  @Test
+  public void noMessagesAreSentAfterRelease() {
+    final BatchedJavaScriptChannel channel = createChannel(10, false);
+
+    channel.postMessage("a");
+    channel.release();
+    runFrame();
+
+    verify(mockFlutterApi, never()).postMessages(any(), any(), anyLong(), any());
+  }
+
+  private BatchedJavaScriptChannel createChannel(int maxPendingMessages, boolean dropOldest) {
+    return new BatchedJavaScriptChannel(
+        mockFlutterApi,
+        "aChannelName",
+        new Handler(),
+        maxPendingMessages,
+        dropOldest,
+        frameCallbacks::add);
+  }
+
+  private void runFrame() {
+    final List<Runnable> callbacks = new ArrayList<>(frameCallbacks);
+    frameCallbacks.clear();
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private JavaScriptChannelFlutterApi.Reply<Void> captureReply() {
+    final ArgumentCaptor<JavaScriptChannelFlutterApi.Reply<Void>> replyCaptor =
+        ArgumentCaptor.forClass(JavaScriptChannelFlutterApi.Reply.class);
+    verify(mockFlutterApi).postMessages(any(), any(), anyLong(), replyCaptor.capture());
+    return replyCaptor.getValue();
+  }
+}
@@ -5,10 +5,13 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Test;
 
 public class InstanceManagerTest {
@@ -59,4 +62,109 @@ public class InstanceManagerTest {
 
     instanceManager.close();
   }
+
+  @Test
+  public void finalizedInstancesAreReclaimedPromptly() throws InterruptedException {
+    final CountDownLatch finalized = new CountDownLatch(1);
+    final long[] finalizedIdentifier = {-1};
+    final InstanceManager instanceManager =
+        InstanceManager.open(
+            identifier -> {
+              finalizedIdentifier[0] = identifier;
+              finalized.countDown();
+            });
+
+    Object object = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.remove(0);
+
+    // To allow for object to be garbage collected.
+    //noinspection UnusedAssignment
+    object = null;
+
+    for (int i = 0; i < 50 && finalized.getCount() > 0; i++) {
+      Runtime.getRuntime().gc();
+      finalized.await(100, TimeUnit.MILLISECONDS);
+    }
+
+    assertEquals(0, finalized.getCount());
+    assertEquals(0L, finalizedIdentifier[0]);
+    assertEquals(0, instanceManager.getLiveInstanceCount());
+    assertEquals(1L, instanceManager.getFinalizedInstanceCount());
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void instanceCounts() {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+
+    final Object object = new Object();
+    final Object otherObject = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.addHostCreatedInstance(otherObject);
+    assertEquals(2, instanceManager.getLiveInstanceCount());
+    assertEquals(2, instanceManager.getStrongInstanceCount());
+    assertEquals(0, instanceManager.getWeakInstanceCount());
+
+    instanceManager.remove(0);
+    assertEquals(2, instanceManager.getLiveInstanceCount());
+    assertEquals(1, instanceManager.getStrongInstanceCount());
+    assertEquals(1, instanceManager.getWeakInstanceCount());
+
+    instanceManager.getIdentifierForStrongReference(object);
+    assertEquals(2, instanceManager.getStrongInstanceCount());
+    assertEquals(0, instanceManager.getWeakInstanceCount());
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void replacedInstanceIsNotReclaimedWithItsIdentifier() throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+
+    Object object = new Object();
+    final Object replacement = new Object();
+    instanceManager.addDartCreatedInstance(object, 0);
+    instanceManager.addDartCreatedInstance(replacement, 0);
+
+    // To allow for object to be garbage collected.
+    //noinspection UnusedAssignment
+    object = null;
+
+    Runtime.getRuntime().gc();
+    Thread.sleep(100);
+
+    assertEquals(replacement, instanceManager.getInstance(0));
+    assertFalse(instanceManager.getFinalizedInstanceCount() > 0);
+
+    instanceManager.close();
+  }
+
+  @Test
+  public void canBeUsedFromMultipleThreads() throws InterruptedException {
+    final InstanceManager instanceManager = InstanceManager.open(identifier -> {});
+
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  final Object object = new Object();
+                  final long identifier = instanceManager.addHostCreatedInstance(object);
+                  assertEquals(object, instanceManager.getInstance(identifier));
+                  instanceManager.remove(identifier);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(0, instanceManager.getStrongInstanceCount());
+
+    instanceManager.close();
+  }
 }
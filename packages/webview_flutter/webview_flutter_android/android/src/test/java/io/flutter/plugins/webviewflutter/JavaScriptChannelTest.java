@@ -4,6 +4,8 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -68,4 +70,13 @@ public class JavaScriptChannelTest {
     javaScriptChannel.postMessage("a message");
     verify(mockFlutterApi, never()).postMessage((JavaScriptChannel) any(), any(), any());
   }
+
+  @Test
+  public void createBatched() {
+    hostApiImpl.createBatched(1L, "aBatchedChannelName", 10L, true);
+
+    final JavaScriptChannel batchedChannel = instanceManager.getInstance(1L);
+    assertTrue(batchedChannel instanceof BatchedJavaScriptChannel);
+    assertEquals("aBatchedChannelName", batchedChannel.javaScriptChannelName);
+  }
 }
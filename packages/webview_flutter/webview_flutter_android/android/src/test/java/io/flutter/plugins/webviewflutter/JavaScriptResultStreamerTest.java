@@ -0,0 +1,134 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.os.Handler;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class JavaScriptResultStreamerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  @Mock public Handler mockHandler;
+
+  @Mock public GeneratedAndroidWebView.Result<Long> mockResult;
+
+  // 40 characters.
+  private static final String LONG_TEXT = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
+
+  JavaScriptResultStreamer streamer;
+
+  @Before
+  public void setUp() {
+    when(mockHandler.post(any()))
+        .thenAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return true;
+            });
+    streamer = new JavaScriptResultStreamer(mockBinaryMessenger, mockHandler, Runnable::run);
+  }
+
+  @Test
+  public void streamsStringResultsUnescapedInChunks() {
+    final List<byte[]> chunks = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              final ByteBuffer chunk = invocation.getArgument(1);
+              final byte[] bytes = new byte[chunk.position()];
+              chunk.flip();
+              chunk.get(bytes);
+              chunks.add(bytes);
+              ((BinaryMessenger.BinaryReply) invocation.getArgument(2))
+                  .reply(ByteBuffer.allocateDirect(1));
+              return null;
+            })
+        .when(mockBinaryMessenger)
+        .send(eq(JavaScriptResultStreamer.CHANNEL_NAME_PREFIX + 7), any(), any());
+
+    streamer.stream("\"caf\\u00e9 \\\"au lait\\\"\\n" + LONG_TEXT + "\"", 7L, 16, mockResult);
+
+    final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    for (byte[] chunk : chunks) {
+      assertTrue(chunk.length <= 16);
+      received.write(chunk, 0, chunk.length);
+    }
+    final byte[] expected =
+        ("caf\u00e9 \"au lait\"\n" + LONG_TEXT).getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, received.toByteArray());
+    assertEquals(4, chunks.size());
+    verify(mockResult).success((long) expected.length);
+  }
+
+  @Test
+  public void streamsOtherResultsAsJson() {
+    streamer.stream("{\"a\":1}", 1L, 1024, mockResult);
+
+    final ArgumentCaptor<ByteBuffer> chunkCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> replyCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockBinaryMessenger)
+        .send(
+            eq(JavaScriptResultStreamer.CHANNEL_NAME_PREFIX + 1),
+            chunkCaptor.capture(),
+            replyCaptor.capture());
+    assertEquals(7, chunkCaptor.getValue().position());
+
+    replyCaptor.getValue().reply(ByteBuffer.allocateDirect(1));
+    verify(mockResult).success(7L);
+  }
+
+  @Test
+  public void stopsWhenDartStopsListening() {
+    streamer.stream("\"" + LONG_TEXT + "\"", 1L, 16, mockResult);
+
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> replyCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockBinaryMessenger).send(any(), any(), replyCaptor.capture());
+
+    replyCaptor.getValue().reply(null);
+
+    verify(mockResult).error(any(IllegalStateException.class));
+    verify(mockResult, never()).success(any());
+  }
+
+  @Test
+  public void emptyResultsAreNotSent() {
+    streamer.stream("\"\"", 1L, 1024, mockResult);
+
+    verify(mockBinaryMessenger, never()).send(any(), any(), any());
+    verify(mockResult).success(0L);
+  }
+
+  @Test
+  public void invalidResultsAreReported() {
+    streamer.stream("\"unterminated", 1L, 1024, mockResult);
+
+    verify(mockResult).error(any(IllegalArgumentException.class));
+  }
+}
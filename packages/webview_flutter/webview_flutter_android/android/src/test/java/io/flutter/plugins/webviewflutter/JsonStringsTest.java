@@ -0,0 +1,41 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class JsonStringsTest {
+  @Test
+  public void parseString() {
+    assertEquals("a\tb \"c\" \u00e9", JsonStrings.parseString(" \"a\\tb \\\"c\\\" \\u00e9\" "));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parseStringRejectsOtherValues() {
+    JsonStrings.parseString("{\"a\": 1}");
+  }
+
+  @Test
+  public void parseStringArray() {
+    assertEquals(
+        Arrays.asList("a", "", "\"quoted\"\n", "\u00e9/"),
+        JsonStrings.parseStringArray(" [\"a\", \"\",\"\\\"quoted\\\"\\n\", \"\\u00e9\\/\"] "));
+    assertEquals(Collections.<String>emptyList(), JsonStrings.parseStringArray("[ ]"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parseStringArrayRejectsNonStrings() {
+    JsonStrings.parseStringArray("[\"a\", 1]");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parseStringArrayRejectsUnterminatedArrays() {
+    JsonStrings.parseStringArray("[\"a\"");
+  }
+}
@@ -0,0 +1,58 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class LongObjectHashMapTest {
+  @Test
+  public void putGetAndRemove() {
+    final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+    assertNull(map.put(0, "zero"));
+    assertNull(map.put(65536, "host"));
+    assertEquals("zero", map.put(0, "replaced"));
+
+    assertEquals("replaced", map.get(0));
+    assertEquals("host", map.get(65536));
+    assertNull(map.get(1));
+    assertEquals(2, map.size());
+
+    assertEquals("replaced", map.remove(0));
+    assertNull(map.remove(0));
+    assertNull(map.get(0));
+    assertEquals(1, map.size());
+
+    map.clear();
+    assertNull(map.get(65536));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  public void matchesHashMap() {
+    final LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+    final Map<Long, Long> expected = new HashMap<>();
+    final Random random = new Random(0);
+
+    for (int i = 0; i < 10000; i++) {
+      final long key = random.nextInt(500);
+      if (random.nextBoolean()) {
+        assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+      } else {
+        assertEquals(expected.remove(key), map.remove(key));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    for (long key = 0; key < 500; key++) {
+      assertEquals(expected.get(key), map.get(key));
+    }
+  }
+}
@@ -83,6 +83,20 @@ public class WebChromeClientTest {
     verify(mockFlutterApi, never()).onProgressChanged((WebChromeClient) any(), any(), any(), any());
   }
 
+  @Test
+  public void onProgressChangedWithEventReporter() {
+    final WebViewHostApiImpl.WebViewPlatformView mockPlatformView =
+        mock(WebViewHostApiImpl.WebViewPlatformView.class);
+    final WebViewEventReporter mockEventReporter = mock(WebViewEventReporter.class);
+    when(mockPlatformView.getEventReporter()).thenReturn(mockEventReporter);
+
+    webChromeClient.onProgressChanged(mockPlatformView, 42);
+
+    verify(mockEventReporter).onProgressChanged(42);
+    verify(mockFlutterApi)
+        .onProgressChanged(eq(webChromeClient), eq(mockPlatformView), eq(42L), any());
+  }
+
   @Test
   public void onCreateWindow() {
     final WebView mockOnCreateWindowWebView = mock(WebView.class);
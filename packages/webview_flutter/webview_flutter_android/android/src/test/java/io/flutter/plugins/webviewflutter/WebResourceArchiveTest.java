@@ -0,0 +1,155 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebResourceArchiveTest {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final String PAGE =
+      "<!DOCTYPE html><html><body><p>Offline help</p><p>Offline help</p></body></html>";
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void openDeflatedEntry() throws IOException {
+    final WebResourceArchive archive = WebResourceArchive.open(writeArchive(ZipEntry.DEFLATED));
+
+    assertEquals(PAGE, read(archive.open("help/index.html")));
+    assertEquals("body{}", read(archive.open("help/css/app.css")));
+  }
+
+  @Test
+  public void openStoredEntry() throws IOException {
+    final WebResourceArchive archive = WebResourceArchive.open(writeArchive(ZipEntry.STORED));
+
+    assertEquals(PAGE, read(archive.open("help/index.html")));
+    assertEquals("body{}", read(archive.open("help/css/app.css")));
+  }
+
+  @Test
+  public void openMissingEntryReturnsNull() throws IOException {
+    final WebResourceArchive archive = WebResourceArchive.open(writeArchive(ZipEntry.DEFLATED));
+
+    assertNull(archive.open("help/missing.html"));
+    // Directories are not indexed.
+    assertNull(archive.open("help/"));
+    assertEquals(2, archive.size());
+  }
+
+  @Test
+  public void openEntryTwice() throws IOException {
+    final WebResourceArchive archive = WebResourceArchive.open(writeArchive(ZipEntry.STORED));
+
+    final InputStream first = archive.open("help/index.html");
+    final InputStream second = archive.open("help/index.html");
+
+    assertEquals(PAGE, read(second));
+    assertEquals(PAGE, read(first));
+  }
+
+  @Test
+  public void openArchiveWithComment() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ZipOutputStream output = new ZipOutputStream(bytes)) {
+      output.setComment("Built for offline use.");
+      output.putNextEntry(new ZipEntry("index.html"));
+      output.write(PAGE.getBytes(UTF_8));
+      output.closeEntry();
+    }
+
+    final WebResourceArchive archive =
+        new WebResourceArchive(ByteBuffer.wrap(bytes.toByteArray()));
+
+    assertEquals(PAGE, read(archive.open("index.html")));
+  }
+
+  @Test
+  public void openCompressedAssetReadsItIntoMemory() throws IOException {
+    final File file = writeArchive(ZipEntry.DEFLATED);
+    final FlutterAssetManager mockFlutterAssetManager = mock(FlutterAssetManager.class);
+    when(mockFlutterAssetManager.openFd("flutter_assets/help.zip"))
+        .thenThrow(new FileNotFoundException());
+    when(mockFlutterAssetManager.open("flutter_assets/help.zip"))
+        .thenReturn(new ByteArrayInputStream(Files.readAllBytes(file.toPath())));
+
+    final WebResourceArchive archive =
+        WebResourceArchive.open(mockFlutterAssetManager, "flutter_assets/help.zip");
+
+    assertEquals(PAGE, read(archive.open("help/index.html")));
+  }
+
+  @Test(expected = IOException.class)
+  public void openRejectsFilesThatAreNotArchives() throws IOException {
+    final File file = temporaryFolder.newFile("help.zip");
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write(PAGE.getBytes(UTF_8));
+    }
+
+    WebResourceArchive.open(file);
+  }
+
+  private File writeArchive(int method) throws IOException {
+    final File file = temporaryFolder.newFile("help.zip");
+    try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(file))) {
+      output.putNextEntry(newEntry("help/", new byte[0], method));
+      output.closeEntry();
+      writeEntry(output, "help/index.html", PAGE.getBytes(UTF_8), method);
+      writeEntry(output, "help/css/app.css", "body{}".getBytes(UTF_8), method);
+    }
+    return file;
+  }
+
+  private static void writeEntry(ZipOutputStream output, String name, byte[] data, int method)
+      throws IOException {
+    output.putNextEntry(newEntry(name, data, method));
+    output.write(data);
+    output.closeEntry();
+  }
+
+  private static ZipEntry newEntry(String name, byte[] data, int method) {
+    final ZipEntry entry = new ZipEntry(name);
+    entry.setMethod(method);
+    if (method == ZipEntry.STORED) {
+      final CRC32 crc = new CRC32();
+      crc.update(data);
+      entry.setCrc(crc.getValue());
+      entry.setSize(data.length);
+      entry.setCompressedSize(data.length);
+    }
+    return entry;
+  }
+
+  private static String read(InputStream input) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[16];
+    int count;
+    while ((count = input.read(buffer)) != -1) {
+      output.write(buffer, 0, count);
+    }
+    input.close();
+    return new String(output.toByteArray(), UTF_8);
+  }
+}
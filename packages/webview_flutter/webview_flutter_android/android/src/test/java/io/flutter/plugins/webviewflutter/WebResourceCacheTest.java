@@ -0,0 +1,193 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebResourceCacheTest {
+  private static final String URL = "https://example.com/app.css";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  HttpURLConnection mockConnection;
+  File directory;
+  WebResourceCache cache;
+
+  @Before
+  public void setUp() throws IOException {
+    mockConnection = mock(HttpURLConnection.class);
+    directory = temporaryFolder.newFolder("cache");
+    cache = new WebResourceCache(directory, url -> mockConnection);
+  }
+
+  @Test
+  public void getStoresResponse() throws IOException {
+    respondWith("body{}", "\"v1\"");
+
+    final WebResourceCache.Response response =
+        cache.get(URL, Collections.<String, String>emptyMap());
+
+    assertNotNull(response);
+    assertEquals(WebResourceCache.Source.NETWORK, response.source);
+    assertEquals("text/css", response.mimeType);
+    assertEquals("utf-8", response.encoding);
+    assertEquals("body{}", read(response.data));
+    assertEquals(1, directory.listFiles().length);
+  }
+
+  @Test
+  public void getKeepsUpstreamStatusAndHeaders() throws IOException {
+    respondWith("body{}", "\"v1\"");
+    final Map<String, List<String>> headerFields = new HashMap<>();
+    headerFields.put(null, Collections.singletonList("HTTP/1.1 200 Fine"));
+    headerFields.put("Access-Control-Allow-Origin", Collections.singletonList("https://a.com"));
+    headerFields.put("Vary", Arrays.asList("Origin", "Accept"));
+    headerFields.put("Set-Cookie", Collections.singletonList("session=1"));
+    when(mockConnection.getHeaderFields()).thenReturn(headerFields);
+    when(mockConnection.getResponseMessage()).thenReturn("Fine");
+    read(cache.get(URL, Collections.<String, String>emptyMap()).data);
+
+    mockConnection = mock(HttpURLConnection.class);
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_MODIFIED);
+    final WebResourceCache.Response response =
+        cache.get(URL, Collections.<String, String>emptyMap());
+
+    final Map<String, String> expectedHeaders = new HashMap<>();
+    expectedHeaders.put("Access-Control-Allow-Origin", "https://a.com");
+    expectedHeaders.put("Vary", "Origin, Accept");
+    assertEquals(200, response.statusCode);
+    assertEquals("Fine", response.reasonPhrase);
+    assertEquals(expectedHeaders, response.headers);
+    assertEquals("body{}", read(response.data));
+  }
+
+  @Test
+  public void getRevalidatesStoredResponse() throws IOException {
+    respondWith("body{}", "\"v1\"");
+    read(cache.get(URL, Collections.<String, String>emptyMap()).data);
+
+    mockConnection = mock(HttpURLConnection.class);
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_MODIFIED);
+    final Map<String, String> requestHeaders = new HashMap<>();
+    requestHeaders.put("If-None-Match", "\"from-webview\"");
+    requestHeaders.put("Accept", "text/css");
+    final WebResourceCache.Response response = cache.get(URL, requestHeaders);
+
+    assertNotNull(response);
+    assertEquals(WebResourceCache.Source.REVALIDATED, response.source);
+    assertEquals("text/css", response.mimeType);
+    assertEquals("body{}", read(response.data));
+    verify(mockConnection).setRequestProperty("If-None-Match", "\"v1\"");
+    verify(mockConnection).setRequestProperty("Accept", "text/css");
+    verify(mockConnection, never()).setRequestProperty("If-None-Match", "\"from-webview\"");
+  }
+
+  @Test
+  public void getServesStaleResponseWhenOffline() throws IOException {
+    respondWith("body{}", "\"v1\"");
+    read(cache.get(URL, Collections.<String, String>emptyMap()).data);
+
+    mockConnection = mock(HttpURLConnection.class);
+    when(mockConnection.getResponseCode()).thenThrow(new IOException());
+    final WebResourceCache.Response response =
+        cache.get(URL, Collections.<String, String>emptyMap());
+
+    assertNotNull(response);
+    assertEquals(WebResourceCache.Source.STALE, response.source);
+    assertEquals("body{}", read(response.data));
+  }
+
+  @Test
+  public void getReturnsNullWhenOfflineWithoutStoredResponse() throws IOException {
+    when(mockConnection.getResponseCode()).thenThrow(new IOException());
+
+    assertNull(cache.get(URL, Collections.<String, String>emptyMap()));
+  }
+
+  @Test
+  public void getDoesNotStoreNoStoreResponses() throws IOException {
+    respondWith("body{}", null);
+    when(mockConnection.getHeaderField("Cache-Control")).thenReturn("private, no-store");
+
+    assertNull(cache.get(URL, Collections.<String, String>emptyMap()));
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void getDoesNotStoreErrors() throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_NOT_FOUND);
+
+    assertNull(cache.get(URL, Collections.<String, String>emptyMap()));
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void setMaxSizeEvictsEntries() throws IOException {
+    respondWith("body{}", "\"v1\"");
+    read(cache.get(URL, Collections.<String, String>emptyMap()).data);
+
+    cache.setMaxSize(0);
+
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void clear() throws IOException {
+    respondWith("body{}", "\"v1\"");
+    read(cache.get(URL, Collections.<String, String>emptyMap()).data);
+
+    cache.clear();
+
+    assertEquals(0, directory.listFiles().length);
+  }
+
+  @Test
+  public void key() {
+    assertEquals("a9993e364706816aba3e25717850c26c9cd0d89d", WebResourceCache.key("abc"));
+  }
+
+  private void respondWith(String body, String etag) throws IOException {
+    when(mockConnection.getResponseCode()).thenReturn(HttpURLConnection.HTTP_OK);
+    when(mockConnection.getContentType()).thenReturn("text/css; charset=utf-8");
+    when(mockConnection.getHeaderField("ETag")).thenReturn(etag);
+    when(mockConnection.getInputStream())
+        .thenReturn(new ByteArrayInputStream(body.getBytes(UTF_8)));
+  }
+
+  private static String read(InputStream input) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      output.write(buffer, 0, read);
+    }
+    input.close();
+    return new String(output.toByteArray(), UTF_8);
+  }
+}
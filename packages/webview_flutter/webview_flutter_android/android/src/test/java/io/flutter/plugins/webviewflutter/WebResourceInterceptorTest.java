@@ -0,0 +1,286 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WebResourceInterceptorTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  FlutterAssetManager mockFlutterAssetManager;
+  WebResourceCache mockCache;
+  WebResourceInterceptor interceptor;
+
+  @Before
+  public void setUp() {
+    mockFlutterAssetManager = mock(FlutterAssetManager.class);
+    mockCache = mock(WebResourceCache.class);
+    interceptor = new WebResourceInterceptor(mockFlutterAssetManager, mockCache);
+  }
+
+  @Test
+  public void resolveAsset() throws IOException {
+    final InputStream data = new ByteArrayInputStream(new byte[0]);
+    when(mockFlutterAssetManager.getAssetFilePathByName("www/css/app.css"))
+        .thenReturn("flutter_assets/www/css/app.css");
+    when(mockFlutterAssetManager.open("flutter_assets/www/css/app.css")).thenReturn(data);
+    interceptor.addRule(
+        "https://appassets.example.com/", false, WebResourceInterceptor.Source.ASSET, "www");
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://appassets.example.com/css/app.css?v=2", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/css", resource.mimeType);
+    assertEquals("*", resource.headers.get("Access-Control-Allow-Origin"));
+    assertEquals(data, resource.data);
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("assetHits"));
+  }
+
+  @Test
+  public void resolveAssetServesIndexForDirectories() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName("www/index.html"))
+        .thenReturn("flutter_assets/www/index.html");
+    when(mockFlutterAssetManager.open("flutter_assets/www/index.html"))
+        .thenReturn(new ByteArrayInputStream(new byte[0]));
+    interceptor.addRule(
+        "https://appassets.example.com/", false, WebResourceInterceptor.Source.ASSET, "www");
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://appassets.example.com/", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/html", resource.mimeType);
+  }
+
+  @Test
+  public void resolveMissingAssetCountsNotFound() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName(anyString())).thenReturn("missing");
+    when(mockFlutterAssetManager.open("missing")).thenThrow(new IOException());
+    interceptor.addRule(
+        "https://appassets.example.com/", false, WebResourceInterceptor.Source.ASSET, "www");
+
+    assertNull(interceptor.resolve("https://appassets.example.com/missing.js", "GET", null));
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("notFound"));
+  }
+
+  @Test
+  public void resolveDirectory() throws IOException {
+    final File directory = temporaryFolder.newFolder("www");
+    writeFile(new File(directory, "my page.html"));
+    interceptor.addRule(
+        "https://local.example.com/",
+        false,
+        WebResourceInterceptor.Source.DIRECTORY,
+        directory.getPath());
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://local.example.com/my%20page.html", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/html", resource.mimeType);
+    resource.data.close();
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("directoryHits"));
+  }
+
+  @Test
+  public void resolveDirectoryRejectsPathsOutsideTheDirectory() throws IOException {
+    final File directory = temporaryFolder.newFolder("www");
+    writeFile(temporaryFolder.newFile("secret.txt"));
+    interceptor.addRule(
+        "https://local.example.com/",
+        false,
+        WebResourceInterceptor.Source.DIRECTORY,
+        directory.getPath());
+
+    assertNull(interceptor.resolve("https://local.example.com/../secret.txt", "GET", null));
+    assertNull(interceptor.resolve("https://local.example.com/%2E%2E/secret.txt", "GET", null));
+  }
+
+  @Test
+  public void resolveArchiveFile() throws IOException {
+    final File archive = temporaryFolder.newFile("help.zip");
+    writeArchive(archive);
+    interceptor.addRule(
+        "https://appassets.example.com/help/",
+        false,
+        WebResourceInterceptor.Source.ARCHIVE_FILE,
+        archive.getPath());
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://appassets.example.com/help/", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/html", resource.mimeType);
+    assertEquals(1, resource.data.read());
+    assertNull(interceptor.resolve("https://appassets.example.com/help/missing.js", "GET", null));
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("archiveHits"));
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("notFound"));
+  }
+
+  @Test
+  public void resolveArchiveAssetIndexesArchiveOnce() throws IOException {
+    final File archive = temporaryFolder.newFile("help.zip");
+    writeArchive(archive);
+    when(mockFlutterAssetManager.getAssetFilePathByName("assets/help.zip"))
+        .thenReturn("flutter_assets/assets/help.zip");
+    when(mockFlutterAssetManager.openFd("flutter_assets/assets/help.zip"))
+        .thenThrow(new FileNotFoundException());
+    when(mockFlutterAssetManager.open("flutter_assets/assets/help.zip"))
+        .thenReturn(new FileInputStream(archive));
+    interceptor.addRule(
+        "https://appassets.example.com/",
+        false,
+        WebResourceInterceptor.Source.ARCHIVE_ASSET,
+        "assets/help.zip");
+
+    assertNotNull(interceptor.resolve("https://appassets.example.com/index.html", "GET", null));
+    assertNotNull(interceptor.resolve("https://appassets.example.com/", "GET", null));
+
+    verify(mockFlutterAssetManager, times(1)).open(anyString());
+    assertEquals(Long.valueOf(2), interceptor.getStats().get("archiveHits"));
+  }
+
+  @Test
+  public void resolveRegexServesFirstGroup() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName("fonts/roboto.woff2"))
+        .thenReturn("flutter_assets/fonts/roboto.woff2");
+    when(mockFlutterAssetManager.open("flutter_assets/fonts/roboto.woff2"))
+        .thenReturn(new ByteArrayInputStream(new byte[0]));
+    interceptor.addRule(
+        "^https://[^/]+/static/(.*\\.woff2)$", true, WebResourceInterceptor.Source.ASSET, "fonts");
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://cdn.example.com/static/roboto.woff2", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("font/woff2", resource.mimeType);
+  }
+
+  @Test
+  public void resolveUsesFirstMatchingRule() {
+    interceptor.addRule("https://example.com/", false, WebResourceInterceptor.Source.CACHE, null);
+    interceptor.addRule(
+        "https://example.com/", false, WebResourceInterceptor.Source.ASSET, "www");
+
+    interceptor.resolve("https://example.com/app.js", "GET", null);
+
+    verify(mockCache).get(anyString(), any());
+    verify(mockFlutterAssetManager, never()).getAssetFilePathByName(anyString());
+  }
+
+  @Test
+  public void resolveCache() {
+    final InputStream data = new ByteArrayInputStream(new byte[0]);
+    when(mockCache.get("https://example.com/app.js", Collections.<String, String>emptyMap()))
+        .thenReturn(
+            new WebResourceCache.Response(
+                "text/javascript",
+                "utf-8",
+                200,
+                "OK",
+                Collections.singletonMap("Cache-Control", "max-age=60"),
+                data,
+                WebResourceCache.Source.REVALIDATED));
+    interceptor.addRule("https://example.com/", false, WebResourceInterceptor.Source.CACHE, null);
+
+    final WebResourceInterceptor.Resource resource =
+        interceptor.resolve("https://example.com/app.js", "GET", null);
+
+    assertNotNull(resource);
+    assertEquals("text/javascript", resource.mimeType);
+    assertEquals("utf-8", resource.encoding);
+    assertEquals(200, resource.statusCode);
+    // Only the upstream headers, so other origins can't read the response unless it allows them.
+    assertEquals(Collections.singletonMap("Cache-Control", "max-age=60"), resource.headers);
+    assertEquals(Long.valueOf(1), interceptor.getStats().get("cacheHits"));
+  }
+
+  @Test
+  public void resolveCacheBypassesPostAndRangeRequests() {
+    interceptor.addRule("https://example.com/", false, WebResourceInterceptor.Source.CACHE, null);
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Range", "bytes=0-");
+
+    assertNull(interceptor.resolve("https://example.com/api", "POST", null));
+    assertNull(interceptor.resolve("https://example.com/video.mp4", "GET", headers));
+    verify(mockCache, never()).get(anyString(), any());
+  }
+
+  @Test
+  public void removeRule() {
+    final long id =
+        interceptor.addRule(
+            "https://example.com/", false, WebResourceInterceptor.Source.CACHE, null);
+    interceptor.removeRule(id);
+
+    assertNull(interceptor.resolve("https://example.com/app.js", "GET", null));
+    verify(mockCache, never()).get(anyString(), any());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addRuleRequiresLocation() {
+    interceptor.addRule("https://example.com/", false, WebResourceInterceptor.Source.ASSET, null);
+  }
+
+  @Test
+  public void resetStats() throws IOException {
+    when(mockFlutterAssetManager.getAssetFilePathByName(anyString())).thenReturn("missing");
+    when(mockFlutterAssetManager.open("missing")).thenThrow(new IOException());
+    interceptor.addRule("https://example.com/", false, WebResourceInterceptor.Source.ASSET, "");
+    interceptor.resolve("https://example.com/a.js", "GET", null);
+
+    interceptor.resetStats();
+
+    assertEquals(Long.valueOf(0), interceptor.getStats().get("notFound"));
+  }
+
+  @Test
+  public void guessMimeType() {
+    assertEquals("text/javascript", WebResourceInterceptor.guessMimeType("app.MJS"));
+    assertEquals("application/wasm", WebResourceInterceptor.guessMimeType("a/b.wasm"));
+    assertEquals("application/octet-stream", WebResourceInterceptor.guessMimeType("data"));
+  }
+
+  private static void writeArchive(File file) throws IOException {
+    try (ZipOutputStream output = new ZipOutputStream(new FileOutputStream(file))) {
+      output.putNextEntry(new ZipEntry("index.html"));
+      output.write(new byte[] {1, 2, 3});
+      output.closeEntry();
+    }
+  }
+
+  private static void writeFile(File file) throws IOException {
+    try (FileOutputStream output = new FileOutputStream(file)) {
+      output.write(new byte[] {1, 2, 3});
+    }
+  }
+}
@@ -0,0 +1,124 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the time and heap allocation of encoding frequent callbacks with {@link
+ * WebViewCallbackCodec} and with the Pigeon codec that sent them before.
+ *
+ * <p>Modeled on a JMH average time benchmark: each case runs warmup iterations before the measured
+ * ones, and the encoded sizes are summed so the JIT can't remove the work. Not run by the unit
+ * tests. Run {@link #main} from the IDE, or with {@code java} and the unit test classpath. Only
+ * allocations on the Java heap are counted, because both codecs allocate one direct buffer for the
+ * message itself.
+ */
+public final class WebViewCallbackCodecBenchmark {
+  private static final int WARMUP_ITERATIONS = 5;
+  private static final int MEASUREMENT_ITERATIONS = 10;
+  private static final int OPERATIONS_PER_ITERATION = 100_000;
+  private static final String URL = "https://example.com/help/articles/offline-pages.html?ref=nav";
+
+  private static long sink;
+
+  /** A way of encoding one callback. */
+  private interface Encoder {
+    ByteBuffer encode();
+  }
+
+  private WebViewCallbackCodecBenchmark() {}
+
+  public static void main(String[] args) {
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("Accept", "text/html,application/xhtml+xml");
+    headers.put("User-Agent", "Mozilla/5.0 (Linux; Android 13) AppleWebKit/537.36");
+    final GeneratedAndroidWebView.WebResourceRequestData request =
+        new GeneratedAndroidWebView.WebResourceRequestData.Builder()
+            .setUrl(URL)
+            .setIsForMainFrame(true)
+            .setIsRedirect(false)
+            .setHasGesture(true)
+            .setMethod("GET")
+            .setRequestHeaders(headers)
+            .build();
+
+    System.out.println("Benchmark                        Mode  ns/op   B/op");
+    compare(
+        "onProgressChanged",
+        () ->
+            GeneratedAndroidWebView.WebChromeClientFlutterApi.getCodec()
+                .encodeMessage(new ArrayList<Object>(Arrays.asList(1L, 2L, 76L))),
+        () -> WebViewCallbackCodec.encodeProgressChanged(1, 2, 76));
+    compare(
+        "onPageStarted",
+        () ->
+            GeneratedAndroidWebView.WebViewClientFlutterApi.getCodec()
+                .encodeMessage(new ArrayList<Object>(Arrays.asList(1L, 2L, URL))),
+        () ->
+            WebViewCallbackCodec.encodeUrlCallback(
+                WebViewCallbackCodec.ON_PAGE_STARTED, 1, 2, URL));
+    compare(
+        "requestLoading",
+        () ->
+            GeneratedAndroidWebView.WebViewClientFlutterApi.getCodec()
+                .encodeMessage(new ArrayList<Object>(Arrays.asList(1L, 2L, request))),
+        () -> WebViewCallbackCodec.encodeRequestLoading(1, 2, request));
+    System.out.println("(sink " + sink + ")");
+  }
+
+  private static void compare(String name, Encoder pigeon, Encoder positional) {
+    report(name + ".pigeon", pigeon);
+    report(name + ".positional", positional);
+  }
+
+  private static void report(String name, Encoder encoder) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      run(encoder);
+    }
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    final long bytesBefore = allocatedBytes(threads);
+    final long start = System.nanoTime();
+    for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+      run(encoder);
+    }
+    final long elapsed = System.nanoTime() - start;
+    final long bytes = allocatedBytes(threads) - bytesBefore;
+
+    final double operations = (double) MEASUREMENT_ITERATIONS * OPERATIONS_PER_ITERATION;
+    System.out.println(
+        String.format(
+            Locale.ROOT,
+            "%-32s avgt %6.1f %6s",
+            name,
+            elapsed / operations,
+            bytesBefore < 0 ? "n/a" : String.format(Locale.ROOT, "%.0f", bytes / operations)));
+  }
+
+  private static void run(Encoder encoder) {
+    for (int i = 0; i < OPERATIONS_PER_ITERATION; i++) {
+      sink += encoder.encode().position();
+    }
+  }
+
+  // Returns -1 if the JVM can't count allocations.
+  private static long allocatedBytes(ThreadMXBean threads) {
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      final com.sun.management.ThreadMXBean hotSpotThreads =
+          (com.sun.management.ThreadMXBean) threads;
+      if (hotSpotThreads.isThreadAllocatedMemorySupported()) {
+        return hotSpotThreads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,156 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewCallbackCodecTest {
+  private static final String URL = "https://example.com/\u00fc/\uD83D\uDE00";
+
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  @Mock public InstanceManager mockInstanceManager;
+
+  @Test
+  public void encodeUrlCallback() {
+    final ByteBuffer encoded =
+        WebViewCallbackCodec.encodeUrlCallback(WebViewCallbackCodec.ON_PAGE_STARTED, 1, 2, URL);
+    final ByteBuffer message = read(encoded);
+
+    assertEquals(WebViewCallbackCodec.ON_PAGE_STARTED, message.get());
+    assertEquals(1, message.getLong());
+    assertEquals(2, message.getLong());
+    assertEquals(URL, getString(message));
+    assertFalse(message.hasRemaining());
+  }
+
+  @Test
+  public void encodeUrlCallbackReplacesUnpairedSurrogates() {
+    final ByteBuffer encoded =
+        WebViewCallbackCodec.encodeUrlCallback(WebViewCallbackCodec.URL_LOADING, 1, 2, "a\uD800b");
+    final ByteBuffer message = read(encoded);
+
+    message.position(17);
+    assertEquals("a\uFFFDb", getString(message));
+  }
+
+  @Test
+  public void encodeProgressChanged() {
+    final ByteBuffer message = read(WebViewCallbackCodec.encodeProgressChanged(3, 4, 76));
+
+    assertEquals(WebViewCallbackCodec.ON_PROGRESS_CHANGED, message.get());
+    assertEquals(3, message.getLong());
+    assertEquals(4, message.getLong());
+    assertEquals(76, message.getInt());
+    assertFalse(message.hasRemaining());
+  }
+
+  @Test
+  public void encodeWebViewEvent() {
+    final ByteBuffer message = read(WebViewCallbackCodec.encodeWebViewEvent(5, 12, 340, 100));
+
+    assertEquals(WebViewCallbackCodec.WEB_VIEW_EVENT, message.get());
+    assertEquals(5, message.getLong());
+    assertEquals(5, message.getLong());
+    assertEquals(12, message.getInt());
+    assertEquals(340, message.getInt());
+    assertEquals(100, message.getInt());
+    assertFalse(message.hasRemaining());
+  }
+
+  @Test
+  public void encodeRequestLoading() {
+    final Map<String, String> headers = new LinkedHashMap<>();
+    headers.put("Accept", "text/html");
+    headers.put("Referer", "https://example.com/");
+    final GeneratedAndroidWebView.WebResourceRequestData request =
+        new GeneratedAndroidWebView.WebResourceRequestData.Builder()
+            .setUrl("https://example.com/page")
+            .setIsForMainFrame(true)
+            .setIsRedirect(false)
+            .setHasGesture(true)
+            .setMethod("GET")
+            .setRequestHeaders(headers)
+            .build();
+
+    final ByteBuffer message = read(WebViewCallbackCodec.encodeRequestLoading(5, 6, request));
+
+    assertEquals(WebViewCallbackCodec.REQUEST_LOADING, message.get());
+    assertEquals(5, message.getLong());
+    assertEquals(6, message.getLong());
+    assertEquals("https://example.com/page", getString(message));
+    final int flags = message.get();
+    assertTrue((flags & WebViewCallbackCodec.FLAG_IS_FOR_MAIN_FRAME) != 0);
+    assertTrue((flags & WebViewCallbackCodec.FLAG_HAS_GESTURE) != 0);
+    assertTrue((flags & WebViewCallbackCodec.FLAG_HAS_IS_REDIRECT) != 0);
+    assertFalse((flags & WebViewCallbackCodec.FLAG_IS_REDIRECT) != 0);
+    assertEquals("GET", getString(message));
+    assertEquals(2, message.getInt());
+    assertEquals("Accept", getString(message));
+    assertEquals("text/html", getString(message));
+    assertEquals("Referer", getString(message));
+    assertEquals("https://example.com/", getString(message));
+    assertFalse(message.hasRemaining());
+  }
+
+  @Test
+  public void flutterApisSendThroughCallbackChannel() {
+    final WebViewClientFlutterApiImpl webViewClientFlutterApi =
+        new WebViewClientFlutterApiImpl(mockBinaryMessenger, mockInstanceManager);
+    final WebChromeClientFlutterApiImpl webChromeClientFlutterApi =
+        new WebChromeClientFlutterApiImpl(mockBinaryMessenger, mockInstanceManager);
+    final boolean[] replied = new boolean[1];
+
+    webViewClientFlutterApi.onPageFinished(1L, 2L, "https://example.com", reply -> {});
+    webChromeClientFlutterApi.onProgressChanged(1L, 2L, 100L, reply -> replied[0] = true);
+
+    final ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> replyCaptor =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(mockBinaryMessenger, times(2))
+        .send(
+            eq(WebViewCallbackCodec.CHANNEL_NAME), messageCaptor.capture(), replyCaptor.capture());
+    assertEquals(
+        WebViewCallbackCodec.ON_PAGE_FINISHED, read(messageCaptor.getAllValues().get(0)).get());
+    assertEquals(
+        WebViewCallbackCodec.ON_PROGRESS_CHANGED, read(messageCaptor.getAllValues().get(1)).get());
+
+    replyCaptor.getAllValues().get(1).reply(null);
+    assertTrue(replied[0]);
+  }
+
+  // The encoded bytes end at the position of the buffer, like BinaryMessenger expects.
+  private static ByteBuffer read(ByteBuffer message) {
+    final ByteBuffer copy = message.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    copy.flip();
+    return copy;
+  }
+
+  private static String getString(ByteBuffer message) {
+    final byte[] bytes = new byte[message.getInt()];
+    message.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,142 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewEventReporterTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public BinaryMessenger mockBinaryMessenger;
+
+  final List<Runnable> frameCallbacks = new ArrayList<>();
+  WebViewEventReporter eventReporter;
+
+  @Before
+  public void setUp() {
+    eventReporter = new WebViewEventReporter(mockBinaryMessenger, frameCallbacks::add, 7L, 10, 20);
+  }
+
+  @Test
+  public void coalescesChangesWithinAFrame() {
+    eventReporter.onScrollChanged(0, 5);
+    eventReporter.onScrollChanged(0, 50);
+    eventReporter.onProgressChanged(30);
+    assertEquals(1, frameCallbacks.size());
+
+    runFrame();
+
+    final ByteBuffer message = lastMessage(1);
+    assertEquals(WebViewCallbackCodec.WEB_VIEW_EVENT, message.get());
+    assertEquals(7L, message.getLong());
+    assertEquals(7L, message.getLong());
+    assertEquals(0, message.getInt());
+    assertEquals(50, message.getInt());
+    assertEquals(30, message.getInt());
+    assertFalse(message.hasRemaining());
+  }
+
+  @Test
+  public void skipsChangesSmallerThanTheMinimumDeltas() {
+    eventReporter.onScrollChanged(0, 100);
+    eventReporter.onProgressChanged(10);
+    runFrame();
+
+    eventReporter.onScrollChanged(9, 109);
+    eventReporter.onProgressChanged(29);
+    runFrame();
+    verify(mockBinaryMessenger, times(1)).send(eq(WebViewCallbackCodec.CHANNEL_NAME), any());
+
+    // The skipped changes are included in the next event.
+    eventReporter.onScrollChanged(0, 110);
+    runFrame();
+    final ByteBuffer message = lastMessage(2);
+    message.position(17);
+    assertEquals(0, message.getInt());
+    assertEquals(110, message.getInt());
+    assertEquals(29, message.getInt());
+  }
+
+  @Test
+  public void reportsSmallChangesOnceTheViewIsIdle() {
+    eventReporter.onScrollChanged(0, 100);
+    runFrame();
+
+    eventReporter.onScrollChanged(0, 104);
+    runFrame();
+    verify(mockBinaryMessenger, times(1)).send(eq(WebViewCallbackCodec.CHANNEL_NAME), any());
+
+    // A frame without changes sends the position the view came to rest at.
+    runFrame();
+    final ByteBuffer message = lastMessage(2);
+    message.position(17);
+    assertEquals(0, message.getInt());
+    assertEquals(104, message.getInt());
+
+    runFrame();
+    assertEquals(0, frameCallbacks.size());
+    verify(mockBinaryMessenger, times(2)).send(eq(WebViewCallbackCodec.CHANNEL_NAME), any());
+  }
+
+  @Test
+  public void alwaysReportsCompletedProgress() {
+    eventReporter.onProgressChanged(90);
+    runFrame();
+
+    eventReporter.onProgressChanged(100);
+    runFrame();
+
+    final ByteBuffer message = lastMessage(2);
+    message.position(25);
+    assertEquals(100, message.getInt());
+  }
+
+  @Test
+  public void releaseStopsReporting() {
+    eventReporter.onScrollChanged(0, 50);
+    eventReporter.release();
+    runFrame();
+
+    eventReporter.onScrollChanged(0, 100);
+    assertEquals(0, frameCallbacks.size());
+    verify(mockBinaryMessenger, never()).send(any(), any());
+  }
+
+  private void runFrame() {
+    final List<Runnable> callbacks = new ArrayList<>(frameCallbacks);
+    frameCallbacks.clear();
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+  }
+
+  private ByteBuffer lastMessage(int sentCount) {
+    final ArgumentCaptor<ByteBuffer> messageCaptor = ArgumentCaptor.forClass(ByteBuffer.class);
+    verify(mockBinaryMessenger, times(sentCount))
+        .send(eq(WebViewCallbackCodec.CHANNEL_NAME), messageCaptor.capture());
+    final ByteBuffer message = messageCaptor.getValue().duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    message.flip();
+    return message;
+  }
+}
@@ -0,0 +1,118 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.ComponentCallbacks2;
+import android.webkit.WebView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewLifecycleManagerTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock public WebViewLifecycleFlutterApiImpl mockFlutterApi;
+
+  @Mock public WebView mockWebView;
+
+  @Mock public WebView mockOtherWebView;
+
+  WebViewLifecycleManager lifecycleManager;
+
+  @Before
+  public void setUp() {
+    lifecycleManager = new WebViewLifecycleManager(mockFlutterApi);
+    lifecycleManager.add(mockWebView);
+    lifecycleManager.add(mockOtherWebView);
+  }
+
+  @Test
+  public void setHidden() {
+    lifecycleManager.setHidden(mockWebView, true);
+    verify(mockWebView).onPause();
+    verify(mockFlutterApi)
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_PAUSED), any());
+
+    lifecycleManager.setHidden(mockWebView, false);
+    verify(mockWebView).onResume();
+    verify(mockFlutterApi)
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_RESUMED), any());
+  }
+
+  @Test
+  public void pausesTimersOnlyWhenAllWebViewsAreHidden() {
+    lifecycleManager.setHidden(mockWebView, true);
+    verify(mockWebView, never()).pauseTimers();
+    verify(mockOtherWebView, never()).pauseTimers();
+
+    lifecycleManager.setHidden(mockOtherWebView, true);
+    verify(mockOtherWebView).pauseTimers();
+
+    lifecycleManager.setHidden(mockWebView, false);
+    verify(mockWebView).resumeTimers();
+  }
+
+  @Test
+  public void onTrimMemoryDiscardsHiddenWebViews() {
+    when(mockWebView.getUrl()).thenReturn("https://www.google.com");
+    lifecycleManager.setHidden(mockWebView, true);
+
+    lifecycleManager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+    verify(mockWebView).loadUrl("about:blank");
+    verify(mockOtherWebView, never()).loadUrl(any());
+    verify(mockFlutterApi)
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_DISCARDED), any());
+
+    lifecycleManager.setHidden(mockWebView, false);
+    verify(mockWebView).loadUrl("https://www.google.com");
+    verify(mockFlutterApi)
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_RESTORED), any());
+  }
+
+  @Test
+  public void showingDiscardedWebViewWithoutSavedStateNeedsReload() {
+    when(mockWebView.getUrl()).thenReturn("https://www.google.com");
+    lifecycleManager.setTrimPolicy(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW, false);
+    lifecycleManager.setHidden(mockWebView, true);
+    lifecycleManager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+    lifecycleManager.setHidden(mockWebView, false);
+    verify(mockWebView, never()).loadUrl("https://www.google.com");
+    verify(mockFlutterApi)
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_NEEDS_RELOAD), any());
+    verify(mockFlutterApi, never())
+        .onStateChanged(eq(mockWebView), eq(WebViewLifecycleManager.STATE_RESUMED), any());
+  }
+
+  @Test
+  public void onTrimMemoryIgnoresLevelsBelowTrimPolicy() {
+    lifecycleManager.setTrimPolicy(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL, false);
+    lifecycleManager.setHidden(mockWebView, true);
+
+    lifecycleManager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+    lifecycleManager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+    verify(mockWebView, never()).loadUrl(any());
+
+    lifecycleManager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+    verify(mockWebView).loadUrl("about:blank");
+    verify(mockWebView, never()).getUrl();
+  }
+
+  @Test
+  public void removeResumesHiddenWebView() {
+    lifecycleManager.setHidden(mockWebView, true);
+    lifecycleManager.remove(mockWebView);
+    verify(mockWebView).onResume();
+  }
+}
@@ -0,0 +1,190 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.os.MessageQueue;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.InputAwareWebViewPlatformView;
+import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+public class WebViewPoolTest {
+  @Rule public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+  @Mock WebViewPool.WebViewFactory mockWebViewFactory;
+
+  @Mock WebViewPool.PoolProxy mockPoolProxy;
+
+  @Mock Context mockApplicationContext;
+
+  @Mock Context mockContext;
+
+  WebViewPool testWebViewPool;
+
+  @Before
+  public void setUp() {
+    when(mockWebViewFactory.create(any(), eq(true)))
+        .thenAnswer(invocation -> mock(WebViewPlatformView.class));
+    when(mockWebViewFactory.create(any(), eq(false)))
+        .thenAnswer(invocation -> mock(InputAwareWebViewPlatformView.class));
+    testWebViewPool = new WebViewPool(mockWebViewFactory, mockPoolProxy, mockApplicationContext);
+  }
+
+  @Test
+  public void obtainWithoutPoolingCreatesWebView() {
+    final WebView webView = testWebViewPool.obtain(mockContext, true);
+
+    verify(mockWebViewFactory).create(mockContext, true);
+    verify((WebViewPlatformView) webView, never()).setPool(any());
+  }
+
+  @Test
+  public void prewarmCreatesWebViewsWhenIdle() {
+    testWebViewPool.prewarm(2, true);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+
+    assertTrue(idleHandler.queueIdle());
+    verify(mockPoolProxy).initializeProvider(mockApplicationContext);
+    verify(mockWebViewFactory, never()).create(any(), anyBoolean());
+
+    assertTrue(idleHandler.queueIdle());
+    assertFalse(idleHandler.queueIdle());
+    verify(mockWebViewFactory, times(2)).create(any(), eq(true));
+    assertEquals(Long.valueOf(2), testWebViewPool.getStats().get("idle"));
+  }
+
+  @Test
+  public void obtainServesPrewarmedWebView() {
+    when(mockPoolProxy.nanoTime()).thenReturn(0L, 300000000L, 300000000L, 350000000L);
+    testWebViewPool.prewarm(1, false);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+    idleHandler.queueIdle();
+    idleHandler.queueIdle();
+
+    final WebView webView = testWebViewPool.obtain(mockContext, false);
+
+    assertTrue(webView instanceof InputAwareWebViewPlatformView);
+    verify(mockWebViewFactory, times(1)).create(any(), anyBoolean());
+    assertEquals(Long.valueOf(1), testWebViewPool.getStats().get("hits"));
+    assertEquals(Long.valueOf(300000), testWebViewPool.getStats().get("providerInitMicros"));
+    assertEquals(Long.valueOf(350000), testWebViewPool.getStats().get("timeSavedMicros"));
+  }
+
+  @Test
+  public void obtainCreatesWebViewWhenPoolIsEmpty() {
+    testWebViewPool.setMaxSize(1);
+
+    final WebView webView = testWebViewPool.obtain(mockContext, true);
+
+    verify((WebViewPlatformView) webView).setPool(testWebViewPool);
+    assertEquals(Long.valueOf(1), testWebViewPool.getStats().get("misses"));
+  }
+
+  @Test
+  public void webViewIsRecycledAfterReleaseAndPlatformViewDisposal() {
+    testWebViewPool.setMaxSize(1);
+    final WebView webView = testWebViewPool.obtain(mockContext, true);
+
+    testWebViewPool.onReleased(webView);
+    verify((WebViewPlatformView) webView, never()).resetForReuse(any());
+
+    testWebViewPool.onPlatformViewDisposed(webView);
+    final ArgumentCaptor<WebViewClient> resetClientCaptor =
+        ArgumentCaptor.forClass(WebViewClient.class);
+    verify((WebViewPlatformView) webView).resetForReuse(resetClientCaptor.capture());
+    verify(webView, never()).destroy();
+    assertEquals(Long.valueOf(1), testWebViewPool.getStats().get("recycled"));
+
+    resetClientCaptor.getValue().onPageFinished(webView, "about:blank");
+    verify(webView).clearHistory();
+    assertSame(webView, testWebViewPool.obtain(mockContext, true));
+  }
+
+  @Test
+  public void recycledWebViewIsNotServedBeforeItsHistoryIsCleared() {
+    testWebViewPool.setMaxSize(1);
+    final WebView webView = testWebViewPool.obtain(mockContext, true);
+    testWebViewPool.onReleased(webView);
+    testWebViewPool.onPlatformViewDisposed(webView);
+
+    assertNotSame(webView, testWebViewPool.obtain(mockContext, true));
+    verify(webView, never()).clearHistory();
+    assertEquals(Long.valueOf(2), testWebViewPool.getStats().get("misses"));
+  }
+
+  @Test
+  public void webViewIsDestroyedWhenPoolIsFull() {
+    testWebViewPool.setMaxSize(1);
+    final WebView first = testWebViewPool.obtain(mockContext, true);
+    final WebView second = testWebViewPool.obtain(mockContext, true);
+    assertNotSame(first, second);
+
+    testWebViewPool.onPlatformViewDisposed(first);
+    testWebViewPool.onReleased(first);
+    testWebViewPool.onReleased(second);
+    testWebViewPool.onPlatformViewDisposed(second);
+
+    verify(first, never()).destroy();
+    verify(second).destroy();
+    verify((WebViewPlatformView) second).setPool(null);
+  }
+
+  @Test
+  public void webViewsNotCreatedByThePoolAreIgnored() {
+    final WebViewPlatformView webView = mock(WebViewPlatformView.class);
+
+    testWebViewPool.setMaxSize(1);
+    testWebViewPool.onReleased(webView);
+    testWebViewPool.onPlatformViewDisposed(webView);
+
+    verify(webView, never()).resetForReuse(any());
+    verify(webView, never()).destroy();
+  }
+
+  @Test
+  public void clearDestroysIdleWebViews() {
+    testWebViewPool.prewarm(1, true);
+    final MessageQueue.IdleHandler idleHandler = captureIdleHandler();
+    idleHandler.queueIdle();
+    idleHandler.queueIdle();
+    final WebView webView = testWebViewPool.obtain(mockContext, true);
+    testWebViewPool.onReleased(webView);
+    testWebViewPool.onPlatformViewDisposed(webView);
+
+    testWebViewPool.clear();
+
+    verify(webView).destroy();
+    assertEquals(Long.valueOf(0), testWebViewPool.getStats().get("idle"));
+  }
+
+  private MessageQueue.IdleHandler captureIdleHandler() {
+    final ArgumentCaptor<MessageQueue.IdleHandler> idleHandlerCaptor =
+        ArgumentCaptor.forClass(MessageQueue.IdleHandler.class);
+    verify(mockPoolProxy).addIdleHandler(idleHandlerCaptor.capture());
+    return idleHandlerCaptor.getValue();
+  }
+}
@@ -5,8 +5,13 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,7 +25,11 @@ import io.flutter.plugins.webviewflutter.WebChromeClientHostApiImpl.WebChromeCli
 import io.flutter.plugins.webviewflutter.WebViewClientHostApiImpl.WebViewClientImpl;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.InputAwareWebViewPlatformView;
 import io.flutter.plugins.webviewflutter.WebViewHostApiImpl.WebViewPlatformView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -65,11 +74,13 @@ public class WebViewTest {
     final WebChromeClientImpl mockWebChromeClient = mock(WebChromeClientImpl.class);
     final DownloadListenerImpl mockDownloadListener = mock(DownloadListenerImpl.class);
     final JavaScriptChannel mockJavaScriptChannel = mock(JavaScriptChannel.class);
+    final WebViewEventReporter mockEventReporter = mock(WebViewEventReporter.class);
 
     webView.setWebViewClient(mockWebViewClient);
     webView.setWebChromeClient(mockWebChromeClient);
     webView.setDownloadListener(mockDownloadListener);
     webView.addJavascriptInterface(mockJavaScriptChannel, "jchannel");
+    webView.setEventReporter(mockEventReporter);
 
     webView.release();
 
@@ -77,6 +88,7 @@ public class WebViewTest {
     verify(mockWebChromeClient).release();
     verify(mockDownloadListener).release();
     verify(mockJavaScriptChannel).release();
+    verify(mockEventReporter).release();
   }
 
   @Test
@@ -163,6 +175,37 @@ public class WebViewTest {
     verify(mockJavaScriptChannel2).release();
   }
 
+  @Test
+  public void resetWebViewForReuse() {
+    final WebViewPlatformView webView = new WebViewPlatformView(mockContext);
+
+    final WebViewClientImpl mockWebViewClient = mock(WebViewClientImpl.class);
+    final JavaScriptChannel mockJavaScriptChannel = mock(JavaScriptChannel.class);
+
+    webView.setWebViewClient(mockWebViewClient);
+    webView.addJavascriptInterface(mockJavaScriptChannel, "jchannel");
+
+    webView.resetForReuse(new WebViewClient());
+
+    verify(mockWebViewClient).release();
+    verify(mockJavaScriptChannel).release();
+  }
+
+  @Test
+  public void createAndDisposeWithWebViewPool() {
+    final WebViewPool mockWebViewPool = mock(WebViewPool.class);
+    final WebViewPlatformView pooledWebView = mock(WebViewPlatformView.class);
+    when(mockWebViewPool.obtain(mockContext, true)).thenReturn(pooledWebView);
+    testHostApiImpl.setWebViewPool(mockWebViewPool);
+
+    testHostApiImpl.create(1L, true);
+    assertEquals(pooledWebView, testInstanceManager.getInstance(1L));
+
+    testHostApiImpl.dispose(1L);
+    verify(pooledWebView).release();
+    verify(mockWebViewPool).onReleased(pooledWebView);
+  }
+
   @Test
   public void loadData() {
     testHostApiImpl.loadData(
@@ -282,6 +325,56 @@ public class WebViewTest {
     assertEquals(successValue[0], "da result");
   }
 
+  @Test
+  public void evaluateJavaScriptBatch() {
+    final List<List<String>> successValue = new ArrayList<>();
+    testHostApiImpl.evaluateJavascriptBatch(
+        0L,
+        Arrays.asList("1 + 1", "2 + 2"),
+        new GeneratedAndroidWebView.Result<List<String>>() {
+          @Override
+          public void success(List<String> result) {
+            successValue.add(result);
+          }
+
+          @Override
+          public void error(Throwable error) {}
+        });
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("1 + 1"), callbackCaptor.capture());
+    verify(mockWebView, never()).evaluateJavascript(eq("2 + 2"), any());
+
+    callbackCaptor.getValue().onReceiveValue("2");
+    verify(mockWebView).evaluateJavascript(eq("2 + 2"), callbackCaptor.capture());
+    assertTrue(successValue.isEmpty());
+
+    callbackCaptor.getValue().onReceiveValue("4");
+    assertEquals(successValue, Collections.singletonList(Arrays.asList("2", "4")));
+  }
+
+  @Test
+  public void evaluateJavaScriptChunked() {
+    final JavaScriptResultStreamer mockStreamer = mock(JavaScriptResultStreamer.class);
+    testHostApiImpl.setJavaScriptResultStreamer(mockStreamer);
+    @SuppressWarnings("unchecked")
+    final GeneratedAndroidWebView.Result<Long> mockResult =
+        mock(GeneratedAndroidWebView.Result.class);
+
+    testHostApiImpl.evaluateJavascriptChunked(0L, "document.body.innerText", 3L, 1024L, mockResult);
+
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<ValueCallback<String>> callbackCaptor =
+        ArgumentCaptor.forClass(ValueCallback.class);
+    verify(mockWebView).evaluateJavascript(eq("document.body.innerText"), callbackCaptor.capture());
+    verify(mockStreamer, never()).stream(any(), anyLong(), anyInt(), any());
+
+    callbackCaptor.getValue().onReceiveValue("\"text\"");
+    verify(mockStreamer).stream("\"text\"", 3L, 1024, mockResult);
+  }
+
   @Test
   public void getTitle() {
     when(mockWebView.getTitle()).thenReturn("My title");
@@ -312,6 +405,30 @@ public class WebViewTest {
     assertEquals((long) testHostApiImpl.getScrollY(0L), 23);
   }
 
+  @Test
+  public void setEventReportingEnabled() {
+    final WebViewEventReporter.WebViewEventReporterCreator mockCreator =
+        mock(WebViewEventReporter.WebViewEventReporterCreator.class);
+    final WebViewEventReporter mockEventReporter = mock(WebViewEventReporter.class);
+    when(mockCreator.createWebViewEventReporter(0L, 8, 5)).thenReturn(mockEventReporter);
+    when(mockWebView.getScrollY()).thenReturn(40);
+    when(mockWebView.getProgress()).thenReturn(70);
+    testHostApiImpl.setWebViewEventReporterCreator(mockCreator);
+
+    testHostApiImpl.setEventReportingEnabled(0L, true, 8L, 5L);
+    verify(mockWebView).setEventReporter(mockEventReporter);
+    verify(mockEventReporter).onScrollChanged(0, 40);
+    verify(mockEventReporter).onProgressChanged(70);
+
+    testHostApiImpl.setEventReportingEnabled(0L, false, 8L, 5L);
+    verify(mockWebView).setEventReporter(null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void setEventReportingEnabledWithoutCreator() {
+    testHostApiImpl.setEventReportingEnabled(0L, true, 1L, 1L);
+  }
+
   @Test
   public void setWebViewClient() {
     final WebViewClient mockWebViewClient = mock(WebViewClient.class);
@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+// Measures how many messages per second reach Dart through a JavaScript
+// channel, with and without batching. Run with `flutter drive` like the other
+// integration tests; the results are reported through `reportData`.
+
+import 'dart:async';
+
+import 'package:flutter_test/flutter_test.dart';
+import 'package:integration_test/integration_test.dart';
+import 'package:webview_flutter_android/src/android_webview.dart'
+    as android_webview;
+
+const int _messageCount = 10000;
+
+Future<void> main() async {
+  final IntegrationTestWidgetsFlutterBinding binding =
+      IntegrationTestWidgetsFlutterBinding.ensureInitialized();
+  final Map<String, dynamic> results = <String, dynamic>{};
+
+  Future<double> measure(
+    android_webview.JavaScriptChannelBatching? batching,
+    String Function(String channelName) script,
+  ) async {
+    final android_webview.WebView webView = android_webview.WebView();
+    final _PageFinishedWebViewClient webViewClient =
+        _PageFinishedWebViewClient();
+    final _CountingJavaScriptChannel channel =
+        _CountingJavaScriptChannel('Benchmark', batching: batching);
+
+    await webView.settings.setJavaScriptEnabled(true);
+    await webView.setWebViewClient(webViewClient);
+    await webView.addJavaScriptChannel(channel);
+    await webView.loadDataWithBaseUrl(
+      data: '<!DOCTYPE html><html><body></body></html>',
+      mimeType: 'text/html',
+    );
+    await webViewClient.pageFinished.future;
+
+    final Stopwatch stopwatch = Stopwatch()..start();
+    await webView.evaluateJavascript(script(channel.channelName));
+    await channel.allReceived.future;
+    stopwatch.stop();
+
+    await webView.release();
+    return _messageCount / (stopwatch.elapsedMicroseconds / 1000000);
+  }
+
+  String postEach(String channelName) {
+    return '''
+      for (let i = 0; i < $_messageCount; i++) {
+        $channelName.postMessage('message ' + i);
+      }
+    ''';
+  }
+
+  String postInChunks(String channelName) {
+    return '''
+      for (let i = 0; i < $_messageCount; i += 100) {
+        const chunk = [];
+        for (let j = i; j < Math.min(i + 100, $_messageCount); j++) {
+          chunk.push('message ' + j);
+        }
+        $channelName.postMessages(JSON.stringify(chunk));
+      }
+    ''';
+  }
+
+  testWidgets('postMessage', (WidgetTester tester) async {
+    results['postMessageMessagesPerSecond'] = await measure(null, postEach);
+  });
+
+  testWidgets('batched postMessage', (WidgetTester tester) async {
+    results['batchedPostMessageMessagesPerSecond'] = await measure(
+      const android_webview.JavaScriptChannelBatching(
+        maxPendingMessages: _messageCount,
+      ),
+      postEach,
+    );
+  });
+
+  testWidgets('batched postMessages', (WidgetTester tester) async {
+    results['batchedPostMessagesMessagesPerSecond'] = await measure(
+      const android_webview.JavaScriptChannelBatching(
+        maxPendingMessages: _messageCount,
+      ),
+      postInChunks,
+    );
+  });
+
+  tearDownAll(() {
+    binding.reportData = <String, dynamic>{'javaScriptChannel': results};
+  });
+}
+
+class _CountingJavaScriptChannel extends android_webview.JavaScriptChannel {
+  _CountingJavaScriptChannel(
+    String channelName, {
+    android_webview.JavaScriptChannelBatching? batching,
+  }) : super(channelName, batching: batching);
+
+  final Completer<void> allReceived = Completer<void>();
+  int _received = 0;
+
+  @override
+  void postMessage(String message) {
+    _received++;
+    if (_received == _messageCount) {
+      allReceived.complete();
+    }
+  }
+
+  @override
+  void onMessagesDropped(int count) {
+    allReceived.completeError(StateError('$count messages were dropped.'));
+  }
+}
+
+class _PageFinishedWebViewClient extends android_webview.WebViewClient {
+  _PageFinishedWebViewClient() : super(shouldOverrideUrlLoading: false);
+
+  final Completer<void> pageFinished = Completer<void>();
+
+  @override
+  void onPageFinished(android_webview.WebView webView, String url) {
+    if (!pageFinished.isCompleted) {
+      pageFinished.complete();
+    }
+  }
+}
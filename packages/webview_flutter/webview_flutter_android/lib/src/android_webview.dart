@@ -283,6 +283,39 @@ class WebView extends JavaObject {
     );
   }
 
+  /// Evaluates each script in [javascriptStrings] once the previous one has
+  /// finished and returns all results together.
+  ///
+  /// Each result is in the format returned by [evaluateJavascript]. This
+  /// makes one call to the platform instead of one per script.
+  Future<List<String?>> evaluateJavascriptBatch(
+    List<String> javascriptStrings,
+  ) {
+    return api.evaluateJavascriptBatchFromInstance(this, javascriptStrings);
+  }
+
+  /// Evaluates JavaScript and streams the result as UTF-8 encoded chunks.
+  ///
+  /// If the script evaluates to a string, the stream contains the string
+  /// itself instead of a JSON string literal. Any other result is streamed as
+  /// JSON. The result can be decoded with `utf8.decoder.bind(stream)`.
+  ///
+  /// Chunks have at most [chunkSize] bytes and are encoded in the background.
+  /// The next chunk is only sent once the previous one was received and the
+  /// stream isn't paused, so large results, like text extracted from the
+  /// page, don't block the platform thread or need to be held in memory at
+  /// once.
+  Stream<Uint8List> evaluateJavascriptChunked(
+    String javascriptString, {
+    int chunkSize = 64 * 1024,
+  }) {
+    return api.evaluateJavascriptChunkedFromInstance(
+      this,
+      javascriptString,
+      chunkSize,
+    );
+  }
+
   // TODO(bparrishMines): Update documentation when WebViewClient.onReceivedTitle is added.
   /// Gets the title for the current page.
   ///
@@ -321,6 +354,29 @@ class WebView extends JavaObject {
     return api.getScrollYFromInstance(this);
   }
 
+  /// Reports the scroll position and loading progress of this view at most
+  /// once per frame while the returned stream is listened to.
+  ///
+  /// Changes within a frame are sent as a single [WebViewEvent], and an event
+  /// is only sent if the scroll position moved by at least [minScrollDelta]
+  /// pixels or the progress changed by at least [minProgressDelta]. Smaller
+  /// changes are included in the next event, or reported once a frame passes
+  /// without changes, and a progress of 100 is always reported. The first
+  /// event reports the current state.
+  ///
+  /// The progress is still passed to [WebChromeClient.onProgressChanged] as
+  /// well, and is only known while a [WebChromeClient] is set. Only one stream
+  /// of events is reported at a time, so listening to a new stream closes the
+  /// previous one.
+  Stream<WebViewEvent> watchEvents({
+    int minScrollDelta = 1,
+    int minProgressDelta = 1,
+  }) {
+    assert(minScrollDelta > 0);
+    assert(minProgressDelta > 0);
+    return api.watchEventsFromInstance(this, minScrollDelta, minProgressDelta);
+  }
+
   /// Sets the [WebViewClient] that will receive various notifications and requests.
   ///
   /// This will replace the current handler.
@@ -612,6 +668,33 @@ class WebSettings extends JavaObject {
   }
 }
 
+/// Options for a [JavaScriptChannel] that passes messages to Dart in batches.
+///
+/// Messages posted from JavaScript within a frame are sent to Dart together
+/// and only one batch is sent at a time. Besides `postMessage`, a batched
+/// channel exposes `postMessages`, which takes a JSON array of strings, and
+/// `postBinaryMessage`, which takes base64 encoded bytes.
+///
+/// See [JavaScriptChannel.batching].
+@immutable
+class JavaScriptChannelBatching {
+  /// Constructs a [JavaScriptChannelBatching].
+  const JavaScriptChannelBatching({
+    this.maxPendingMessages = 1000,
+    this.dropOldest = false,
+  }) : assert(maxPendingMessages > 0);
+
+  /// The number of messages that can wait while Dart handles a batch.
+  ///
+  /// Further messages are dropped and reported with
+  /// [JavaScriptChannel.onMessagesDropped].
+  final int maxPendingMessages;
+
+  /// Whether the oldest waiting message is dropped instead of the new message
+  /// when [maxPendingMessages] messages are waiting.
+  final bool dropOldest;
+}
+
 /// Exposes a channel to receive calls from javaScript.
 ///
 /// See [WebView.addJavaScriptChannel].
@@ -620,6 +703,7 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel(
     this.channelName, {
     void Function(String message)? postMessage,
+    this.batching,
   }) : super.detached() {
     AndroidWebViewFlutterApis.instance.ensureSetUp();
   }
@@ -632,6 +716,7 @@ class JavaScriptChannel extends JavaObject {
   JavaScriptChannel.detached(
     this.channelName, {
     void Function(String message)? postMessage,
+    this.batching,
   }) : super.detached();
 
   /// Pigeon Host Api implementation for [JavaScriptChannel].
@@ -641,12 +726,50 @@ class JavaScriptChannel extends JavaObject {
   /// Used to identify this object to receive messages from javaScript.
   final String channelName;
 
+  /// Passes the messages posted from javaScript in batches when not null.
+  ///
+  /// See [postMessages].
+  final JavaScriptChannelBatching? batching;
+
   /// Callback method when javaScript calls `postMessage` on the object instance passed.
   void postMessage(String message) {}
 
+  /// Callback method when javaScript calls `postBinaryMessage` on a channel
+  /// with [batching].
+  void postBinaryMessage(Uint8List message) {}
+
+  /// Callback method for the messages posted within a frame on a channel with
+  /// [batching].
+  ///
+  /// Each message is a [String] or a [Uint8List]. [droppedCount] is the number
+  /// of messages dropped since the previous batch.
+  ///
+  /// By default, passes each message to [postMessage] or [postBinaryMessage]
+  /// and calls [onMessagesDropped] if messages were dropped.
+  void postMessages(List<Object?> messages, int droppedCount) {
+    if (droppedCount > 0) {
+      onMessagesDropped(droppedCount);
+    }
+    for (final Object? message in messages) {
+      if (message is String) {
+        postMessage(message);
+      } else if (message is Uint8List) {
+        postBinaryMessage(message);
+      }
+    }
+  }
+
+  /// Callback method when messages were dropped because
+  /// [JavaScriptChannelBatching.maxPendingMessages] messages were waiting.
+  void onMessagesDropped(int count) {}
+
   @override
   JavaScriptChannel copy() {
-    return JavaScriptChannel.detached(channelName, postMessage: postMessage);
+    return JavaScriptChannel.detached(
+      channelName,
+      postMessage: postMessage,
+      batching: batching,
+    );
   }
 }
 
@@ -1009,6 +1132,28 @@ class WebResourceError {
   final String description;
 }
 
+/// The scroll position and loading progress of a [WebView].
+///
+/// See [WebView.watchEvents].
+@immutable
+class WebViewEvent {
+  /// Constructs a [WebViewEvent].
+  const WebViewEvent({
+    required this.scrollX,
+    required this.scrollY,
+    required this.progress,
+  });
+
+  /// The scrolled left position of the [WebView].
+  final int scrollX;
+
+  /// The scrolled top position of the [WebView].
+  final int scrollY;
+
+  /// The progress of loading the current page, from 0 to 100.
+  final int progress;
+}
+
 /// Manages Flutter assets that are part of Android's app bundle.
 class FlutterAssetManager {
   /// Constructs the [FlutterAssetManager].
@@ -1029,6 +1174,375 @@ class FlutterAssetManager {
       api.getAssetFilePathByName(name);
 }
 
+/// Where a [WebResourceInterceptor] rule serves matching requests from.
+enum WebResourceSource {
+  /// Flutter assets below the directory given as the location of the rule.
+  asset,
+
+  /// Files below the absolute directory given as the location of the rule.
+  directory,
+
+  /// The network, through a disk cache that revalidates responses with their
+  /// `ETag` or `Last-Modified` headers.
+  ///
+  /// Only GET requests are cached. Cookies are neither sent nor stored, so this
+  /// is meant for static resources such as scripts, style sheets and fonts.
+  cache,
+
+  /// Files in the zip archive that is the Flutter asset given as the location
+  /// of the rule.
+  ///
+  /// The archive is memory-mapped and its index is read on the first request,
+  /// so pages are served without extracting the archive or looking up each file
+  /// as an asset. Flutter stores assets ending in `.zip` uncompressed, which is
+  /// required to map them in place. Compressed archives are read into memory.
+  archiveAsset,
+
+  /// Files in the zip archive at the absolute path given as the location of
+  /// the rule, e.g. an archive downloaded by the app.
+  ///
+  /// Like [archiveAsset], the archive is memory-mapped and indexed once. To
+  /// serve a new version of the archive, write it to a new path and replace the
+  /// rule.
+  archiveFile,
+}
+
+/// Serves requests of all [WebView]s that match a rule without loading them
+/// over the network.
+///
+/// Requests are matched natively, so no message is sent to Dart per request.
+/// The first matching rule wins. Requests no rule matches, or that the source
+/// of the matching rule can't serve, are loaded by the [WebView] as usual.
+class WebResourceInterceptor {
+  /// Constructs a [WebResourceInterceptor].
+  const WebResourceInterceptor();
+
+  /// Pigeon Host Api implementation for [WebResourceInterceptor].
+  @visibleForTesting
+  static WebResourceInterceptorHostApi api = WebResourceInterceptorHostApi();
+
+  /// Adds a rule that is checked after all rules added before.
+  ///
+  /// A rule matches urls that start with [urlPattern], or that contain a match
+  /// of the regular expression [urlPattern] if [isRegex] is true. The path
+  /// served is the rest of the url after the prefix, or the first group of the
+  /// regular expression, or the path of the url if it has no groups.
+  ///
+  /// [location] is the asset directory for [WebResourceSource.asset], the
+  /// directory for [WebResourceSource.directory], the asset of the archive for
+  /// [WebResourceSource.archiveAsset] and the path of the archive for
+  /// [WebResourceSource.archiveFile].
+  ///
+  /// To load pages from an archive as if they were served by a website, use
+  /// a prefix such as `https://appassets.androidplatform.net/help/` that
+  /// no real server answers for.
+  ///
+  /// Returns the identifier of the rule, which can be passed to [removeRule].
+  Future<int> addRule({
+    required String urlPattern,
+    bool isRegex = false,
+    required WebResourceSource source,
+    String? location,
+  }) {
+    assert(source == WebResourceSource.cache || location != null);
+    return api.addRule(urlPattern, isRegex, _sourceName(source), location);
+  }
+
+  /// Removes the rule with the identifier returned by [addRule].
+  Future<void> removeRule(int ruleId) => api.removeRule(ruleId);
+
+  /// Removes all rules.
+  Future<void> clearRules() => api.clearRules();
+
+  /// Sets the maximum size in bytes of the cache of [WebResourceSource.cache]
+  /// rules.
+  ///
+  /// The least recently used responses are deleted once the cache exceeds it.
+  /// Defaults to 50 MB.
+  Future<void> setCacheMaxSize(int maxBytes) => api.setCacheMaxSize(maxBytes);
+
+  /// Deletes all responses of the cache of [WebResourceSource.cache] rules.
+  Future<void> clearCache() => api.clearCache();
+
+  /// Counts how requests were served since the last [resetStats].
+  Future<WebResourceInterceptorStats> getStats() async {
+    final Map<String?, int?> stats = await api.getStats();
+    return WebResourceInterceptorStats(
+      assetHits: stats['assetHits'] ?? 0,
+      directoryHits: stats['directoryHits'] ?? 0,
+      archiveHits: stats['archiveHits'] ?? 0,
+      cacheHits: stats['cacheHits'] ?? 0,
+      cacheMisses: stats['cacheMisses'] ?? 0,
+      staleHits: stats['staleHits'] ?? 0,
+      notFound: stats['notFound'] ?? 0,
+    );
+  }
+
+  /// Sets all counters returned by [getStats] to zero.
+  Future<void> resetStats() => api.resetStats();
+
+  static String _sourceName(WebResourceSource source) {
+    switch (source) {
+      case WebResourceSource.asset:
+        return 'asset';
+      case WebResourceSource.directory:
+        return 'directory';
+      case WebResourceSource.cache:
+        return 'cache';
+      case WebResourceSource.archiveAsset:
+        return 'archive_asset';
+      case WebResourceSource.archiveFile:
+        return 'archive_file';
+    }
+  }
+}
+
+/// Counters of how a [WebResourceInterceptor] served requests.
+@immutable
+class WebResourceInterceptorStats {
+  /// Constructs a [WebResourceInterceptorStats].
+  const WebResourceInterceptorStats({
+    required this.assetHits,
+    required this.directoryHits,
+    this.archiveHits = 0,
+    required this.cacheHits,
+    required this.cacheMisses,
+    required this.staleHits,
+    required this.notFound,
+  });
+
+  /// Requests served from Flutter assets.
+  final int assetHits;
+
+  /// Requests served from local directories.
+  final int directoryHits;
+
+  /// Requests served from zip archives.
+  final int archiveHits;
+
+  /// Requests served from the cache after the server confirmed the cached
+  /// response is still valid.
+  final int cacheHits;
+
+  /// Requests fetched from the network and added to the cache.
+  final int cacheMisses;
+
+  /// Requests served from the cache because the server could not be reached.
+  final int staleHits;
+
+  /// Requests matching an asset, directory or archive rule without a file to
+  /// serve.
+  final int notFound;
+}
+
+/// Keeps native [WebView]s ready so creating a [WebView] doesn't wait for
+/// Android to construct one.
+///
+/// The first WebView of an app loads the WebView implementation on the main
+/// thread, which takes hundreds of milliseconds on many devices. [prewarm] does
+/// this, and constructs WebViews, while the main thread is idle. Once a
+/// [WebView] is released and its platform view is disposed, its native WebView
+/// is reset and kept for the next [WebView] if the pool has room.
+///
+/// Pooling is disabled until [setMaxSize] or [prewarm] is called.
+class WebViewPool {
+  /// Constructs a [WebViewPool].
+  const WebViewPool();
+
+  /// Pigeon Host Api implementation for [WebViewPool].
+  @visibleForTesting
+  static WebViewPoolHostApi api = WebViewPoolHostApi();
+
+  /// Sets the maximum number of idle WebViews kept for each composition mode.
+  ///
+  /// Zero disables pooling and destroys all idle WebViews.
+  Future<void> setMaxSize(int maxSize) {
+    assert(maxSize >= 0);
+    return api.setMaxSize(maxSize);
+  }
+
+  /// Loads the WebView implementation and constructs [count] idle WebViews
+  /// whenever the main thread is idle.
+  ///
+  /// [useHybridComposition] must match the [WebView]s that will be created, as
+  /// WebViews displayed with hybrid composition and with virtual displays are
+  /// kept separately. Raises the maximum size of the pool to [count] if it is
+  /// lower.
+  Future<void> prewarm({int count = 1, bool useHybridComposition = false}) {
+    assert(count >= 0);
+    return api.prewarm(count, useHybridComposition);
+  }
+
+  /// Destroys all idle WebViews.
+  Future<void> clear() => api.clear();
+
+  /// Counts how WebViews were created since the last [resetStats].
+  Future<WebViewPoolStats> getStats() async {
+    final Map<String?, int?> stats = await api.getStats();
+    return WebViewPoolStats(
+      hits: stats['hits'] ?? 0,
+      misses: stats['misses'] ?? 0,
+      recycled: stats['recycled'] ?? 0,
+      created: stats['created'] ?? 0,
+      idle: stats['idle'] ?? 0,
+      averageCreationTime:
+          Duration(microseconds: stats['averageCreationMicros'] ?? 0),
+      providerInitTime:
+          Duration(microseconds: stats['providerInitMicros'] ?? 0),
+      timeSaved: Duration(microseconds: stats['timeSavedMicros'] ?? 0),
+    );
+  }
+
+  /// Sets all counters returned by [getStats] to zero.
+  Future<void> resetStats() => api.resetStats();
+}
+
+/// Counters of how a [WebViewPool] created WebViews.
+@immutable
+class WebViewPoolStats {
+  /// Constructs a [WebViewPoolStats].
+  const WebViewPoolStats({
+    required this.hits,
+    required this.misses,
+    required this.recycled,
+    required this.created,
+    required this.idle,
+    required this.averageCreationTime,
+    required this.providerInitTime,
+    required this.timeSaved,
+  });
+
+  /// [WebView]s that got an idle WebView from the pool.
+  final int hits;
+
+  /// [WebView]s that had to wait for a WebView to be constructed while pooling
+  /// was enabled.
+  final int misses;
+
+  /// WebViews that were reset and returned to the pool.
+  final int recycled;
+
+  /// WebViews constructed by the pool, both ahead of time and on demand.
+  final int created;
+
+  /// WebViews currently waiting in the pool.
+  final int idle;
+
+  /// The average time it took to construct a WebView.
+  final Duration averageCreationTime;
+
+  /// The time it took [WebViewPool.prewarm] to load the WebView
+  /// implementation.
+  final Duration providerInitTime;
+
+  /// The construction time [WebView]s didn't have to wait for because they got
+  /// an idle WebView, plus [providerInitTime] once [WebViewPool.prewarm] loaded
+  /// the WebView implementation ahead of the first [WebView].
+  final Duration timeSaved;
+}
+
+/// Pauses [WebView]s that are hidden and unloads their pages when Android is
+/// low on memory.
+///
+/// A hidden [WebView] stops running JavaScript and animations. JavaScript
+/// timers can only be paused for all WebViews of the app, so they are paused
+/// while every [WebView] is hidden. When Android asks the app to trim its
+/// memory with a level of at least the `minTrimLevel` of [setTrimPolicy], the
+/// pages of hidden [WebView]s are replaced by a blank page. The unloaded page
+/// is loaded again when they are shown again, unless disabled with
+/// [setTrimPolicy]. The blank page drops the forward entries of the
+/// back/forward list and stays in it as the entry before the reloaded page.
+///
+/// Android doesn't allow an app to stop the renderer of a single WebView, so
+/// the renderer keeps running and frees the memory of the unloaded pages.
+class WebViewLifecycle {
+  /// Constructs a [WebViewLifecycle].
+  const WebViewLifecycle();
+
+  /// Pigeon Host Api implementation for [WebViewLifecycle].
+  @visibleForTesting
+  static WebViewLifecycleHostApiImpl api = WebViewLifecycleHostApiImpl();
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE`.
+  static const int trimMemoryRunningModerate = 5;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW`.
+  static const int trimMemoryRunningLow = 10;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL`.
+  static const int trimMemoryRunningCritical = 15;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_BACKGROUND`.
+  static const int trimMemoryBackground = 40;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_MODERATE`.
+  static const int trimMemoryModerate = 60;
+
+  /// `ComponentCallbacks2.TRIM_MEMORY_COMPLETE`.
+  static const int trimMemoryComplete = 80;
+
+  /// Pauses [webView] when it is [hidden] and resumes it when it is shown.
+  ///
+  /// [WebView]s start out shown.
+  Future<void> setHidden(WebView webView, bool hidden) {
+    return api.setHiddenFromInstance(webView, hidden);
+  }
+
+  /// Sets when the pages of hidden [WebView]s are unloaded.
+  ///
+  /// [minTrimLevel] is the lowest trim memory level, e.g.
+  /// [trimMemoryRunningCritical], that unloads hidden [WebView]s. The app
+  /// moving to the background never does, as it doesn't mean memory is low.
+  /// [saveState] sets whether the unloaded page is loaded again when the
+  /// [WebView] is shown again. If not, the [WebView] reports
+  /// [WebViewLifecycleState.needsReload] and shows the blank page until the app
+  /// loads one.
+  Future<void> setTrimPolicy({
+    int minTrimLevel = trimMemoryRunningLow,
+    bool saveState = true,
+  }) {
+    return api.setTrimPolicy(minTrimLevel, saveState);
+  }
+
+  /// Lifecycle changes of all [WebView]s.
+  Stream<WebViewLifecycleEvent> get events {
+    AndroidWebViewFlutterApis.instance.ensureSetUp();
+    return AndroidWebViewFlutterApis.instance.webViewLifecycleFlutterApi.events;
+  }
+}
+
+/// The states reported by [WebViewLifecycle.events].
+enum WebViewLifecycleState {
+  /// The [WebView] was hidden and paused.
+  paused,
+
+  /// The [WebView] was shown and resumed.
+  resumed,
+
+  /// The page of the hidden [WebView] was unloaded to free memory.
+  discarded,
+
+  /// The [WebView] was shown and loads the page that was unloaded again.
+  restored,
+
+  /// The [WebView] was shown, but the page that was unloaded isn't loaded
+  /// again, so it shows a blank page until one is loaded.
+  needsReload,
+}
+
+/// A change of the lifecycle state of a [WebView].
+@immutable
+class WebViewLifecycleEvent {
+  /// Constructs a [WebViewLifecycleEvent].
+  const WebViewLifecycleEvent({required this.webView, required this.state});
+
+  /// The [WebView] whose state changed.
+  final WebView webView;
+
+  /// The new state of [webView].
+  final WebViewLifecycleState state;
+}
+
 /// Manages the JavaScript storage APIs provided by the [WebView].
 ///
 /// Wraps [WebStorage](https://developer.android.com/reference/android/webkit/WebStorage).
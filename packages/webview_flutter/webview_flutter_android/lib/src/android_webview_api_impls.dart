@@ -2,10 +2,13 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+import 'dart:convert';
 // TODO(a14n): remove this import once Flutter 3.1 or later reaches stable (including flutter/flutter#106316)
 // ignore: unnecessary_import
 import 'dart:typed_data';
 
+import 'package:flutter/foundation.dart';
 import 'package:flutter/services.dart';
 
 import 'android_webview.dart';
@@ -41,6 +44,8 @@ class AndroidWebViewFlutterApis {
     WebViewClientFlutterApiImpl? webViewClientFlutterApi,
     WebChromeClientFlutterApiImpl? webChromeClientFlutterApi,
     JavaScriptChannelFlutterApiImpl? javaScriptChannelFlutterApi,
+    WebViewCallbackFlutterApiImpl? webViewCallbackFlutterApi,
+    WebViewLifecycleFlutterApiImpl? webViewLifecycleFlutterApi,
   }) {
     this.javaObjectFlutterApi =
         javaObjectFlutterApi ?? JavaObjectFlutterApiImpl();
@@ -52,6 +57,13 @@ class AndroidWebViewFlutterApis {
         webChromeClientFlutterApi ?? WebChromeClientFlutterApiImpl();
     this.javaScriptChannelFlutterApi =
         javaScriptChannelFlutterApi ?? JavaScriptChannelFlutterApiImpl();
+    this.webViewCallbackFlutterApi = webViewCallbackFlutterApi ??
+        WebViewCallbackFlutterApiImpl(
+          webViewClientFlutterApi: this.webViewClientFlutterApi,
+          webChromeClientFlutterApi: this.webChromeClientFlutterApi,
+        );
+    this.webViewLifecycleFlutterApi =
+        webViewLifecycleFlutterApi ?? WebViewLifecycleFlutterApiImpl();
   }
 
   static bool _haveBeenSetUp = false;
@@ -76,6 +88,13 @@ class AndroidWebViewFlutterApis {
   /// Flutter Api for [JavaScriptChannel].
   late final JavaScriptChannelFlutterApiImpl javaScriptChannelFlutterApi;
 
+  /// Flutter Api for the frequent callbacks of [WebViewClient] and
+  /// [WebChromeClient].
+  late final WebViewCallbackFlutterApiImpl webViewCallbackFlutterApi;
+
+  /// Flutter Api for [WebViewLifecycle].
+  late final WebViewLifecycleFlutterApiImpl webViewLifecycleFlutterApi;
+
   /// Ensures all the Flutter APIs have been setup to receive calls from native code.
   void ensureSetUp() {
     if (!_haveBeenSetUp) {
@@ -84,6 +103,8 @@ class AndroidWebViewFlutterApis {
       WebViewClientFlutterApi.setup(webViewClientFlutterApi);
       WebChromeClientFlutterApi.setup(webChromeClientFlutterApi);
       JavaScriptChannelFlutterApi.setup(javaScriptChannelFlutterApi);
+      webViewCallbackFlutterApi.setUp();
+      WebViewLifecycleFlutterApi.setup(webViewLifecycleFlutterApi);
       _haveBeenSetUp = true;
     }
   }
@@ -130,8 +151,27 @@ class WebViewHostApiImpl extends WebViewHostApi {
     BinaryMessenger? binaryMessenger,
     InstanceManager? instanceManager,
   })  : instanceManager = instanceManager ?? JavaObject.globalInstanceManager,
+        _binaryMessenger = binaryMessenger,
         super(binaryMessenger: binaryMessenger);
 
+  /// Prefix of the channel name a streamed JavaScript result is received
+  /// through, followed by the stream identifier.
+  static const String javascriptResultChannelNamePrefix =
+      'plugins.flutter.io/webview/javascript_result/';
+
+  // Identifies the channel of each streamed JavaScript result.
+  static int _nextJavascriptResultStreamId = 0;
+
+  // Acknowledges a chunk of a streamed JavaScript result. The platform stops
+  // sending chunks when it receives a null reply instead.
+  static final ByteData _chunkReceived = ByteData(1);
+
+  final BinaryMessenger? _binaryMessenger;
+
+  // Receives the events of each WebView that reports them, by identifier.
+  final Map<int, StreamController<WebViewEvent>> _eventControllers =
+      <int, StreamController<WebViewEvent>>{};
+
   /// Maintains instances stored to communicate with java objects.
   final InstanceManager instanceManager;
 
@@ -148,6 +188,7 @@ class WebViewHostApiImpl extends WebViewHostApi {
     final int? instanceId = instanceManager.getIdentifier(instance);
     if (instanceId != null) {
       instanceManager.remove(instanceId);
+      _eventControllers.remove(instanceId)?.close();
       await dispose(instanceId);
     }
   }
@@ -253,6 +294,128 @@ class WebViewHostApiImpl extends WebViewHostApi {
     );
   }
 
+  /// Helper method to convert instances ids to objects.
+  Future<List<String?>> evaluateJavascriptBatchFromInstance(
+    WebView instance,
+    List<String> javascriptStrings,
+  ) {
+    return evaluateJavascriptBatch(
+      instanceManager.getIdentifier(instance)!,
+      javascriptStrings,
+    );
+  }
+
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// Receives the chunks through a [BasicMessageChannel] that is only
+  /// listened to while the returned stream is.
+  Stream<Uint8List> evaluateJavascriptChunkedFromInstance(
+    WebView instance,
+    String javascriptString,
+    int chunkSize,
+  ) {
+    final int instanceId = instanceManager.getIdentifier(instance)!;
+    final int streamId = _nextJavascriptResultStreamId++;
+    final BasicMessageChannel<ByteData> channel = BasicMessageChannel<ByteData>(
+      '$javascriptResultChannelNamePrefix$streamId',
+      const BinaryCodec(),
+      binaryMessenger: _binaryMessenger,
+    );
+
+    late final StreamController<Uint8List> controller;
+    Completer<void>? resumed;
+    bool isDone = false;
+
+    void finish([Object? error, StackTrace? stackTrace]) {
+      if (isDone) {
+        return;
+      }
+      isDone = true;
+      channel.setMessageHandler(null);
+      resumed?.complete();
+      if (error != null) {
+        controller.addError(error, stackTrace);
+      }
+      controller.close();
+    }
+
+    controller = StreamController<Uint8List>(
+      onListen: () {
+        channel.setMessageHandler((ByteData? message) async {
+          controller.add(message!.buffer.asUint8List(
+            message.offsetInBytes,
+            message.lengthInBytes,
+          ));
+          // Holds back the next chunk until the stream is resumed.
+          await resumed?.future;
+          return _chunkReceived;
+        });
+        evaluateJavascriptChunked(
+          instanceId,
+          javascriptString,
+          streamId,
+          chunkSize,
+        ).then(
+          // The platform replies once the last chunk was received.
+          (_) => finish(),
+          onError: finish,
+        );
+      },
+      onPause: () => resumed ??= Completer<void>(),
+      onResume: () {
+        resumed?.complete();
+        resumed = null;
+      },
+      onCancel: () => finish(),
+    );
+
+    return controller.stream;
+  }
+
+  /// Helper method to convert instances ids to objects.
+  ///
+  /// Reporting is enabled while the returned stream is listened to. The
+  /// events are passed to [onWebViewEvent].
+  Stream<WebViewEvent> watchEventsFromInstance(
+    WebView instance,
+    int minScrollDelta,
+    int minProgressDelta,
+  ) {
+    final int instanceId = instanceManager.getIdentifier(instance)!;
+    late final StreamController<WebViewEvent> controller;
+    controller = StreamController<WebViewEvent>(
+      onListen: () {
+        _eventControllers.remove(instanceId)?.close();
+        _eventControllers[instanceId] = controller;
+        setEventReportingEnabled(
+          instanceId,
+          true,
+          minScrollDelta,
+          minProgressDelta,
+        ).then((_) {}, onError: controller.addError);
+      },
+      onCancel: () async {
+        // A newer stream may have replaced this one.
+        if (_eventControllers[instanceId] == controller) {
+          _eventControllers.remove(instanceId);
+          await setEventReportingEnabled(
+            instanceId,
+            false,
+            minScrollDelta,
+            minProgressDelta,
+          );
+        }
+      },
+    );
+    return controller.stream;
+  }
+
+  /// Passes an event reported by the [WebView] with [instanceId] to the
+  /// stream returned by [watchEventsFromInstance].
+  void onWebViewEvent(int instanceId, WebViewEvent event) {
+    _eventControllers[instanceId]?.add(event);
+  }
+
   /// Helper method to convert instances ids to objects.
   Future<String?> getTitleFromInstance(WebView instance) {
     return getTitle(instanceManager.getIdentifier(instance)!);
@@ -506,10 +669,20 @@ class JavaScriptChannelHostApiImpl extends JavaScriptChannelHostApi {
   Future<void> createFromInstance(JavaScriptChannel instance) async {
     if (instanceManager.getIdentifier(instance) == null) {
       final int identifier = instanceManager.addDartCreatedInstance(instance);
-      await create(
-        identifier,
-        instance.channelName,
-      );
+      final JavaScriptChannelBatching? batching = instance.batching;
+      if (batching != null) {
+        await createBatched(
+          identifier,
+          instance.channelName,
+          batching.maxPendingMessages,
+          batching.dropOldest,
+        );
+      } else {
+        await create(
+          identifier,
+          instance.channelName,
+        );
+      }
     }
   }
 }
@@ -538,6 +711,17 @@ class JavaScriptChannelFlutterApiImpl extends JavaScriptChannelFlutterApi {
     );
     instance!.postMessage(message);
   }
+
+  @override
+  void postMessages(int instanceId, List<Object?> messages, int droppedCount) {
+    final JavaScriptChannel? instance = instanceManager
+        .getInstanceWithWeakReference(instanceId) as JavaScriptChannel?;
+    assert(
+      instance != null,
+      'InstanceManager does not contain an JavaScriptChannel with instanceId: $instanceId',
+    );
+    instance!.postMessages(messages, droppedCount);
+  }
 }
 
 /// Host api implementation for [WebViewClient].
@@ -826,6 +1010,182 @@ class WebChromeClientFlutterApiImpl extends WebChromeClientFlutterApi {
   }
 }
 
+/// Flutter api implementation for the callbacks of [WebViewClient] and
+/// [WebChromeClient] that are sent most often, e.g. while a page loads.
+///
+/// Native code writes the arguments of these callbacks one after another
+/// instead of as a list with the Pigeon codec. Each message starts with the
+/// type of the callback and the instance ids of the client and the [WebView],
+/// followed by the arguments. Numbers are little endian and strings are UTF-8
+/// preceded by their length in bytes. The layout must match
+/// `WebViewCallbackCodec` in Java.
+///
+/// The events of [WebView.watchEvents] are received through the same channel
+/// and passed to [WebViewHostApiImpl.onWebViewEvent].
+class WebViewCallbackFlutterApiImpl {
+  /// Constructs a [WebViewCallbackFlutterApiImpl].
+  WebViewCallbackFlutterApiImpl({
+    this.binaryMessenger,
+    required this.webViewClientFlutterApi,
+    required this.webChromeClientFlutterApi,
+    WebViewHostApiImpl? webViewHostApi,
+  }) : _webViewHostApi = webViewHostApi;
+
+  /// Name of the channel the callbacks are received through.
+  static const String channelName = 'plugins.flutter.io/webview/callbacks';
+
+  static const int _onPageStarted = 0;
+  static const int _onPageFinished = 1;
+  static const int _urlLoading = 2;
+  static const int _requestLoading = 3;
+  static const int _onProgressChanged = 4;
+  static const int _webViewEvent = 5;
+
+  static const int _isForMainFrameFlag = 1;
+  static const int _hasGestureFlag = 1 << 1;
+  static const int _hasIsRedirectFlag = 1 << 2;
+  static const int _isRedirectFlag = 1 << 3;
+
+  /// Receives binary data across the Flutter platform barrier.
+  ///
+  /// If it is null, the default BinaryMessenger will be used which routes to
+  /// the host platform.
+  final BinaryMessenger? binaryMessenger;
+
+  /// Receives the decoded callbacks of [WebViewClient]s.
+  final WebViewClientFlutterApi webViewClientFlutterApi;
+
+  /// Receives the decoded callbacks of [WebChromeClient]s.
+  final WebChromeClientFlutterApi webChromeClientFlutterApi;
+
+  // Defaults to WebView.api when the event arrives so tests can replace it.
+  final WebViewHostApiImpl? _webViewHostApi;
+
+  /// Starts handling the messages sent through [channelName].
+  void setUp() {
+    BasicMessageChannel<ByteData>(
+      channelName,
+      const BinaryCodec(),
+      binaryMessenger: binaryMessenger,
+    ).setMessageHandler((ByteData? message) async {
+      handleMessage(message!);
+      return null;
+    });
+  }
+
+  /// Decodes [message] and passes its callback to the matching Flutter api.
+  @visibleForTesting
+  void handleMessage(ByteData message) {
+    final _CallbackReader reader = _CallbackReader(message);
+    final int type = reader.readUint8();
+    final int instanceId = reader.readInt64();
+    final int webViewInstanceId = reader.readInt64();
+    switch (type) {
+      case _onPageStarted:
+        webViewClientFlutterApi.onPageStarted(
+          instanceId,
+          webViewInstanceId,
+          reader.readString(),
+        );
+        break;
+      case _onPageFinished:
+        webViewClientFlutterApi.onPageFinished(
+          instanceId,
+          webViewInstanceId,
+          reader.readString(),
+        );
+        break;
+      case _urlLoading:
+        webViewClientFlutterApi.urlLoading(
+          instanceId,
+          webViewInstanceId,
+          reader.readString(),
+        );
+        break;
+      case _requestLoading:
+        webViewClientFlutterApi.requestLoading(
+          instanceId,
+          webViewInstanceId,
+          _readWebResourceRequestData(reader),
+        );
+        break;
+      case _onProgressChanged:
+        webChromeClientFlutterApi.onProgressChanged(
+          instanceId,
+          webViewInstanceId,
+          reader.readInt32(),
+        );
+        break;
+      case _webViewEvent:
+        (_webViewHostApi ?? WebView.api).onWebViewEvent(
+          webViewInstanceId,
+          WebViewEvent(
+            scrollX: reader.readInt32(),
+            scrollY: reader.readInt32(),
+            progress: reader.readInt32(),
+          ),
+        );
+        break;
+      default:
+        throw ArgumentError.value(type, 'type', 'Unknown callback type');
+    }
+  }
+
+  static WebResourceRequestData _readWebResourceRequestData(
+    _CallbackReader reader,
+  ) {
+    final String url = reader.readString();
+    final int flags = reader.readUint8();
+    final String method = reader.readString();
+    final int headerCount = reader.readInt32();
+    final Map<String?, String?> requestHeaders = <String?, String?>{};
+    for (int i = 0; i < headerCount; i++) {
+      requestHeaders[reader.readString()] = reader.readString();
+    }
+    return WebResourceRequestData(
+      url: url,
+      isForMainFrame: (flags & _isForMainFrameFlag) != 0,
+      isRedirect: (flags & _hasIsRedirectFlag) != 0
+          ? (flags & _isRedirectFlag) != 0
+          : null,
+      hasGesture: (flags & _hasGestureFlag) != 0,
+      method: method,
+      requestHeaders: requestHeaders,
+    );
+  }
+}
+
+/// Reads the values of a message of [WebViewCallbackFlutterApiImpl] in order.
+class _CallbackReader {
+  _CallbackReader(this.data);
+
+  final ByteData data;
+  int _offset = 0;
+
+  int readUint8() => data.getUint8(_offset++);
+
+  int readInt32() {
+    final int value = data.getInt32(_offset, Endian.little);
+    _offset += 4;
+    return value;
+  }
+
+  int readInt64() {
+    final int value = data.getInt64(_offset, Endian.little);
+    _offset += 8;
+    return value;
+  }
+
+  String readString() {
+    final int length = readInt32();
+    final String value = utf8.decode(
+      data.buffer.asUint8List(data.offsetInBytes + _offset, length),
+    );
+    _offset += length;
+    return value;
+  }
+}
+
 /// Host api implementation for [WebStorage].
 class WebStorageHostApiImpl extends WebStorageHostApi {
   /// Constructs a [WebStorageHostApiImpl].
@@ -851,3 +1211,53 @@ class WebStorageHostApiImpl extends WebStorageHostApi {
     return deleteAllData(instanceManager.getIdentifier(instance)!);
   }
 }
+
+/// Host api implementation for [WebViewLifecycle].
+class WebViewLifecycleHostApiImpl extends WebViewLifecycleHostApi {
+  /// Constructs a [WebViewLifecycleHostApiImpl].
+  WebViewLifecycleHostApiImpl({
+    BinaryMessenger? binaryMessenger,
+    InstanceManager? instanceManager,
+  })  : instanceManager = instanceManager ?? JavaObject.globalInstanceManager,
+        super(binaryMessenger: binaryMessenger);
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  /// Helper method to convert instances ids to objects.
+  Future<void> setHiddenFromInstance(WebView webView, bool hidden) {
+    return setHidden(instanceManager.getIdentifier(webView)!, hidden);
+  }
+}
+
+/// Flutter api implementation for [WebViewLifecycle].
+class WebViewLifecycleFlutterApiImpl implements WebViewLifecycleFlutterApi {
+  /// Constructs a [WebViewLifecycleFlutterApiImpl].
+  WebViewLifecycleFlutterApiImpl({InstanceManager? instanceManager})
+      : instanceManager = instanceManager ?? JavaObject.globalInstanceManager;
+
+  /// Maintains instances stored to communicate with java objects.
+  final InstanceManager instanceManager;
+
+  final StreamController<WebViewLifecycleEvent> _eventController =
+      StreamController<WebViewLifecycleEvent>.broadcast();
+
+  /// Lifecycle changes of all [WebView]s.
+  Stream<WebViewLifecycleEvent> get events => _eventController.stream;
+
+  @override
+  void onStateChanged(int webViewInstanceId, String state) {
+    final WebView? webView = instanceManager
+        .getInstanceWithWeakReference(webViewInstanceId) as WebView?;
+    // The WebView may have been disposed while the message was sent.
+    if (webView == null) {
+      return;
+    }
+    _eventController.add(WebViewLifecycleEvent(
+      webView: webView,
+      state: WebViewLifecycleState.values.firstWhere(
+        (WebViewLifecycleState value) => describeEnum(value) == state,
+      ),
+    ));
+  }
+}
@@ -0,0 +1,9 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+export 'src/android_webview.dart'
+    show
+        WebResourceInterceptor,
+        WebResourceInterceptorStats,
+        WebResourceSource;
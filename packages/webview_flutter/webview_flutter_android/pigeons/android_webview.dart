@@ -154,6 +154,27 @@ abstract class WebViewHostApi {
   void setWebChromeClient(int instanceId, int? clientInstanceId);
 
   void setBackgroundColor(int instanceId, int color);
+
+  @async
+  List<String?> evaluateJavascriptBatch(
+    int instanceId,
+    List<String?> javascriptStrings,
+  );
+
+  @async
+  int evaluateJavascriptChunked(
+    int instanceId,
+    String javascriptString,
+    int streamId,
+    int chunkSize,
+  );
+
+  void setEventReportingEnabled(
+    int instanceId,
+    bool enabled,
+    int minScrollDelta,
+    int minProgressDelta,
+  );
 }
 
 @HostApi(dartHostTestHandler: 'TestWebSettingsHostApi')
@@ -190,6 +211,13 @@ abstract class WebSettingsHostApi {
 @HostApi(dartHostTestHandler: 'TestJavaScriptChannelHostApi')
 abstract class JavaScriptChannelHostApi {
   void create(int instanceId, String channelName);
+
+  void createBatched(
+    int instanceId,
+    String channelName,
+    int maxPendingMessages,
+    bool dropOldest,
+  );
 }
 
 @FlutterApi()
@@ -197,6 +225,8 @@ abstract class JavaScriptChannelFlutterApi {
   void dispose(int instanceId);
 
   void postMessage(int instanceId, String message);
+
+  void postMessages(int instanceId, List<Object?> messages, int droppedCount);
 }
 
 @HostApi(dartHostTestHandler: 'TestWebViewClientHostApi')
@@ -280,3 +310,50 @@ abstract class WebStorageHostApi {
 
   void deleteAllData(int instanceId);
 }
+
+@HostApi(dartHostTestHandler: 'TestWebResourceInterceptorHostApi')
+abstract class WebResourceInterceptorHostApi {
+  int addRule(
+    String urlPattern,
+    bool isRegex,
+    String source,
+    String? location,
+  );
+
+  void removeRule(int ruleId);
+
+  void clearRules();
+
+  void setCacheMaxSize(int maxBytes);
+
+  void clearCache();
+
+  Map<String, int> getStats();
+
+  void resetStats();
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewPoolHostApi')
+abstract class WebViewPoolHostApi {
+  void setMaxSize(int maxSize);
+
+  void prewarm(int count, bool useHybridComposition);
+
+  void clear();
+
+  Map<String, int> getStats();
+
+  void resetStats();
+}
+
+@HostApi(dartHostTestHandler: 'TestWebViewLifecycleHostApi')
+abstract class WebViewLifecycleHostApi {
+  void setHidden(int webViewInstanceId, bool hidden);
+
+  void setTrimPolicy(int minTrimLevel, bool saveState);
+}
+
+@FlutterApi()
+abstract class WebViewLifecycleFlutterApi {
+  void onStateChanged(int webViewInstanceId, String state);
+}
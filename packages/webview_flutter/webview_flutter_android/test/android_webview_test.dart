@@ -2,6 +2,10 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:async';
+import 'dart:convert';
+import 'dart:typed_data';
+
 import 'package:flutter_test/flutter_test.dart';
 import 'package:mockito/annotations.dart';
 import 'package:mockito/mockito.dart';
@@ -29,6 +33,9 @@ import 'test_android_webview.pigeon.dart';
   WebChromeClient,
   WebView,
   WebViewClient,
+  WebResourceInterceptorHostApi,
+  TestWebViewPoolHostApi,
+  TestWebViewLifecycleHostApi,
 ])
 void main() {
   TestWidgetsFlutterBinding.ensureInitialized();
@@ -226,6 +233,57 @@ void main() {
         );
       });
 
+      test('evaluateJavascriptBatch', () {
+        when(
+          mockPlatformHostApi.evaluateJavascriptBatch(
+            webViewInstanceId,
+            <String>['first', 'second'],
+          ),
+        ).thenAnswer((_) async => <String?>['1', null]);
+        expect(
+          webView.evaluateJavascriptBatch(<String>['first', 'second']),
+          completion(<String?>['1', null]),
+        );
+      });
+
+      test('evaluateJavascriptChunked', () async {
+        final List<ByteData?> replies = <ByteData?>[];
+        when(
+          mockPlatformHostApi.evaluateJavascriptChunked(
+            webViewInstanceId,
+            'runJavaScript',
+            any,
+            4,
+          ),
+        ).thenAnswer((Invocation invocation) async {
+          final String channelName =
+              WebViewHostApiImpl.javascriptResultChannelNamePrefix +
+                  invocation.positionalArguments[2].toString();
+          for (final String chunk in <String>['Hell', 'o, W', 'orld']) {
+            await TestDefaultBinaryMessengerBinding
+                .instance!.defaultBinaryMessenger
+                .handlePlatformMessage(
+              channelName,
+              ByteData.sublistView(Uint8List.fromList(utf8.encode(chunk))),
+              replies.add,
+            );
+          }
+          return 12;
+        });
+
+        expect(
+          await utf8.decoder
+              .bind(webView.evaluateJavascriptChunked(
+                'runJavaScript',
+                chunkSize: 4,
+              ))
+              .join(),
+          'Hello, World',
+        );
+        expect(replies, hasLength(3));
+        expect(replies, everyElement(isNotNull));
+      });
+
       test('getTitle', () {
         when(mockPlatformHostApi.getTitle(webViewInstanceId))
             .thenReturn('aTitle');
@@ -252,6 +310,34 @@ void main() {
         expect(webView.getScrollY(), completion(56));
       });
 
+      test('watchEvents', () async {
+        final List<WebViewEvent> events = <WebViewEvent>[];
+        final StreamSubscription<WebViewEvent> subscription = webView
+            .watchEvents(minScrollDelta: 8, minProgressDelta: 5)
+            .listen(events.add);
+        await Future<void>.delayed(Duration.zero);
+        verify(mockPlatformHostApi.setEventReportingEnabled(
+          webViewInstanceId,
+          true,
+          8,
+          5,
+        ));
+
+        const WebViewEvent event =
+            WebViewEvent(scrollX: 0, scrollY: 64, progress: 40);
+        WebView.api.onWebViewEvent(webViewInstanceId, event);
+        await Future<void>.delayed(Duration.zero);
+        expect(events, <WebViewEvent>[event]);
+
+        await subscription.cancel();
+        verify(mockPlatformHostApi.setEventReportingEnabled(
+          webViewInstanceId,
+          false,
+          8,
+          5,
+        ));
+      });
+
       test('setWebViewClient', () {
         TestWebViewClientHostApi.setup(MockTestWebViewClientHostApi());
         WebViewClient.api = WebViewClientHostApiImpl(
@@ -280,6 +366,7 @@ void main() {
         final JavaScriptChannel mockJavaScriptChannel = MockJavaScriptChannel();
         when(mockJavaScriptChannel.copy()).thenReturn(MockJavaScriptChannel());
         when(mockJavaScriptChannel.channelName).thenReturn('aChannel');
+        when(mockJavaScriptChannel.batching).thenReturn(null);
 
         webView.addJavaScriptChannel(mockJavaScriptChannel);
 
@@ -291,6 +378,35 @@ void main() {
         ));
       });
 
+      test('addJavaScriptChannel with batching', () async {
+        final MockTestJavaScriptChannelHostApi mockJavaScriptChannelHostApi =
+            MockTestJavaScriptChannelHostApi();
+        TestJavaScriptChannelHostApi.setup(mockJavaScriptChannelHostApi);
+        JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
+          instanceManager: instanceManager,
+        );
+
+        final JavaScriptChannel javaScriptChannel = JavaScriptChannel.detached(
+          'aChannel',
+          batching: const JavaScriptChannelBatching(
+            maxPendingMessages: 10,
+            dropOldest: true,
+          ),
+        );
+
+        await webView.addJavaScriptChannel(javaScriptChannel);
+
+        final int javaScriptChannelInstanceId =
+            instanceManager.getIdentifier(javaScriptChannel)!;
+        verify(mockJavaScriptChannelHostApi.createBatched(
+          javaScriptChannelInstanceId,
+          'aChannel',
+          10,
+          true,
+        ));
+        verifyNever(mockJavaScriptChannelHostApi.create(any, any));
+      });
+
       test('removeJavaScriptChannel', () {
         TestJavaScriptChannelHostApi.setup(MockTestJavaScriptChannelHostApi());
         JavaScriptChannel.api = JavaScriptChannelHostApiImpl(
@@ -300,6 +416,7 @@ void main() {
         final JavaScriptChannel mockJavaScriptChannel = MockJavaScriptChannel();
         when(mockJavaScriptChannel.copy()).thenReturn(MockJavaScriptChannel());
         when(mockJavaScriptChannel.channelName).thenReturn('aChannel');
+        when(mockJavaScriptChannel.batching).thenReturn(null);
 
         expect(
           webView.removeJavaScriptChannel(mockJavaScriptChannel),
@@ -542,6 +659,36 @@ void main() {
         verify(mockJavaScriptChannel.postMessage('Hello, World!'));
       });
 
+      test('postMessages', () {
+        flutterApi.postMessages(
+          mockJavaScriptChannelInstanceId,
+          <Object?>['Hello, World!'],
+          2,
+        );
+        verify(mockJavaScriptChannel.postMessages(
+          <Object?>['Hello, World!'],
+          2,
+        ));
+      });
+
+      test('postMessages passes each message to its callback', () {
+        final List<Object> received = <Object>[];
+        final _TestJavaScriptChannel javaScriptChannel =
+            _TestJavaScriptChannel(received);
+
+        javaScriptChannel.postMessages(
+          <Object?>['a', Uint8List.fromList(<int>[1, 2]), 'b'],
+          3,
+        );
+
+        expect(received, <Object>[
+          3,
+          'a',
+          Uint8List.fromList(<int>[1, 2]),
+          'b',
+        ]);
+      });
+
       test('copy', () {
         expect(
           JavaScriptChannel.detached('channel').copy(),
@@ -761,6 +908,180 @@ void main() {
         expect(WebChromeClient.detached().copy(), isA<WebChromeClient>());
       });
     });
+
+    group('WebViewCallback', () {
+      late WebViewCallbackFlutterApiImpl flutterApi;
+
+      late InstanceManager instanceManager;
+
+      late MockWebViewClient mockWebViewClient;
+      late int mockWebViewClientInstanceId;
+
+      late MockWebChromeClient mockWebChromeClient;
+      late int mockWebChromeClientInstanceId;
+
+      late MockWebView mockWebView;
+      late int mockWebViewInstanceId;
+
+      ByteData message(
+        int type,
+        int instanceId,
+        void Function(BytesBuilder builder) writeArguments,
+      ) {
+        final BytesBuilder builder = BytesBuilder();
+        builder.addByte(type);
+        builder.add(
+          (ByteData(16)
+                ..setInt64(0, instanceId, Endian.little)
+                ..setInt64(8, mockWebViewInstanceId, Endian.little))
+              .buffer
+              .asUint8List(),
+        );
+        writeArguments(builder);
+        return ByteData.sublistView(builder.toBytes());
+      }
+
+      void writeInt32(BytesBuilder builder, int value) {
+        builder.add(
+          (ByteData(4)..setInt32(0, value, Endian.little)).buffer.asUint8List(),
+        );
+      }
+
+      void writeString(BytesBuilder builder, String value) {
+        final List<int> bytes = utf8.encode(value);
+        writeInt32(builder, bytes.length);
+        builder.add(bytes);
+      }
+
+      setUp(() {
+        instanceManager = InstanceManager(onWeakReferenceRemoved: (_) {});
+        flutterApi = WebViewCallbackFlutterApiImpl(
+          webViewClientFlutterApi: WebViewClientFlutterApiImpl(
+            instanceManager: instanceManager,
+          ),
+          webChromeClientFlutterApi: WebChromeClientFlutterApiImpl(
+            instanceManager: instanceManager,
+          ),
+        );
+
+        mockWebViewClient = MockWebViewClient();
+        when(mockWebViewClient.copy()).thenReturn(MockWebViewClient());
+        mockWebViewClientInstanceId =
+            instanceManager.addDartCreatedInstance(mockWebViewClient);
+
+        mockWebChromeClient = MockWebChromeClient();
+        when(mockWebChromeClient.copy()).thenReturn(MockWebChromeClient());
+        mockWebChromeClientInstanceId =
+            instanceManager.addDartCreatedInstance(mockWebChromeClient);
+
+        mockWebView = MockWebView();
+        when(mockWebView.copy()).thenReturn(MockWebView());
+        mockWebViewInstanceId =
+            instanceManager.addDartCreatedInstance(mockWebView);
+      });
+
+      test('onPageStarted', () {
+        flutterApi.handleMessage(message(
+          0,
+          mockWebViewClientInstanceId,
+          (BytesBuilder builder) => writeString(builder, 'https://ü.example'),
+        ));
+        verify(mockWebViewClient.onPageStarted(
+          mockWebView,
+          'https://ü.example',
+        ));
+      });
+
+      test('onPageFinished', () {
+        flutterApi.handleMessage(message(
+          1,
+          mockWebViewClientInstanceId,
+          (BytesBuilder builder) => writeString(builder, 'https://google.com'),
+        ));
+        verify(mockWebViewClient.onPageFinished(
+          mockWebView,
+          'https://google.com',
+        ));
+      });
+
+      test('urlLoading', () {
+        flutterApi.handleMessage(message(
+          2,
+          mockWebViewClientInstanceId,
+          (BytesBuilder builder) => writeString(builder, 'https://google.com'),
+        ));
+        verify(mockWebViewClient.urlLoading(
+          mockWebView,
+          'https://google.com',
+        ));
+      });
+
+      test('requestLoading', () {
+        flutterApi.handleMessage(message(
+          3,
+          mockWebViewClientInstanceId,
+          (BytesBuilder builder) {
+            writeString(builder, 'https://google.com');
+            // isForMainFrame, has isRedirect, isRedirect.
+            builder.addByte(1 | 4 | 8);
+            writeString(builder, 'GET');
+            writeInt32(builder, 1);
+            writeString(builder, 'Accept');
+            writeString(builder, 'text/html');
+          },
+        ));
+
+        final WebResourceRequest request = verify(
+          mockWebViewClient.requestLoading(mockWebView, captureAny),
+        ).captured.single as WebResourceRequest;
+        expect(request.url, 'https://google.com');
+        expect(request.isForMainFrame, isTrue);
+        expect(request.isRedirect, isTrue);
+        expect(request.hasGesture, isFalse);
+        expect(request.method, 'GET');
+        expect(request.requestHeaders, <String, String>{'Accept': 'text/html'});
+      });
+
+      test('onProgressChanged', () {
+        flutterApi.handleMessage(message(
+          4,
+          mockWebChromeClientInstanceId,
+          (BytesBuilder builder) => writeInt32(builder, 76),
+        ));
+        verify(mockWebChromeClient.onProgressChanged(mockWebView, 76));
+      });
+
+      test('webViewEvent', () async {
+        TestWebViewHostApi.setup(MockTestWebViewHostApi());
+        final WebViewHostApiImpl webViewHostApi = WebViewHostApiImpl(
+          instanceManager: instanceManager,
+        );
+        flutterApi = WebViewCallbackFlutterApiImpl(
+          webViewClientFlutterApi: flutterApi.webViewClientFlutterApi,
+          webChromeClientFlutterApi: flutterApi.webChromeClientFlutterApi,
+          webViewHostApi: webViewHostApi,
+        );
+
+        final Future<WebViewEvent> event = webViewHostApi
+            .watchEventsFromInstance(mockWebView, 1, 1)
+            .first;
+        await Future<void>.delayed(Duration.zero);
+        flutterApi.handleMessage(message(
+          5,
+          mockWebViewInstanceId,
+          (BytesBuilder builder) {
+            writeInt32(builder, 0);
+            writeInt32(builder, 320);
+            writeInt32(builder, 100);
+          },
+        ));
+
+        final WebViewEvent receivedEvent = await event;
+        expect(receivedEvent.scrollX, 0);
+        expect(receivedEvent.scrollY, 320);
+        expect(receivedEvent.progress, 100);
+      });
+    });
   });
 
   group('CookieManager', () {
@@ -779,6 +1100,235 @@ void main() {
     });
   });
 
+  group('WebResourceInterceptor', () {
+    late MockWebResourceInterceptorHostApi mockHostApi;
+
+    setUp(() {
+      mockHostApi = MockWebResourceInterceptorHostApi();
+      WebResourceInterceptor.api = mockHostApi;
+    });
+
+    test('addRule', () async {
+      when(mockHostApi.addRule(any, any, any, any))
+          .thenAnswer((_) => Future<int>.value(3));
+
+      expect(
+        await const WebResourceInterceptor().addRule(
+          urlPattern: 'https://appassets.example.com/',
+          source: WebResourceSource.asset,
+          location: 'assets/www',
+        ),
+        3,
+      );
+      verify(mockHostApi.addRule(
+        'https://appassets.example.com/',
+        false,
+        'asset',
+        'assets/www',
+      ));
+    });
+
+    test('addRule with regular expression for cache', () async {
+      when(mockHostApi.addRule(any, any, any, any))
+          .thenAnswer((_) => Future<int>.value(0));
+
+      await const WebResourceInterceptor().addRule(
+        urlPattern: r'\.woff2$',
+        isRegex: true,
+        source: WebResourceSource.cache,
+      );
+      verify(mockHostApi.addRule(r'\.woff2$', true, 'cache', null));
+    });
+
+    test('addRule for archives', () async {
+      when(mockHostApi.addRule(any, any, any, any))
+          .thenAnswer((_) => Future<int>.value(0));
+
+      await const WebResourceInterceptor().addRule(
+        urlPattern: 'https://appassets.androidplatform.net/help/',
+        source: WebResourceSource.archiveAsset,
+        location: 'assets/help.zip',
+      );
+      await const WebResourceInterceptor().addRule(
+        urlPattern: 'https://appassets.androidplatform.net/news/',
+        source: WebResourceSource.archiveFile,
+        location: '/data/user/0/app/files/news.zip',
+      );
+
+      verify(mockHostApi.addRule(
+        'https://appassets.androidplatform.net/help/',
+        false,
+        'archive_asset',
+        'assets/help.zip',
+      ));
+      verify(mockHostApi.addRule(
+        'https://appassets.androidplatform.net/news/',
+        false,
+        'archive_file',
+        '/data/user/0/app/files/news.zip',
+      ));
+    });
+
+    test('removeRule', () async {
+      await const WebResourceInterceptor().removeRule(3);
+      verify(mockHostApi.removeRule(3));
+    });
+
+    test('clearRules', () async {
+      await const WebResourceInterceptor().clearRules();
+      verify(mockHostApi.clearRules());
+    });
+
+    test('setCacheMaxSize', () async {
+      await const WebResourceInterceptor().setCacheMaxSize(1024);
+      verify(mockHostApi.setCacheMaxSize(1024));
+    });
+
+    test('clearCache', () async {
+      await const WebResourceInterceptor().clearCache();
+      verify(mockHostApi.clearCache());
+    });
+
+    test('getStats', () async {
+      when(mockHostApi.getStats()).thenAnswer(
+        (_) => Future<Map<String?, int?>>.value(<String?, int?>{
+          'assetHits': 1,
+          'directoryHits': 2,
+          'archiveHits': 7,
+          'cacheHits': 3,
+          'cacheMisses': 4,
+          'staleHits': 5,
+          'notFound': 6,
+        }),
+      );
+
+      final WebResourceInterceptorStats stats =
+          await const WebResourceInterceptor().getStats();
+      expect(stats.assetHits, 1);
+      expect(stats.directoryHits, 2);
+      expect(stats.archiveHits, 7);
+      expect(stats.cacheHits, 3);
+      expect(stats.cacheMisses, 4);
+      expect(stats.staleHits, 5);
+      expect(stats.notFound, 6);
+    });
+
+    test('resetStats', () async {
+      await const WebResourceInterceptor().resetStats();
+      verify(mockHostApi.resetStats());
+    });
+  });
+
+  group('WebViewPool', () {
+    late MockTestWebViewPoolHostApi mockPlatformHostApi;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewPoolHostApi();
+      TestWebViewPoolHostApi.setup(mockPlatformHostApi);
+    });
+
+    tearDown(() {
+      TestWebViewPoolHostApi.setup(null);
+    });
+
+    test('setMaxSize', () async {
+      await const WebViewPool().setMaxSize(2);
+      verify(mockPlatformHostApi.setMaxSize(2));
+    });
+
+    test('prewarm', () async {
+      await const WebViewPool().prewarm(count: 2, useHybridComposition: true);
+      verify(mockPlatformHostApi.prewarm(2, true));
+    });
+
+    test('clear', () async {
+      await const WebViewPool().clear();
+      verify(mockPlatformHostApi.clear());
+    });
+
+    test('getStats', () async {
+      when(mockPlatformHostApi.getStats()).thenReturn(<String?, int?>{
+        'hits': 3,
+        'misses': 1,
+        'recycled': 2,
+        'created': 2,
+        'idle': 1,
+        'averageCreationMicros': 40000,
+        'providerInitMicros': 250000,
+        'timeSavedMicros': 370000,
+      });
+
+      final WebViewPoolStats stats = await const WebViewPool().getStats();
+      expect(stats.hits, 3);
+      expect(stats.misses, 1);
+      expect(stats.recycled, 2);
+      expect(stats.created, 2);
+      expect(stats.idle, 1);
+      expect(stats.averageCreationTime, const Duration(milliseconds: 40));
+      expect(stats.providerInitTime, const Duration(milliseconds: 250));
+      expect(stats.timeSaved, const Duration(milliseconds: 370));
+    });
+
+    test('resetStats', () async {
+      await const WebViewPool().resetStats();
+      verify(mockPlatformHostApi.resetStats());
+    });
+  });
+
+  group('WebViewLifecycle', () {
+    late MockTestWebViewLifecycleHostApi mockPlatformHostApi;
+
+    late InstanceManager instanceManager;
+
+    late WebView webView;
+    late int webViewInstanceId;
+
+    setUp(() {
+      mockPlatformHostApi = MockTestWebViewLifecycleHostApi();
+      TestWebViewLifecycleHostApi.setup(mockPlatformHostApi);
+      TestWebViewHostApi.setup(MockTestWebViewHostApi());
+
+      instanceManager = InstanceManager(onWeakReferenceRemoved: (_) {});
+      WebView.api = WebViewHostApiImpl(instanceManager: instanceManager);
+      WebViewLifecycle.api = WebViewLifecycleHostApiImpl(
+        instanceManager: instanceManager,
+      );
+
+      webView = WebView();
+      webViewInstanceId = instanceManager.getIdentifier(webView)!;
+    });
+
+    tearDown(() {
+      TestWebViewLifecycleHostApi.setup(null);
+      TestWebViewHostApi.setup(null);
+    });
+
+    test('setHidden', () async {
+      await const WebViewLifecycle().setHidden(webView, true);
+      verify(mockPlatformHostApi.setHidden(webViewInstanceId, true));
+    });
+
+    test('setTrimPolicy', () async {
+      await const WebViewLifecycle().setTrimPolicy(
+        minTrimLevel: WebViewLifecycle.trimMemoryRunningCritical,
+        saveState: false,
+      );
+      verify(mockPlatformHostApi.setTrimPolicy(15, false));
+    });
+
+    test('onStateChanged', () async {
+      final WebViewLifecycleFlutterApiImpl flutterApi =
+          WebViewLifecycleFlutterApiImpl(instanceManager: instanceManager);
+
+      final Future<WebViewLifecycleEvent> event = flutterApi.events.first;
+      flutterApi.onStateChanged(webViewInstanceId, 'discarded');
+
+      final WebViewLifecycleEvent receivedEvent = await event;
+      expect(receivedEvent.webView, webView);
+      expect(receivedEvent.state, WebViewLifecycleState.discarded);
+    });
+  });
+
   group('WebStorage', () {
     late MockTestWebStorageHostApi mockPlatformHostApi;
 
@@ -808,3 +1358,18 @@ void main() {
     });
   });
 }
+
+class _TestJavaScriptChannel extends JavaScriptChannel {
+  _TestJavaScriptChannel(this.received) : super.detached('aChannel');
+
+  final List<Object> received;
+
+  @override
+  void postMessage(String message) => received.add(message);
+
+  @override
+  void postBinaryMessage(Uint8List message) => received.add(message);
+
+  @override
+  void onMessagesDropped(int count) => received.add(count);
+}
@@ -90,10 +90,27 @@ class MockJavaScriptChannel extends _i1.Mock implements _i2.JavaScriptChannel {
       (super.noSuchMethod(Invocation.getter(#channelName), returnValue: '')
           as String);
   @override
+  _i2.JavaScriptChannelBatching? get batching =>
+      (super.noSuchMethod(Invocation.getter(#batching))
+          as _i2.JavaScriptChannelBatching?);
+  @override
   void postMessage(String? message) =>
       super.noSuchMethod(Invocation.method(#postMessage, [message]),
           returnValueForMissingStub: null);
   @override
+  void postBinaryMessage(_i6.Uint8List? message) =>
+      super.noSuchMethod(Invocation.method(#postBinaryMessage, [message]),
+          returnValueForMissingStub: null);
+  @override
+  void postMessages(List<Object?>? messages, int? droppedCount) =>
+      super.noSuchMethod(
+          Invocation.method(#postMessages, [messages, droppedCount]),
+          returnValueForMissingStub: null);
+  @override
+  void onMessagesDropped(int? count) =>
+      super.noSuchMethod(Invocation.method(#onMessagesDropped, [count]),
+          returnValueForMissingStub: null);
+  @override
   _i2.JavaScriptChannel copy() =>
       (super.noSuchMethod(Invocation.method(#copy, []),
           returnValue: _FakeJavaScriptChannel_1()) as _i2.JavaScriptChannel);
@@ -142,6 +159,13 @@ class MockTestJavaScriptChannelHostApi extends _i1.Mock
   void create(int? instanceId, String? channelName) =>
       super.noSuchMethod(Invocation.method(#create, [instanceId, channelName]),
           returnValueForMissingStub: null);
+  @override
+  void createBatched(int? instanceId, String? channelName,
+          int? maxPendingMessages, bool? dropOldest) =>
+      super.noSuchMethod(
+          Invocation.method(#createBatched,
+              [instanceId, channelName, maxPendingMessages, dropOldest]),
+          returnValueForMissingStub: null);
 }
 
 /// A class which mocks [TestWebChromeClientHostApi].
@@ -406,6 +430,28 @@ class MockTestWebViewHostApi extends _i1.Mock
   void setBackgroundColor(int? instanceId, int? color) => super.noSuchMethod(
       Invocation.method(#setBackgroundColor, [instanceId, color]),
       returnValueForMissingStub: null);
+  @override
+  _i4.Future<List<String?>> evaluateJavascriptBatch(
+          int? instanceId, List<String?>? javascriptStrings) =>
+      (super.noSuchMethod(
+              Invocation.method(
+                  #evaluateJavascriptBatch, [instanceId, javascriptStrings]),
+              returnValue: Future<List<String?>>.value(<String?>[]))
+          as _i4.Future<List<String?>>);
+  @override
+  _i4.Future<int> evaluateJavascriptChunked(int? instanceId,
+          String? javascriptString, int? streamId, int? chunkSize) =>
+      (super.noSuchMethod(
+          Invocation.method(#evaluateJavascriptChunked,
+              [instanceId, javascriptString, streamId, chunkSize]),
+          returnValue: Future<int>.value(0)) as _i4.Future<int>);
+  @override
+  void setEventReportingEnabled(int? instanceId, bool? enabled,
+          int? minScrollDelta, int? minProgressDelta) =>
+      super.noSuchMethod(
+          Invocation.method(#setEventReportingEnabled,
+              [instanceId, enabled, minScrollDelta, minProgressDelta]),
+          returnValueForMissingStub: null);
 }
 
 /// A class which mocks [TestAssetManagerHostApi].
@@ -533,6 +579,21 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       .noSuchMethod(Invocation.method(#evaluateJavascript, [javascriptString]),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
   @override
+  _i4.Future<List<String?>> evaluateJavascriptBatch(
+          List<String>? javascriptStrings) =>
+      (super.noSuchMethod(
+              Invocation.method(#evaluateJavascriptBatch, [javascriptStrings]),
+              returnValue: Future<List<String?>>.value(<String?>[]))
+          as _i4.Future<List<String?>>);
+  @override
+  _i4.Stream<_i6.Uint8List> evaluateJavascriptChunked(String? javascriptString,
+          {int? chunkSize = 65536}) =>
+      (super.noSuchMethod(
+              Invocation.method(#evaluateJavascriptChunked, [javascriptString],
+                  {#chunkSize: chunkSize}),
+              returnValue: Stream<_i6.Uint8List>.empty())
+          as _i4.Stream<_i6.Uint8List>);
+  @override
   _i4.Future<String?> getTitle() =>
       (super.noSuchMethod(Invocation.method(#getTitle, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -555,6 +616,16 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       (super.noSuchMethod(Invocation.method(#getScrollY, []),
           returnValue: Future<int>.value(0)) as _i4.Future<int>);
   @override
+  _i4.Stream<_i2.WebViewEvent> watchEvents(
+          {int? minScrollDelta = 1, int? minProgressDelta = 1}) =>
+      (super.noSuchMethod(
+              Invocation.method(#watchEvents, [], {
+                #minScrollDelta: minScrollDelta,
+                #minProgressDelta: minProgressDelta
+              }),
+              returnValue: Stream<_i2.WebViewEvent>.empty())
+          as _i4.Stream<_i2.WebViewEvent>);
+  @override
   _i4.Future<void> setWebViewClient(_i2.WebViewClient? webViewClient) =>
       (super.noSuchMethod(Invocation.method(#setWebViewClient, [webViewClient]),
           returnValue: Future<void>.value(),
@@ -643,3 +714,99 @@ class MockWebViewClient extends _i1.Mock implements _i2.WebViewClient {
   _i2.WebViewClient copy() => (super.noSuchMethod(Invocation.method(#copy, []),
       returnValue: _FakeWebViewClient_5()) as _i2.WebViewClient);
 }
+
+/// A class which mocks [WebResourceInterceptorHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockWebResourceInterceptorHostApi extends _i1.Mock
+    implements _i3.WebResourceInterceptorHostApi {
+  MockWebResourceInterceptorHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  _i4.Future<int> addRule(String? arg_urlPattern, bool? arg_isRegex,
+          String? arg_source, String? arg_location) =>
+      (super.noSuchMethod(
+          Invocation.method(#addRule,
+              [arg_urlPattern, arg_isRegex, arg_source, arg_location]),
+          returnValue: Future<int>.value(0)) as _i4.Future<int>);
+  @override
+  _i4.Future<void> removeRule(int? arg_ruleId) =>
+      (super.noSuchMethod(Invocation.method(#removeRule, [arg_ruleId]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> clearRules() =>
+      (super.noSuchMethod(Invocation.method(#clearRules, []),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> setCacheMaxSize(int? arg_maxBytes) =>
+      (super.noSuchMethod(Invocation.method(#setCacheMaxSize, [arg_maxBytes]),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<void> clearCache() =>
+      (super.noSuchMethod(Invocation.method(#clearCache, []),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+  @override
+  _i4.Future<Map<String?, int?>> getStats() =>
+      (super.noSuchMethod(Invocation.method(#getStats, []),
+              returnValue: Future<Map<String?, int?>>.value(<String?, int?>{}))
+          as _i4.Future<Map<String?, int?>>);
+  @override
+  _i4.Future<void> resetStats() =>
+      (super.noSuchMethod(Invocation.method(#resetStats, []),
+          returnValue: Future<void>.value(),
+          returnValueForMissingStub: Future<void>.value()) as _i4.Future<void>);
+}
+
+/// A class which mocks [TestWebViewPoolHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewPoolHostApi extends _i1.Mock
+    implements _i5.TestWebViewPoolHostApi {
+  MockTestWebViewPoolHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setMaxSize(int? maxSize) =>
+      super.noSuchMethod(Invocation.method(#setMaxSize, [maxSize]),
+          returnValueForMissingStub: null);
+  @override
+  void prewarm(int? count, bool? useHybridComposition) => super.noSuchMethod(
+      Invocation.method(#prewarm, [count, useHybridComposition]),
+      returnValueForMissingStub: null);
+  @override
+  void clear() => super.noSuchMethod(Invocation.method(#clear, []),
+      returnValueForMissingStub: null);
+  @override
+  Map<String?, int?> getStats() =>
+      (super.noSuchMethod(Invocation.method(#getStats, []),
+          returnValue: <String?, int?>{}) as Map<String?, int?>);
+  @override
+  void resetStats() => super.noSuchMethod(Invocation.method(#resetStats, []),
+      returnValueForMissingStub: null);
+}
+
+/// A class which mocks [TestWebViewLifecycleHostApi].
+///
+/// See the documentation for Mockito's code generation for more information.
+class MockTestWebViewLifecycleHostApi extends _i1.Mock
+    implements _i5.TestWebViewLifecycleHostApi {
+  MockTestWebViewLifecycleHostApi() {
+    _i1.throwOnMissingStub(this);
+  }
+
+  @override
+  void setHidden(int? webViewInstanceId, bool? hidden) => super.noSuchMethod(
+      Invocation.method(#setHidden, [webViewInstanceId, hidden]),
+      returnValueForMissingStub: null);
+  @override
+  void setTrimPolicy(int? minTrimLevel, bool? saveState) => super.noSuchMethod(
+      Invocation.method(#setTrimPolicy, [minTrimLevel, saveState]),
+      returnValueForMissingStub: null);
+}
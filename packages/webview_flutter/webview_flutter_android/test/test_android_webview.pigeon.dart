@@ -81,6 +81,12 @@ abstract class TestWebViewHostApi {
   void setDownloadListener(int instanceId, int? listenerInstanceId);
   void setWebChromeClient(int instanceId, int? clientInstanceId);
   void setBackgroundColor(int instanceId, int color);
+  Future<List<String?>> evaluateJavascriptBatch(
+      int instanceId, List<String?> javascriptStrings);
+  Future<int> evaluateJavascriptChunked(
+      int instanceId, String javascriptString, int streamId, int chunkSize);
+  void setEventReportingEnabled(
+      int instanceId, bool enabled, int minScrollDelta, int minProgressDelta);
   static void setup(TestWebViewHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -642,6 +648,88 @@ abstract class TestWebViewHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null int.');
+          final List<String?>? arg_javascriptStrings =
+              (args[1] as List<Object?>?)?.cast<String?>();
+          assert(arg_javascriptStrings != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptBatch was null, expected non-null List<String?>.');
+          final List<String?> output = await api.evaluateJavascriptBatch(
+              arg_instanceId!, arg_javascriptStrings!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final String? arg_javascriptString = (args[1] as String?);
+          assert(arg_javascriptString != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null String.');
+          final int? arg_streamId = (args[2] as int?);
+          assert(arg_streamId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final int? arg_chunkSize = (args[3] as int?);
+          assert(arg_chunkSize != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.evaluateJavascriptChunked was null, expected non-null int.');
+          final int output = await api.evaluateJavascriptChunked(arg_instanceId!,
+              arg_javascriptString!, arg_streamId!, arg_chunkSize!);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled was null, expected non-null int.');
+          final bool? arg_enabled = (args[1] as bool?);
+          assert(arg_enabled != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled was null, expected non-null bool.');
+          final int? arg_minScrollDelta = (args[2] as int?);
+          assert(arg_minScrollDelta != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled was null, expected non-null int.');
+          final int? arg_minProgressDelta = (args[3] as int?);
+          assert(arg_minProgressDelta != null,
+              'Argument for dev.flutter.pigeon.WebViewHostApi.setEventReportingEnabled was null, expected non-null int.');
+          api.setEventReportingEnabled(arg_instanceId!, arg_enabled!,
+              arg_minScrollDelta!, arg_minProgressDelta!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -989,6 +1077,8 @@ abstract class TestJavaScriptChannelHostApi {
       _TestJavaScriptChannelHostApiCodec();
 
   void create(int instanceId, String channelName);
+  void createBatched(int instanceId, String channelName, int maxPendingMessages,
+      bool dropOldest);
   static void setup(TestJavaScriptChannelHostApi? api,
       {BinaryMessenger? binaryMessenger}) {
     {
@@ -1013,6 +1103,35 @@ abstract class TestJavaScriptChannelHostApi {
         });
       }
     }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_instanceId = (args[0] as int?);
+          assert(arg_instanceId != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched was null, expected non-null int.');
+          final String? arg_channelName = (args[1] as String?);
+          assert(arg_channelName != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched was null, expected non-null String.');
+          final int? arg_maxPendingMessages = (args[2] as int?);
+          assert(arg_maxPendingMessages != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched was null, expected non-null int.');
+          final bool? arg_dropOldest = (args[3] as bool?);
+          assert(arg_dropOldest != null,
+              'Argument for dev.flutter.pigeon.JavaScriptChannelHostApi.createBatched was null, expected non-null bool.');
+          api.createBatched(arg_instanceId!, arg_channelName!,
+              arg_maxPendingMessages!, arg_dropOldest!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
   }
 }
 
@@ -1223,3 +1342,297 @@ abstract class TestWebStorageHostApi {
     }
   }
 }
+
+class _TestWebResourceInterceptorHostApiCodec extends StandardMessageCodec {
+  const _TestWebResourceInterceptorHostApiCodec();
+}
+
+abstract class TestWebResourceInterceptorHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestWebResourceInterceptorHostApiCodec();
+
+  int addRule(String urlPattern, bool isRegex, String source, String? location);
+  void removeRule(int ruleId);
+  void clearRules();
+  void setCacheMaxSize(int maxBytes);
+  void clearCache();
+  Map<String?, int?> getStats();
+  void resetStats();
+  static void setup(TestWebResourceInterceptorHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final String? arg_urlPattern = (args[0] as String?);
+          assert(arg_urlPattern != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule was null, expected non-null String.');
+          final bool? arg_isRegex = (args[1] as bool?);
+          assert(arg_isRegex != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule was null, expected non-null bool.');
+          final String? arg_source = (args[2] as String?);
+          assert(arg_source != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.addRule was null, expected non-null String.');
+          final String? arg_location = (args[3] as String?);
+          final int output = api.addRule(
+              arg_urlPattern!, arg_isRegex!, arg_source!, arg_location);
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.removeRule', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.removeRule was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_ruleId = (args[0] as int?);
+          assert(arg_ruleId != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.removeRule was null, expected non-null int.');
+          api.removeRule(arg_ruleId!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.clearRules', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.clearRules();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize',
+          codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxBytes = (args[0] as int?);
+          assert(arg_maxBytes != null,
+              'Argument for dev.flutter.pigeon.WebResourceInterceptorHostApi.setCacheMaxSize was null, expected non-null int.');
+          api.setCacheMaxSize(arg_maxBytes!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.clearCache', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.clearCache();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getStats();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebResourceInterceptorHostApi.resetStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.resetStats();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewPoolHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewPoolHostApiCodec();
+}
+
+abstract class TestWebViewPoolHostApi {
+  static const MessageCodec<Object?> codec = _TestWebViewPoolHostApiCodec();
+
+  void setMaxSize(int maxSize);
+  void prewarm(int count, bool useHybridComposition);
+  void clear();
+  Map<String?, int?> getStats();
+  void resetStats();
+  static void setup(TestWebViewPoolHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_maxSize = (args[0] as int?);
+          assert(arg_maxSize != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.setMaxSize was null, expected non-null int.');
+          api.setMaxSize(arg_maxSize!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.prewarm', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.prewarm was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_count = (args[0] as int?);
+          assert(arg_count != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.prewarm was null, expected non-null int.');
+          final bool? arg_useHybridComposition = (args[1] as bool?);
+          assert(arg_useHybridComposition != null,
+              'Argument for dev.flutter.pigeon.WebViewPoolHostApi.prewarm was null, expected non-null bool.');
+          api.prewarm(arg_count!, arg_useHybridComposition!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.clear', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.clear();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.getStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          final Map<String?, int?> output = api.getStats();
+          return <Object?, Object?>{'result': output};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewPoolHostApi.resetStats', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          api.resetStats();
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
+
+class _TestWebViewLifecycleHostApiCodec extends StandardMessageCodec {
+  const _TestWebViewLifecycleHostApiCodec();
+}
+
+abstract class TestWebViewLifecycleHostApi {
+  static const MessageCodec<Object?> codec =
+      _TestWebViewLifecycleHostApiCodec();
+
+  void setHidden(int webViewInstanceId, bool hidden);
+  void setTrimPolicy(int minTrimLevel, bool saveState);
+  static void setup(TestWebViewLifecycleHostApi? api,
+      {BinaryMessenger? binaryMessenger}) {
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewLifecycleHostApi.setHidden', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setHidden was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_webViewInstanceId = (args[0] as int?);
+          assert(arg_webViewInstanceId != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setHidden was null, expected non-null int.');
+          final bool? arg_hidden = (args[1] as bool?);
+          assert(arg_hidden != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setHidden was null, expected non-null bool.');
+          api.setHidden(arg_webViewInstanceId!, arg_hidden!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+    {
+      final BasicMessageChannel<Object?> channel = BasicMessageChannel<Object?>(
+          'dev.flutter.pigeon.WebViewLifecycleHostApi.setTrimPolicy', codec,
+          binaryMessenger: binaryMessenger);
+      if (api == null) {
+        channel.setMockMessageHandler(null);
+      } else {
+        channel.setMockMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setTrimPolicy was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_minTrimLevel = (args[0] as int?);
+          assert(arg_minTrimLevel != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setTrimPolicy was null, expected non-null int.');
+          final bool? arg_saveState = (args[1] as bool?);
+          assert(arg_saveState != null,
+              'Argument for dev.flutter.pigeon.WebViewLifecycleHostApi.setTrimPolicy was null, expected non-null bool.');
+          api.setTrimPolicy(arg_minTrimLevel!, arg_saveState!);
+          return <Object?, Object?>{};
+        });
+      }
+    }
+  }
+}
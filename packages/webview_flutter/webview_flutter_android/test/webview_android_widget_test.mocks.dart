@@ -242,6 +242,21 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       .noSuchMethod(Invocation.method(#evaluateJavascript, [javascriptString]),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
   @override
+  _i4.Future<List<String?>> evaluateJavascriptBatch(
+          List<String>? javascriptStrings) =>
+      (super.noSuchMethod(
+              Invocation.method(#evaluateJavascriptBatch, [javascriptStrings]),
+              returnValue: Future<List<String?>>.value(<String?>[]))
+          as _i4.Future<List<String?>>);
+  @override
+  _i4.Stream<_i5.Uint8List> evaluateJavascriptChunked(String? javascriptString,
+          {int? chunkSize = 65536}) =>
+      (super.noSuchMethod(
+              Invocation.method(#evaluateJavascriptChunked, [javascriptString],
+                  {#chunkSize: chunkSize}),
+              returnValue: Stream<_i5.Uint8List>.empty())
+          as _i4.Stream<_i5.Uint8List>);
+  @override
   _i4.Future<String?> getTitle() =>
       (super.noSuchMethod(Invocation.method(#getTitle, []),
           returnValue: Future<String?>.value()) as _i4.Future<String?>);
@@ -264,6 +279,16 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
       (super.noSuchMethod(Invocation.method(#getScrollY, []),
           returnValue: Future<int>.value(0)) as _i4.Future<int>);
   @override
+  _i4.Stream<_i2.WebViewEvent> watchEvents(
+          {int? minScrollDelta = 1, int? minProgressDelta = 1}) =>
+      (super.noSuchMethod(
+              Invocation.method(#watchEvents, [], {
+                #minScrollDelta: minScrollDelta,
+                #minProgressDelta: minProgressDelta
+              }),
+              returnValue: Stream<_i2.WebViewEvent>.empty())
+          as _i4.Stream<_i2.WebViewEvent>);
+  @override
   _i4.Future<void> setWebViewClient(_i2.WebViewClient? webViewClient) =>
       (super.noSuchMethod(Invocation.method(#setWebViewClient, [webViewClient]),
           returnValue: Future<void>.value(),